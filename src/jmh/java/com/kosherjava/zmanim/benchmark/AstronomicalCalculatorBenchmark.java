@@ -0,0 +1,147 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.benchmark;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kosherjava.zmanim.util.AstronomicalCalculator;
+import com.kosherjava.zmanim.util.CalculatorTier;
+import com.kosherjava.zmanim.util.CompiledLocationCalculator;
+import com.kosherjava.zmanim.util.FastNOAACalculator;
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.NOAACalculator;
+import com.kosherjava.zmanim.util.SPACalculator;
+import com.kosherjava.zmanim.util.SunTimesCalculator;
+
+/**
+ * Benchmarks of the {@link AstronomicalCalculator} sunrise, sunset and solar noon calculations of the {@link
+ * CalculatorTier calculator tiers} ({@link FastNOAACalculator}, {@link NOAACalculator} and {@link SPACalculator}), the
+ * {@link SunTimesCalculator} and the {@link CompiledLocationCalculator} compiled from the NOAA calculator. Every
+ * invocation moves to the next day of the year so that the results can't be constant folded, and so that a per-day
+ * cache in a calculator is exercised the way a calendar uses it.
+ *
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AstronomicalCalculatorBenchmark {
+	/**
+	 * The calculator to benchmark, either one of the {@link CalculatorTier tiers} (<code>FAST</code>,
+	 * <code>STANDARD</code> for the NOAA calculator or <code>PRECISE</code>), <code>SUN_TIMES</code> or
+	 * <code>COMPILED</code>.
+	 */
+	@Param({ "STANDARD", "SUN_TIMES", "FAST", "PRECISE", "COMPILED" })
+	public String calculatorName;
+
+	/** The latitude band of the location. */
+	@Param({ "EQUATOR", "MID_LATITUDE", "POLAR" })
+	public LatitudeBand latitudeBand;
+
+	/** If the location has an elevation, and the times are adjusted for it. */
+	@Param({ "true", "false" })
+	public boolean elevation;
+
+	/** The calculator. */
+	private AstronomicalCalculator calculator;
+
+	/** The location. */
+	private GeoLocation geoLocation;
+
+	/** The dates of a year. */
+	private ZonedDateTime[] dates;
+
+	/** The index of the current date. */
+	private int index;
+
+	/**
+	 * Creates the calculator, location and dates.
+	 */
+	@Setup
+	public void setup() {
+		geoLocation = latitudeBand.getGeoLocation(elevation ? 800 : 0);
+		if ("SUN_TIMES".equals(calculatorName)) {
+			calculator = new SunTimesCalculator();
+		} else if ("COMPILED".equals(calculatorName)) {
+			calculator = new CompiledLocationCalculator(geoLocation, new NOAACalculator(), 2023, 2023,
+					new double[] { 90 });
+		} else {
+			calculator = CalculatorTier.valueOf(calculatorName).getCalculator();
+		}
+		dates = new ZonedDateTime[365];
+		ZonedDateTime date = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+		for (int i = 0; i < dates.length; i++) {
+			dates[i] = date.plusDays(i);
+		}
+	}
+
+	/**
+	 * Returns the next date.
+	 *
+	 * @return the date
+	 */
+	private ZonedDateTime nextDate() {
+		index = index + 1 == dates.length ? 0 : index + 1;
+		return dates[index];
+	}
+
+	/**
+	 * Benchmarks {@link AstronomicalCalculator#getUTCSunrise(ZonedDateTime, GeoLocation, double, boolean)}.
+	 *
+	 * @return the sunrise
+	 */
+	@Benchmark
+	public double utcSunrise() {
+		return calculator.getUTCSunrise(nextDate(), geoLocation, 90, elevation);
+	}
+
+	/**
+	 * Benchmarks {@link AstronomicalCalculator#getUTCSunset(ZonedDateTime, GeoLocation, double, boolean)}.
+	 *
+	 * @return the sunset
+	 */
+	@Benchmark
+	public double utcSunset() {
+		return calculator.getUTCSunset(nextDate(), geoLocation, 90, elevation);
+	}
+
+	/**
+	 * Benchmarks {@link AstronomicalCalculator#getUTCNoon(ZonedDateTime, GeoLocation)}.
+	 *
+	 * @return the solar noon
+	 */
+	@Benchmark
+	public double utcNoon() {
+		return calculator.getUTCNoon(nextDate(), geoLocation);
+	}
+}
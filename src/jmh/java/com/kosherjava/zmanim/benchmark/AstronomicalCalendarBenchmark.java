@@ -0,0 +1,115 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.benchmark;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kosherjava.zmanim.AstronomicalCalendar;
+
+/**
+ * Benchmarks of {@link AstronomicalCalendar#getSunriseOffsetByDegrees(double)}, including the conversion of the
+ * calculated time to a <code>ZonedDateTime</code>, and of its allocation free {@link
+ * AstronomicalCalendar#getSunriseOffsetByDegreesMillis(double)} equivalent. Run with <code>-prof gc</code> (the
+ * default of the Maven and Gradle tasks) to compare the allocation rate. Every invocation moves the calendar to the
+ * next day of the year.
+ *
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AstronomicalCalendarBenchmark {
+	/** The latitude band of the location. */
+	@Param({ "EQUATOR", "MID_LATITUDE", "POLAR" })
+	public LatitudeBand latitudeBand;
+
+	/** If the location has an elevation. */
+	@Param({ "true", "false" })
+	public boolean elevation;
+
+	/** The zenith to calculate, 16.1&deg; below the horizon. */
+	@Param({ "106.1" })
+	public double zenith;
+
+	/** The calendar. */
+	private AstronomicalCalendar calendar;
+
+	/** The dates of a year. */
+	private ZonedDateTime[] dates;
+
+	/** The index of the current date. */
+	private int index;
+
+	/**
+	 * Creates the calendar and dates.
+	 */
+	@Setup
+	public void setup() {
+		calendar = new AstronomicalCalendar(latitudeBand.getGeoLocation(elevation ? 800 : 0));
+		dates = new ZonedDateTime[365];
+		ZonedDateTime date = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0,
+				calendar.getGeoLocation().getTimeZone().toZoneId());
+		for (int i = 0; i < dates.length; i++) {
+			dates[i] = date.plusDays(i);
+		}
+	}
+
+	/**
+	 * Sets the calendar to the next date.
+	 */
+	private void nextDate() {
+		index = index + 1 == dates.length ? 0 : index + 1;
+		calendar.setCalendar(dates[index]);
+	}
+
+	/**
+	 * Benchmarks {@link AstronomicalCalendar#getSunriseOffsetByDegrees(double)}.
+	 *
+	 * @return the time
+	 */
+	@Benchmark
+	public ZonedDateTime sunriseOffsetByDegrees() {
+		nextDate();
+		return calendar.getSunriseOffsetByDegrees(zenith);
+	}
+
+	/**
+	 * Benchmarks {@link AstronomicalCalendar#getSunriseOffsetByDegreesMillis(double)}.
+	 *
+	 * @return the time
+	 */
+	@Benchmark
+	public long sunriseOffsetByDegreesMillis() {
+		nextDate();
+		return calendar.getSunriseOffsetByDegreesMillis(zenith);
+	}
+}
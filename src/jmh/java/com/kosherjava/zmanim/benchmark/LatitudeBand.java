@@ -0,0 +1,68 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.benchmark;
+
+import java.util.TimeZone;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * The latitude bands the benchmarks are run for. The cost of a sunrise or sunset calculation is the same for most
+ * locations, but polar locations exercise the paths where the sun does not rise or set (and the calculators return
+ * {@link Double#NaN}) on some days of the year.
+ *
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public enum LatitudeBand {
+	/** Quito, Ecuador, almost on the equator. */
+	EQUATOR("Quito", -0.2201641, -78.5123274, "America/Guayaquil"),
+
+	/** Lakewood, NJ. */
+	MID_LATITUDE("Lakewood, NJ", 40.0828, -74.2094, "America/New_York"),
+
+	/** Tromso, Norway, north of the Arctic Circle. */
+	POLAR("Tromso", 69.672312, 19.049787, "Europe/Oslo");
+
+	/** The location name. */
+	private final String name;
+
+	/** The latitude. */
+	private final double latitude;
+
+	/** The longitude. */
+	private final double longitude;
+
+	/** The time zone ID. */
+	private final String timeZone;
+
+	LatitudeBand(String name, double latitude, double longitude, String timeZone) {
+		this.name = name;
+		this.latitude = latitude;
+		this.longitude = longitude;
+		this.timeZone = timeZone;
+	}
+
+	/**
+	 * Returns a {@link GeoLocation} in this latitude band.
+	 *
+	 * @param elevation
+	 *            the elevation in Meters
+	 * @return the location
+	 */
+	public GeoLocation getGeoLocation(double elevation) {
+		return new GeoLocation(name, latitude, longitude, elevation, TimeZone.getTimeZone(timeZone));
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.benchmark;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.NOAACalculator;
+
+/**
+ * Benchmarks of {@link NOAACalculator#getSolarElevation(ZonedDateTime, double, double)} and {@link
+ * NOAACalculator#getSolarAzimuth(ZonedDateTime, double, double)}, where every invocation moves to the next 10 minutes
+ * of a day, and of {@link NOAACalculator#getSolarPositions(GeoLocation, long, long, int, double[], double[])} for a
+ * full day.
+ *
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SolarPositionBenchmark {
+	/** The latitude band of the location. */
+	@Param({ "EQUATOR", "MID_LATITUDE", "POLAR" })
+	public LatitudeBand latitudeBand;
+
+	/** The location. */
+	private GeoLocation geoLocation;
+
+	/** The times of a day. */
+	private ZonedDateTime[] times;
+
+	/** The index of the current time. */
+	private int index;
+
+	/** The start of the day in milliseconds since the epoch. */
+	private long dayStart;
+
+	/** The elevations of every minute of the day. */
+	private final double[] elevations = new double[1440];
+
+	/** The azimuths of every minute of the day. */
+	private final double[] azimuths = new double[1440];
+
+	/**
+	 * Creates the location and times.
+	 */
+	@Setup
+	public void setup() {
+		geoLocation = latitudeBand.getGeoLocation(0);
+		times = new ZonedDateTime[144];
+		ZonedDateTime time = ZonedDateTime.of(2023, 6, 21, 0, 0, 0, 0, ZoneId.of("UTC"));
+		for (int i = 0; i < times.length; i++) {
+			times[i] = time.plusMinutes(i * 10);
+		}
+		dayStart = time.toInstant().toEpochMilli();
+	}
+
+	/**
+	 * Returns the next time.
+	 *
+	 * @return the time
+	 */
+	private ZonedDateTime nextTime() {
+		index = index + 1 == times.length ? 0 : index + 1;
+		return times[index];
+	}
+
+	/**
+	 * Benchmarks {@link NOAACalculator#getSolarElevation(ZonedDateTime, double, double)}.
+	 *
+	 * @return the elevation
+	 */
+	@Benchmark
+	public double solarElevation() {
+		return NOAACalculator.getSolarElevation(nextTime(), geoLocation.getLatitude(), geoLocation.getLongitude());
+	}
+
+	/**
+	 * Benchmarks {@link NOAACalculator#getSolarAzimuth(ZonedDateTime, double, double)}.
+	 *
+	 * @return the azimuth
+	 */
+	@Benchmark
+	public double solarAzimuth() {
+		return NOAACalculator.getSolarAzimuth(nextTime(), geoLocation.getLatitude(), geoLocation.getLongitude());
+	}
+
+	/**
+	 * Benchmarks {@link NOAACalculator#getSolarPositions(GeoLocation, long, long, int, double[], double[])} for every
+	 * minute of a day. Divide the result by 1,440 to compare with the single time benchmarks.
+	 *
+	 * @return the elevations
+	 */
+	@Benchmark
+	public double[] solarPositionsDay() {
+		NOAACalculator.getSolarPositions(geoLocation, dayStart, 60_000, elevations.length, elevations, azimuths);
+		return elevations;
+	}
+}
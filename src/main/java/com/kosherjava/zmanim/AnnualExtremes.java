@@ -0,0 +1,619 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.kosherjava.zmanim.util.AstronomicalCalculator;
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * The earliest and latest sunrise and sunset, the earliest and latest rise and set times of any number of additional
+ * zeniths, and the shortest and longest day of a year at a single location. The times are compared by their local
+ * time in the time zone of the location, including daylight saving time, as shown on a calendar.
+ * <p>
+ * Rather than calculating every day of the year, each of these daily curves is sampled every {@link #SAMPLE_DAYS}
+ * days, and each sample that is lower (or higher) than its neighbors brackets a minimum (or maximum) that is then found
+ * with a <a href="https://en.wikipedia.org/wiki/Golden-section_search">golden-section search</a> over the days between
+ * the neighbors. The curves are smooth, so there is a single extreme in such a bracket. As the curves jump when the
+ * offset of the time zone changes, the year is split into periods with a single offset and each period is searched
+ * separately, including the days on its edges. Near the poles, the days around which an event starts or stops occurring
+ * are all calculated, since the extreme is usually on the last day that the event occurs. All the events of a day are
+ * calculated together, so the days calculated for one curve are reused by the others, and typically less than half of
+ * the days of the year are calculated. The times are identical to the ones of an {@link AstronomicalCalendar} set to
+ * the day of the extreme, and to the ones of a {@link SolarTable}. Here is an example of the earliest and latest
+ * sunrise and 8.5&deg; <em>tzais</em> (a zenith of 98.5&deg;):
+ *
+ * <pre>
+ * AnnualExtremes extremes = new AnnualExtremes(location, AstronomicalCalculator.getDefault(), 2024,
+ * 		new double[] { AstronomicalCalendar.GEOMETRIC_ZENITH + 8.5 });
+ * System.out.println(extremes.getEarliestSunrise() + &quot; &quot; + extremes.getLatestSunrise());
+ * System.out.println(extremes.getEarliestSunset(0) + &quot; &quot; + extremes.getLatestSunset(0));
+ * System.out.println(extremes.getLongestDay() + &quot; &quot; + extremes.getLongestDayLength());
+ * </pre>
+ *
+ * @see SolarTable
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public class AnnualExtremes {
+	/**
+	 * The number of days between the samples of the curves.
+	 */
+	public static final int SAMPLE_DAYS = 8;
+
+	/**
+	 * The golden ratio, used to place the points of the golden-section search.
+	 */
+	private static final double GOLDEN_RATIO = (1 + Math.sqrt(5)) / 2;
+
+	/**
+	 * The first date of the year.
+	 */
+	private final LocalDate startDate;
+
+	/**
+	 * The number of days in the year.
+	 */
+	private final int days;
+
+	/**
+	 * The time zone of the location.
+	 */
+	private final ZoneId zoneId;
+
+	/**
+	 * The location.
+	 */
+	private final GeoLocation geoLocation;
+
+	/**
+	 * The calculator.
+	 */
+	private final AstronomicalCalculator calculator;
+
+	/**
+	 * The zeniths of the batch calculation of a day, sunrise and sunset followed by the additional zeniths.
+	 */
+	private final double[] batchZeniths;
+
+	/**
+	 * The rise times in milliseconds since the epoch indexed by zenith of the {@link #batchZeniths} and then by day.
+	 */
+	private final long[][] rises;
+
+	/**
+	 * The set times in milliseconds since the epoch indexed by zenith of the {@link #batchZeniths} and then by day.
+	 */
+	private final long[][] sets;
+
+	/**
+	 * The local times of the {@link #rises}, as milliseconds from the local midnight at the start of the day, or
+	 * {@link Double#NaN} if the event does not occur.
+	 */
+	private final double[][] localRises;
+
+	/**
+	 * The local times of the {@link #sets}, as milliseconds from the local midnight at the start of the day, or
+	 * {@link Double#NaN} if the event does not occur.
+	 */
+	private final double[][] localSets;
+
+	/**
+	 * The length of each day in milliseconds from sunrise to sunset, or {@link Double#NaN} if there is no sunrise or
+	 * sunset.
+	 */
+	private final double[] dayLengths;
+
+	/**
+	 * If each day has been calculated.
+	 */
+	private final boolean[] calculated;
+
+	/**
+	 * The number of days calculated.
+	 */
+	private int calculatedDays;
+
+	/**
+	 * The periods of the year with a single time zone offset, as pairs of the first and last day of each period.
+	 */
+	private final int[] periods;
+
+	/**
+	 * The days of the earliest rise for each of the {@link #batchZeniths}, or -1 if it never occurs.
+	 */
+	private final int[] earliestRises;
+
+	/**
+	 * The days of the latest rise for each of the {@link #batchZeniths}, or -1 if it never occurs.
+	 */
+	private final int[] latestRises;
+
+	/**
+	 * The days of the earliest set for each of the {@link #batchZeniths}, or -1 if it never occurs.
+	 */
+	private final int[] earliestSets;
+
+	/**
+	 * The days of the latest set for each of the {@link #batchZeniths}, or -1 if it never occurs.
+	 */
+	private final int[] latestSets;
+
+	/**
+	 * The shortest day, or -1 if there is no day with both a sunrise and sunset.
+	 */
+	private final int shortestDay;
+
+	/**
+	 * The longest day, or -1 if there is no day with both a sunrise and sunset.
+	 */
+	private final int longestDay;
+
+	/**
+	 * A daily curve searched for its extremes.
+	 */
+	private interface Curve {
+		/**
+		 * Returns the value of the curve on a day.
+		 *
+		 * @param day
+		 *            the day offset from the start of the year
+		 * @return the value, or {@link Double#NaN} if there is none on that day
+		 */
+		double getValue(int day);
+	}
+
+	/**
+	 * Finds the extremes of a year.
+	 *
+	 * @param geoLocation
+	 *            the location
+	 * @param astronomicalCalculator
+	 *            the calculator to use
+	 * @param year
+	 *            the Gregorian year
+	 * @param zeniths
+	 *            the zeniths to find the extremes of the rise and set times of in addition to sunrise and sunset. As
+	 *            in {@link SolarTable#SolarTable(GeoLocation, AstronomicalCalculator, LocalDate, int, double[])}, these
+	 *            times are not adjusted for elevation unless the zenith is exactly {@link
+	 *            AstronomicalCalendar#GEOMETRIC_ZENITH}. May be empty.
+	 * @throws IllegalArgumentException
+	 *             if any of the objects are <code>null</code>
+	 */
+	public AnnualExtremes(GeoLocation geoLocation, AstronomicalCalculator astronomicalCalculator, int year,
+			double[] zeniths) {
+		if (geoLocation == null || astronomicalCalculator == null || zeniths == null) {
+			throw new IllegalArgumentException("The location, calculator and zeniths can't be null");
+		}
+		this.geoLocation = geoLocation;
+		this.calculator = astronomicalCalculator;
+		startDate = LocalDate.of(year, 1, 1);
+		days = startDate.lengthOfYear();
+		zoneId = geoLocation.getTimeZone().toZoneId();
+		batchZeniths = new double[zeniths.length + 1];
+		batchZeniths[0] = AstronomicalCalendar.GEOMETRIC_ZENITH;
+		System.arraycopy(zeniths, 0, batchZeniths, 1, zeniths.length);
+		rises = new long[batchZeniths.length][days];
+		sets = new long[batchZeniths.length][days];
+		localRises = new double[batchZeniths.length][days];
+		localSets = new double[batchZeniths.length][days];
+		dayLengths = new double[days];
+		calculated = new boolean[days];
+		periods = getPeriods();
+
+		earliestRises = new int[batchZeniths.length];
+		latestRises = new int[batchZeniths.length];
+		earliestSets = new int[batchZeniths.length];
+		latestSets = new int[batchZeniths.length];
+		for (int i = 0; i < batchZeniths.length; i++) {
+			final double[] localRise = localRises[i];
+			final double[] localSet = localSets[i];
+			Curve rise = new Curve() {
+				public double getValue(int day) {
+					calculate(day);
+					return localRise[day];
+				}
+			};
+			Curve set = new Curve() {
+				public double getValue(int day) {
+					calculate(day);
+					return localSet[day];
+				}
+			};
+			earliestRises[i] = findExtreme(rise, false);
+			latestRises[i] = findExtreme(rise, true);
+			earliestSets[i] = findExtreme(set, false);
+			latestSets[i] = findExtreme(set, true);
+		}
+		Curve dayLength = new Curve() {
+			public double getValue(int day) {
+				calculate(day);
+				return dayLengths[day];
+			}
+		};
+		shortestDay = findExtreme(dayLength, false);
+		longestDay = findExtreme(dayLength, true);
+	}
+
+	/**
+	 * Splits the year into periods with a single time zone offset.
+	 *
+	 * @return pairs of the first and last day of each period
+	 */
+	private int[] getPeriods() {
+		List<Integer> starts = new ArrayList<Integer>();
+		starts.add(0);
+		ZoneRules rules = zoneId.getRules();
+		Instant end = startDate.plusDays(days).atStartOfDay(zoneId).toInstant();
+		ZoneOffsetTransition transition = rules.nextTransition(startDate.atStartOfDay(zoneId).toInstant());
+		while (transition != null && transition.getInstant().isBefore(end)) {
+			// the first day entirely after the transition
+			int day = (int) (transition.getDateTimeAfter().toLocalDate().toEpochDay() - startDate.toEpochDay()) + 1;
+			if (day < days && day > starts.get(starts.size() - 1)) {
+				starts.add(day);
+			}
+			transition = rules.nextTransition(transition.getInstant());
+		}
+		int[] result = new int[starts.size() * 2];
+		for (int i = 0; i < starts.size(); i++) {
+			result[i * 2] = starts.get(i);
+			result[i * 2 + 1] = i + 1 < starts.size() ? starts.get(i + 1) - 1 : days - 1;
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates all the events of a day, unless already calculated.
+	 *
+	 * @param day
+	 *            the day offset from the start of the year
+	 */
+	private void calculate(int day) {
+		if (calculated[day]) {
+			return;
+		}
+		double[] utcSunrises = new double[batchZeniths.length];
+		double[] utcSunsets = new double[batchZeniths.length];
+		int antimeridianAdjustment = geoLocation.getAntimeridianAdjustment();
+		LocalDate date = startDate.plusDays(day);
+		long epochDay = date.toEpochDay() + antimeridianAdjustment;
+		double julianDay = AstronomicalCalculator.getJulianDay(date) + antimeridianAdjustment;
+		double longitude = geoLocation.getLongitude();
+		calculator.getUTCSunrisesAndSunsets(julianDay, geoLocation, batchZeniths, true, utcSunrises, utcSunsets);
+		long localMidnight = date.atStartOfDay(zoneId).toInstant().toEpochMilli();
+		for (int i = 0; i < batchZeniths.length; i++) {
+			rises[i][day] = AstronomicalCalendar.getEpochMillisFromTime(epochDay, longitude, utcSunrises[i], true);
+			sets[i][day] = AstronomicalCalendar.getEpochMillisFromTime(epochDay, longitude, utcSunsets[i], false);
+			localRises[i][day] = getLocalTime(rises[i][day], localMidnight);
+			localSets[i][day] = getLocalTime(sets[i][day], localMidnight);
+		}
+		dayLengths[day] = localSets[0][day] - localRises[0][day];
+		calculated[day] = true;
+		calculatedDays++;
+	}
+
+	/**
+	 * Returns the local time of an event, including the daylight saving time offset if it is in effect.
+	 *
+	 * @param epochMillis
+	 *            the time of the event in milliseconds since the epoch, or {@link Long#MIN_VALUE}
+	 * @param localMidnight
+	 *            the local midnight at the start of the day in milliseconds since the epoch
+	 * @return the milliseconds from the local midnight as shown on a clock (which can be negative or more than a day),
+	 *         or {@link Double#NaN} if the event does not occur
+	 */
+	private double getLocalTime(long epochMillis, long localMidnight) {
+		if (epochMillis == Long.MIN_VALUE) {
+			return Double.NaN;
+		}
+		ZoneRules rules = zoneId.getRules();
+		long offset = rules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000L
+				- rules.getOffset(Instant.ofEpochMilli(localMidnight)).getTotalSeconds() * 1000L;
+		return epochMillis - localMidnight + offset;
+	}
+
+	/**
+	 * Finds the day of the minimum or maximum of a curve.
+	 *
+	 * @param curve
+	 *            the curve
+	 * @param maximum
+	 *            <code>true</code> to find the maximum, <code>false</code> for the minimum
+	 * @return the first day with the extreme, or -1 if the curve has no value on any day
+	 */
+	private int findExtreme(Curve curve, boolean maximum) {
+		final double sign = maximum ? -1 : 1;
+		int best = -1;
+		double bestValue = Double.NaN;
+		for (int p = 0; p < periods.length; p += 2) {
+			int first = periods[p];
+			int last = periods[p + 1];
+			int count = (last - first + SAMPLE_DAYS - 1) / SAMPLE_DAYS + 1;
+			int[] samples = new int[count];
+			double[] values = new double[count];
+			for (int i = 0; i < count; i++) {
+				samples[i] = Math.min(first + i * SAMPLE_DAYS, last);
+				values[i] = sign * curve.getValue(samples[i]);
+			}
+			for (int i = 0; i < count; i++) {
+				int lo = samples[Math.max(i - 1, 0)];
+				int hi = samples[Math.min(i + 1, count - 1)];
+				int day;
+				if (hasNaN(values, i - 1, i + 1)) {
+					// an event that starts or stops occurring, so the extreme is usually on its first or last day
+					day = scan(curve, sign, lo, hi);
+				} else if ((i == 0 || values[i] <= values[i - 1]) && (i == count - 1 || values[i] <= values[i + 1])) {
+					day = search(curve, sign, lo, hi);
+				} else {
+					continue;
+				}
+				if (day >= 0) {
+					double value = sign * curve.getValue(day);
+					if (best < 0 || value < bestValue || (value == bestValue && day < best)) {
+						best = day;
+						bestValue = value;
+					}
+				}
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Returns if any of the values in a range of indexes is {@link Double#NaN}.
+	 *
+	 * @param values
+	 *            the values
+	 * @param from
+	 *            the first index, which may be before the start of the array
+	 * @param to
+	 *            the last index, which may be after the end of the array
+	 * @return <code>true</code> if a value in the range is NaN
+	 */
+	private static boolean hasNaN(double[] values, int from, int to) {
+		for (int i = Math.max(from, 0); i <= Math.min(to, values.length - 1); i++) {
+			if (Double.isNaN(values[i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Finds the minimum of a curve (multiplied by a sign) in a range of days with a golden-section search. If a day
+	 * without a value is found, the range is {@link #scan(Curve, double, int, int) scanned} instead.
+	 *
+	 * @param curve
+	 *            the curve
+	 * @param sign
+	 *            1 to find the minimum of the curve, or -1 to find the maximum
+	 * @param from
+	 *            the first day of the range
+	 * @param to
+	 *            the last day of the range
+	 * @return the first day with the minimum
+	 */
+	private static int search(Curve curve, double sign, int from, int to) {
+		int lo = from;
+		int hi = to;
+		while (hi - lo > 3) {
+			int step = (int) Math.round((hi - lo) / GOLDEN_RATIO);
+			int left = hi - step;
+			int right = lo + step;
+			if (left >= right) {
+				right = left + 1;
+			}
+			double leftValue = sign * curve.getValue(left);
+			double rightValue = sign * curve.getValue(right);
+			if (Double.isNaN(leftValue) || Double.isNaN(rightValue)) {
+				return scan(curve, sign, from, to);
+			}
+			if (leftValue <= rightValue) {
+				hi = right;
+			} else {
+				lo = left;
+			}
+		}
+		return scan(curve, sign, lo, hi);
+	}
+
+	/**
+	 * Finds the minimum of a curve (multiplied by a sign) by calculating every day of a range.
+	 *
+	 * @param curve
+	 *            the curve
+	 * @param sign
+	 *            1 to find the minimum of the curve, or -1 to find the maximum
+	 * @param from
+	 *            the first day of the range
+	 * @param to
+	 *            the last day of the range
+	 * @return the first day with the minimum, or -1 if the curve has no value in the range
+	 */
+	private static int scan(Curve curve, double sign, int from, int to) {
+		int best = -1;
+		double bestValue = Double.NaN;
+		for (int day = from; day <= to; day++) {
+			double value = sign * curve.getValue(day);
+			if (!Double.isNaN(value) && (best < 0 || value < bestValue)) {
+				best = day;
+				bestValue = value;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Returns the number of days of the year that were calculated to find the extremes.
+	 *
+	 * @return the number of days calculated
+	 */
+	int getCalculatedDays() {
+		return calculatedDays;
+	}
+
+	/**
+	 * Returns the time of an event on a day.
+	 *
+	 * @param times
+	 *            the times of the event
+	 * @param day
+	 *            the day, or -1
+	 * @return the time, or <code>null</code> if the day is -1
+	 */
+	private ZonedDateTime getTime(long[] times, int day) {
+		return day < 0 ? null : Instant.ofEpochMilli(times[day]).atZone(zoneId);
+	}
+
+	/**
+	 * Returns the additional zeniths.
+	 *
+	 * @return a copy of the zeniths
+	 */
+	public double[] getZeniths() {
+		return Arrays.copyOfRange(batchZeniths, 1, batchZeniths.length);
+	}
+
+	/**
+	 * Returns the earliest {@link AstronomicalCalendar#getSunrise() elevation adjusted sunrise} of the year.
+	 *
+	 * @return the earliest sunrise, or <code>null</code> if the sun never rises.
+	 */
+	public ZonedDateTime getEarliestSunrise() {
+		return getTime(rises[0], earliestRises[0]);
+	}
+
+	/**
+	 * Returns the latest {@link AstronomicalCalendar#getSunrise() elevation adjusted sunrise} of the year.
+	 *
+	 * @return the latest sunrise, or <code>null</code> if the sun never rises.
+	 */
+	public ZonedDateTime getLatestSunrise() {
+		return getTime(rises[0], latestRises[0]);
+	}
+
+	/**
+	 * Returns the earliest {@link AstronomicalCalendar#getSunset() elevation adjusted sunset} of the year.
+	 *
+	 * @return the earliest sunset, or <code>null</code> if the sun never sets.
+	 */
+	public ZonedDateTime getEarliestSunset() {
+		return getTime(sets[0], earliestSets[0]);
+	}
+
+	/**
+	 * Returns the latest {@link AstronomicalCalendar#getSunset() elevation adjusted sunset} of the year.
+	 *
+	 * @return the latest sunset, or <code>null</code> if the sun never sets.
+	 */
+	public ZonedDateTime getLatestSunset() {
+		return getTime(sets[0], latestSets[0]);
+	}
+
+	/**
+	 * Returns the earliest {@link AstronomicalCalendar#getSunriseOffsetByDegrees(double) rise time} of one of the
+	 * {@link #getZeniths() zeniths}.
+	 *
+	 * @param zenithIndex
+	 *            the index of the zenith in the array of zeniths passed to the constructor
+	 * @return the earliest time, or <code>null</code> if the sun never reaches the zenith.
+	 */
+	public ZonedDateTime getEarliestSunrise(int zenithIndex) {
+		return getTime(rises[zenithIndex + 1], earliestRises[zenithIndex + 1]);
+	}
+
+	/**
+	 * Returns the latest {@link AstronomicalCalendar#getSunriseOffsetByDegrees(double) rise time} of one of the
+	 * {@link #getZeniths() zeniths}.
+	 *
+	 * @param zenithIndex
+	 *            the index of the zenith in the array of zeniths passed to the constructor
+	 * @return the latest time, or <code>null</code> if the sun never reaches the zenith.
+	 */
+	public ZonedDateTime getLatestSunrise(int zenithIndex) {
+		return getTime(rises[zenithIndex + 1], latestRises[zenithIndex + 1]);
+	}
+
+	/**
+	 * Returns the earliest {@link AstronomicalCalendar#getSunsetOffsetByDegrees(double) set time} of one of the
+	 * {@link #getZeniths() zeniths}.
+	 *
+	 * @param zenithIndex
+	 *            the index of the zenith in the array of zeniths passed to the constructor
+	 * @return the earliest time, or <code>null</code> if the sun never reaches the zenith.
+	 */
+	public ZonedDateTime getEarliestSunset(int zenithIndex) {
+		return getTime(sets[zenithIndex + 1], earliestSets[zenithIndex + 1]);
+	}
+
+	/**
+	 * Returns the latest {@link AstronomicalCalendar#getSunsetOffsetByDegrees(double) set time} of one of the
+	 * {@link #getZeniths() zeniths}.
+	 *
+	 * @param zenithIndex
+	 *            the index of the zenith in the array of zeniths passed to the constructor
+	 * @return the latest time, or <code>null</code> if the sun never reaches the zenith.
+	 */
+	public ZonedDateTime getLatestSunset(int zenithIndex) {
+		return getTime(sets[zenithIndex + 1], latestSets[zenithIndex + 1]);
+	}
+
+	/**
+	 * Returns the day with the shortest time from sunrise to sunset.
+	 *
+	 * @return the shortest day, or <code>null</code> if there is no day with both a sunrise and sunset.
+	 */
+	public LocalDate getShortestDay() {
+		return shortestDay < 0 ? null : startDate.plusDays(shortestDay);
+	}
+
+	/**
+	 * Returns the day with the longest time from sunrise to sunset.
+	 *
+	 * @return the longest day, or <code>null</code> if there is no day with both a sunrise and sunset.
+	 */
+	public LocalDate getLongestDay() {
+		return longestDay < 0 ? null : startDate.plusDays(longestDay);
+	}
+
+	/**
+	 * Returns the time from sunrise to sunset of the {@link #getShortestDay() shortest day}.
+	 *
+	 * @return the length of the day in milliseconds, or {@link Long#MIN_VALUE} if there is no day with both a sunrise
+	 *         and sunset.
+	 */
+	public long getShortestDayLength() {
+		return shortestDay < 0 ? Long.MIN_VALUE : sets[0][shortestDay] - rises[0][shortestDay];
+	}
+
+	/**
+	 * Returns the time from sunrise to sunset of the {@link #getLongestDay() longest day}.
+	 *
+	 * @return the length of the day in milliseconds, or {@link Long#MIN_VALUE} if there is no day with both a sunrise
+	 *         and sunset.
+	 */
+	public long getLongestDayLength() {
+		return longestDay < 0 ? Long.MIN_VALUE : sets[0][longestDay] - rises[0][longestDay];
+	}
+}
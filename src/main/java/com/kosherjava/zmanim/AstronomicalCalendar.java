@@ -15,14 +15,16 @@
  */
 package com.kosherjava.zmanim;
 
-import java.math.BigDecimal;
 import java.time.*;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.TimeZone;
 
 import com.kosherjava.zmanim.util.AstronomicalCalculator;
 import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.NOAACalculator;
+import com.kosherjava.zmanim.util.SolarEventStatus;
 import com.kosherjava.zmanim.util.ZmanimFormatter;
 
 /**
@@ -92,6 +94,12 @@ public class AstronomicalCalendar implements Cloneable {
      */
     public static final double ASTRONOMICAL_ZENITH = 108;
 
+    /**
+     * The default tolerance in degrees (0.0001&deg;) of {@link #getSunriseSolarDipFromOffset(double)} and {@link
+     * #getSunsetSolarDipFromOffset(double)}.
+     */
+    public static final double DEFAULT_SOLAR_DIP_TOLERANCE = 0.0001;
+
     /**
      * constant for milliseconds in a minute (60,000)
      */
@@ -102,6 +110,11 @@ public class AstronomicalCalendar implements Cloneable {
      */
     public static final long HOUR_MILLIS = MINUTE_MILLIS * 60;
 
+    /**
+     * constant for milliseconds in a day (86,400,000)
+     */
+    public static final long DAY_MILLIS = HOUR_MILLIS * 24;
+
     /**
      * The Java Calendar encapsulated by this class to track the current date used by the class
      */
@@ -117,6 +130,140 @@ public class AstronomicalCalendar implements Cloneable {
      */
     private AstronomicalCalculator astronomicalCalculator;
 
+    /**
+     * Whether the results of the sunrise and sunset calculations are cached. See {@link #setUseResultCache(boolean)}.
+     */
+    private boolean useResultCache;
+
+    /**
+     * The cached sunrise and sunset results of the current day, or <code>null</code> if there are none.
+     */
+    private ResultCache resultCache;
+
+    /** The {@link ResultCache} type of the elevation adjusted sunrise. */
+    private static final int SUNRISE = 0;
+
+    /** The {@link ResultCache} type of the sea-level sunrise. */
+    private static final int SEA_LEVEL_SUNRISE = 1;
+
+    /** The {@link ResultCache} type of the elevation adjusted sunset. */
+    private static final int SUNSET = 2;
+
+    /** The {@link ResultCache} type of the sea-level sunset. */
+    private static final int SEA_LEVEL_SUNSET = 3;
+
+    /** The {@link ResultCache} type of the sun transit, which has no zenith. */
+    private static final int NOON = 4;
+
+    /** The {@link ResultCache} type of solar midnight, which has no zenith. */
+    private static final int MIDNIGHT = 5;
+
+    /**
+     * The UTC sunrise, sunset, noon and midnight results calculated for a single day, location and calculator, keyed by
+     * the type of the event (sunrise or sunset, elevation adjusted or at sea level, noon or midnight) and the zenith. A
+     * daily page of zmanim uses a few dozen keys at most, so they are kept in small arrays that are searched linearly.
+     * Since a {@link GeoLocation} can be changed after it is set, the coordinates and elevation it had when the results
+     * were calculated are kept and compared as well. The same is done for the settings of a calculator that isn't
+     * {@link AstronomicalCalculator#isShared() shared}, such as its refraction, solar radius and earth radius.
+     */
+    private static final class ResultCache {
+        /** The adjusted calendar passed to the calculator. */
+        private final ZonedDateTime calendar;
+
+        /** The location. */
+        private final GeoLocation geoLocation;
+
+        /** The latitude of the location. */
+        private final double latitude;
+
+        /** The longitude of the location. */
+        private final double longitude;
+
+        /** The elevation of the location. */
+        private final double elevation;
+
+        /** The calculator. */
+        private final AstronomicalCalculator calculator;
+
+        /**
+         * A copy of the calculator with the settings it had when the results were calculated, or the calculator itself
+         * if it is shared and its settings can't be changed.
+         */
+        private final AstronomicalCalculator settings;
+
+        /** The type of each result. */
+        private int[] types = new int[16];
+
+        /** The zenith of each result. */
+        private double[] zeniths = new double[16];
+
+        /** The UTC time of each result, which may be {@link Double#NaN}. */
+        private double[] times = new double[16];
+
+        /** The number of results. */
+        private int size;
+
+        private ResultCache(ZonedDateTime calendar, GeoLocation geoLocation, AstronomicalCalculator calculator) {
+            this.calendar = calendar;
+            this.geoLocation = geoLocation;
+            this.latitude = geoLocation.getLatitude();
+            this.longitude = geoLocation.getLongitude();
+            this.elevation = geoLocation.getElevation();
+            this.calculator = calculator;
+            this.settings = calculator.isShared() ? calculator : (AstronomicalCalculator) calculator.clone();
+        }
+
+        /**
+         * Returns if the results were calculated for the calendar, location and calculator.
+         *
+         * @param calendar the adjusted calendar
+         * @param geoLocation the location
+         * @param calculator the calculator
+         * @return <code>true</code> if the results can be used
+         */
+        private boolean matches(ZonedDateTime calendar, GeoLocation geoLocation, AstronomicalCalculator calculator) {
+            return this.calculator == calculator && (settings == calculator || settings.equals(calculator))
+                    && this.geoLocation == geoLocation
+                    && latitude == geoLocation.getLatitude() && longitude == geoLocation.getLongitude()
+                    && elevation == geoLocation.getElevation() && this.calendar.equals(calendar);
+        }
+
+        /**
+         * Returns the index of a result.
+         *
+         * @param type the type of the event
+         * @param zenith the zenith
+         * @return the index, or -1 if there is no result for the type and zenith
+         */
+        private int indexOf(int type, double zenith) {
+            for (int i = 0; i < size; i++) {
+                if (types[i] == type && zeniths[i] == zenith) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Adds a result.
+         *
+         * @param type the type of the event
+         * @param zenith the zenith
+         * @param time the UTC time
+         */
+        private void add(int type, double zenith, double time) {
+            if (size == times.length) {
+                types = Arrays.copyOf(types, size * 2);
+                zeniths = Arrays.copyOf(zeniths, size * 2);
+                times = Arrays.copyOf(times, size * 2);
+            }
+            types[size] = type;
+            zeniths[size] = zenith;
+            times[size] = time;
+            size++;
+        }
+    }
+
     /**
      * The getSunrise method Returns a <code>ZonedDateTime</code> representing the
      * {@link AstronomicalCalculator#getElevationAdjustment(double) elevation adjusted} sunrise time. The zenith used
@@ -134,11 +281,28 @@ public class AstronomicalCalendar implements Cloneable {
      * @see AstronomicalCalendar#getUTCSunrise
      */
     public ZonedDateTime getSunrise() {
+        return getZonedDateTime(getSunriseMillis());
+    }
+
+    /**
+     * A method that returns the {@link #getSunrise() elevation adjusted sunrise} as the number of milliseconds since
+     * the epoch (1970-01-01T00:00:00Z). This and the other <code>Millis</code> methods of this class and its subclasses
+     * do not create a {@link ZonedDateTime} for the result, and are intended for bulk calculations where a
+     * <code>ZonedDateTime</code> is only needed for display, if at all. The <code>ZonedDateTime</code> methods simply
+     * convert the result of the matching <code>Millis</code> method.
+     *
+     * @return the sunrise in milliseconds since the epoch. If the calculation can't be computed such as in the Arctic
+     * Circle where there is at least one day a year where the sun does not rise, and one where it does not set, {@link
+     * Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getSunrise()
+     * @see #getZonedDateTime(long)
+     */
+    public long getSunriseMillis() {
         double sunrise = getUTCSunrise(GEOMETRIC_ZENITH);
         if (Double.isNaN(sunrise)) {
-            return null;
+            return Long.MIN_VALUE;
         } else {
-            return getZonedDateTimeFromTime(sunrise, true);
+            return getEpochMillisFromTime(sunrise, true);
         }
     }
 
@@ -156,11 +320,23 @@ public class AstronomicalCalendar implements Cloneable {
      * @see #getSeaLevelSunset()
      */
     public ZonedDateTime getSeaLevelSunrise() {
+        return getZonedDateTime(getSeaLevelSunriseMillis());
+    }
+
+    /**
+     * A method that returns {@link #getSeaLevelSunrise() sea-level sunrise} as the number of milliseconds since the
+     * epoch (1970-01-01T00:00:00Z).
+     *
+     * @return the sea-level sunrise in milliseconds since the epoch. If the calculation can't be computed, {@link
+     * Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getSeaLevelSunrise()
+     */
+    public long getSeaLevelSunriseMillis() {
         double sunrise = getUTCSeaLevelSunrise(GEOMETRIC_ZENITH);
         if (Double.isNaN(sunrise)) {
-            return null;
+            return Long.MIN_VALUE;
         } else {
-            return getZonedDateTimeFromTime(sunrise, true);
+            return getEpochMillisFromTime(sunrise, true);
         }
     }
 
@@ -173,7 +349,19 @@ public class AstronomicalCalendar implements Cloneable {
      * @see #CIVIL_ZENITH
      */
     public ZonedDateTime getBeginCivilTwilight() {
-        return getSunriseOffsetByDegrees(CIVIL_ZENITH);
+        return getZonedDateTime(getBeginCivilTwilightMillis());
+    }
+
+    /**
+     * A method that returns {@link #getBeginCivilTwilight() the beginning of civil twilight} as the number of
+     * milliseconds since the epoch (1970-01-01T00:00:00Z).
+     *
+     * @return the beginning of civil twilight in milliseconds since the epoch. If the calculation can't be computed,
+     * {@link Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getBeginCivilTwilight()
+     */
+    public long getBeginCivilTwilightMillis() {
+        return getSunriseOffsetByDegreesMillis(CIVIL_ZENITH);
     }
 
     /**
@@ -186,7 +374,19 @@ public class AstronomicalCalendar implements Cloneable {
      * @see #NAUTICAL_ZENITH
      */
     public ZonedDateTime getBeginNauticalTwilight() {
-        return getSunriseOffsetByDegrees(NAUTICAL_ZENITH);
+        return getZonedDateTime(getBeginNauticalTwilightMillis());
+    }
+
+    /**
+     * A method that returns {@link #getBeginNauticalTwilight() the beginning of nautical twilight} as the number of
+     * milliseconds since the epoch (1970-01-01T00:00:00Z).
+     *
+     * @return the beginning of nautical twilight in milliseconds since the epoch. If the calculation can't be computed,
+     * {@link Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getBeginNauticalTwilight()
+     */
+    public long getBeginNauticalTwilightMillis() {
+        return getSunriseOffsetByDegreesMillis(NAUTICAL_ZENITH);
     }
 
     /**
@@ -199,7 +399,19 @@ public class AstronomicalCalendar implements Cloneable {
      * @see #ASTRONOMICAL_ZENITH
      */
     public ZonedDateTime getBeginAstronomicalTwilight() {
-        return getSunriseOffsetByDegrees(ASTRONOMICAL_ZENITH);
+        return getZonedDateTime(getBeginAstronomicalTwilightMillis());
+    }
+
+    /**
+     * A method that returns {@link #getBeginAstronomicalTwilight() the beginning of astronomical twilight} as the
+     * number of milliseconds since the epoch (1970-01-01T00:00:00Z).
+     *
+     * @return the beginning of astronomical twilight in milliseconds since the epoch. If the calculation can't be
+     * computed, {@link Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getBeginAstronomicalTwilight()
+     */
+    public long getBeginAstronomicalTwilightMillis() {
+        return getSunriseOffsetByDegreesMillis(ASTRONOMICAL_ZENITH);
     }
 
     /**
@@ -222,11 +434,23 @@ public class AstronomicalCalendar implements Cloneable {
      * @see AstronomicalCalendar#getUTCSunset
      */
     public ZonedDateTime getSunset() {
+        return getZonedDateTime(getSunsetMillis());
+    }
+
+    /**
+     * A method that returns {@link #getSunset() elevation adjusted sunset} as the number of milliseconds since the
+     * epoch (1970-01-01T00:00:00Z).
+     *
+     * @return the sunset in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+     * will be returned. See detailed explanation on top of the page.
+     * @see #getSunset()
+     */
+    public long getSunsetMillis() {
         double sunset = getUTCSunset(GEOMETRIC_ZENITH);
         if (Double.isNaN(sunset)) {
-            return null;
+            return Long.MIN_VALUE;
         } else {
-            return getZonedDateTimeFromTime(sunset, false);
+            return getEpochMillisFromTime(sunset, false);
         }
     }
 
@@ -243,11 +467,23 @@ public class AstronomicalCalendar implements Cloneable {
      * @see AstronomicalCalendar#getUTCSeaLevelSunset 2see {@link #getSunset()}
      */
     public ZonedDateTime getSeaLevelSunset() {
+        return getZonedDateTime(getSeaLevelSunsetMillis());
+    }
+
+    /**
+     * A method that returns {@link #getSeaLevelSunset() sea-level sunset} as the number of milliseconds since the epoch
+     * (1970-01-01T00:00:00Z).
+     *
+     * @return the sea-level sunset in milliseconds since the epoch. If the calculation can't be computed, {@link
+     * Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getSeaLevelSunset()
+     */
+    public long getSeaLevelSunsetMillis() {
         double sunset = getUTCSeaLevelSunset(GEOMETRIC_ZENITH);
         if (Double.isNaN(sunset)) {
-            return null;
+            return Long.MIN_VALUE;
         } else {
-            return getZonedDateTimeFromTime(sunset, false);
+            return getEpochMillisFromTime(sunset, false);
         }
     }
 
@@ -260,7 +496,19 @@ public class AstronomicalCalendar implements Cloneable {
      * @see #CIVIL_ZENITH
      */
     public ZonedDateTime getEndCivilTwilight() {
-        return getSunsetOffsetByDegrees(CIVIL_ZENITH);
+        return getZonedDateTime(getEndCivilTwilightMillis());
+    }
+
+    /**
+     * A method that returns {@link #getEndCivilTwilight() the end of civil twilight} as the number of milliseconds
+     * since the epoch (1970-01-01T00:00:00Z).
+     *
+     * @return the end of civil twilight in milliseconds since the epoch. If the calculation can't be computed, {@link
+     * Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getEndCivilTwilight()
+     */
+    public long getEndCivilTwilightMillis() {
+        return getSunsetOffsetByDegreesMillis(CIVIL_ZENITH);
     }
 
     /**
@@ -272,7 +520,19 @@ public class AstronomicalCalendar implements Cloneable {
      * @see #NAUTICAL_ZENITH
      */
     public ZonedDateTime getEndNauticalTwilight() {
-        return getSunsetOffsetByDegrees(NAUTICAL_ZENITH);
+        return getZonedDateTime(getEndNauticalTwilightMillis());
+    }
+
+    /**
+     * A method that returns {@link #getEndNauticalTwilight() the end of nautical twilight} as the number of
+     * milliseconds since the epoch (1970-01-01T00:00:00Z).
+     *
+     * @return the end of nautical twilight in milliseconds since the epoch. If the calculation can't be computed,
+     * {@link Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getEndNauticalTwilight()
+     */
+    public long getEndNauticalTwilightMillis() {
+        return getSunsetOffsetByDegreesMillis(NAUTICAL_ZENITH);
     }
 
     /**
@@ -284,7 +544,19 @@ public class AstronomicalCalendar implements Cloneable {
      * @see #ASTRONOMICAL_ZENITH
      */
     public ZonedDateTime getEndAstronomicalTwilight() {
-        return getSunsetOffsetByDegrees(ASTRONOMICAL_ZENITH);
+        return getZonedDateTime(getEndAstronomicalTwilightMillis());
+    }
+
+    /**
+     * A method that returns {@link #getEndAstronomicalTwilight() the end of astronomical twilight} as the number of
+     * milliseconds since the epoch (1970-01-01T00:00:00Z).
+     *
+     * @return the end of astronomical twilight in milliseconds since the epoch. If the calculation can't be computed,
+     * {@link Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getEndAstronomicalTwilight()
+     */
+    public long getEndAstronomicalTwilightMillis() {
+        return getSunsetOffsetByDegreesMillis(ASTRONOMICAL_ZENITH);
     }
 
     /**
@@ -316,6 +588,35 @@ public class AstronomicalCalendar implements Cloneable {
         return time.plus(offset, ChronoUnit.MILLIS);
     }
 
+    /**
+     * A utility method that returns a time in milliseconds since the epoch offset by the offset time passed in as a
+     * parameter. This method casts the offset as a <code>long</code> and calls {@link #getTimeOffset(long, long)}.
+     *
+     * @param time   the start time in milliseconds since the epoch
+     * @param offset the offset in milliseconds to add to the time
+     * @return the time with the offset added to it, or {@link Long#MIN_VALUE} if the time is {@link Long#MIN_VALUE}
+     */
+    public static long getTimeOffset(long time, double offset) {
+        return getTimeOffset(time, (long) offset);
+    }
+
+    /**
+     * A utility method that returns a time in milliseconds since the epoch offset by the offset time passed in. This is
+     * the <code>long</code> equivalent of {@link #getTimeOffset(ZonedDateTime, long)}.
+     *
+     * @param time   the start time in milliseconds since the epoch
+     * @param offset the offset in milliseconds to add to the time.
+     * @return the time with the offset in milliseconds added to it. If either the time or the offset are
+     * {@link Long#MIN_VALUE} (the result of a calculation that can't be computed), {@link Long#MIN_VALUE} will be
+     * returned.
+     */
+    public static long getTimeOffset(long time, long offset) {
+        if (time == Long.MIN_VALUE || offset == Long.MIN_VALUE) {
+            return Long.MIN_VALUE;
+        }
+        return time + offset;
+    }
+
     /**
      * A utility method that returns the time of an offset by degrees below or above the horizon of
      * {@link #getSunrise() sunrise}. Note that the degree offset is from the vertical, so for a calculation of 14&deg;
@@ -331,11 +632,27 @@ public class AstronomicalCalendar implements Cloneable {
      * on top of the page.
      */
     public ZonedDateTime getSunriseOffsetByDegrees(double offsetZenith) {
+        return getZonedDateTime(getSunriseOffsetByDegreesMillis(offsetZenith));
+    }
+
+    /**
+     * A method that returns the time of an offset by degrees below or above the horizon of {@link #getSunrise()
+     * sunrise} as the number of milliseconds since the epoch. See {@link #getSunriseOffsetByDegrees(double)} for
+     * details.
+     *
+     * @param offsetZenith the degrees before {@link #getSunrise()} to use in the calculation, measured from the
+     * vertical. See {@link #getSunriseOffsetByDegrees(double)}.
+     * @return the time of the offset in milliseconds since the epoch. If the calculation can't be computed such as in
+     * the Arctic Circle where there is at least one day a year where the sun does not rise, and one where it does not
+     * set, {@link Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getSunriseOffsetByDegrees(double)
+     */
+    public long getSunriseOffsetByDegreesMillis(double offsetZenith) {
         double dawn = getUTCSunrise(offsetZenith);
         if (Double.isNaN(dawn)) {
-            return null;
+            return Long.MIN_VALUE;
         } else {
-            return getZonedDateTimeFromTime(dawn, true);
+            return getEpochMillisFromTime(dawn, true);
         }
     }
 
@@ -353,11 +670,26 @@ public class AstronomicalCalendar implements Cloneable {
      * top of the page.
      */
     public ZonedDateTime getSunsetOffsetByDegrees(double offsetZenith) {
+        return getZonedDateTime(getSunsetOffsetByDegreesMillis(offsetZenith));
+    }
+
+    /**
+     * A method that returns the time of an offset by degrees below or above the horizon of {@link #getSunset()
+     * sunset} as the number of milliseconds since the epoch. See {@link #getSunsetOffsetByDegrees(double)} for details.
+     *
+     * @param offsetZenith the degrees after {@link #getSunset()} to use in the calculation, measured from the
+     *                     vertical. See {@link #getSunsetOffsetByDegrees(double)}.
+     * @return the time of the offset in milliseconds since the epoch. If the calculation can't be computed such as in
+     * the Arctic Circle where there is at least one day a year where the sun does not rise, and one where it does not
+     * set, {@link Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getSunsetOffsetByDegrees(double)
+     */
+    public long getSunsetOffsetByDegreesMillis(double offsetZenith) {
         double sunset = getUTCSunset(offsetZenith);
         if (Double.isNaN(sunset)) {
-            return null;
+            return Long.MIN_VALUE;
         } else {
-            return getZonedDateTimeFromTime(sunset, false);
+            return getEpochMillisFromTime(sunset, false);
         }
     }
 
@@ -372,7 +704,9 @@ public class AstronomicalCalendar implements Cloneable {
     /**
      * A constructor that takes in <a href="https://en.wikipedia.org/wiki/Geolocation">geolocation</a> information as a
      * parameter. The default {@link AstronomicalCalculator#getDefault() AstronomicalCalculator} used for solar
-     * calculations is the the {@link com.kosherjava.zmanim.util.NOAACalculator}.
+     * calculations is the the {@link com.kosherjava.zmanim.util.NOAACalculator}. Each calendar gets its own instance of
+     * it that can be changed. Calendars that don't change it can use the {@link
+     * AstronomicalCalculator#getSharedDefault() shared instance} instead to avoid a copy per calendar.
      *
      * @param geoLocation The location information used for calculating astronomical sun times.
      * @see #setAstronomicalCalculator(AstronomicalCalculator) for changing the calculator class.
@@ -393,7 +727,7 @@ public class AstronomicalCalendar implements Cloneable {
      * not set, {@link Double#NaN} will be returned. See detailed explanation on top of the page.
      */
     public double getUTCSunrise(double zenith) {
-        return getAstronomicalCalculator().getUTCSunrise(getAdjustedCalendar(), getGeoLocation(), zenith, true);
+        return getUTCTime(SUNRISE, zenith);
     }
 
     /**
@@ -410,7 +744,7 @@ public class AstronomicalCalendar implements Cloneable {
      * @see AstronomicalCalendar#getUTCSeaLevelSunset
      */
     public double getUTCSeaLevelSunrise(double zenith) {
-        return getAstronomicalCalculator().getUTCSunrise(getAdjustedCalendar(), getGeoLocation(), zenith, false);
+        return getUTCTime(SEA_LEVEL_SUNRISE, zenith);
     }
 
     /**
@@ -424,7 +758,7 @@ public class AstronomicalCalendar implements Cloneable {
      * @see AstronomicalCalendar#getUTCSeaLevelSunset
      */
     public double getUTCSunset(double zenith) {
-        return getAstronomicalCalculator().getUTCSunset(getAdjustedCalendar(), getGeoLocation(), zenith, true);
+        return getUTCTime(SUNSET, zenith);
     }
 
     /**
@@ -442,7 +776,151 @@ public class AstronomicalCalendar implements Cloneable {
      * @see AstronomicalCalendar#getUTCSeaLevelSunrise
      */
     public double getUTCSeaLevelSunset(double zenith) {
-        return getAstronomicalCalculator().getUTCSunset(getAdjustedCalendar(), getGeoLocation(), zenith, false);
+        return getUTCTime(SEA_LEVEL_SUNSET, zenith);
+    }
+
+    /**
+     * Calculates the UTC time of sunrise, sunset, noon or midnight, looking it up in the {@link ResultCache} first if
+     * the {@link #setUseResultCache(boolean) result cache} is used.
+     *
+     * @param type the type of the event
+     * @param zenith the zenith, which is ignored for noon and midnight
+     * @return the UTC time, or {@link Double#NaN} if there is no event
+     */
+    private double getUTCTime(int type, double zenith) {
+        ZonedDateTime adjustedCalendar = getAdjustedCalendar();
+        GeoLocation location = getGeoLocation();
+        AstronomicalCalculator calculator = getAstronomicalCalculator();
+        ResultCache cache = null;
+        if (useResultCache) {
+            cache = resultCache;
+            if (cache == null || !cache.matches(adjustedCalendar, location, calculator)) {
+                cache = new ResultCache(adjustedCalendar, location, calculator);
+                resultCache = cache;
+            }
+            int index = cache.indexOf(type, zenith);
+            if (index >= 0) {
+                return cache.times[index];
+            }
+        }
+        boolean adjustForElevation = type == SUNRISE || type == SUNSET;
+        double time;
+        if (type == NOON) {
+            time = calculator.getUTCNoon(adjustedCalendar, location);
+        } else if (type == MIDNIGHT) {
+            time = calculator.getUTCMidnight(adjustedCalendar, location);
+        } else if (type == SUNRISE || type == SEA_LEVEL_SUNRISE) {
+            time = calculator.getUTCSunrise(adjustedCalendar, location, zenith, adjustForElevation);
+        } else {
+            time = calculator.getUTCSunset(adjustedCalendar, location, zenith, adjustForElevation);
+        }
+        if (cache != null) {
+            cache.add(type, zenith, time);
+        }
+        return time;
+    }
+
+    /**
+     * Returns if the results of the sunrise and sunset calculations are cached.
+     *
+     * @return <code>true</code> if the result cache is used
+     * @see #setUseResultCache(boolean)
+     */
+    public boolean isUseResultCache() {
+        return useResultCache;
+    }
+
+    /**
+     * Sets if the results of the sunrise and sunset calculations of the current day are cached. Most zmanim are based
+     * on sunrise, sunset or a time calculated for a number of degrees below the horizon, so a page of zmanim
+     * calculates the same {@link #getUTCSunrise(double) sunrise} and {@link #getUTCSunset(double) sunset} many times,
+     * such as in every zman based on a <em>shaah zmanis</em> of the GRA. With the cache, each time is calculated only
+     * once per zenith, and whether it was adjusted for elevation, and the {@link #getSunTransit() sun transit} and
+     * {@link #getSolarMidnight() solar midnight} only once. The results are identical to the ones without the
+     * cache. The cache is cleared by {@link #setCalendar(ZonedDateTime)}, {@link #setGeoLocation(GeoLocation)} and
+     * {@link #setAstronomicalCalculator(AstronomicalCalculator)}, and isn't used if the coordinates or elevation of the
+     * location or the settings of the calculator, such as its {@link AstronomicalCalculator#setRefraction(double)
+     * refraction}, were changed. The cache is not used by default.
+     *
+     * @param useResultCache <code>true</code> to cache the results
+     */
+    public void setUseResultCache(boolean useResultCache) {
+        this.useResultCache = useResultCache;
+        this.resultCache = null;
+    }
+
+    /**
+     * A method that returns if the sun crosses the elevation adjusted zenith on the day, and if not, if it is above or
+     * below it all day. This explains the {@link Double#NaN} returned by {@link #getUTCSunrise(double)} and {@link
+     * #getUTCSunset(double)} in the Arctic and Antarctic circles, and is much cheaper than calculating them.
+     *
+     * @param zenith the degrees below the horizon. For a zenith above the horizon use negative numbers.
+     * @return the status of the sunrise and sunset for the zenith.
+     * @see #getSeaLevelSolarEventStatus(double)
+     */
+    public SolarEventStatus getSolarEventStatus(double zenith) {
+        return getAstronomicalCalculator().getSolarEventStatus(getAdjustedCalendar(), getGeoLocation(), zenith, true);
+    }
+
+    /**
+     * A method that returns if the sun crosses the zenith at sea level on the day, and if not, if it is above or below
+     * it all day. This explains the {@link Double#NaN} returned by {@link #getUTCSeaLevelSunrise(double)} and {@link
+     * #getUTCSeaLevelSunset(double)}, and the <code>null</code> returned for dawn and dusk calculations such as {@link
+     * #getBeginAstronomicalTwilight()} during the summer in northern Europe.
+     *
+     * @param zenith the degrees below the horizon. For a zenith above the horizon use negative numbers.
+     * @return the status of the sunrise and sunset for the zenith.
+     * @see #getSolarEventStatus(double)
+     */
+    public SolarEventStatus getSeaLevelSolarEventStatus(double zenith) {
+        return getAstronomicalCalculator().getSolarEventStatus(getAdjustedCalendar(), getGeoLocation(), zenith, false);
+    }
+
+    /**
+     * A method that returns the sunrise and sunset in UTC time for a number of zeniths in a single call. This is
+     * equivalent to calling {@link #getUTCSunrise(double)} and {@link #getUTCSunset(double)} for each zenith, but
+     * allows the {@link AstronomicalCalculator} to do the date dependent part of the calculation only once. Since
+     * elevation only affects a zenith of exactly {@link #GEOMETRIC_ZENITH 90&deg;}, the results for any other zenith
+     * are identical to the ones returned by {@link #getSunriseOffsetByDegrees(double)} and
+     * {@link #getSunsetOffsetByDegrees(double)}.
+     *
+     * @param zeniths the zeniths to calculate. See {@link #getUTCSunrise(double)} for details.
+     * @param sunrises an array of at least <code>zeniths.length</code> that will be filled with the UTC sunrise for the
+     *            zenith at the same index in the format: 18.75 for 18:45:00 UTC/GMT, or {@link Double#NaN} if it can't
+     *            be computed. If <code>null</code>, sunrise will not be calculated.
+     * @param sunsets an array of at least <code>zeniths.length</code> that will be filled with the UTC sunset for the
+     *            zenith at the same index, or {@link Double#NaN} if it can't be computed. If <code>null</code>, sunset
+     *            will not be calculated.
+     * @throws IllegalArgumentException if <code>zeniths</code> is null or either of the result arrays is shorter than
+     *            <code>zeniths</code>.
+     * @see AstronomicalCalculator#getUTCSunrisesAndSunsets(ZonedDateTime, GeoLocation, double[], boolean, double[],
+     *      double[])
+     * @see #getUTCSeaLevelSunrisesAndSunsets(double[], double[], double[])
+     */
+    public void getUTCSunrisesAndSunsets(double[] zeniths, double[] sunrises, double[] sunsets) {
+        getAstronomicalCalculator().getUTCSunrisesAndSunsets(getAdjustedCalendar(), getGeoLocation(), zeniths, true,
+                sunrises, sunsets);
+    }
+
+    /**
+     * A method that returns the sea level sunrise and sunset in UTC time for a number of zeniths in a single call. This
+     * is equivalent to calling {@link #getUTCSeaLevelSunrise(double)} and {@link #getUTCSeaLevelSunset(double)} for
+     * each zenith.
+     *
+     * @param zeniths the zeniths to calculate. See {@link #getUTCSeaLevelSunrise(double)} for details.
+     * @param sunrises an array of at least <code>zeniths.length</code> that will be filled with the UTC sea level
+     *            sunrise for the zenith at the same index, or {@link Double#NaN} if it can't be computed. If
+     *            <code>null</code>, sunrise will not be calculated.
+     * @param sunsets an array of at least <code>zeniths.length</code> that will be filled with the UTC sea level
+     *            sunset for the zenith at the same index, or {@link Double#NaN} if it can't be computed. If
+     *            <code>null</code>, sunset will not be calculated.
+     * @throws IllegalArgumentException if <code>zeniths</code> is null or either of the result arrays is shorter than
+     *            <code>zeniths</code>.
+     * @see #getUTCSunrisesAndSunsets(double[], double[], double[])
+     */
+    public void getUTCSeaLevelSunrisesAndSunsets(double[] zeniths, double[] sunrises, double[] sunsets) {
+        getAstronomicalCalculator().getUTCSunrisesAndSunsets(getAdjustedCalendar(), getGeoLocation(), zeniths, false,
+                sunrises, sunsets);
     }
 
     /**
@@ -458,7 +936,7 @@ public class AstronomicalCalendar implements Cloneable {
      * @see #getTemporalHour(ZonedDateTime, ZonedDateTime)
      */
     public long getTemporalHour() {
-        return getTemporalHour(getSeaLevelSunrise(), getSeaLevelSunset());
+        return getTemporalHour(getSeaLevelSunriseMillis(), getSeaLevelSunsetMillis());
     }
 
     /**
@@ -474,10 +952,26 @@ public class AstronomicalCalendar implements Cloneable {
      * @see #getTemporalHour()
      */
     public long getTemporalHour(ZonedDateTime startOfday, ZonedDateTime endOfDay) {
-        if (startOfday == null || endOfDay == null) {
+        return getTemporalHour(getEpochMillis(startOfday), getEpochMillis(endOfDay));
+    }
+
+    /**
+     * A utility method that will allow the calculation of a temporal (solar) hour based on the sunrise and sunset
+     * passed as parameters to this method as milliseconds since the epoch. This is the <code>long</code> equivalent of
+     * {@link #getTemporalHour(ZonedDateTime, ZonedDateTime)}.
+     *
+     * @param startOfDay The start of the day in milliseconds since the epoch.
+     * @param endOfDay   The end of the day in milliseconds since the epoch.
+     * @return the <code>long</code> millisecond length of the temporal hour. If the calculation can't be computed
+     * (either parameter is {@link Long#MIN_VALUE}), {@link Long#MIN_VALUE} will be returned. See detailed explanation
+     * on top of the page.
+     * @see #getTemporalHour(ZonedDateTime, ZonedDateTime)
+     */
+    public long getTemporalHour(long startOfDay, long endOfDay) {
+        if (startOfDay == Long.MIN_VALUE || endOfDay == Long.MIN_VALUE) {
             return Long.MIN_VALUE;
         }
-        return (endOfDay.toEpochSecond() - startOfday.toEpochSecond()) / 12;
+        return (endOfDay - startOfDay) / 12;
     }
 
     /**
@@ -503,27 +997,60 @@ public class AstronomicalCalendar implements Cloneable {
      * @see AstronomicalCalculator#getUTCNoon(ZonedDateTime, GeoLocation)
      */
     public ZonedDateTime getSunTransit() {
-        double noon = getAstronomicalCalculator().getUTCNoon(getAdjustedCalendar(), getGeoLocation());
-        return getZonedDateTimeFromTime(noon, false);
+        return getZonedDateTime(getSunTransitMillis());
+    }
+
+    /**
+     * A method that returns {@link #getSunTransit() sun transit} as the number of milliseconds since the epoch
+     * (1970-01-01T00:00:00Z).
+     *
+     * @return the sun transit in milliseconds since the epoch. If the calculation can't be computed, {@link
+     * Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getSunTransit()
+     */
+    public long getSunTransitMillis() {
+        double noon = getUTCTime(NOON, 0);
+        return getEpochMillisFromTime(noon, false);
     }
 
     /**
      * A method that returns "solar" midnight, or the time when the sun is at its <a
-     * href="https://en.wikipedia.org/wiki/Nadir">nadir</a>. The current calculation is halfway between today and
-     * tomorrow's {@link #getSunTransit() sun transit}.
+     * href="https://en.wikipedia.org/wiki/Nadir">nadir</a>, after today's {@link #getSunTransit() sun transit}. It is
+     * calculated directly by the {@link AstronomicalCalculator#getUTCMidnight(ZonedDateTime, GeoLocation) calculator}
+     * (the {@link com.kosherjava.zmanim.util.NOAACalculator} calculates the time when the hour angle of the sun is
+     * 180&deg;), and is within a fraction of a second of halfway between today and tomorrow's sun transit.
      *
      * @return the <code>ZonedDateTime</code> of astronomical solar midnight. If the calculation can't be computed such as
      * when using the {@link com.kosherjava.zmanim.util.SunTimesCalculator USNO calculator} that does not
      * support getting solar noon for the Arctic Circle (where there is at least one day a year where the
      * sun does not rise, and one where it does not set), a <code>null</code> will be returned. See
      * detailed explanation on top of the page.
-     * @see AstronomicalCalculator#getUTCNoon(ZonedDateTime, GeoLocation)
-     * @see AstronomicalCalculator#getUTCNoon(ZonedDateTime, GeoLocation)
+     * @see AstronomicalCalculator#getUTCMidnight(ZonedDateTime, GeoLocation)
      */
     public ZonedDateTime getSolarMidnight() {
-        AstronomicalCalendar clonedCal = (AstronomicalCalendar) clone();
-        clonedCal.setCalendar(clonedCal.getCalendar().plusDays(1));
-        return getTimeOffset(getSunTransit(), (clonedCal.getSunTransit().toEpochSecond() - getSunTransit().toEpochSecond()) / 2);
+        return getZonedDateTime(getSolarMidnightMillis());
+    }
+
+    /**
+     * A method that returns {@link #getSolarMidnight() solar midnight} as the number of milliseconds since the epoch
+     * (1970-01-01T00:00:00Z).
+     *
+     * @return the solar midnight in milliseconds since the epoch. If the calculation can't be computed, {@link
+     * Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getSolarMidnight()
+     */
+    public long getSolarMidnightMillis() {
+        // the calculator returns the UTC time of day of midnight, so it is placed on the time line as the first time
+        // with that time of day after the sun transit
+        double noon = getUTCTime(NOON, 0);
+        double midnight = getUTCTime(MIDNIGHT, 0);
+        long sunTransit = getEpochMillisFromTime(noon, false);
+        if (sunTransit == Long.MIN_VALUE || Double.isNaN(midnight)) {
+            return Long.MIN_VALUE;
+        }
+        double hoursAfterTransit = midnight - noon;
+        hoursAfterTransit -= 24 * Math.floor(hoursAfterTransit / 24);
+        return sunTransit + Math.round(hoursAfterTransit * HOUR_MILLIS);
     }
 
     /**
@@ -542,7 +1069,25 @@ public class AstronomicalCalendar implements Cloneable {
      * not set, <code>null</code> will be returned. See detailed explanation on top of the page.
      */
     public ZonedDateTime getSunTransit(ZonedDateTime startOfDay, ZonedDateTime endOfDay) {
+        return getZonedDateTime(getSunTransit(getEpochMillis(startOfDay), getEpochMillis(endOfDay)));
+    }
+
+    /**
+     * A method that returns the sun's transit calculated as halfway between the start and end of day passed to this
+     * method as milliseconds since the epoch. This is the <code>long</code> equivalent of
+     * {@link #getSunTransit(ZonedDateTime, ZonedDateTime)}.
+     *
+     * @param startOfDay the start of day in milliseconds since the epoch.
+     * @param endOfDay   the end of day in milliseconds since the epoch.
+     * @return the sun's transit in milliseconds since the epoch. If the calculation can't be computed (either parameter
+     * is {@link Long#MIN_VALUE}), {@link Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
+     * @see #getSunTransit(ZonedDateTime, ZonedDateTime)
+     */
+    public long getSunTransit(long startOfDay, long endOfDay) {
         long temporalHour = getTemporalHour(startOfDay, endOfDay);
+        if (temporalHour == Long.MIN_VALUE) {
+            return Long.MIN_VALUE;
+        }
         return getTimeOffset(startOfDay, temporalHour * 6);
     }
 
@@ -555,17 +1100,39 @@ public class AstronomicalCalendar implements Cloneable {
      * @return The ZonedDateTime.
      */
     protected ZonedDateTime getZonedDateTimeFromTime(double time, boolean isSunrise) {
+        return getZonedDateTime(getEpochMillisFromTime(time, isSunrise));
+    }
+
+    /**
+     * A method that returns the number of milliseconds since the epoch for the UTC time passed in as a parameter on the
+     * calendar's date. This is the <code>long</code> equivalent of {@link #getZonedDateTimeFromTime(double, boolean)}.
+     *
+     * @param time      The UTC time in the format: 18.75 for 6:45:00 PM.
+     * @param isSunrise true if the time is sunrise and false if it is sunset
+     * @return The time in milliseconds since the epoch, or {@link Long#MIN_VALUE} if the time is {@link Double#NaN}.
+     */
+    protected long getEpochMillisFromTime(double time, boolean isSunrise) {
+        return getEpochMillisFromTime(getAdjustedCalendar().toLocalDate().toEpochDay(), getGeoLocation().getLongitude(),
+                time, isSunrise);
+    }
+
+    /**
+     * A method that returns the number of milliseconds since the epoch for the UTC time on the day passed in as a
+     * parameter. This is used by {@link #getEpochMillisFromTime(double, boolean)} and {@link SolarTable} to convert the
+     * times returned by the {@link AstronomicalCalculator}.
+     *
+     * @param epochDay  the (antimeridian adjusted) date as the number of days since the epoch.
+     * @param longitude the longitude of the location, used to detect a date transition.
+     * @param time      The UTC time in the format: 18.75 for 6:45:00 PM.
+     * @param isSunrise true if the time is sunrise and false if it is sunset
+     * @return The time in milliseconds since the epoch, or {@link Long#MIN_VALUE} if the time is {@link Double#NaN}.
+     */
+    static long getEpochMillisFromTime(long epochDay, double longitude, double time, boolean isSunrise) {
         if (Double.isNaN(time)) {
-            return null;
+            return Long.MIN_VALUE;
         }
         double calculatedTime = time;
 
-
-        ZonedDateTime adjustedCalendar = getAdjustedCalendar();
-        LocalDate localDate = LocalDate.of(adjustedCalendar.getYear(),
-                adjustedCalendar.getMonth(),
-                adjustedCalendar.getDayOfMonth());
-
         int hours = (int) calculatedTime; // retain only the hours
         calculatedTime -= hours;
         int minutes = (int) (calculatedTime *= 60); // retain only the minutes
@@ -575,69 +1142,266 @@ public class AstronomicalCalendar implements Cloneable {
 
         // Check if a date transition has occurred, or is about to occur - this indicates the date of the event is
         // actually not the target date, but the day prior or after
-        int localTimeHours = (int) getGeoLocation().getLongitude() / 15;
+        int localTimeHours = (int) longitude / 15;
         if (isSunrise && localTimeHours + hours > 18) {
-            localDate = localDate.minusDays(1);
+            epochDay--;
         } else if (!isSunrise && localTimeHours + hours < 6) {
-            localDate = localDate.plusDays(1);
+            epochDay++;
+        }
+        return epochDay * DAY_MILLIS + hours * HOUR_MILLIS + minutes * MINUTE_MILLIS + seconds * 1000L
+                + (int) (calculatedTime * 1000);
+    }
+
+    /**
+     * A method that converts a time in milliseconds since the epoch as returned by the <code>Millis</code> methods to a
+     * <code>ZonedDateTime</code> in the time zone of the calendar.
+     *
+     * @param epochMillis the time in milliseconds since the epoch.
+     * @return The ZonedDateTime, or <code>null</code> if <code>epochMillis</code> is {@link Long#MIN_VALUE}.
+     */
+    protected ZonedDateTime getZonedDateTime(long epochMillis) {
+        if (epochMillis == Long.MIN_VALUE) {
+            return null;
         }
-        return ZonedDateTime.of(localDate, LocalTime.of(hours, minutes, seconds, (int) calculatedTime), getGeoLocation().getTimeZone().toZoneId());
+        return Instant.ofEpochMilli(epochMillis).atZone(getCalendar().getZone());
+    }
+
+    /**
+     * A utility method that returns the number of milliseconds since the epoch of a <code>ZonedDateTime</code>.
+     *
+     * @param time the time to convert. May be <code>null</code>.
+     * @return the time in milliseconds since the epoch, or {@link Long#MIN_VALUE} if the time is <code>null</code>.
+     */
+    protected static long getEpochMillis(ZonedDateTime time) {
+        if (time == null) {
+            return Long.MIN_VALUE;
+        }
+        return time.toInstant().toEpochMilli();
     }
 
     /**
      * Returns the dip below the horizon before sunrise that matches the offset minutes on passed in as a parameter. For
-     * example passing in 72 minutes for a calendar set to the equinox in Jerusalem returns a value close to 16.1&deg;
-     * Please note that this method is very slow and inefficient and should NEVER be used in a loop.
+     * example passing in 72 minutes for a calendar set to the equinox in Jerusalem returns a value close to 16.1&deg;.
+     * The result is within {@link #DEFAULT_SOLAR_DIP_TOLERANCE} degrees of the exact dip. See
+     * {@link #getSunriseSolarDipFromOffset(double, double)} for details.
      *
      * @param minutes offset
      * @return the degrees below the horizon before sunrise that match the offset in minutes passed it as a parameter.
-     * @todo Improve efficiency of this method by not brute forcing the calculation.
+     * @see #getSunriseSolarDipFromOffset(double, double)
      * @see #getSunsetSolarDipFromOffset(double)
      */
     public double getSunriseSolarDipFromOffset(double minutes) {
-        ZonedDateTime offsetByDegrees = getSeaLevelSunrise();
-        ZonedDateTime offsetByTime = getTimeOffset(getSeaLevelSunrise(), -(minutes * MINUTE_MILLIS));
-
-        BigDecimal degrees = new BigDecimal(0);
-        BigDecimal incrementor = new BigDecimal("0.0001");
+        return getSunriseSolarDipFromOffset(minutes, DEFAULT_SOLAR_DIP_TOLERANCE);
+    }
 
-        while (offsetByDegrees == null || ((minutes < 0.0 && offsetByDegrees.compareTo(offsetByTime) < 0) ||
-                (minutes > 0.0 && offsetByDegrees.compareTo(offsetByTime) > 0))) {
-            if (minutes > 0.0) {
-                degrees = degrees.add(incrementor);
-            } else {
-                degrees = degrees.subtract(incrementor);
-            }
-            offsetByDegrees = getSunriseOffsetByDegrees(GEOMETRIC_ZENITH + degrees.doubleValue());
-        }
-        return degrees.doubleValue();
+    /**
+     * Returns the dip below the horizon before sunrise that matches the offset minutes on passed in as a parameter,
+     * within the tolerance passed in. The offset is measured from {@link #getSeaLevelSunrise() sea level sunrise}, and
+     * the dip is the smallest one (the largest one for negative minutes) where {@link
+     * #getSunriseOffsetByDegrees(double) sunrise offset by degrees} is no later (no earlier for negative minutes) than
+     * that time. This is the value a walk of the degrees in steps of the tolerance would find, but it is found by
+     * bracketing the dip and narrowing the bracket with the <a href="https://en.wikipedia.org/wiki/Regula_falsi">Illinois
+     * variant of the false position method</a>, and usually takes less than a dozen sunrise calculations.
+     *
+     * @param minutes offset. Negative minutes return the (negative) dip of the sun above the horizon after sunrise.
+     * @param tolerance the maximum difference in degrees between the returned dip and the exact one, such as
+     *            {@link #DEFAULT_SOLAR_DIP_TOLERANCE}.
+     * @return the degrees below the horizon before sunrise that match the offset in minutes passed it as a parameter.
+     *         If there is no sea level sunrise, or the sun does not reach a position that matches the offset, such as
+     *         an offset of 2 hours in the north of England in June, {@link Double#NaN} will be returned.
+     * @throws IllegalArgumentException if the tolerance is not a positive number
+     * @see #getSunsetSolarDipFromOffset(double, double)
+     */
+    public double getSunriseSolarDipFromOffset(double minutes, double tolerance) {
+        return getSolarDipFromOffset(minutes, tolerance, true);
     }
 
     /**
      * Returns the dip below the horizon after sunset that matches the offset minutes on passed in as a parameter. For
-     * example passing in 72 minutes for a calendar set to the equinox in Jerusalem returns a value close to 16.1&deg;
-     * Please note that this method is very slow and inefficient and should NEVER be used in a loop.
+     * example passing in 72 minutes for a calendar set to the equinox in Jerusalem returns a value close to 16.1&deg;.
+     * The result is within {@link #DEFAULT_SOLAR_DIP_TOLERANCE} degrees of the exact dip. See
+     * {@link #getSunsetSolarDipFromOffset(double, double)} for details.
      *
      * @param minutes offset
      * @return the degrees below the horizon after sunset that match the offset in minutes passed it as a parameter.
-     * @todo Improve efficiency of this method by not brute forcing the calculation.
+     * @see #getSunsetSolarDipFromOffset(double, double)
      * @see #getSunriseSolarDipFromOffset(double)
      */
     public double getSunsetSolarDipFromOffset(double minutes) {
-        ZonedDateTime offsetByDegrees = getSeaLevelSunset();
-        ZonedDateTime offsetByTime = getTimeOffset(getSeaLevelSunset(), minutes * MINUTE_MILLIS);
-        BigDecimal degrees = new BigDecimal(0);
-        BigDecimal incrementor = new BigDecimal("0.001");
-        while (offsetByDegrees == null || ((minutes > 0.0 && offsetByDegrees.compareTo(offsetByTime) < 0)) ||
-                (minutes < 0.0 && offsetByDegrees.compareTo(offsetByTime) > 0)) {
-            if (minutes > 0.0) {
-                degrees = degrees.add(incrementor);
+        return getSunsetSolarDipFromOffset(minutes, DEFAULT_SOLAR_DIP_TOLERANCE);
+    }
+
+    /**
+     * Returns the dip below the horizon after sunset that matches the offset minutes on passed in as a parameter,
+     * within the tolerance passed in. The offset is measured from {@link #getSeaLevelSunset() sea level sunset}, and the
+     * dip is the smallest one (the largest one for negative minutes) where {@link #getSunsetOffsetByDegrees(double)
+     * sunset offset by degrees} is no earlier (no later for negative minutes) than that time. See {@link
+     * #getSunriseSolarDipFromOffset(double, double)} for details of the calculation.
+     *
+     * @param minutes offset. Negative minutes return the (negative) dip of the sun above the horizon before sunset.
+     * @param tolerance the maximum difference in degrees between the returned dip and the exact one, such as
+     *            {@link #DEFAULT_SOLAR_DIP_TOLERANCE}.
+     * @return the degrees below the horizon after sunset that match the offset in minutes passed it as a parameter.
+     *         If there is no sea level sunset, or the sun does not reach a position that matches the offset,
+     *         {@link Double#NaN} will be returned.
+     * @throws IllegalArgumentException if the tolerance is not a positive number
+     * @see #getSunriseSolarDipFromOffset(double, double)
+     */
+    public double getSunsetSolarDipFromOffset(double minutes, double tolerance) {
+        return getSolarDipFromOffset(minutes, tolerance, false);
+    }
+
+    /**
+     * Returns the solar depression angle, the degrees of the sun below the horizon, at a time. This is the inverse of
+     * {@link #getSunriseOffsetByDegrees(double)} and {@link #getSunsetOffsetByDegrees(double)}: the depression at the
+     * time of <code>getSunriseOffsetByDegrees(GEOMETRIC_ZENITH + 16.1)</code> is (very close to) 16.1&deg;. This allows
+     * finding the degrees behind a published time, such as a community calendar's <em>alos</em>, without searching.
+     * The angle is calculated directly using {@link NOAACalculator#getSolarElevation(long, double, double)} for the
+     * {@link #getGeoLocation() location}, regardless of the {@link #getAstronomicalCalculator() calculator} used, and
+     * is the geometric position of the center of the sun, not adjusted for refraction or elevation.
+     *
+     * @param time the time, usually on the calendar's day.
+     * @return the depression angle in degrees. Negative values are for times when the sun is above the horizon. If
+     *         the time is <code>null</code>, such as a sunrise that does not occur, {@link Double#NaN} is returned.
+     * @see #getSolarDepression(long)
+     * @see #getSunriseSolarDipFromOffset(double)
+     */
+    public double getSolarDepression(ZonedDateTime time) {
+        return getSolarDepression(getEpochMillis(time));
+    }
+
+    /**
+     * Returns the solar depression angle at a time in milliseconds since the epoch. See
+     * {@link #getSolarDepression(ZonedDateTime)} for details.
+     *
+     * @param epochMillis the time in milliseconds since the epoch, usually of a time on the calendar's day.
+     * @return the depression angle in degrees. Negative values are for times when the sun is above the horizon. If
+     *         the time is {@link Long#MIN_VALUE}, {@link Double#NaN} is returned.
+     * @see #getSolarDepressions(long[])
+     */
+    public double getSolarDepression(long epochMillis) {
+        if (epochMillis == Long.MIN_VALUE) {
+            return Double.NaN;
+        }
+        GeoLocation geoLocation = getGeoLocation();
+        return -NOAACalculator.getSolarElevation(epochMillis, geoLocation.getLatitude(), geoLocation.getLongitude());
+    }
+
+    /**
+     * Returns the solar depression angles at a number of times in milliseconds since the epoch, such as all the times
+     * of a published calendar for a day. The angles are calculated in a single pass without creating any objects per
+     * time. See {@link #getSolarDepression(ZonedDateTime)} for details.
+     *
+     * @param epochMillis the times in milliseconds since the epoch, such as the values returned by the
+     *            <code>Millis</code> methods.
+     * @return the depression angles in degrees in the order of the times, with negative values for times when the sun
+     *         is above the horizon, and {@link Double#NaN} for times that are {@link Long#MIN_VALUE}.
+     */
+    public double[] getSolarDepressions(long[] epochMillis) {
+        GeoLocation geoLocation = getGeoLocation();
+        double latitude = geoLocation.getLatitude();
+        double longitude = geoLocation.getLongitude();
+        double[] depressions = new double[epochMillis.length];
+        for (int i = 0; i < epochMillis.length; i++) {
+            depressions[i] = epochMillis[i] == Long.MIN_VALUE ? Double.NaN
+                    : -NOAACalculator.getSolarElevation(epochMillis[i], latitude, longitude);
+        }
+        return depressions;
+    }
+
+    /**
+     * Solves for the dip of {@link #getSunriseSolarDipFromOffset(double, double)} and {@link
+     * #getSunsetSolarDipFromOffset(double, double)}. The search is done on the distance <em>x</em> of the dip from the
+     * horizon (the dip is <em>x</em> for positive minutes, and <em>-x</em> for negative ones), where the time of the
+     * offset by degrees moves monotonically towards (and past) the target time as <em>x</em> grows, until the sun no
+     * longer reaches that position and there is no time at all. The bracket [<em>low</em>, <em>high</em>] is kept so
+     * that the target has not been reached at <em>low</em>, and has been reached (or there is no time) at
+     * <em>high</em>. A bracket end without a time is narrowed by bisection, since there is nothing to interpolate.
+     *
+     * @param minutes the offset in minutes
+     * @param tolerance the maximum width of the final bracket in degrees
+     * @param isSunrise <code>true</code> for an offset before sunrise, <code>false</code> for one after sunset
+     * @return the dip, or {@link Double#NaN} if there is none
+     */
+    private double getSolarDipFromOffset(double minutes, double tolerance, boolean isSunrise) {
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("The tolerance must be a positive number of degrees: " + tolerance);
+        }
+        long seaLevelTime = isSunrise ? getSeaLevelSunriseMillis() : getSeaLevelSunsetMillis();
+        if (seaLevelTime == Long.MIN_VALUE || Double.isNaN(minutes)) {
+            return Double.NaN;
+        }
+        if (minutes == 0) {
+            return 0;
+        }
+        double sign = Math.signum(minutes);
+        // positive minutes move sunrise earlier and sunset later
+        long target = getTimeOffset(seaLevelTime, (isSunrise ? -minutes : minutes) * MINUTE_MILLIS);
+
+        // the sun's elevation changes by at most 15 degrees an hour, so the dip is within a quarter of a degree a
+        // minute of the offset, with a few minutes for the refraction and solar radius included in sea level times
+        double low = 0;
+        double lowRemaining = Math.abs(minutes) * MINUTE_MILLIS;
+        double high = Math.min(90, (Math.abs(minutes) + 5) / 4);
+        double highRemaining = getRemainingMillisFromDip(sign * high, target, isSunrise);
+        if (highRemaining > 0) { // not expected, but widen the bracket to cover the full range rather than fail
+            low = high;
+            lowRemaining = highRemaining;
+            high = 90;
+            highRemaining = getRemainingMillisFromDip(sign * high, target, isSunrise);
+        }
+        if (highRemaining > 0) {
+            return Double.NaN;
+        }
+        int retainedSide = 0;
+        while (high - low > tolerance && highRemaining != 0) {
+            double x;
+            if (Double.isNaN(highRemaining)) {
+                x = (low + high) / 2;
             } else {
-                degrees = degrees.subtract(incrementor);
+                x = high - highRemaining * (high - low) / (highRemaining - lowRemaining);
+                if (!(x > low && x < high)) {
+                    x = (low + high) / 2;
+                }
             }
-            offsetByDegrees = getSunsetOffsetByDegrees(GEOMETRIC_ZENITH + degrees.doubleValue());
+            double remaining = getRemainingMillisFromDip(sign * x, target, isSunrise);
+            if (remaining > 0) {
+                low = x;
+                lowRemaining = remaining;
+                if (retainedSide == -1 && !Double.isNaN(highRemaining)) {
+                    highRemaining /= 2; // Illinois modification to avoid keeping the same end on a convex curve
+                }
+                retainedSide = -1;
+            } else {
+                high = x;
+                highRemaining = remaining;
+                if (retainedSide == 1) {
+                    lowRemaining /= 2;
+                }
+                retainedSide = 1;
+            }
+        }
+        return Double.isNaN(highRemaining) ? Double.NaN : sign * high;
+    }
+
+    /**
+     * Returns how far the time of the offset by degrees for a dip is from the target time of {@link
+     * #getSolarDipFromOffset(double, double, boolean)}, as a number that is positive if the target has not been reached,
+     * zero or negative if it has been reached, and {@link Double#NaN} if the sun does not reach the dip.
+     *
+     * @param dip the dip in degrees below the horizon
+     * @param target the target time in milliseconds since the epoch
+     * @param isSunrise <code>true</code> for an offset before sunrise, <code>false</code> for one after sunset
+     * @return the milliseconds remaining to the target
+     */
+    private double getRemainingMillisFromDip(double dip, long target, boolean isSunrise) {
+        long time = isSunrise ? getSunriseOffsetByDegreesMillis(GEOMETRIC_ZENITH + dip)
+                : getSunsetOffsetByDegreesMillis(GEOMETRIC_ZENITH + dip);
+        if (time == Long.MIN_VALUE) {
+            return Double.NaN;
         }
-        return degrees.doubleValue();
+        double remaining = isSunrise ? time - target : target - time;
+        return dip < 0 ? -remaining : remaining;
     }
 
     /**
@@ -657,10 +1421,24 @@ public class AstronomicalCalendar implements Cloneable {
      * @see GeoLocation#getLocalMeanTimeOffset()
      */
     public ZonedDateTime getLocalMeanTime(double hours) {
+        return getZonedDateTime(getLocalMeanTimeMillis(hours));
+    }
+
+    /**
+     * A method that returns {@link #getLocalMeanTime(double) local mean time (LMT)} converted to regular clock time as
+     * the number of milliseconds since the epoch.
+     *
+     * @param hours the hour (such as 12.0 for noon and 0.0 for midnight) to calculate as LMT. Valid values are in the
+     * range of 0.0 to 23.999...
+     * @return the time in milliseconds since the epoch.
+     * @throws IllegalArgumentException if the hours are not in the range of 0.0 to 23.999...
+     * @see #getLocalMeanTime(double)
+     */
+    public long getLocalMeanTimeMillis(double hours) {
         if (hours < 0 || hours >= 24) {
             throw new IllegalArgumentException("Hours must between 0 and 23.9999...");
         }
-        return getTimeOffset(getZonedDateTimeFromTime(hours - getGeoLocation().getTimeZone().getRawOffset()
+        return getTimeOffset(getEpochMillisFromTime(hours - getGeoLocation().getTimeZone().getRawOffset()
                 / (double) HOUR_MILLIS, true), -getGeoLocation().getLocalMeanTimeOffset());
     }
 
@@ -744,6 +1522,7 @@ public class AstronomicalCalendar implements Cloneable {
      */
     public void setGeoLocation(GeoLocation geoLocation) {
         this.geoLocation = geoLocation;
+        this.resultCache = null;
         this.calendar = this.calendar.withZoneSameInstant(geoLocation.getTimeZone().toZoneId());
     }
 
@@ -764,11 +1543,14 @@ public class AstronomicalCalendar implements Cloneable {
      * "https://noaa.gov">NOAA's</a> implementation of Jean Meeus's algorithms as well as {@link
      * com.kosherjava.zmanim.util.SunTimesCalculator} based on the <a href = "https://www.cnmoc.usff.navy.mil/usno/">US
      * Naval Observatory's</a> algorithm,. This allows easy runtime switching and comparison of different algorithms.
+     * A {@link AstronomicalCalculator#toShared() shared} calculator, such as one returned by
+     * {@link AstronomicalCalculator#withRefraction(double)}, can be set on any number of calendars.
      *
      * @param astronomicalCalculator The astronomicalCalculator to set.
      */
     public void setAstronomicalCalculator(AstronomicalCalculator astronomicalCalculator) {
         this.astronomicalCalculator = astronomicalCalculator;
+        this.resultCache = null;
     }
 
     /**
@@ -785,6 +1567,7 @@ public class AstronomicalCalendar implements Cloneable {
      */
     public void setCalendar(ZonedDateTime calendar) {
         this.calendar = calendar;
+        this.resultCache = null;
         if (getGeoLocation() != null) {// if available set the Calendar's timezone to the GeoLocation TimeZone
             this.calendar = getCalendar().withZoneSameInstant(getGeoLocation().getTimeZone().toZoneId()); //TODO should this be withZoneSameLocal?
         }
@@ -796,7 +1579,9 @@ public class AstronomicalCalendar implements Cloneable {
      * be changed from the original, it is critical that
      * {@link com.kosherjava.zmanim.AstronomicalCalendar#getCalendar()}.
      * {@link java.util.Calendar#setTimeZone(TimeZone) setTimeZone(TimeZone)} be called in order for the
-     * AstronomicalCalendar to output times in the expected offset after being cloned.
+     * AstronomicalCalendar to output times in the expected offset after being cloned. A
+     * {@link AstronomicalCalculator#isShared() shared} calculator is immutable, so it is used by the clone as is
+     * rather than copied.
      *
      * @see java.lang.Object#clone()
      */
@@ -807,9 +1592,12 @@ public class AstronomicalCalendar implements Cloneable {
         } catch (CloneNotSupportedException cnse) {
             // Required by the compiler. Should never be reached since we implement clone()
         }
+        clone.resultCache = null;
         clone.setGeoLocation((GeoLocation) getGeoLocation().clone());
         clone.setCalendar(ZonedDateTime.ofInstant(getCalendar().toInstant(), getCalendar().getZone()));
-        clone.setAstronomicalCalculator((AstronomicalCalculator) getAstronomicalCalculator().clone());
+        AstronomicalCalculator calculator = getAstronomicalCalculator();
+        clone.setAstronomicalCalculator(calculator.isShared() ? calculator
+                : (AstronomicalCalculator) calculator.clone());
         return clone;
     }
 }
@@ -18,6 +18,7 @@ package com.kosherjava.zmanim;
 import java.time.LocalTime;
 import java.util.Date;
 import java.util.Calendar;
+import java.util.EnumSet;
 import java.time.ZonedDateTime;
 import com.kosherjava.zmanim.util.AstronomicalCalculator;
 import com.kosherjava.zmanim.util.GeoLocation;
@@ -461,6 +462,520 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 		super();
 	}
 
+	/**
+	 * Returns an immutable snapshot of the <em>zmanim</em> of all the {@link ZmanId identifiers} and the <em>shaos
+	 * zmaniyos</em> of all the {@link ShaahZmanisId identifiers} for the current day. This is much faster than calling
+	 * the getters one by one when all or most of them are needed, such as for a page of <em>zmanim</em>, since the
+	 * sunrises, sunsets and dips below the horizon that they share are calculated only once. The values are identical
+	 * to the ones returned by the getters.
+	 *
+	 * @return the <em>zmanim</em> of the day
+	 * @see DailyZmanim
+	 * @see #getZmanim(EnumSet, long[])
+	 */
+	public DailyZmanim getDailyZmanim() {
+		return new DailyZmanim(this);
+	}
+
+	/**
+	 * Calculates the <em>zmanim</em> of a selection of {@link ZmanId identifiers} into an array indexed by their
+	 * {@link ZmanId#ordinal() ordinals}. Only the selected <em>zmanim</em> are calculated, and the sunrises, sunsets
+	 * and dips below the horizon that they share are calculated only once, since they are calculated with the {@link
+	 * #setUseResultCache(boolean) result cache} of a private copy of this calendar, whose settings are not changed.
+	 * The values are identical to the ones returned by the getters, and the elements of the array of the
+	 * <em>zmanim</em> that weren't selected are not changed, so the same array can be reused for any number of days.
+	 *
+	 * @param zmanim
+	 *            the identifiers of the <em>zmanim</em> to calculate
+	 * @param results
+	 *            the array the <em>zmanim</em> are set in, in milliseconds since the epoch, with a length of at least
+	 *            {@link ZmanId#COUNT}. A <em>zman</em> that can't be computed is set to {@link Long#MIN_VALUE}.
+	 * @throws IllegalArgumentException
+	 *             if the array is too short
+	 * @see #getZmanMillis(ZmanId)
+	 */
+	public void getZmanim(EnumSet<ZmanId> zmanim, long[] results) {
+		if (results.length < ZmanId.COUNT) {
+			throw new IllegalArgumentException("The array must have room for " + ZmanId.COUNT + " zmanim");
+		}
+		ComplexZmanimCalendar cached = getCachedCopy();
+		for (ZmanId zman : zmanim) {
+			results[zman.ordinal()] = cached.getZmanMillis(zman);
+		}
+	}
+
+	/**
+	 * Returns this calendar if it {@link #isUseResultCache() uses the result cache}, or otherwise a clone of it that
+	 * does, so that a set of <em>zmanim</em> can be calculated with the cache without changing the settings of this
+	 * calendar. The clone uses the same {@link AstronomicalCalculator} instance as this calendar rather than a clone of
+	 * it, since it is only used for the duration of a single calculation.
+	 *
+	 * @return a calendar with the same settings as this one that uses the result cache
+	 */
+	ComplexZmanimCalendar getCachedCopy() {
+		if (isUseResultCache()) {
+			return this;
+		}
+		ComplexZmanimCalendar cached = (ComplexZmanimCalendar) clone();
+		cached.setAstronomicalCalculator(getAstronomicalCalculator());
+		cached.setUseResultCache(true);
+		return cached;
+	}
+
+	/**
+	 * Returns a <em>zman</em> by its {@link ZmanId identifier} as the number of milliseconds since the epoch. This
+	 * calls the getter of the <em>zman</em>, such as {@link #getAlos72Millis()} for {@link ZmanId#ALOS_72}.
+	 *
+	 * @param zman
+	 *            the identifier of the <em>zman</em>
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @throws IllegalArgumentException
+	 *             if the identifier is <code>null</code>
+	 * @see #getZmanim(EnumSet, long[])
+	 */
+	@SuppressWarnings("deprecation")
+	public long getZmanMillis(ZmanId zman) {
+		if (zman == null) {
+			throw new IllegalArgumentException("The zman can't be null");
+		}
+		switch (zman) {
+		case SUNRISE:
+			return getSunriseMillis();
+		case SEA_LEVEL_SUNRISE:
+			return getSeaLevelSunriseMillis();
+		case BEGIN_CIVIL_TWILIGHT:
+			return getBeginCivilTwilightMillis();
+		case BEGIN_NAUTICAL_TWILIGHT:
+			return getBeginNauticalTwilightMillis();
+		case BEGIN_ASTRONOMICAL_TWILIGHT:
+			return getBeginAstronomicalTwilightMillis();
+		case SUNSET:
+			return getSunsetMillis();
+		case SEA_LEVEL_SUNSET:
+			return getSeaLevelSunsetMillis();
+		case END_CIVIL_TWILIGHT:
+			return getEndCivilTwilightMillis();
+		case END_NAUTICAL_TWILIGHT:
+			return getEndNauticalTwilightMillis();
+		case END_ASTRONOMICAL_TWILIGHT:
+			return getEndAstronomicalTwilightMillis();
+		case SUN_TRANSIT:
+			return getSunTransitMillis();
+		case SOLAR_MIDNIGHT:
+			return getSolarMidnightMillis();
+		case TZAIS:
+			return getTzaisMillis();
+		case ALOS_HASHACHAR:
+			return getAlosHashacharMillis();
+		case ALOS_72:
+			return getAlos72Millis();
+		case CHATZOS:
+			return getChatzosMillis();
+		case CHATZOS_AS_HALF_DAY:
+			return getChatzosAsHalfDayMillis();
+		case SOF_ZMAN_SHMA_GRA:
+			return getSofZmanShmaGRAMillis();
+		case SOF_ZMAN_SHMA_MGA:
+			return getSofZmanShmaMGAMillis();
+		case TZAIS_72:
+			return getTzais72Millis();
+		case CANDLE_LIGHTING:
+			return getCandleLightingMillis();
+		case SOF_ZMAN_TFILA_GRA:
+			return getSofZmanTfilaGRAMillis();
+		case SOF_ZMAN_TFILA_MGA:
+			return getSofZmanTfilaMGAMillis();
+		case MINCHA_GEDOLA:
+			return getMinchaGedolaMillis();
+		case MINCHA_KETANA:
+			return getMinchaKetanaMillis();
+		case PLAG_HAMINCHA:
+			return getPlagHaminchaMillis();
+		case PLAG_HAMINCHA_120_MINUTES_ZMANIS:
+			return getPlagHamincha120MinutesZmanisMillis();
+		case PLAG_HAMINCHA_120_MINUTES:
+			return getPlagHamincha120MinutesMillis();
+		case ALOS_60:
+			return getAlos60Millis();
+		case ALOS_72_ZMANIS:
+			return getAlos72ZmanisMillis();
+		case ALOS_96:
+			return getAlos96Millis();
+		case ALOS_90_ZMANIS:
+			return getAlos90ZmanisMillis();
+		case ALOS_96_ZMANIS:
+			return getAlos96ZmanisMillis();
+		case ALOS_90:
+			return getAlos90Millis();
+		case ALOS_120:
+			return getAlos120Millis();
+		case ALOS_120_ZMANIS:
+			return getAlos120ZmanisMillis();
+		case ALOS_26_DEGREES:
+			return getAlos26DegreesMillis();
+		case ALOS_18_DEGREES:
+			return getAlos18DegreesMillis();
+		case ALOS_19_DEGREES:
+			return getAlos19DegreesMillis();
+		case ALOS_19_POINT_8_DEGREES:
+			return getAlos19Point8DegreesMillis();
+		case ALOS_16_POINT_1_DEGREES:
+			return getAlos16Point1DegreesMillis();
+		case MISHEYAKIR_11_POINT_5_DEGREES:
+			return getMisheyakir11Point5DegreesMillis();
+		case MISHEYAKIR_11_DEGREES:
+			return getMisheyakir11DegreesMillis();
+		case MISHEYAKIR_10_POINT_2_DEGREES:
+			return getMisheyakir10Point2DegreesMillis();
+		case MISHEYAKIR_7_POINT_65_DEGREES:
+			return getMisheyakir7Point65DegreesMillis();
+		case MISHEYAKIR_9_POINT_5_DEGREES:
+			return getMisheyakir9Point5DegreesMillis();
+		case SOF_ZMAN_SHMA_MGA_19_POINT_8_DEGREES:
+			return getSofZmanShmaMGA19Point8DegreesMillis();
+		case SOF_ZMAN_SHMA_MGA_16_POINT_1_DEGREES:
+			return getSofZmanShmaMGA16Point1DegreesMillis();
+		case SOF_ZMAN_SHMA_MGA_18_DEGREES:
+			return getSofZmanShmaMGA18DegreesMillis();
+		case SOF_ZMAN_SHMA_MGA_72_MINUTES:
+			return getSofZmanShmaMGA72MinutesMillis();
+		case SOF_ZMAN_SHMA_MGA_72_MINUTES_ZMANIS:
+			return getSofZmanShmaMGA72MinutesZmanisMillis();
+		case SOF_ZMAN_SHMA_MGA_90_MINUTES:
+			return getSofZmanShmaMGA90MinutesMillis();
+		case SOF_ZMAN_SHMA_MGA_90_MINUTES_ZMANIS:
+			return getSofZmanShmaMGA90MinutesZmanisMillis();
+		case SOF_ZMAN_SHMA_MGA_96_MINUTES:
+			return getSofZmanShmaMGA96MinutesMillis();
+		case SOF_ZMAN_SHMA_MGA_96_MINUTES_ZMANIS:
+			return getSofZmanShmaMGA96MinutesZmanisMillis();
+		case SOF_ZMAN_SHMA_3_HOURS_BEFORE_CHATZOS:
+			return getSofZmanShma3HoursBeforeChatzosMillis();
+		case SOF_ZMAN_SHMA_MGA_120_MINUTES:
+			return getSofZmanShmaMGA120MinutesMillis();
+		case SOF_ZMAN_SHMA_ALOS_16_POINT_1_TO_SUNSET:
+			return getSofZmanShmaAlos16Point1ToSunsetMillis();
+		case SOF_ZMAN_SHMA_ALOS_16_POINT_1_TO_TZAIS_GEONIM_7_POINT_083_DEGREES:
+			return getSofZmanShmaAlos16Point1ToTzaisGeonim7Point083DegreesMillis();
+		case SOF_ZMAN_SHMA_KOL_ELIYAHU:
+			return getSofZmanShmaKolEliyahuMillis();
+		case SOF_ZMAN_TFILA_MGA_19_POINT_8_DEGREES:
+			return getSofZmanTfilaMGA19Point8DegreesMillis();
+		case SOF_ZMAN_TFILA_MGA_16_POINT_1_DEGREES:
+			return getSofZmanTfilaMGA16Point1DegreesMillis();
+		case SOF_ZMAN_TFILA_MGA_18_DEGREES:
+			return getSofZmanTfilaMGA18DegreesMillis();
+		case SOF_ZMAN_TFILA_MGA_72_MINUTES:
+			return getSofZmanTfilaMGA72MinutesMillis();
+		case SOF_ZMAN_TFILA_MGA_72_MINUTES_ZMANIS:
+			return getSofZmanTfilaMGA72MinutesZmanisMillis();
+		case SOF_ZMAN_TFILA_MGA_90_MINUTES:
+			return getSofZmanTfilaMGA90MinutesMillis();
+		case SOF_ZMAN_TFILA_MGA_90_MINUTES_ZMANIS:
+			return getSofZmanTfilaMGA90MinutesZmanisMillis();
+		case SOF_ZMAN_TFILA_MGA_96_MINUTES:
+			return getSofZmanTfilaMGA96MinutesMillis();
+		case SOF_ZMAN_TFILA_MGA_96_MINUTES_ZMANIS:
+			return getSofZmanTfilaMGA96MinutesZmanisMillis();
+		case SOF_ZMAN_TFILA_MGA_120_MINUTES:
+			return getSofZmanTfilaMGA120MinutesMillis();
+		case SOF_ZMAN_TFILA_2_HOURS_BEFORE_CHATZOS:
+			return getSofZmanTfila2HoursBeforeChatzosMillis();
+		case MINCHA_GEDOLA_30_MINUTES:
+			return getMinchaGedola30MinutesMillis();
+		case MINCHA_GEDOLA_72_MINUTES:
+			return getMinchaGedola72MinutesMillis();
+		case MINCHA_GEDOLA_16_POINT_1_DEGREES:
+			return getMinchaGedola16Point1DegreesMillis();
+		case MINCHA_GEDOLA_AHAVAT_SHALOM:
+			return getMinchaGedolaAhavatShalomMillis();
+		case MINCHA_GEDOLA_GREATER_THAN_30:
+			return getMinchaGedolaGreaterThan30Millis();
+		case MINCHA_KETANA_16_POINT_1_DEGREES:
+			return getMinchaKetana16Point1DegreesMillis();
+		case MINCHA_KETANA_AHAVAT_SHALOM:
+			return getMinchaKetanaAhavatShalomMillis();
+		case MINCHA_KETANA_72_MINUTES:
+			return getMinchaKetana72MinutesMillis();
+		case PLAG_HAMINCHA_60_MINUTES:
+			return getPlagHamincha60MinutesMillis();
+		case PLAG_HAMINCHA_72_MINUTES:
+			return getPlagHamincha72MinutesMillis();
+		case PLAG_HAMINCHA_90_MINUTES:
+			return getPlagHamincha90MinutesMillis();
+		case PLAG_HAMINCHA_96_MINUTES:
+			return getPlagHamincha96MinutesMillis();
+		case PLAG_HAMINCHA_96_MINUTES_ZMANIS:
+			return getPlagHamincha96MinutesZmanisMillis();
+		case PLAG_HAMINCHA_90_MINUTES_ZMANIS:
+			return getPlagHamincha90MinutesZmanisMillis();
+		case PLAG_HAMINCHA_72_MINUTES_ZMANIS:
+			return getPlagHamincha72MinutesZmanisMillis();
+		case PLAG_HAMINCHA_16_POINT_1_DEGREES:
+			return getPlagHamincha16Point1DegreesMillis();
+		case PLAG_HAMINCHA_19_POINT_8_DEGREES:
+			return getPlagHamincha19Point8DegreesMillis();
+		case PLAG_HAMINCHA_26_DEGREES:
+			return getPlagHamincha26DegreesMillis();
+		case PLAG_HAMINCHA_18_DEGREES:
+			return getPlagHamincha18DegreesMillis();
+		case PLAG_ALOS_TO_SUNSET:
+			return getPlagAlosToSunsetMillis();
+		case PLAG_ALOS_16_POINT_1_TO_TZAIS_GEONIM_7_POINT_083_DEGREES:
+			return getPlagAlos16Point1ToTzaisGeonim7Point083DegreesMillis();
+		case PLAG_AHAVAT_SHALOM:
+			return getPlagAhavatShalomMillis();
+		case BAIN_HASHMASHOS_RT_13_POINT_24_DEGREES:
+			return getBainHashmashosRT13Point24DegreesMillis();
+		case BAIN_HASMASHOS_RT_13_POINT_24_DEGREES:
+			return getBainHasmashosRT13Point24DegreesMillis();
+		case BAIN_HASHMASHOS_RT_58_POINT_5_MINUTES:
+			return getBainHashmashosRT58Point5MinutesMillis();
+		case BAIN_HASMASHOS_RT_58_POINT_5_MINUTES:
+			return getBainHasmashosRT58Point5MinutesMillis();
+		case BAIN_HASHMASHOS_RT_13_POINT_5_MINUTES_BEFORE_7_POINT_083_DEGREES:
+			return getBainHashmashosRT13Point5MinutesBefore7Point083DegreesMillis();
+		case BAIN_HASMASHOS_RT_13_POINT_5_MINUTES_BEFORE_7_POINT_083_DEGREES:
+			return getBainHasmashosRT13Point5MinutesBefore7Point083DegreesMillis();
+		case BAIN_HASHMASHOS_RT_2_STARS:
+			return getBainHashmashosRT2StarsMillis();
+		case BAIN_HASMASHOS_RT_2_STARS:
+			return getBainHasmashosRT2StarsMillis();
+		case BAIN_HASHMASHOS_YEREIM_18_MINUTES:
+			return getBainHashmashosYereim18MinutesMillis();
+		case BAIN_HASMASHOS_YEREIM_18_MINUTES:
+			return getBainHasmashosYereim18MinutesMillis();
+		case BAIN_HASHMASHOS_YEREIM_3_POINT_05_DEGREES:
+			return getBainHashmashosYereim3Point05DegreesMillis();
+		case BAIN_HASMASHOS_YEREIM_3_POINT_05_DEGREES:
+			return getBainHasmashosYereim3Point05DegreesMillis();
+		case BAIN_HASHMASHOS_YEREIM_16_POINT_875_MINUTES:
+			return getBainHashmashosYereim16Point875MinutesMillis();
+		case BAIN_HASMASHOS_YEREIM_16_POINT_875_MINUTES:
+			return getBainHasmashosYereim16Point875MinutesMillis();
+		case BAIN_HASHMASHOS_YEREIM_2_POINT_8_DEGREES:
+			return getBainHashmashosYereim2Point8DegreesMillis();
+		case BAIN_HASMASHOS_YEREIM_2_POINT_8_DEGREES:
+			return getBainHasmashosYereim2Point8DegreesMillis();
+		case BAIN_HASHMASHOS_YEREIM_13_POINT_5_MINUTES:
+			return getBainHashmashosYereim13Point5MinutesMillis();
+		case BAIN_HASMASHOS_YEREIM_13_POINT_5_MINUTES:
+			return getBainHasmashosYereim13Point5MinutesMillis();
+		case BAIN_HASHMASHOS_YEREIM_2_POINT_1_DEGREES:
+			return getBainHashmashosYereim2Point1DegreesMillis();
+		case BAIN_HASMASHOS_YEREIM_2_POINT_1_DEGREES:
+			return getBainHasmashosYereim2Point1DegreesMillis();
+		case TZAIS_GEONIM_3_POINT_7_DEGREES:
+			return getTzaisGeonim3Point7DegreesMillis();
+		case TZAIS_GEONIM_3_POINT_8_DEGREES:
+			return getTzaisGeonim3Point8DegreesMillis();
+		case TZAIS_GEONIM_5_POINT_95_DEGREES:
+			return getTzaisGeonim5Point95DegreesMillis();
+		case TZAIS_GEONIM_3_POINT_65_DEGREES:
+			return getTzaisGeonim3Point65DegreesMillis();
+		case TZAIS_GEONIM_3_POINT_676_DEGREES:
+			return getTzaisGeonim3Point676DegreesMillis();
+		case TZAIS_GEONIM_4_POINT_61_DEGREES:
+			return getTzaisGeonim4Point61DegreesMillis();
+		case TZAIS_GEONIM_4_POINT_37_DEGREES:
+			return getTzaisGeonim4Point37DegreesMillis();
+		case TZAIS_GEONIM_5_POINT_88_DEGREES:
+			return getTzaisGeonim5Point88DegreesMillis();
+		case TZAIS_GEONIM_4_POINT_8_DEGREES:
+			return getTzaisGeonim4Point8DegreesMillis();
+		case TZAIS_GEONIM_6_POINT_45_DEGREES:
+			return getTzaisGeonim6Point45DegreesMillis();
+		case TZAIS_GEONIM_7_POINT_083_DEGREES:
+			return getTzaisGeonim7Point083DegreesMillis();
+		case TZAIS_GEONIM_7_POINT_67_DEGREES:
+			return getTzaisGeonim7Point67DegreesMillis();
+		case TZAIS_GEONIM_8_POINT_5_DEGREES:
+			return getTzaisGeonim8Point5DegreesMillis();
+		case TZAIS_GEONIM_9_POINT_3_DEGREES:
+			return getTzaisGeonim9Point3DegreesMillis();
+		case TZAIS_GEONIM_9_POINT_75_DEGREES:
+			return getTzaisGeonim9Point75DegreesMillis();
+		case TZAIS_60:
+			return getTzais60Millis();
+		case TZAIS_ATERET_TORAH:
+			return getTzaisAteretTorahMillis();
+		case SOF_ZMAN_SHMA_ATERET_TORAH:
+			return getSofZmanShmaAteretTorahMillis();
+		case SOF_ZMAN_TFILA_ATERET_TORAH:
+			return getSofZmanTfilaAteretTorahMillis();
+		case SOF_ZMAN_TFILAH_ATERET_TORAH:
+			return getSofZmanTfilahAteretTorahMillis();
+		case MINCHA_GEDOLA_ATERET_TORAH:
+			return getMinchaGedolaAteretTorahMillis();
+		case MINCHA_KETANA_ATERET_TORAH:
+			return getMinchaKetanaAteretTorahMillis();
+		case PLAG_HAMINCHA_ATERET_TORAH:
+			return getPlagHaminchaAteretTorahMillis();
+		case TZAIS_72_ZMANIS:
+			return getTzais72ZmanisMillis();
+		case TZAIS_90_ZMANIS:
+			return getTzais90ZmanisMillis();
+		case TZAIS_96_ZMANIS:
+			return getTzais96ZmanisMillis();
+		case TZAIS_90:
+			return getTzais90Millis();
+		case TZAIS_120:
+			return getTzais120Millis();
+		case TZAIS_120_ZMANIS:
+			return getTzais120ZmanisMillis();
+		case TZAIS_16_POINT_1_DEGREES:
+			return getTzais16Point1DegreesMillis();
+		case TZAIS_26_DEGREES:
+			return getTzais26DegreesMillis();
+		case TZAIS_18_DEGREES:
+			return getTzais18DegreesMillis();
+		case TZAIS_19_POINT_8_DEGREES:
+			return getTzais19Point8DegreesMillis();
+		case TZAIS_96:
+			return getTzais96Millis();
+		case FIXED_LOCAL_CHATZOS:
+			return getFixedLocalChatzosMillis();
+		case SOF_ZMAN_SHMA_FIXED_LOCAL:
+			return getSofZmanShmaFixedLocalMillis();
+		case SOF_ZMAN_TFILA_FIXED_LOCAL:
+			return getSofZmanTfilaFixedLocalMillis();
+		case SOF_ZMAN_KIDUSH_LEVANA_BETWEEN_MOLDOS:
+			return getSofZmanKidushLevanaBetweenMoldosMillis();
+		case SOF_ZMAN_KIDUSH_LEVANA_15_DAYS:
+			return getSofZmanKidushLevana15DaysMillis();
+		case TCHILAS_ZMAN_KIDUSH_LEVANA_3_DAYS:
+			return getTchilasZmanKidushLevana3DaysMillis();
+		case ZMAN_MOLAD:
+			return getZmanMoladMillis();
+		case TCHILAS_ZMAN_KIDUSH_LEVANA_7_DAYS:
+			return getTchilasZmanKidushLevana7DaysMillis();
+		case SOF_ZMAN_ACHILAS_CHAMETZ_GRA:
+			return getSofZmanAchilasChametzGRAMillis();
+		case SOF_ZMAN_ACHILAS_CHAMETZ_MGA_72_MINUTES:
+			return getSofZmanAchilasChametzMGA72MinutesMillis();
+		case SOF_ZMAN_ACHILAS_CHAMETZ_MGA_16_POINT_1_DEGREES:
+			return getSofZmanAchilasChametzMGA16Point1DegreesMillis();
+		case SOF_ZMAN_BIUR_CHAMETZ_GRA:
+			return getSofZmanBiurChametzGRAMillis();
+		case SOF_ZMAN_BIUR_CHAMETZ_MGA_72_MINUTES:
+			return getSofZmanBiurChametzMGA72MinutesMillis();
+		case SOF_ZMAN_BIUR_CHAMETZ_MGA_16_POINT_1_DEGREES:
+			return getSofZmanBiurChametzMGA16Point1DegreesMillis();
+		case ALOS_BAAL_HATANYA:
+			return getAlosBaalHatanyaMillis();
+		case SOF_ZMAN_SHMA_BAAL_HATANYA:
+			return getSofZmanShmaBaalHatanyaMillis();
+		case SOF_ZMAN_TFILA_BAAL_HATANYA:
+			return getSofZmanTfilaBaalHatanyaMillis();
+		case SOF_ZMAN_ACHILAS_CHAMETZ_BAAL_HATANYA:
+			return getSofZmanAchilasChametzBaalHatanyaMillis();
+		case SOF_ZMAN_BIUR_CHAMETZ_BAAL_HATANYA:
+			return getSofZmanBiurChametzBaalHatanyaMillis();
+		case MINCHA_GEDOLA_BAAL_HATANYA:
+			return getMinchaGedolaBaalHatanyaMillis();
+		case MINCHA_GEDOLA_BAAL_HATANYA_GREATER_THAN_30:
+			return getMinchaGedolaBaalHatanyaGreaterThan30Millis();
+		case MINCHA_KETANA_BAAL_HATANYA:
+			return getMinchaKetanaBaalHatanyaMillis();
+		case PLAG_HAMINCHA_BAAL_HATANYA:
+			return getPlagHaminchaBaalHatanyaMillis();
+		case TZAIS_BAAL_HATANYA:
+			return getTzaisBaalHatanyaMillis();
+		case SOF_ZMAN_SHMA_MGA_18_DEGREES_TO_FIXED_LOCAL_CHATZOS:
+			return getSofZmanShmaMGA18DegreesToFixedLocalChatzosMillis();
+		case SOF_ZMAN_SHMA_MGA_16_POINT_1_DEGREES_TO_FIXED_LOCAL_CHATZOS:
+			return getSofZmanShmaMGA16Point1DegreesToFixedLocalChatzosMillis();
+		case SOF_ZMAN_SHMA_MGA_90_MINUTES_TO_FIXED_LOCAL_CHATZOS:
+			return getSofZmanShmaMGA90MinutesToFixedLocalChatzosMillis();
+		case SOF_ZMAN_SHMA_MGA_72_MINUTES_TO_FIXED_LOCAL_CHATZOS:
+			return getSofZmanShmaMGA72MinutesToFixedLocalChatzosMillis();
+		case SOF_ZMAN_SHMA_GRA_SUNRISE_TO_FIXED_LOCAL_CHATZOS:
+			return getSofZmanShmaGRASunriseToFixedLocalChatzosMillis();
+		case SOF_ZMAN_TFILA_GRA_SUNRISE_TO_FIXED_LOCAL_CHATZOS:
+			return getSofZmanTfilaGRASunriseToFixedLocalChatzosMillis();
+		case MINCHA_GEDOLA_GRA_FIXED_LOCAL_CHATZOS_30_MINUTES:
+			return getMinchaGedolaGRAFixedLocalChatzos30MinutesMillis();
+		case MINCHA_KETANA_GRA_FIXED_LOCAL_CHATZOS_TO_SUNSET:
+			return getMinchaKetanaGRAFixedLocalChatzosToSunsetMillis();
+		case PLAG_HAMINCHA_GRA_FIXED_LOCAL_CHATZOS_TO_SUNSET:
+			return getPlagHaminchaGRAFixedLocalChatzosToSunsetMillis();
+		case TZAIS_50:
+			return getTzais50Millis();
+		case SAMUCH_LE_MINCHA_KETANA_GRA:
+			return getSamuchLeMinchaKetanaGRAMillis();
+		case SAMUCH_LE_MINCHA_KETANA_16_POINT_1_DEGREES:
+			return getSamuchLeMinchaKetana16Point1DegreesMillis();
+		case SAMUCH_LE_MINCHA_KETANA_72_MINUTES:
+			return getSamuchLeMinchaKetana72MinutesMillis();
+		default:
+			throw new IllegalArgumentException("Unknown zman " + zman);
+		}
+	}
+
+	/**
+	 * Returns a <em>shaah zmanis</em> (temporal hour) by its {@link ShaahZmanisId identifier}. This calls the getter of
+	 * the <em>shaah zmanis</em>, such as {@link #getShaahZmanisGra()} for {@link ShaahZmanisId#SHAAH_ZMANIS_GRA}.
+	 *
+	 * @param shaahZmanis
+	 *            the identifier of the <em>shaah zmanis</em>
+	 * @return the <code>long</code> millisecond length of the <em>shaah zmanis</em>. If the calculation can't be
+	 *         computed, {@link Long#MIN_VALUE} will be returned. See detailed explanation on top of the
+	 *         {@link AstronomicalCalendar} documentation.
+	 * @throws IllegalArgumentException
+	 *             if the identifier is <code>null</code>
+	 * @see DailyZmanim#getShaahZmanis(ShaahZmanisId)
+	 */
+	public long getShaahZmanis(ShaahZmanisId shaahZmanis) {
+		if (shaahZmanis == null) {
+			throw new IllegalArgumentException("The shaah zmanis can't be null");
+		}
+		switch (shaahZmanis) {
+		case TEMPORAL_HOUR:
+			return getTemporalHour();
+		case SHAAH_ZMANIS_GRA:
+			return getShaahZmanisGra();
+		case SHAAH_ZMANIS_MGA:
+			return getShaahZmanisMGA();
+		case SHAAH_ZMANIS_19_POINT_8_DEGREES:
+			return getShaahZmanis19Point8Degrees();
+		case SHAAH_ZMANIS_18_DEGREES:
+			return getShaahZmanis18Degrees();
+		case SHAAH_ZMANIS_26_DEGREES:
+			return getShaahZmanis26Degrees();
+		case SHAAH_ZMANIS_16_POINT_1_DEGREES:
+			return getShaahZmanis16Point1Degrees();
+		case SHAAH_ZMANIS_60_MINUTES:
+			return getShaahZmanis60Minutes();
+		case SHAAH_ZMANIS_72_MINUTES:
+			return getShaahZmanis72Minutes();
+		case SHAAH_ZMANIS_72_MINUTES_ZMANIS:
+			return getShaahZmanis72MinutesZmanis();
+		case SHAAH_ZMANIS_90_MINUTES:
+			return getShaahZmanis90Minutes();
+		case SHAAH_ZMANIS_90_MINUTES_ZMANIS:
+			return getShaahZmanis90MinutesZmanis();
+		case SHAAH_ZMANIS_96_MINUTES_ZMANIS:
+			return getShaahZmanis96MinutesZmanis();
+		case SHAAH_ZMANIS_ATERET_TORAH:
+			return getShaahZmanisAteretTorah();
+		case SHAAH_ZMANIS_ALOS_16_POINT_1_TO_TZAIS_3_POINT_8:
+			return getShaahZmanisAlos16Point1ToTzais3Point8();
+		case SHAAH_ZMANIS_ALOS_16_POINT_1_TO_TZAIS_3_POINT_7:
+			return getShaahZmanisAlos16Point1ToTzais3Point7();
+		case SHAAH_ZMANIS_96_MINUTES:
+			return getShaahZmanis96Minutes();
+		case SHAAH_ZMANIS_120_MINUTES:
+			return getShaahZmanis120Minutes();
+		case SHAAH_ZMANIS_120_MINUTES_ZMANIS:
+			return getShaahZmanis120MinutesZmanis();
+		case SHAAH_ZMANIS_BAAL_HATANYA:
+			return getShaahZmanisBaalHatanya();
+		default:
+			throw new IllegalArgumentException("Unknown shaah zmanis " + shaahZmanis);
+		}
+	}
+
 	/**
 	 * Method to return a <em>shaah zmanis</em> (temporal hour) calculated using a 19.8&deg; dip. This calculation
 	 * divides the day based on the opinion of the <a href="https://en.wikipedia.org/wiki/Avraham_Gombinern">Magen
@@ -474,7 +989,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public long getShaahZmanis19Point8Degrees() {
-		return getTemporalHour(getAlos19Point8Degrees(), getTzais19Point8Degrees());
+		return getTemporalHour(getAlos19Point8DegreesMillis(), getTzais19Point8DegreesMillis());
 	}
 
 	/**
@@ -490,7 +1005,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public long getShaahZmanis18Degrees() {
-		return getTemporalHour(getAlos18Degrees(), getTzais18Degrees());
+		return getTemporalHour(getAlos18DegreesMillis(), getTzais18DegreesMillis());
 	}
 
 	/**
@@ -511,7 +1026,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getShaahZmanis120Minutes()
 	 */
 	public long getShaahZmanis26Degrees() {
-		return getTemporalHour(getAlos26Degrees(), getTzais26Degrees());
+		return getTemporalHour(getAlos26DegreesMillis(), getTzais26DegreesMillis());
 	}
 
 	/**
@@ -536,7 +1051,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 
 	public long getShaahZmanis16Point1Degrees() {
-		return getTemporalHour(getAlos16Point1Degrees(), getTzais16Point1Degrees());
+		return getTemporalHour(getAlos16Point1DegreesMillis(), getTzais16Point1DegreesMillis());
 	}
 
 	/**
@@ -557,7 +1072,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getPlagHamincha60Minutes()
 	 */
 	public long getShaahZmanis60Minutes() {
-		return getTemporalHour(getAlos60(), getTzais60());
+		return getTemporalHour(getAlos60Millis(), getTzais60Millis());
 	}
 
 	/**
@@ -594,7 +1109,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getTzais72Zmanis()
 	 */
 	public long getShaahZmanis72MinutesZmanis() {
-		return getTemporalHour(getAlos72Zmanis(), getTzais72Zmanis());
+		return getTemporalHour(getAlos72ZmanisMillis(), getTzais72ZmanisMillis());
 	}
 
 	/**
@@ -609,7 +1124,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public long getShaahZmanis90Minutes() {
-		return getTemporalHour(getAlos90(), getTzais90());
+		return getTemporalHour(getAlos90Millis(), getTzais90Millis());
 	}
 
 	/**
@@ -629,7 +1144,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getTzais90Zmanis()
 	 */
 	public long getShaahZmanis90MinutesZmanis() {
-		return getTemporalHour(getAlos90Zmanis(), getTzais90Zmanis());
+		return getTemporalHour(getAlos90ZmanisMillis(), getTzais90ZmanisMillis());
 	}
 
 	/**
@@ -649,7 +1164,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getTzais96Zmanis()
 	 */
 	public long getShaahZmanis96MinutesZmanis() {
-		return getTemporalHour(getAlos96Zmanis(), getTzais96Zmanis());
+		return getTemporalHour(getAlos96ZmanisMillis(), getTzais96ZmanisMillis());
 	}
 
 	/**
@@ -672,7 +1187,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #setAteretTorahSunsetOffset(double)
 	 */
 	public long getShaahZmanisAteretTorah() {
-		return getTemporalHour(getAlos72Zmanis(), getTzaisAteretTorah());
+		return getTemporalHour(getAlos72ZmanisMillis(), getTzaisAteretTorahMillis());
 	}
 	
 	/**
@@ -695,7 +1210,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getPlagAhavatShalom()
 	 */
 	public long getShaahZmanisAlos16Point1ToTzais3Point8() {
-		return getTemporalHour(getAlos16Point1Degrees(), getTzaisGeonim3Point8Degrees());
+		return getTemporalHour(getAlos16Point1DegreesMillis(), getTzaisGeonim3Point8DegreesMillis());
 	}
 	
 	/**
@@ -716,7 +1231,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getMinchaGedolaAhavatShalom()
 	 */
 	public long getShaahZmanisAlos16Point1ToTzais3Point7() {
-		return getTemporalHour(getAlos16Point1Degrees(), getTzaisGeonim3Point7Degrees());
+		return getTemporalHour(getAlos16Point1DegreesMillis(), getTzaisGeonim3Point7DegreesMillis());
 	}
 
 	/**
@@ -732,7 +1247,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public long getShaahZmanis96Minutes() {
-		return getTemporalHour(getAlos96(), getTzais96());
+		return getTemporalHour(getAlos96Millis(), getTzais96Millis());
 	}
 
 	/**
@@ -751,7 +1266,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getShaahZmanis26Degrees()
 	 */
 	public long getShaahZmanis120Minutes() {
-		return getTemporalHour(getAlos120(), getTzais120());
+		return getTemporalHour(getAlos120Millis(), getTzais120Millis());
 	}
 
 	/**
@@ -774,7 +1289,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getTzais120Zmanis()
 	 */
 	public long getShaahZmanis120MinutesZmanis() {
-		return getTemporalHour(getAlos120Zmanis(), getTzais120Zmanis());
+		return getTemporalHour(getAlos120ZmanisMillis(), getTzais120ZmanisMillis());
 	}
 
 	/**
@@ -802,7 +1317,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getPlagHamincha120MinutesZmanis() {
-		return getPlagHamincha(getAlos120Zmanis(), getTzais120Zmanis());
+		return getZonedDateTime(getPlagHamincha120MinutesZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha120MinutesZmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha120MinutesZmanis()
+	 * @deprecated See {@link #getPlagHamincha120MinutesZmanis()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getPlagHamincha120MinutesZmanisMillis() {
+		return getPlagHamincha(getAlos120ZmanisMillis(), getTzais120ZmanisMillis());
 	}
 
 	/**
@@ -827,7 +1355,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getPlagHamincha120Minutes() {
-		return getPlagHamincha(getAlos120(), getTzais120());
+		return getZonedDateTime(getPlagHamincha120MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha120Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha120Minutes()
+	 * @deprecated See {@link #getPlagHamincha120Minutes()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getPlagHamincha120MinutesMillis() {
+		return getPlagHamincha(getAlos120Millis(), getTzais120Millis());
 	}
 
 	/**
@@ -861,7 +1402,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getShaahZmanis60Minutes()
 	 */
 	public ZonedDateTime getAlos60() {
-		return getTimeOffset(getSunrise(), -60 * MINUTE_MILLIS);
+		return getZonedDateTime(getAlos60Millis());
+	}
+
+	/**
+	 * Returns {@link #getAlos60()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos60()
+	 */
+	public long getAlos60Millis() {
+		return getTimeOffset(getSunriseMillis(), -60 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -881,7 +1433,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getShaahZmanisGra()
 	 */
 	public ZonedDateTime getAlos72Zmanis() {
-		return getZmanisBasedOffset(-1.2);
+		return getZonedDateTime(getAlos72ZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getAlos72Zmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos72Zmanis()
+	 */
+	public long getAlos72ZmanisMillis() {
+		return getZmanisBasedOffsetMillis(-1.2);
 	}
 
 	/**
@@ -898,7 +1461,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         documentation.
 	 */
 	public ZonedDateTime getAlos96() {
-		return getTimeOffset(getElevationAdjustedSunrise(), -96 * MINUTE_MILLIS);
+		return getZonedDateTime(getAlos96Millis());
+	}
+
+	/**
+	 * Returns {@link #getAlos96()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos96()
+	 */
+	public long getAlos96Millis() {
+		return getTimeOffset(getElevationAdjustedSunriseMillis(), -96 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -917,7 +1491,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getShaahZmanisGra()
 	 */
 	public ZonedDateTime getAlos90Zmanis() {
-		return getZmanisBasedOffset(-1.5);
+		return getZonedDateTime(getAlos90ZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getAlos90Zmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos90Zmanis()
+	 */
+	public long getAlos90ZmanisMillis() {
+		return getZmanisBasedOffsetMillis(-1.5);
 	}
 
 	/**
@@ -936,7 +1521,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getShaahZmanisGra()
 	 */
 	public ZonedDateTime getAlos96Zmanis() {
-		return getZmanisBasedOffset(-1.6);
+		return getZonedDateTime(getAlos96ZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getAlos96Zmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos96Zmanis()
+	 */
+	public long getAlos96ZmanisMillis() {
+		return getZmanisBasedOffsetMillis(-1.6);
 	}
 
 	/**
@@ -953,7 +1549,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         documentation.
 	 */
 	public ZonedDateTime getAlos90() {
-		return getTimeOffset(getElevationAdjustedSunrise(), -90 * MINUTE_MILLIS);
+		return getZonedDateTime(getAlos90Millis());
+	}
+
+	/**
+	 * Returns {@link #getAlos90()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos90()
+	 */
+	public long getAlos90Millis() {
+		return getTimeOffset(getElevationAdjustedSunriseMillis(), -90 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -981,7 +1588,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getAlos120() {
-		return getTimeOffset(getElevationAdjustedSunrise(), -120 * MINUTE_MILLIS);
+		return getZonedDateTime(getAlos120Millis());
+	}
+
+	/**
+	 * Returns {@link #getAlos120()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos120()
+	 * @deprecated See {@link #getAlos120()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getAlos120Millis() {
+		return getTimeOffset(getElevationAdjustedSunriseMillis(), -120 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -1010,7 +1630,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getAlos120Zmanis() {
-		return getZmanisBasedOffset(-2.0);
+		return getZonedDateTime(getAlos120ZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getAlos120Zmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos120Zmanis()
+	 * @deprecated See {@link #getAlos120Zmanis()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getAlos120ZmanisMillis() {
+		return getZmanisBasedOffsetMillis(-2.0);
 	}
 
 	/**
@@ -1039,7 +1672,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getAlos26Degrees() {
-		return getSunriseOffsetByDegrees(ZENITH_26_DEGREES);
+		return getZonedDateTime(getAlos26DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getAlos26Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos26Degrees()
+	 * @deprecated See {@link #getAlos26Degrees()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getAlos26DegreesMillis() {
+		return getSunriseOffsetByDegreesMillis(ZENITH_26_DEGREES);
 	}
 
 	/**
@@ -1053,7 +1699,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ASTRONOMICAL_ZENITH
 	 */
 	public ZonedDateTime getAlos18Degrees() {
-		return getSunriseOffsetByDegrees(ASTRONOMICAL_ZENITH);
+		return getZonedDateTime(getAlos18DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getAlos18Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos18Degrees()
+	 */
+	public long getAlos18DegreesMillis() {
+		return getSunriseOffsetByDegreesMillis(ASTRONOMICAL_ZENITH);
 	}
 	
 	/**
@@ -1072,7 +1729,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ASTRONOMICAL_ZENITH
 	 */
 	public ZonedDateTime getAlos19Degrees() {
-		return getSunriseOffsetByDegrees(ZENITH_19_DEGREES);
+		return getZonedDateTime(getAlos19DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getAlos19Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos19Degrees()
+	 */
+	public long getAlos19DegreesMillis() {
+		return getSunriseOffsetByDegreesMillis(ZENITH_19_DEGREES);
 	}
 
 	/**
@@ -1091,7 +1759,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos90()
 	 */
 	public ZonedDateTime getAlos19Point8Degrees() {
-		return getSunriseOffsetByDegrees(ZENITH_19_POINT_8);
+		return getZonedDateTime(getAlos19Point8DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getAlos19Point8Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos19Point8Degrees()
+	 */
+	public long getAlos19Point8DegreesMillis() {
+		return getSunriseOffsetByDegreesMillis(ZENITH_19_POINT_8);
 	}
 
 	/**
@@ -1110,7 +1789,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos72()
 	 */
 	public ZonedDateTime getAlos16Point1Degrees() {
-		return getSunriseOffsetByDegrees(ZENITH_16_POINT_1);
+		return getZonedDateTime(getAlos16Point1DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getAlos16Point1Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos16Point1Degrees()
+	 */
+	public long getAlos16Point1DegreesMillis() {
+		return getSunriseOffsetByDegreesMillis(ZENITH_16_POINT_1);
 	}
 
 	/**
@@ -1129,7 +1819,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_11_POINT_5
 	 */
 	public ZonedDateTime getMisheyakir11Point5Degrees() {
-		return getSunriseOffsetByDegrees(ZENITH_11_POINT_5);
+		return getZonedDateTime(getMisheyakir11Point5DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getMisheyakir11Point5Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMisheyakir11Point5Degrees()
+	 */
+	public long getMisheyakir11Point5DegreesMillis() {
+		return getSunriseOffsetByDegreesMillis(ZENITH_11_POINT_5);
 	}
 
 	/**
@@ -1147,7 +1848,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_11_DEGREES
 	 */
 	public ZonedDateTime getMisheyakir11Degrees() {
-		return getSunriseOffsetByDegrees(ZENITH_11_DEGREES);
+		return getZonedDateTime(getMisheyakir11DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getMisheyakir11Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMisheyakir11Degrees()
+	 */
+	public long getMisheyakir11DegreesMillis() {
+		return getSunriseOffsetByDegreesMillis(ZENITH_11_DEGREES);
 	}
 
 	/**
@@ -1165,7 +1877,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_10_POINT_2
 	 */
 	public ZonedDateTime getMisheyakir10Point2Degrees() {
-		return getSunriseOffsetByDegrees(ZENITH_10_POINT_2);
+		return getZonedDateTime(getMisheyakir10Point2DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getMisheyakir10Point2Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMisheyakir10Point2Degrees()
+	 */
+	public long getMisheyakir10Point2DegreesMillis() {
+		return getSunriseOffsetByDegreesMillis(ZENITH_10_POINT_2);
 	}
 	
 	/**
@@ -1198,7 +1921,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getMisheyakir9Point5Degrees()
 	 */
 	public ZonedDateTime getMisheyakir7Point65Degrees() {
-		return getSunriseOffsetByDegrees(ZENITH_7_POINT_65);
+		return getZonedDateTime(getMisheyakir7Point65DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getMisheyakir7Point65Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMisheyakir7Point65Degrees()
+	 */
+	public long getMisheyakir7Point65DegreesMillis() {
+		return getSunriseOffsetByDegreesMillis(ZENITH_7_POINT_65);
 	}
 	
 	/**
@@ -1225,7 +1959,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getMisheyakir7Point65Degrees()
 	 */
 	public ZonedDateTime getMisheyakir9Point5Degrees() {
-		return getSunriseOffsetByDegrees(ZENITH_9_POINT_5);
+		return getZonedDateTime(getMisheyakir9Point5DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getMisheyakir9Point5Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMisheyakir9Point5Degrees()
+	 */
+	public long getMisheyakir9Point5DegreesMillis() {
+		return getSunriseOffsetByDegreesMillis(ZENITH_9_POINT_5);
 	}
 
 	/**
@@ -1245,7 +1990,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos19Point8Degrees()
 	 */
 	public ZonedDateTime getSofZmanShmaMGA19Point8Degrees() {
-		return getSofZmanShma(getAlos19Point8Degrees(), getTzais19Point8Degrees());
+		return getZonedDateTime(getSofZmanShmaMGA19Point8DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA19Point8Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA19Point8Degrees()
+	 */
+	public long getSofZmanShmaMGA19Point8DegreesMillis() {
+		return getSofZmanShma(getAlos19Point8DegreesMillis(), getTzais19Point8DegreesMillis());
 	}
 
 	/**
@@ -1265,7 +2021,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos16Point1Degrees()
 	 */
 	public ZonedDateTime getSofZmanShmaMGA16Point1Degrees() {
-		return getSofZmanShma(getAlos16Point1Degrees(), getTzais16Point1Degrees());
+		return getZonedDateTime(getSofZmanShmaMGA16Point1DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA16Point1Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA16Point1Degrees()
+	 */
+	public long getSofZmanShmaMGA16Point1DegreesMillis() {
+		return getSofZmanShma(getAlos16Point1DegreesMillis(), getTzais16Point1DegreesMillis());
 	}
 
 	/**
@@ -1285,7 +2052,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos18Degrees()
 	 */
 	public ZonedDateTime getSofZmanShmaMGA18Degrees() {
-		return getSofZmanShma(getAlos18Degrees(), getTzais18Degrees());
+		return getZonedDateTime(getSofZmanShmaMGA18DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA18Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA18Degrees()
+	 */
+	public long getSofZmanShmaMGA18DegreesMillis() {
+		return getSofZmanShma(getAlos18DegreesMillis(), getTzais18DegreesMillis());
 	}
 
 	/**
@@ -1307,7 +2085,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getSofZmanShmaMGA()
 	 */
 	public ZonedDateTime getSofZmanShmaMGA72Minutes() {
-		return getSofZmanShmaMGA();
+		return getZonedDateTime(getSofZmanShmaMGA72MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA72Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA72Minutes()
+	 */
+	public long getSofZmanShmaMGA72MinutesMillis() {
+		return getSofZmanShmaMGAMillis();
 	}
 
 	/**
@@ -1329,7 +2118,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos72Zmanis()
 	 */
 	public ZonedDateTime getSofZmanShmaMGA72MinutesZmanis() {
-		return getSofZmanShma(getAlos72Zmanis(), getTzais72Zmanis());
+		return getZonedDateTime(getSofZmanShmaMGA72MinutesZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA72MinutesZmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA72MinutesZmanis()
+	 */
+	public long getSofZmanShmaMGA72MinutesZmanisMillis() {
+		return getSofZmanShma(getAlos72ZmanisMillis(), getTzais72ZmanisMillis());
 	}
 
 	/**
@@ -1349,7 +2149,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos90()
 	 */
 	public ZonedDateTime getSofZmanShmaMGA90Minutes() {
-		return getSofZmanShma(getAlos90(), getTzais90());
+		return getZonedDateTime(getSofZmanShmaMGA90MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA90Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA90Minutes()
+	 */
+	public long getSofZmanShmaMGA90MinutesMillis() {
+		return getSofZmanShma(getAlos90Millis(), getTzais90Millis());
 	}
 
 	/**
@@ -1370,7 +2181,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos90Zmanis()
 	 */
 	public ZonedDateTime getSofZmanShmaMGA90MinutesZmanis() {
-		return getSofZmanShma(getAlos90Zmanis(), getTzais90Zmanis());
+		return getZonedDateTime(getSofZmanShmaMGA90MinutesZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA90MinutesZmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA90MinutesZmanis()
+	 */
+	public long getSofZmanShmaMGA90MinutesZmanisMillis() {
+		return getSofZmanShma(getAlos90ZmanisMillis(), getTzais90ZmanisMillis());
 	}
 
 	/**
@@ -1390,7 +2212,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos96()
 	 */
 	public ZonedDateTime getSofZmanShmaMGA96Minutes() {
-		return getSofZmanShma(getAlos96(), getTzais96());
+		return getZonedDateTime(getSofZmanShmaMGA96MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA96Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA96Minutes()
+	 */
+	public long getSofZmanShmaMGA96MinutesMillis() {
+		return getSofZmanShma(getAlos96Millis(), getTzais96Millis());
 	}
 
 	/**
@@ -1411,7 +2244,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos96Zmanis()
 	 */
 	public ZonedDateTime getSofZmanShmaMGA96MinutesZmanis() {
-		return getSofZmanShma(getAlos96Zmanis(), getTzais96Zmanis());
+		return getZonedDateTime(getSofZmanShmaMGA96MinutesZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA96MinutesZmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA96MinutesZmanis()
+	 */
+	public long getSofZmanShmaMGA96MinutesZmanisMillis() {
+		return getSofZmanShma(getAlos96ZmanisMillis(), getTzais96ZmanisMillis());
 	}
 
 	/**
@@ -1441,7 +2285,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getSofZmanTfila2HoursBeforeChatzos()
 	 */
 	public ZonedDateTime getSofZmanShma3HoursBeforeChatzos() {
-		return getTimeOffset(getChatzos(), -180 * MINUTE_MILLIS);
+		return getZonedDateTime(getSofZmanShma3HoursBeforeChatzosMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShma3HoursBeforeChatzos()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShma3HoursBeforeChatzos()
+	 */
+	public long getSofZmanShma3HoursBeforeChatzosMillis() {
+		return getTimeOffset(getChatzosMillis(), -180 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -1462,7 +2317,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos120()
 	 */
 	public ZonedDateTime getSofZmanShmaMGA120Minutes() {
-		return getSofZmanShma(getAlos120(), getTzais120());
+		return getZonedDateTime(getSofZmanShmaMGA120MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA120Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA120Minutes()
+	 */
+	public long getSofZmanShmaMGA120MinutesMillis() {
+		return getSofZmanShma(getAlos120Millis(), getTzais120Millis());
 	}
 
 	/**
@@ -1487,7 +2353,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getSeaLevelSunset()
 	 */
 	public ZonedDateTime getSofZmanShmaAlos16Point1ToSunset() {
-		return getSofZmanShma(getAlos16Point1Degrees(), getElevationAdjustedSunset());
+		return getZonedDateTime(getSofZmanShmaAlos16Point1ToSunsetMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaAlos16Point1ToSunset()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaAlos16Point1ToSunset()
+	 */
+	public long getSofZmanShmaAlos16Point1ToSunsetMillis() {
+		return getSofZmanShma(getAlos16Point1DegreesMillis(), getElevationAdjustedSunsetMillis());
 	}
 
 	/**
@@ -1509,7 +2386,19 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getTzaisGeonim7Point083Degrees()
 	 */
 	public ZonedDateTime getSofZmanShmaAlos16Point1ToTzaisGeonim7Point083Degrees() {
-		return getSofZmanShma(getAlos16Point1Degrees(), getTzaisGeonim7Point083Degrees());
+		return getZonedDateTime(getSofZmanShmaAlos16Point1ToTzaisGeonim7Point083DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaAlos16Point1ToTzaisGeonim7Point083Degrees()} as the number of milliseconds since
+	 * the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaAlos16Point1ToTzaisGeonim7Point083Degrees()
+	 */
+	public long getSofZmanShmaAlos16Point1ToTzaisGeonim7Point083DegreesMillis() {
+		return getSofZmanShma(getAlos16Point1DegreesMillis(), getTzaisGeonim7Point083DegreesMillis());
 	}
 
 	/**
@@ -1530,11 +2419,24 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (since="1.3", forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getSofZmanShmaKolEliyahu() {
-		ZonedDateTime chatzos = getFixedLocalChatzos();
-		if (chatzos == null || getSunrise() == null) {
-			return null;
+		return getZonedDateTime(getSofZmanShmaKolEliyahuMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaKolEliyahu()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaKolEliyahu()
+	 * @deprecated See {@link #getSofZmanShmaKolEliyahu()}.
+	 */
+	@Deprecated // (since="1.3", forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getSofZmanShmaKolEliyahuMillis() {
+		long chatzos = getFixedLocalChatzosMillis();
+		if (chatzos == Long.MIN_VALUE || getSunriseMillis() == Long.MIN_VALUE) {
+			return Long.MIN_VALUE;
 		}
-		long diff = (chatzos.toEpochSecond() - getElevationAdjustedSunrise().toEpochSecond()) / 2;
+		long diff = (chatzos - getElevationAdjustedSunriseMillis()) / 2;
 		return getTimeOffset(chatzos, -diff);
 	}
 
@@ -1556,7 +2458,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos19Point8Degrees()
 	 */
 	public ZonedDateTime getSofZmanTfilaMGA19Point8Degrees() {
-		return getSofZmanTfila(getAlos19Point8Degrees(), getTzais19Point8Degrees());
+		return getZonedDateTime(getSofZmanTfilaMGA19Point8DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaMGA19Point8Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaMGA19Point8Degrees()
+	 */
+	public long getSofZmanTfilaMGA19Point8DegreesMillis() {
+		return getSofZmanTfila(getAlos19Point8DegreesMillis(), getTzais19Point8DegreesMillis());
 	}
 
 	/**
@@ -1577,7 +2490,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos16Point1Degrees()
 	 */
 	public ZonedDateTime getSofZmanTfilaMGA16Point1Degrees() {
-		return getSofZmanTfila(getAlos16Point1Degrees(), getTzais16Point1Degrees());
+		return getZonedDateTime(getSofZmanTfilaMGA16Point1DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaMGA16Point1Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaMGA16Point1Degrees()
+	 */
+	public long getSofZmanTfilaMGA16Point1DegreesMillis() {
+		return getSofZmanTfila(getAlos16Point1DegreesMillis(), getTzais16Point1DegreesMillis());
 	}
 
 	/**
@@ -1598,7 +2522,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos18Degrees()
 	 */
 	public ZonedDateTime getSofZmanTfilaMGA18Degrees() {
-		return getSofZmanTfila(getAlos18Degrees(), getTzais18Degrees());
+		return getZonedDateTime(getSofZmanTfilaMGA18DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaMGA18Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaMGA18Degrees()
+	 */
+	public long getSofZmanTfilaMGA18DegreesMillis() {
+		return getSofZmanTfila(getAlos18DegreesMillis(), getTzais18DegreesMillis());
 	}
 
 	/**
@@ -1620,7 +2555,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getSofZmanShmaMGA()
 	 */
 	public ZonedDateTime getSofZmanTfilaMGA72Minutes() {
-		return getSofZmanTfilaMGA();
+		return getZonedDateTime(getSofZmanTfilaMGA72MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaMGA72Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaMGA72Minutes()
+	 */
+	public long getSofZmanTfilaMGA72MinutesMillis() {
+		return getSofZmanTfilaMGAMillis();
 	}
 
 	/**
@@ -1640,7 +2586,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos72Zmanis()
 	 */
 	public ZonedDateTime getSofZmanTfilaMGA72MinutesZmanis() {
-		return getSofZmanTfila(getAlos72Zmanis(), getTzais72Zmanis());
+		return getZonedDateTime(getSofZmanTfilaMGA72MinutesZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaMGA72MinutesZmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaMGA72MinutesZmanis()
+	 */
+	public long getSofZmanTfilaMGA72MinutesZmanisMillis() {
+		return getSofZmanTfila(getAlos72ZmanisMillis(), getTzais72ZmanisMillis());
 	}
 
 	/**
@@ -1660,7 +2617,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos90()
 	 */
 	public ZonedDateTime getSofZmanTfilaMGA90Minutes() {
-		return getSofZmanTfila(getAlos90(), getTzais90());
+		return getZonedDateTime(getSofZmanTfilaMGA90MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaMGA90Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaMGA90Minutes()
+	 */
+	public long getSofZmanTfilaMGA90MinutesMillis() {
+		return getSofZmanTfila(getAlos90Millis(), getTzais90Millis());
 	}
 
 	/**
@@ -1681,7 +2649,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos90Zmanis()
 	 */
 	public ZonedDateTime getSofZmanTfilaMGA90MinutesZmanis() {
-		return getSofZmanTfila(getAlos90Zmanis(), getTzais90Zmanis());
+		return getZonedDateTime(getSofZmanTfilaMGA90MinutesZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaMGA90MinutesZmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaMGA90MinutesZmanis()
+	 */
+	public long getSofZmanTfilaMGA90MinutesZmanisMillis() {
+		return getSofZmanTfila(getAlos90ZmanisMillis(), getTzais90ZmanisMillis());
 	}
 
 	/**
@@ -1701,7 +2680,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos96()
 	 */
 	public ZonedDateTime getSofZmanTfilaMGA96Minutes() {
-		return getSofZmanTfila(getAlos96(), getTzais96());
+		return getZonedDateTime(getSofZmanTfilaMGA96MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaMGA96Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaMGA96Minutes()
+	 */
+	public long getSofZmanTfilaMGA96MinutesMillis() {
+		return getSofZmanTfila(getAlos96Millis(), getTzais96Millis());
 	}
 
 	/**
@@ -1722,7 +2712,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos90Zmanis()
 	 */
 	public ZonedDateTime getSofZmanTfilaMGA96MinutesZmanis() {
-		return getSofZmanTfila(getAlos96Zmanis(), getTzais96Zmanis());
+		return getZonedDateTime(getSofZmanTfilaMGA96MinutesZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaMGA96MinutesZmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaMGA96MinutesZmanis()
+	 */
+	public long getSofZmanTfilaMGA96MinutesZmanisMillis() {
+		return getSofZmanTfila(getAlos96ZmanisMillis(), getTzais96ZmanisMillis());
 	}
 
 	/**
@@ -1743,7 +2744,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos120()
 	 */
 	public ZonedDateTime getSofZmanTfilaMGA120Minutes() {
-		return getSofZmanTfila(getAlos120(), getTzais120());
+		return getZonedDateTime(getSofZmanTfilaMGA120MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaMGA120Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaMGA120Minutes()
+	 */
+	public long getSofZmanTfilaMGA120MinutesMillis() {
+		return getSofZmanTfila(getAlos120Millis(), getTzais120Millis());
 	}
 
 	/**
@@ -1760,7 +2772,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getSofZmanShma3HoursBeforeChatzos()
 	 */
 	public ZonedDateTime getSofZmanTfila2HoursBeforeChatzos() {
-		return getTimeOffset(getChatzos(), -120 * MINUTE_MILLIS);
+		return getZonedDateTime(getSofZmanTfila2HoursBeforeChatzosMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfila2HoursBeforeChatzos()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfila2HoursBeforeChatzos()
+	 */
+	public long getSofZmanTfila2HoursBeforeChatzosMillis() {
+		return getTimeOffset(getChatzosMillis(), -120 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -1787,7 +2810,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #isUseAstronomicalChatzosForOtherZmanim()
 	 */
 	public ZonedDateTime getMinchaGedola30Minutes() {
-		return getTimeOffset(getChatzos(), MINUTE_MILLIS * 30);
+		return getZonedDateTime(getMinchaGedola30MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaGedola30Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaGedola30Minutes()
+	 */
+	public long getMinchaGedola30MinutesMillis() {
+		return getTimeOffset(getChatzosMillis(), MINUTE_MILLIS * 30);
 	}
 
 	/**
@@ -1812,10 +2846,21 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getMinchaGedola72Minutes() {
+		return getZonedDateTime(getMinchaGedola72MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaGedola72Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaGedola72Minutes()
+	 */
+	public long getMinchaGedola72MinutesMillis() {
 		if(isUseAstronomicalChatzosForOtherZmanim()) {
-			return getHalfDayBasedZman(getChatzos(), getTzais72(), 0.5);
+			return getHalfDayBasedZman(getChatzosMillis(), getTzais72Millis(), 0.5);
 		} else {
-			return getMinchaGedola(getAlos72(), getTzais72());
+			return getMinchaGedola(getAlos72Millis(), getTzais72Millis());
 		}
 	}
 
@@ -1837,12 +2882,22 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getMinchaGedola16Point1Degrees() {
+		return getZonedDateTime(getMinchaGedola16Point1DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaGedola16Point1Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaGedola16Point1Degrees()
+	 */
+	public long getMinchaGedola16Point1DegreesMillis() {
 		if(isUseAstronomicalChatzosForOtherZmanim()) {
-			return getHalfDayBasedZman(getChatzos(), getTzais16Point1Degrees(), 0.5);
+			return getHalfDayBasedZman(getChatzosMillis(), getTzais16Point1DegreesMillis(), 0.5);
 		} else {
-			return getMinchaGedola(getAlos16Point1Degrees(), getTzais16Point1Degrees());
+			return getMinchaGedola(getAlos16Point1DegreesMillis(), getTzais16Point1DegreesMillis());
 		}
-		
 	}
 	
 	/**
@@ -1868,12 +2923,25 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getMinchaGedolaGreaterThan30()
 	 */
 	public ZonedDateTime getMinchaGedolaAhavatShalom() {
-		if (getMinchaGedola30Minutes() == null || getMinchaGedola() == null) {
-			return null;
-		} else {
-			return getMinchaGedola30Minutes().compareTo(getTimeOffset(getChatzos(), getShaahZmanisAlos16Point1ToTzais3Point7() / 2)) > 0 ?
-					getMinchaGedola30Minutes() : getTimeOffset(getChatzos(), getShaahZmanisAlos16Point1ToTzais3Point7() / 2);
+		return getZonedDateTime(getMinchaGedolaAhavatShalomMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaGedolaAhavatShalom()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaGedolaAhavatShalom()
+	 */
+	public long getMinchaGedolaAhavatShalomMillis() {
+		long minchaGedola30 = getMinchaGedola30MinutesMillis();
+		long shaahZmanis = getShaahZmanisAlos16Point1ToTzais3Point7();
+		if (minchaGedola30 == Long.MIN_VALUE || getMinchaGedolaMillis() == Long.MIN_VALUE
+				|| shaahZmanis == Long.MIN_VALUE) {
+			return Long.MIN_VALUE;
 		}
+		long minchaGedola = getTimeOffset(getChatzosMillis(), shaahZmanis / 2);
+		return minchaGedola30 > minchaGedola ? minchaGedola30 : minchaGedola;
 	}
 
 	/**
@@ -1894,12 +2962,23 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * 
 	 */
 	public ZonedDateTime getMinchaGedolaGreaterThan30() {
-		if (getMinchaGedola30Minutes() == null || getMinchaGedola() == null) {
-			return null;
-		} else {
-			return getMinchaGedola30Minutes().compareTo(getMinchaGedola()) > 0 ? getMinchaGedola30Minutes()
-					: getMinchaGedola();
+		return getZonedDateTime(getMinchaGedolaGreaterThan30Millis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaGedolaGreaterThan30()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaGedolaGreaterThan30()
+	 */
+	public long getMinchaGedolaGreaterThan30Millis() {
+		long minchaGedola30 = getMinchaGedola30MinutesMillis();
+		long minchaGedola = getMinchaGedolaMillis();
+		if (minchaGedola30 == Long.MIN_VALUE || minchaGedola == Long.MIN_VALUE) {
+			return Long.MIN_VALUE;
 		}
+		return minchaGedola30 > minchaGedola ? minchaGedola30 : minchaGedola;
 	}
 
 	/**
@@ -1919,7 +2998,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getMinchaKetana16Point1Degrees() {
-		return getMinchaKetana(getAlos16Point1Degrees(), getTzais16Point1Degrees());
+		return getZonedDateTime(getMinchaKetana16Point1DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaKetana16Point1Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaKetana16Point1Degrees()
+	 */
+	public long getMinchaKetana16Point1DegreesMillis() {
+		return getMinchaKetana(getAlos16Point1DegreesMillis(), getTzais16Point1DegreesMillis());
 	}
 	
 	/**
@@ -1942,7 +3032,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getPlagAhavatShalom()
 	 */
 	public ZonedDateTime getMinchaKetanaAhavatShalom() {
-		return getTimeOffset(getTzaisGeonim3Point8Degrees(), -getShaahZmanisAlos16Point1ToTzais3Point8() * 2.5);
+		return getZonedDateTime(getMinchaKetanaAhavatShalomMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaKetanaAhavatShalom()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaKetanaAhavatShalom()
+	 */
+	public long getMinchaKetanaAhavatShalomMillis() {
+		return getTimeOffset(getTzaisGeonim3Point8DegreesMillis(), -getShaahZmanisAlos16Point1ToTzais3Point8() * 2.5);
 	}
 
 	/**
@@ -1962,7 +3063,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getMinchaKetana72Minutes() {
-		return getMinchaKetana(getAlos72(), getTzais72());
+		return getZonedDateTime(getMinchaKetana72MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaKetana72Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaKetana72Minutes()
+	 */
+	public long getMinchaKetana72MinutesMillis() {
+		return getMinchaKetana(getAlos72Millis(), getTzais72Millis());
 	}
 
 	/**
@@ -1980,7 +3092,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getTzais60()
 	 */
 	public ZonedDateTime getPlagHamincha60Minutes() {
-		return getPlagHamincha(getAlos60(), getTzais60());
+		return getZonedDateTime(getPlagHamincha60MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha60Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha60Minutes()
+	 */
+	public long getPlagHamincha60MinutesMillis() {
+		return getPlagHamincha(getAlos60Millis(), getTzais60Millis());
 	}
 
 	/**
@@ -2004,7 +3127,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getPlagHamincha72Minutes() {
-		return getPlagHamincha(getAlos72(), getTzais72());
+		return getZonedDateTime(getPlagHamincha72MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha72Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha72Minutes()
+	 * @deprecated See {@link #getPlagHamincha72Minutes()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getPlagHamincha72MinutesMillis() {
+		return getPlagHamincha(getAlos72Millis(), getTzais72Millis());
 	}
 
 	/**
@@ -2028,7 +3164,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getPlagHamincha90Minutes() {
-		return getPlagHamincha(getAlos90(), getTzais90());
+		return getZonedDateTime(getPlagHamincha90MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha90Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha90Minutes()
+	 * @deprecated See {@link #getPlagHamincha90Minutes()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getPlagHamincha90MinutesMillis() {
+		return getPlagHamincha(getAlos90Millis(), getTzais90Millis());
 	}
 
 	/**
@@ -2051,7 +3200,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getPlagHamincha96Minutes() {
-		return getPlagHamincha(getAlos96(), getTzais96());
+		return getZonedDateTime(getPlagHamincha96MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha96Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha96Minutes()
+	 * @deprecated See {@link #getPlagHamincha96Minutes()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getPlagHamincha96MinutesMillis() {
+		return getPlagHamincha(getAlos96Millis(), getTzais96Millis());
 	}
 
 	/**
@@ -2072,7 +3234,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getPlagHamincha96MinutesZmanis() {
-		return getPlagHamincha(getAlos96Zmanis(), getTzais96Zmanis());
+		return getZonedDateTime(getPlagHamincha96MinutesZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha96MinutesZmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha96MinutesZmanis()
+	 * @deprecated See {@link #getPlagHamincha96MinutesZmanis()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getPlagHamincha96MinutesZmanisMillis() {
+		return getPlagHamincha(getAlos96ZmanisMillis(), getTzais96ZmanisMillis());
 	}
 
 	/**
@@ -2093,7 +3268,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getPlagHamincha90MinutesZmanis() {
-		return getPlagHamincha(getAlos90Zmanis(), getTzais90Zmanis());
+		return getZonedDateTime(getPlagHamincha90MinutesZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha90MinutesZmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha90MinutesZmanis()
+	 * @deprecated See {@link #getPlagHamincha90MinutesZmanis()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getPlagHamincha90MinutesZmanisMillis() {
+		return getPlagHamincha(getAlos90ZmanisMillis(), getTzais90ZmanisMillis());
 	}
 
 	/**
@@ -2114,7 +3302,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getPlagHamincha72MinutesZmanis() {
-		return getPlagHamincha(getAlos72Zmanis(), getTzais72Zmanis());
+		return getZonedDateTime(getPlagHamincha72MinutesZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha72MinutesZmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha72MinutesZmanis()
+	 * @deprecated See {@link #getPlagHamincha72MinutesZmanis()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getPlagHamincha72MinutesZmanisMillis() {
+		return getPlagHamincha(getAlos72ZmanisMillis(), getTzais72ZmanisMillis());
 	}
 
 	/**
@@ -2139,7 +3340,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getPlagHamincha16Point1Degrees() {
-		return getPlagHamincha(getAlos16Point1Degrees(), getTzais16Point1Degrees());
+		return getZonedDateTime(getPlagHamincha16Point1DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha16Point1Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha16Point1Degrees()
+	 * @deprecated See {@link #getPlagHamincha16Point1Degrees()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getPlagHamincha16Point1DegreesMillis() {
+		return getPlagHamincha(getAlos16Point1DegreesMillis(), getTzais16Point1DegreesMillis());
 	}
 
 	/**
@@ -2164,7 +3378,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getPlagHamincha19Point8Degrees() {
-		return getPlagHamincha(getAlos19Point8Degrees(), getTzais19Point8Degrees());
+		return getZonedDateTime(getPlagHamincha19Point8DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha19Point8Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha19Point8Degrees()
+	 * @deprecated See {@link #getPlagHamincha19Point8Degrees()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getPlagHamincha19Point8DegreesMillis() {
+		return getPlagHamincha(getAlos19Point8DegreesMillis(), getTzais19Point8DegreesMillis());
 	}
 
 	/**
@@ -2190,7 +3417,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getPlagHamincha26Degrees() {
-		return getPlagHamincha(getAlos26Degrees(), getTzais26Degrees());
+		return getZonedDateTime(getPlagHamincha26DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha26Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha26Degrees()
+	 * @deprecated See {@link #getPlagHamincha26Degrees()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getPlagHamincha26DegreesMillis() {
+		return getPlagHamincha(getAlos26DegreesMillis(), getTzais26DegreesMillis());
 	}
 
 	/**
@@ -2215,7 +3455,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getPlagHamincha18Degrees() {
-		return getPlagHamincha(getAlos18Degrees(), getTzais18Degrees());
+		return getZonedDateTime(getPlagHamincha18DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha18Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha18Degrees()
+	 * @deprecated See {@link #getPlagHamincha18Degrees()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getPlagHamincha18DegreesMillis() {
+		return getPlagHamincha(getAlos18DegreesMillis(), getTzais18DegreesMillis());
 	}
 
 	/**
@@ -2239,7 +3492,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getPlagAlosToSunset() {
-		return getPlagHamincha(getAlos16Point1Degrees(), getElevationAdjustedSunset());
+		return getZonedDateTime(getPlagAlosToSunsetMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagAlosToSunset()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagAlosToSunset()
+	 * @deprecated See {@link #getPlagAlosToSunset()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getPlagAlosToSunsetMillis() {
+		return getPlagHamincha(getAlos16Point1DegreesMillis(), getElevationAdjustedSunsetMillis());
 	}
 
 	/**
@@ -2261,7 +3527,19 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getTzaisGeonim7Point083Degrees()
 	 */
 	public ZonedDateTime getPlagAlos16Point1ToTzaisGeonim7Point083Degrees() {
-		return getPlagHamincha(getAlos16Point1Degrees(), getTzaisGeonim7Point083Degrees());
+		return getZonedDateTime(getPlagAlos16Point1ToTzaisGeonim7Point083DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagAlos16Point1ToTzaisGeonim7Point083Degrees()} as the number of milliseconds since the
+	 * epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagAlos16Point1ToTzaisGeonim7Point083Degrees()
+	 */
+	public long getPlagAlos16Point1ToTzaisGeonim7Point083DegreesMillis() {
+		return getPlagHamincha(getAlos16Point1DegreesMillis(), getTzaisGeonim7Point083DegreesMillis());
 	}
 	
 	/**
@@ -2282,7 +3560,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getMinchaKetanaAhavatShalom()
 	 */
 	public ZonedDateTime getPlagAhavatShalom() {
-		return getTimeOffset(getTzaisGeonim3Point8Degrees(), -getShaahZmanisAlos16Point1ToTzais3Point8() * 1.25);
+		return getZonedDateTime(getPlagAhavatShalomMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagAhavatShalom()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagAhavatShalom()
+	 */
+	public long getPlagAhavatShalomMillis() {
+		return getTimeOffset(getTzaisGeonim3Point8DegreesMillis(), -getShaahZmanisAlos16Point1ToTzais3Point8() * 1.25);
 	}
 
 	/**
@@ -2310,7 +3599,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getBainHashmashosRT58Point5Minutes()
 	 */
 	public ZonedDateTime getBainHashmashosRT13Point24Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_13_POINT_24);
+		return getZonedDateTime(getBainHashmashosRT13Point24DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHashmashosRT13Point24Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHashmashosRT13Point24Degrees()
+	 */
+	public long getBainHashmashosRT13Point24DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_13_POINT_24);
 	}
 	
 
@@ -2320,7 +3620,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getBainHasmashosRT13Point24Degrees() {
-		return getBainHashmashosRT13Point24Degrees();
+		return getZonedDateTime(getBainHasmashosRT13Point24DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHasmashosRT13Point24Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHasmashosRT13Point24Degrees()
+	 * @deprecated See {@link #getBainHasmashosRT13Point24Degrees()}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getBainHasmashosRT13Point24DegreesMillis() {
+		return getBainHashmashosRT13Point24DegreesMillis();
 	}
 
 	/**
@@ -2335,7 +3648,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * 
 	 */
 	public ZonedDateTime getBainHashmashosRT58Point5Minutes() {
-		return getTimeOffset(getElevationAdjustedSunset(), 58.5 * MINUTE_MILLIS);
+		return getZonedDateTime(getBainHashmashosRT58Point5MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHashmashosRT58Point5Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHashmashosRT58Point5Minutes()
+	 */
+	public long getBainHashmashosRT58Point5MinutesMillis() {
+		return getTimeOffset(getElevationAdjustedSunsetMillis(), 58.5 * MINUTE_MILLIS);
 	}
 	
 	/**
@@ -2344,11 +3668,24 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getBainHasmashosRT58Point5Minutes() {
-		return getBainHashmashosRT58Point5Minutes();
+		return getZonedDateTime(getBainHasmashosRT58Point5MinutesMillis());
 	}
 
 	/**
-	 * This method returns the beginning of <em>bain hashmashos</em> based on the calculation of 13.5 minutes (3/4 of an
+	 * Returns {@link #getBainHasmashosRT58Point5Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHasmashosRT58Point5Minutes()
+	 * @deprecated See {@link #getBainHasmashosRT58Point5Minutes()}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getBainHasmashosRT58Point5MinutesMillis() {
+		return getBainHashmashosRT58Point5MinutesMillis();
+	}
+
+	/**
+	 * This method returns the beginning of <em>bain hashmashos</em> based on the calculation of 13.5 minutes (3/4 of an
 	 * 18-minute <em>Mil</em>) before <em>shkiah</em> calculated as {@link #getTzaisGeonim7Point083Degrees() 7.083&deg;}.
 	 * 
 	 * @return the <code>Date</code> of the <em>bain hashmashos</em> of Rabbeinu Tam in this calculation. If the
@@ -2359,7 +3696,19 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getTzaisGeonim7Point083Degrees()
 	 */
 	public ZonedDateTime getBainHashmashosRT13Point5MinutesBefore7Point083Degrees() {
-		return getTimeOffset(getSunsetOffsetByDegrees(ZENITH_7_POINT_083), -13.5 * MINUTE_MILLIS);
+		return getZonedDateTime(getBainHashmashosRT13Point5MinutesBefore7Point083DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHashmashosRT13Point5MinutesBefore7Point083Degrees()} as the number of milliseconds since
+	 * the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHashmashosRT13Point5MinutesBefore7Point083Degrees()
+	 */
+	public long getBainHashmashosRT13Point5MinutesBefore7Point083DegreesMillis() {
+		return getTimeOffset(getSunsetOffsetByDegreesMillis(ZENITH_7_POINT_083), -13.5 * MINUTE_MILLIS);
 	}
 	
 	/**
@@ -2368,7 +3717,21 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getBainHasmashosRT13Point5MinutesBefore7Point083Degrees() {
-		return getBainHashmashosRT13Point5MinutesBefore7Point083Degrees();
+		return getZonedDateTime(getBainHasmashosRT13Point5MinutesBefore7Point083DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHasmashosRT13Point5MinutesBefore7Point083Degrees()} as the number of milliseconds since
+	 * the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHasmashosRT13Point5MinutesBefore7Point083Degrees()
+	 * @deprecated See {@link #getBainHasmashosRT13Point5MinutesBefore7Point083Degrees()}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getBainHasmashosRT13Point5MinutesBefore7Point083DegreesMillis() {
+		return getBainHashmashosRT13Point5MinutesBefore7Point083DegreesMillis();
 	}
 
 	/**
@@ -2384,12 +3747,23 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getBainHashmashosRT2Stars() {
-		ZonedDateTime alos19Point8 = getAlos19Point8Degrees();
-		ZonedDateTime sunrise = getElevationAdjustedSunrise();
-		if (alos19Point8 == null || sunrise == null) {
-			return null;
+		return getZonedDateTime(getBainHashmashosRT2StarsMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHashmashosRT2Stars()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHashmashosRT2Stars()
+	 */
+	public long getBainHashmashosRT2StarsMillis() {
+		long alos19Point8 = getAlos19Point8DegreesMillis();
+		long sunrise = getElevationAdjustedSunriseMillis();
+		if (alos19Point8 == Long.MIN_VALUE || sunrise == Long.MIN_VALUE) {
+			return Long.MIN_VALUE;
 		}
-		return getTimeOffset(getElevationAdjustedSunset(), (sunrise.toEpochSecond() - alos19Point8.toEpochSecond()) * (5 / 18d));
+		return getTimeOffset(getElevationAdjustedSunsetMillis(), (sunrise - alos19Point8) * (5 / 18d));
 	}
 	
 	/**
@@ -2398,7 +3772,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getBainHasmashosRT2Stars() {
-		return getBainHashmashosRT2Stars();
+		return getZonedDateTime(getBainHasmashosRT2StarsMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHasmashosRT2Stars()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHasmashosRT2Stars()
+	 * @deprecated See {@link #getBainHasmashosRT2Stars()}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getBainHasmashosRT2StarsMillis() {
+		return getBainHashmashosRT2StarsMillis();
 	}
 	
 	/**
@@ -2414,7 +3801,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getBainHashmashosYereim3Point05Degrees()
 	 */
 	public ZonedDateTime getBainHashmashosYereim18Minutes() {
-		return getTimeOffset(getElevationAdjustedSunset(), -18 * MINUTE_MILLIS);
+		return getZonedDateTime(getBainHashmashosYereim18MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHashmashosYereim18Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHashmashosYereim18Minutes()
+	 */
+	public long getBainHashmashosYereim18MinutesMillis() {
+		return getTimeOffset(getElevationAdjustedSunsetMillis(), -18 * MINUTE_MILLIS);
 	}
 	
 	/**
@@ -2423,7 +3821,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getBainHasmashosYereim18Minutes() {
-		return getBainHashmashosYereim18Minutes();
+		return getZonedDateTime(getBainHasmashosYereim18MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHasmashosYereim18Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHasmashosYereim18Minutes()
+	 * @deprecated See {@link #getBainHasmashosYereim18Minutes()}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getBainHasmashosYereim18MinutesMillis() {
+		return getBainHashmashosYereim18MinutesMillis();
 	}
 	
 	/**
@@ -2456,7 +3867,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getBainHashmashosYereim2Point1Degrees()
 	 */
 	public ZonedDateTime getBainHashmashosYereim3Point05Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_MINUS_3_POINT_05);
+		return getZonedDateTime(getBainHashmashosYereim3Point05DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHashmashosYereim3Point05Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHashmashosYereim3Point05Degrees()
+	 */
+	public long getBainHashmashosYereim3Point05DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_MINUS_3_POINT_05);
 	}
 	
 	/**
@@ -2465,7 +3887,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getBainHasmashosYereim3Point05Degrees() {
-		return getBainHashmashosYereim3Point05Degrees();
+		return getZonedDateTime(getBainHasmashosYereim3Point05DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHasmashosYereim3Point05Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHasmashosYereim3Point05Degrees()
+	 * @deprecated See {@link #getBainHasmashosYereim3Point05Degrees()}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getBainHasmashosYereim3Point05DegreesMillis() {
+		return getBainHashmashosYereim3Point05DegreesMillis();
 	}
 	
 	
@@ -2483,7 +3918,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getBainHashmashosYereim2Point8Degrees()
 	 */
 	public ZonedDateTime getBainHashmashosYereim16Point875Minutes() {
-		return getTimeOffset(getElevationAdjustedSunset(), -16.875 * MINUTE_MILLIS);
+		return getZonedDateTime(getBainHashmashosYereim16Point875MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHashmashosYereim16Point875Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHashmashosYereim16Point875Minutes()
+	 */
+	public long getBainHashmashosYereim16Point875MinutesMillis() {
+		return getTimeOffset(getElevationAdjustedSunsetMillis(), -16.875 * MINUTE_MILLIS);
 	}
 	
 	/**
@@ -2492,7 +3938,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getBainHasmashosYereim16Point875Minutes() {
-		return getBainHashmashosYereim16Point875Minutes();
+		return getZonedDateTime(getBainHasmashosYereim16Point875MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHasmashosYereim16Point875Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHasmashosYereim16Point875Minutes()
+	 * @deprecated See {@link #getBainHasmashosYereim16Point875Minutes()}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getBainHasmashosYereim16Point875MinutesMillis() {
+		return getBainHashmashosYereim16Point875MinutesMillis();
 	}
 	
 	/**
@@ -2516,7 +3975,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getBainHashmashosYereim2Point1Degrees()
 	 */
 	public ZonedDateTime getBainHashmashosYereim2Point8Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_MINUS_2_POINT_8);
+		return getZonedDateTime(getBainHashmashosYereim2Point8DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHashmashosYereim2Point8Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHashmashosYereim2Point8Degrees()
+	 */
+	public long getBainHashmashosYereim2Point8DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_MINUS_2_POINT_8);
 	}
 	
 	/**
@@ -2525,7 +3995,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getBainHasmashosYereim2Point8Degrees() {
-		return getBainHashmashosYereim2Point8Degrees();
+		return getZonedDateTime(getBainHasmashosYereim2Point8DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHasmashosYereim2Point8Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHasmashosYereim2Point8Degrees()
+	 * @deprecated See {@link #getBainHasmashosYereim2Point8Degrees()}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getBainHasmashosYereim2Point8DegreesMillis() {
+		return getBainHashmashosYereim2Point8DegreesMillis();
 	}
 	
 	
@@ -2543,7 +4026,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getBainHashmashosYereim2Point1Degrees()
 	 */
 	public ZonedDateTime getBainHashmashosYereim13Point5Minutes() {
-		return getTimeOffset(getElevationAdjustedSunset(), -13.5 * MINUTE_MILLIS);
+		return getZonedDateTime(getBainHashmashosYereim13Point5MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHashmashosYereim13Point5Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHashmashosYereim13Point5Minutes()
+	 */
+	public long getBainHashmashosYereim13Point5MinutesMillis() {
+		return getTimeOffset(getElevationAdjustedSunsetMillis(), -13.5 * MINUTE_MILLIS);
 	}
 	
 	/**
@@ -2552,7 +4046,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getBainHasmashosYereim13Point5Minutes() {
-		return getBainHashmashosYereim13Point5Minutes();
+		return getZonedDateTime(getBainHasmashosYereim13Point5MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHasmashosYereim13Point5Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHasmashosYereim13Point5Minutes()
+	 * @deprecated See {@link #getBainHasmashosYereim13Point5Minutes()}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getBainHasmashosYereim13Point5MinutesMillis() {
+		return getBainHashmashosYereim13Point5MinutesMillis();
 	}
 	
 	/**
@@ -2576,7 +4083,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getBainHashmashosYereim3Point05Degrees()
 	 */
 	public ZonedDateTime getBainHashmashosYereim2Point1Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_MINUS_2_POINT_1);
+		return getZonedDateTime(getBainHashmashosYereim2Point1DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHashmashosYereim2Point1Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHashmashosYereim2Point1Degrees()
+	 */
+	public long getBainHashmashosYereim2Point1DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_MINUS_2_POINT_1);
 	}
 	
 	/**
@@ -2585,7 +4103,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getBainHasmashosYereim2Point1Degrees() {
-		return getBainHashmashosYereim2Point1Degrees();
+		return getZonedDateTime(getBainHasmashosYereim2Point1DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getBainHasmashosYereim2Point1Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getBainHasmashosYereim2Point1Degrees()
+	 * @deprecated See {@link #getBainHasmashosYereim2Point1Degrees()}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getBainHasmashosYereim2Point1DegreesMillis() {
+		return getBainHashmashosYereim2Point1DegreesMillis();
 	}
 	
 	/**
@@ -2596,7 +4127,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_3_POINT_7
 	 */
 	public ZonedDateTime getTzaisGeonim3Point7Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_3_POINT_7);
+		return getZonedDateTime(getTzaisGeonim3Point7DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim3Point7Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim3Point7Degrees()
+	 */
+	public long getTzaisGeonim3Point7DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_3_POINT_7);
 	}
 
 	/**
@@ -2607,7 +4149,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_3_POINT_8
 	 */
 	public ZonedDateTime getTzaisGeonim3Point8Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_3_POINT_8);
+		return getZonedDateTime(getTzaisGeonim3Point8DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim3Point8Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim3Point8Degrees()
+	 */
+	public long getTzaisGeonim3Point8DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_3_POINT_8);
 	}
 
 	/**
@@ -2622,7 +4175,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_5_POINT_95
 	 */
 	public ZonedDateTime getTzaisGeonim5Point95Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_5_POINT_95);
+		return getZonedDateTime(getTzaisGeonim5Point95DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim5Point95Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim5Point95Degrees()
+	 */
+	public long getTzaisGeonim5Point95DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_5_POINT_95);
 	}
 
 	/**
@@ -2643,7 +4207,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getTzaisGeonim3Point65Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_3_POINT_65);
+		return getZonedDateTime(getTzaisGeonim3Point65DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim3Point65Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim3Point65Degrees()
+	 * @deprecated See {@link #getTzaisGeonim3Point65Degrees()}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getTzaisGeonim3Point65DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_3_POINT_65);
 	}
 
 	/**
@@ -2665,7 +4242,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getTzaisGeonim3Point676Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_3_POINT_676);
+		return getZonedDateTime(getTzaisGeonim3Point676DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim3Point676Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim3Point676Degrees()
+	 * @deprecated See {@link #getTzaisGeonim3Point676Degrees()}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getTzaisGeonim3Point676DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_3_POINT_676);
 	}
 
 	/**
@@ -2682,7 +4272,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_4_POINT_61
 	 */
 	public ZonedDateTime getTzaisGeonim4Point61Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_4_POINT_61);
+		return getZonedDateTime(getTzaisGeonim4Point61DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim4Point61Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim4Point61Degrees()
+	 */
+	public long getTzaisGeonim4Point61DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_4_POINT_61);
 	}
 
 	/**
@@ -2699,7 +4300,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_4_POINT_37
 	 */
 	public ZonedDateTime getTzaisGeonim4Point37Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_4_POINT_37);
+		return getZonedDateTime(getTzaisGeonim4Point37DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim4Point37Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim4Point37Degrees()
+	 */
+	public long getTzaisGeonim4Point37DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_4_POINT_37);
 	}
 
 	/**
@@ -2718,7 +4330,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_5_POINT_88
 	 */
 	public ZonedDateTime getTzaisGeonim5Point88Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_5_POINT_88);
+		return getZonedDateTime(getTzaisGeonim5Point88DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim5Point88Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim5Point88Degrees()
+	 */
+	public long getTzaisGeonim5Point88DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_5_POINT_88);
 	}
 
 	/**
@@ -2736,7 +4359,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_4_POINT_8
 	 */
 	public ZonedDateTime getTzaisGeonim4Point8Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_4_POINT_8);
+		return getZonedDateTime(getTzaisGeonim4Point8DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim4Point8Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim4Point8Degrees()
+	 */
+	public long getTzaisGeonim4Point8DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_4_POINT_8);
 	}
 	
 	
@@ -2757,7 +4391,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_6_POINT_45
 	 */
 	public ZonedDateTime getTzaisGeonim6Point45Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_6_POINT_45);
+		return getZonedDateTime(getTzaisGeonim6Point45DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim6Point45Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim6Point45Degrees()
+	 */
+	public long getTzaisGeonim6Point45DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_6_POINT_45);
 	}
 
 	/**
@@ -2786,7 +4431,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_7_POINT_083
 	 */
 	public ZonedDateTime getTzaisGeonim7Point083Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_7_POINT_083);
+		return getZonedDateTime(getTzaisGeonim7Point083DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim7Point083Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim7Point083Degrees()
+	 */
+	public long getTzaisGeonim7Point083DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_7_POINT_083);
 	}
 	
 	/**
@@ -2815,7 +4471,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_7_POINT_67
 	 */
 	public ZonedDateTime getTzaisGeonim7Point67Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_7_POINT_67);
+		return getZonedDateTime(getTzaisGeonim7Point67DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim7Point67Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim7Point67Degrees()
+	 */
+	public long getTzaisGeonim7Point67DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_7_POINT_67);
 	}
 
 	/**
@@ -2830,7 +4497,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_8_POINT_5
 	 */
 	public ZonedDateTime getTzaisGeonim8Point5Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_8_POINT_5);
+		return getZonedDateTime(getTzaisGeonim8Point5DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim8Point5Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim8Point5Degrees()
+	 */
+	public long getTzaisGeonim8Point5DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_8_POINT_5);
 	}
 	
 	/**
@@ -2845,7 +4523,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         documentation.
 	 */
 	public ZonedDateTime getTzaisGeonim9Point3Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_9_POINT_3);
+		return getZonedDateTime(getTzaisGeonim9Point3DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim9Point3Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim9Point3Degrees()
+	 */
+	public long getTzaisGeonim9Point3DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_9_POINT_3);
 	}
 	
 	/**
@@ -2868,7 +4557,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getTzais60()
 	 */
 	public ZonedDateTime getTzaisGeonim9Point75Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_9_POINT_75);
+		return getZonedDateTime(getTzaisGeonim9Point75DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisGeonim9Point75Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisGeonim9Point75Degrees()
+	 */
+	public long getTzaisGeonim9Point75DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_9_POINT_75);
 	}
 
 	/**
@@ -2889,7 +4589,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getShaahZmanis60Minutes()
 	 */
 	public ZonedDateTime getTzais60() {
-		return getTimeOffset(getElevationAdjustedSunset(), 60 * MINUTE_MILLIS);
+		return getZonedDateTime(getTzais60Millis());
+	}
+
+	/**
+	 * Returns {@link #getTzais60()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais60()
+	 */
+	public long getTzais60Millis() {
+		return getTimeOffset(getElevationAdjustedSunsetMillis(), 60 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -2909,7 +4620,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #setAteretTorahSunsetOffset(double)
 	 */
 	public ZonedDateTime getTzaisAteretTorah() {
-		return getTimeOffset(getElevationAdjustedSunset(), getAteretTorahSunsetOffset() * MINUTE_MILLIS);
+		return getZonedDateTime(getTzaisAteretTorahMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisAteretTorah()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisAteretTorah()
+	 */
+	public long getTzaisAteretTorahMillis() {
+		return getTimeOffset(getElevationAdjustedSunsetMillis(), getAteretTorahSunsetOffset() * MINUTE_MILLIS);
 	}
 
 	/**
@@ -2960,7 +4682,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getShaahZmanisAteretTorah()
 	 */
 	public ZonedDateTime getSofZmanShmaAteretTorah() {
-		return getSofZmanShma(getAlos72Zmanis(), getTzaisAteretTorah());
+		return getZonedDateTime(getSofZmanShmaAteretTorahMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaAteretTorah()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaAteretTorah()
+	 */
+	public long getSofZmanShmaAteretTorahMillis() {
+		return getSofZmanShma(getAlos72ZmanisMillis(), getTzaisAteretTorahMillis());
 	}
 
 	/**
@@ -2983,7 +4716,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #setAteretTorahSunsetOffset(double)
 	 */
 	public ZonedDateTime getSofZmanTfilaAteretTorah() {
-		return getSofZmanTfila(getAlos72Zmanis(), getTzaisAteretTorah());
+		return getZonedDateTime(getSofZmanTfilaAteretTorahMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaAteretTorah()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaAteretTorah()
+	 */
+	public long getSofZmanTfilaAteretTorahMillis() {
+		return getSofZmanTfila(getAlos72ZmanisMillis(), getTzaisAteretTorahMillis());
 	}
 	
 	/**
@@ -2996,7 +4740,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getSofZmanTfilahAteretTorah() {
-		return getSofZmanTfila(getAlos72Zmanis(), getTzaisAteretTorah());
+		return getZonedDateTime(getSofZmanTfilahAteretTorahMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilahAteretTorah()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilahAteretTorah()
+	 * @deprecated See {@link #getSofZmanTfilahAteretTorah()}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getSofZmanTfilahAteretTorahMillis() {
+		return getSofZmanTfila(getAlos72ZmanisMillis(), getTzaisAteretTorahMillis());
 	}
 
 	/**
@@ -3024,7 +4781,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getMinchaGedolaAteretTorah() {
-		return getMinchaGedola(getAlos72Zmanis(), getTzaisAteretTorah());
+		return getZonedDateTime(getMinchaGedolaAteretTorahMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaGedolaAteretTorah()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaGedolaAteretTorah()
+	 */
+	public long getMinchaGedolaAteretTorahMillis() {
+		return getMinchaGedola(getAlos72ZmanisMillis(), getTzaisAteretTorahMillis());
 	}
 
 	/**
@@ -3051,7 +4819,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getMinchaKetanaAteretTorah() {
-		return getMinchaKetana(getAlos72Zmanis(), getTzaisAteretTorah());
+		return getZonedDateTime(getMinchaKetanaAteretTorahMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaKetanaAteretTorah()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaKetanaAteretTorah()
+	 */
+	public long getMinchaKetanaAteretTorahMillis() {
+		return getMinchaKetana(getAlos72ZmanisMillis(), getTzaisAteretTorahMillis());
 	}
 
 	/**
@@ -3073,7 +4852,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAteretTorahSunsetOffset()
 	 */
 	public ZonedDateTime getPlagHaminchaAteretTorah() {
-		return getPlagHamincha(getAlos72Zmanis(), getTzaisAteretTorah());
+		return getZonedDateTime(getPlagHaminchaAteretTorahMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHaminchaAteretTorah()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHaminchaAteretTorah()
+	 */
+	public long getPlagHaminchaAteretTorahMillis() {
+		return getPlagHamincha(getAlos72ZmanisMillis(), getTzaisAteretTorahMillis());
 	}
 
 	/**
@@ -3115,7 +4905,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos72Zmanis()
 	 */
 	public ZonedDateTime getTzais72Zmanis() {
-		return getZmanisBasedOffset(1.2);
+		return getZonedDateTime(getTzais72ZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzais72Zmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais72Zmanis()
+	 */
+	public long getTzais72ZmanisMillis() {
+		return getZmanisBasedOffsetMillis(1.2);
 	}
 	
 	/**
@@ -3123,24 +4924,24 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @param hours the number of <em>shaaos zmaniyos</em> (temporal hours) before sunrise or after sunset that defines dawn
 	 *        or dusk. If a negative number is passed in, it will return the time of <em>alos</em> (dawn) (subtracting the
 	 *        time from sunrise) and if a positive number is passed in, it will return the time of <em>tzais</em> (dusk)
-	 *        (adding the time to sunset). If 0 is passed in, a <code>null</code> will be returned (since we can't tell if it
+	 *        (adding the time to sunset). If 0 is passed in, {@link Long#MIN_VALUE} will be returned (since we can't tell if it
 	 *        is sunrise or sunset based).
-	 * @return the <code>Date</code> representing the time. If the calculation can't be computed such as in the Arctic
+	 * @return the time in milliseconds since the epoch representing the time. If the calculation can't be computed such as in the Arctic
 	 *         Circle where there is at least one day a year where the sun does not rise, and one where it does not set,
-	 *         a <code>null</code> will be returned. A <code>null</code> will also be returned if 0 is passed in, since we can't
+	 *         {@link Long#MIN_VALUE} will be returned. A {@link Long#MIN_VALUE} will also be returned if 0 is passed in, since we can't
 	 *         tell if it is sunrise or sunset based. See detailed explanation on top of the {@link AstronomicalCalendar}
 	 *         documentation.
 	 */
-	private ZonedDateTime getZmanisBasedOffset(double hours) {
+	private long getZmanisBasedOffsetMillis(double hours) {
 		long shaahZmanis = getShaahZmanisGra();
 		if (shaahZmanis == Long.MIN_VALUE || hours == 0) {
-			return null;
+			return Long.MIN_VALUE;
 		}
 
 		if (hours > 0) {
-			return getTimeOffset(getElevationAdjustedSunset(), (long) (shaahZmanis * hours));
+			return getTimeOffset(getElevationAdjustedSunsetMillis(), (long) (shaahZmanis * hours));
 		} else {
-			return getTimeOffset(getElevationAdjustedSunrise(), (long) (shaahZmanis * hours));
+			return getTimeOffset(getElevationAdjustedSunriseMillis(), (long) (shaahZmanis * hours));
 		}
 	}
 
@@ -3156,7 +4957,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos90Zmanis()
 	 */
 	public ZonedDateTime getTzais90Zmanis() {
-		return getZmanisBasedOffset(1.5);
+		return getZonedDateTime(getTzais90ZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzais90Zmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais90Zmanis()
+	 */
+	public long getTzais90ZmanisMillis() {
+		return getZmanisBasedOffsetMillis(1.5);
 	}
 
 	/**
@@ -3170,7 +4982,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos96Zmanis()
 	 */
 	public ZonedDateTime getTzais96Zmanis() {
-		return getZmanisBasedOffset(1.6);
+		return getZonedDateTime(getTzais96ZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzais96Zmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais96Zmanis()
+	 */
+	public long getTzais96ZmanisMillis() {
+		return getZmanisBasedOffsetMillis(1.6);
 	}
 
 	/**
@@ -3189,7 +5012,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos90()
 	 */
 	public ZonedDateTime getTzais90() {
-		return getTimeOffset(getElevationAdjustedSunset(), 90 * MINUTE_MILLIS);
+		return getZonedDateTime(getTzais90Millis());
+	}
+
+	/**
+	 * Returns {@link #getTzais90()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais90()
+	 */
+	public long getTzais90Millis() {
+		return getTimeOffset(getElevationAdjustedSunsetMillis(), 90 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -3215,7 +5049,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getTzais120() {
-		return getTimeOffset(getElevationAdjustedSunset(), 120 * MINUTE_MILLIS);
+		return getZonedDateTime(getTzais120Millis());
+	}
+
+	/**
+	 * Returns {@link #getTzais120()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais120()
+	 * @deprecated See {@link #getTzais120()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getTzais120Millis() {
+		return getTimeOffset(getElevationAdjustedSunsetMillis(), 120 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -3238,7 +5085,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getTzais120Zmanis() {
-		return getZmanisBasedOffset(2.0);
+		return getZonedDateTime(getTzais120ZmanisMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzais120Zmanis()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais120Zmanis()
+	 * @deprecated See {@link #getTzais120Zmanis()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getTzais120ZmanisMillis() {
+		return getZmanisBasedOffsetMillis(2.0);
 	}
 
 	/**
@@ -3262,7 +5122,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos16Point1Degrees() for more information on this calculation.
 	 */
 	public ZonedDateTime getTzais16Point1Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_16_POINT_1);
+		return getZonedDateTime(getTzais16Point1DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzais16Point1Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais16Point1Degrees()
+	 */
+	public long getTzais16Point1DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_16_POINT_1);
 	}
 
 	/**
@@ -3285,7 +5156,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getTzais26Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_26_DEGREES);
+		return getZonedDateTime(getTzais26DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzais26Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais26Degrees()
+	 * @deprecated See {@link #getTzais26Degrees()}.
+	 */
+	@Deprecated // (forRemoval=false) // add back once Java 9 is the minimum supported version
+	public long getTzais26DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_26_DEGREES);
 	}
 
 	/**
@@ -3298,7 +5182,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos18Degrees()
 	 */
 	public ZonedDateTime getTzais18Degrees() {
-		return getSunsetOffsetByDegrees(ASTRONOMICAL_ZENITH);
+		return getZonedDateTime(getTzais18DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzais18Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais18Degrees()
+	 */
+	public long getTzais18DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ASTRONOMICAL_ZENITH);
 	}
 
 	/**
@@ -3312,7 +5207,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos19Point8Degrees()
 	 */
 	public ZonedDateTime getTzais19Point8Degrees() {
-		return getSunsetOffsetByDegrees(ZENITH_19_POINT_8);
+		return getZonedDateTime(getTzais19Point8DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzais19Point8Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais19Point8Degrees()
+	 */
+	public long getTzais19Point8DegreesMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_19_POINT_8);
 	}
 
 	/**
@@ -3326,7 +5232,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos96()
 	 */
 	public ZonedDateTime getTzais96() {
-		return getTimeOffset(getElevationAdjustedSunset(), 96 * MINUTE_MILLIS);
+		return getZonedDateTime(getTzais96Millis());
+	}
+
+	/**
+	 * Returns {@link #getTzais96()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais96()
+	 */
+	public long getTzais96Millis() {
+		return getTimeOffset(getElevationAdjustedSunsetMillis(), 96 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -3348,8 +5265,19 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see GeoLocation#getLocalMeanTimeOffset()
 	 * @see AstronomicalCalendar#getLocalMeanTime(double)
 	 */
-	public ZonedDateTime getFixedLocalChatzos() {
-		return getLocalMeanTime(12.0);
+	public ZonedDateTime getFixedLocalChatzos() {
+		return getZonedDateTime(getFixedLocalChatzosMillis());
+	}
+
+	/**
+	 * Returns {@link #getFixedLocalChatzos()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getFixedLocalChatzos()
+	 */
+	public long getFixedLocalChatzosMillis() {
+		return getLocalMeanTimeMillis(12.0);
 	}
 
 	/**
@@ -3380,7 +5308,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (since="2.4.0", forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getSofZmanShmaFixedLocal() {
-		return getTimeOffset(getFixedLocalChatzos(), -180 * MINUTE_MILLIS);
+		return getZonedDateTime(getSofZmanShmaFixedLocalMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaFixedLocal()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaFixedLocal()
+	 * @deprecated See {@link #getSofZmanShmaFixedLocal()}.
+	 */
+	@Deprecated // (since="2.4.0", forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getSofZmanShmaFixedLocalMillis() {
+		return getTimeOffset(getFixedLocalChatzosMillis(), -180 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -3407,7 +5348,20 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (since="2.4.0", forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getSofZmanTfilaFixedLocal() {
-		return getTimeOffset(getFixedLocalChatzos(), -120 * MINUTE_MILLIS);
+		return getZonedDateTime(getSofZmanTfilaFixedLocalMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaFixedLocal()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaFixedLocal()
+	 * @deprecated See {@link #getSofZmanTfilaFixedLocal()}.
+	 */
+	@Deprecated // (since="2.4.0", forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getSofZmanTfilaFixedLocalMillis() {
+		return getTimeOffset(getFixedLocalChatzosMillis(), -120 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -3501,7 +5455,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see JewishCalendar#getSofZmanKidushLevanaBetweenMoldos()
 	 */
 	public ZonedDateTime getSofZmanKidushLevanaBetweenMoldos() {
-		return getSofZmanKidushLevanaBetweenMoldos(null, null); 
+		return getSofZmanKidushLevanaBetweenMoldos(null, null);
+	}
+
+	/**
+	 * Returns {@link #getSofZmanKidushLevanaBetweenMoldos()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanKidushLevanaBetweenMoldos()
+	 */
+	public long getSofZmanKidushLevanaBetweenMoldosMillis() {
+		return getEpochMillis(getSofZmanKidushLevanaBetweenMoldos());
 	}
 
 	/**
@@ -3569,6 +5534,17 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	public ZonedDateTime getSofZmanKidushLevana15Days() {
 		return getSofZmanKidushLevana15Days(null, null);
 	}
+
+	/**
+	 * Returns {@link #getSofZmanKidushLevana15Days()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanKidushLevana15Days()
+	 */
+	public long getSofZmanKidushLevana15DaysMillis() {
+		return getEpochMillis(getSofZmanKidushLevana15Days());
+	}
 	
 	/**
 	 * Returns the earliest time of <em>Kiddush Levana</em> according to <a href=
@@ -3586,6 +5562,17 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 		return getTchilasZmanKidushLevana3Days(null, null);
 	}
 
+	/**
+	 * Returns {@link #getTchilasZmanKidushLevana3Days()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTchilasZmanKidushLevana3Days()
+	 */
+	public long getTchilasZmanKidushLevana3DaysMillis() {
+		return getEpochMillis(getTchilasZmanKidushLevana3Days());
+	}
+
 	/**
 	 * Returns the earliest time of <em>Kiddush Levana</em> according to <a href=
 	 * "https://en.wikipedia.org/wiki/Yonah_Gerondi">Rabbeinu Yonah</a>'s opinion that it can be said 3 days after the <em>molad</em>.
@@ -3667,6 +5654,17 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 		}
 		return molad;
 	}
+
+	/**
+	 * Returns {@link #getZmanMolad()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getZmanMolad()
+	 */
+	public long getZmanMoladMillis() {
+		return getEpochMillis(getZmanMolad());
+	}
 	
 	/**
 	 * Used by Molad based <em>zmanim</em> to determine if <em>zmanim</em> occur during the current day.
@@ -3748,6 +5746,17 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 		return getTchilasZmanKidushLevana7Days(null, null);
 	}
 
+	/**
+	 * Returns {@link #getTchilasZmanKidushLevana7Days()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTchilasZmanKidushLevana7Days()
+	 */
+	public long getTchilasZmanKidushLevana7DaysMillis() {
+		return getEpochMillis(getTchilasZmanKidushLevana7Days());
+	}
+
 	/**
 	 * This method returns the latest time one is allowed eating <em>chametz</em> on <em>Erev Pesach</em> according to
 	 * the opinion of the<a href="https://en.wikipedia.org/wiki/Vilna_Gaon">GRA</a>. This time is identical to the {@link
@@ -3765,15 +5774,26 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @todo in v 3.0.0 enable the calendar check for erev pesach and return <code>null</code> in all other cases.
 	 */
 	public ZonedDateTime getSofZmanAchilasChametzGRA() {
+		return getZonedDateTime(getSofZmanAchilasChametzGRAMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanAchilasChametzGRA()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanAchilasChametzGRA()
+	 */
+	public long getSofZmanAchilasChametzGRAMillis() {
 		/*JewishCalendar jewishCalendar = new JewishCalendar();
 		jewishCalendar.setGregorianDate(getCalendar().get(Calendar.YEAR), getCalendar().get(Calendar.MONTH),
 				getCalendar().get(Calendar.DAY_OF_MONTH));
 		if (jewishCalendar.getJewishMonth() == JewishCalendar.NISSAN && jewishCalendar.getJewishDayOfMonth() == 14) { 
-			return getSofZmanTfilaGRA();
+			return getSofZmanTfilaGRAMillis();
 		} else {
-			return null;
+			return Long.MIN_VALUE;
 		}*/
-		return getSofZmanTfilaGRA();
+		return getSofZmanTfilaGRAMillis();
 	}
 
 	/**
@@ -3795,15 +5815,26 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getSofZmanTfilaMGA72Minutes()
 	 */
 	public ZonedDateTime getSofZmanAchilasChametzMGA72Minutes() {
+		return getZonedDateTime(getSofZmanAchilasChametzMGA72MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanAchilasChametzMGA72Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanAchilasChametzMGA72Minutes()
+	 */
+	public long getSofZmanAchilasChametzMGA72MinutesMillis() {
 		/*JewishCalendar jewishCalendar = new JewishCalendar();
 		jewishCalendar.setGregorianDate(getCalendar().get(Calendar.YEAR), getCalendar().get(Calendar.MONTH),
 				getCalendar().get(Calendar.DAY_OF_MONTH));
 		if (jewishCalendar.getJewishMonth() == JewishCalendar.NISSAN && jewishCalendar.getJewishDayOfMonth() == 14) {
-			return getSofZmanTfilaMGA72Minutes();
+			return getSofZmanTfilaMGA72MinutesMillis();
 		} else {
-			return null;
+			return Long.MIN_VALUE;
 		}*/
-		return getSofZmanTfilaMGA72Minutes();
+		return getSofZmanTfilaMGA72MinutesMillis();
 	}
 
 	/**
@@ -3825,15 +5856,26 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getSofZmanTfilaMGA16Point1Degrees()
 	 */
 	public ZonedDateTime getSofZmanAchilasChametzMGA16Point1Degrees() {
+		return getZonedDateTime(getSofZmanAchilasChametzMGA16Point1DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanAchilasChametzMGA16Point1Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanAchilasChametzMGA16Point1Degrees()
+	 */
+	public long getSofZmanAchilasChametzMGA16Point1DegreesMillis() {
 		/*JewishCalendar jewishCalendar = new JewishCalendar();
 		jewishCalendar.setGregorianDate(getCalendar().get(Calendar.YEAR), getCalendar().get(Calendar.MONTH),
 				getCalendar().get(Calendar.DAY_OF_MONTH));
 		if (jewishCalendar.getJewishMonth() == JewishCalendar.NISSAN && jewishCalendar.getJewishDayOfMonth() == 14) {
-			return getSofZmanTfilaMGA16Point1Degrees();
+			return getSofZmanTfilaMGA16Point1DegreesMillis();
 		} else {
-			return null;
+			return Long.MIN_VALUE;
 		}*/
-		return getSofZmanTfilaMGA16Point1Degrees();
+		return getSofZmanTfilaMGA16Point1DegreesMillis();
 	}
 
 	/**
@@ -3850,15 +5892,26 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getSofZmanBiurChametzGRA() {
+		return getZonedDateTime(getSofZmanBiurChametzGRAMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanBiurChametzGRA()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanBiurChametzGRA()
+	 */
+	public long getSofZmanBiurChametzGRAMillis() {
 		/*JewishCalendar jewishCalendar = new JewishCalendar();
 		jewishCalendar.setGregorianDate(getCalendar().get(Calendar.YEAR), getCalendar().get(Calendar.MONTH),
 				getCalendar().get(Calendar.DAY_OF_MONTH));
 		if (jewishCalendar.getJewishMonth() == JewishCalendar.NISSAN && jewishCalendar.getJewishDayOfMonth() == 14) {
-			return getTimeOffset(getElevationAdjustedSunrise(), getShaahZmanisGra() * 5);
+			return getTimeOffset(getElevationAdjustedSunriseMillis(), getShaahZmanisGra() * 5);
 		} else {
-			return null;
+			return Long.MIN_VALUE;
 		}*/
-		return getTimeOffset(getElevationAdjustedSunrise(), getShaahZmanisGra() * 5);
+		return getTimeOffset(getElevationAdjustedSunriseMillis(), getShaahZmanisGra() * 5);
 	}
 
 	/**
@@ -3878,15 +5931,26 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos72()
 	 */
 	public ZonedDateTime getSofZmanBiurChametzMGA72Minutes() {
+		return getZonedDateTime(getSofZmanBiurChametzMGA72MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanBiurChametzMGA72Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanBiurChametzMGA72Minutes()
+	 */
+	public long getSofZmanBiurChametzMGA72MinutesMillis() {
 		/*JewishCalendar jewishCalendar = new JewishCalendar();
 		jewishCalendar.setGregorianDate(getCalendar().get(Calendar.YEAR), getCalendar().get(Calendar.MONTH),
 				getCalendar().get(Calendar.DAY_OF_MONTH));
 		if (jewishCalendar.getJewishMonth() == JewishCalendar.NISSAN && jewishCalendar.getJewishDayOfMonth() == 14) {
-			return getTimeOffset(getAlos72(), getShaahZmanisMGA() * 5);
+			return getTimeOffset(getAlos72Millis(), getShaahZmanisMGA() * 5);
 		} else {
-			return null;
+			return Long.MIN_VALUE;
 		}*/
-		return getTimeOffset(getAlos72(), getShaahZmanisMGA() * 5);
+		return getTimeOffset(getAlos72Millis(), getShaahZmanisMGA() * 5);
 	}
 
 	/**
@@ -3908,15 +5972,26 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getAlos16Point1Degrees()
 	 */
 	public ZonedDateTime getSofZmanBiurChametzMGA16Point1Degrees() {
+		return getZonedDateTime(getSofZmanBiurChametzMGA16Point1DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanBiurChametzMGA16Point1Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanBiurChametzMGA16Point1Degrees()
+	 */
+	public long getSofZmanBiurChametzMGA16Point1DegreesMillis() {
 		/*JewishCalendar jewishCalendar = new JewishCalendar();
 		jewishCalendar.setGregorianDate(getCalendar().get(Calendar.YEAR), getCalendar().get(Calendar.MONTH),
 				getCalendar().get(Calendar.DAY_OF_MONTH));
 		if (jewishCalendar.getJewishMonth() == JewishCalendar.NISSAN && jewishCalendar.getJewishDayOfMonth() == 14) {
-			return getTimeOffset(getAlos16Point1Degrees(), getShaahZmanis16Point1Degrees() * 5);
+			return getTimeOffset(getAlos16Point1DegreesMillis(), getShaahZmanis16Point1Degrees() * 5);
 		} else {
-			return null;
+			return Long.MIN_VALUE;
 		}*/
-		return getTimeOffset(getAlos16Point1Degrees(), getShaahZmanis16Point1Degrees() * 5);
+		return getTimeOffset(getAlos16Point1DegreesMillis(), getShaahZmanis16Point1Degrees() * 5);
 	}
 
 	/**
@@ -3944,17 +6019,17 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * practical purposes, daytime <em>mitzvos</em> like <em>shofar</em> and <em>lulav</em> should not be done until after the
 	 * published time for <em>netz</em> / sunrise.
 	 * 
-	 * @return the <code>Date</code> representing the exact sea-level <em>netz amiti</em> (sunrise) time. If the calculation can't be
+	 * @return the time in milliseconds since the epoch representing the exact sea-level <em>netz amiti</em> (sunrise) time. If the calculation can't be
 	 *         computed such as in the Arctic Circle where there is at least one day a year where the sun does not rise, and one
-	 *         where it does not set, a <code>null</code> will be returned. See detailed explanation on top of the page.
+	 *         where it does not set, {@link Long#MIN_VALUE} will be returned. See detailed explanation on top of the page.
 	 * 
 	 * @see #getSunrise()
 	 * @see #getSeaLevelSunrise()
 	 * @see #getSunsetBaalHatanya()
 	 * @see #ZENITH_1_POINT_583
 	 */
-	private ZonedDateTime getSunriseBaalHatanya() {
-		return getSunriseOffsetByDegrees(ZENITH_1_POINT_583);
+	private long getSunriseBaalHatanyaMillis() {
+		return getSunriseOffsetByDegreesMillis(ZENITH_1_POINT_583);
 	}
 
 	/**
@@ -3974,9 +6049,9 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * <a href="https://www.chabad.org/library/article_cdo/aid/3209349/jewish/About-Our-Zmanim-Calculations.htm">About Our
 	 * <em>Zmanim</em> Calculations @ Chabad.org</a>.
 	 * 
-	 * @return the <code>Date</code> representing the exact sea-level <em>shkiah amiti</em> (sunset) time. If the calculation
+	 * @return the time in milliseconds since the epoch representing the exact sea-level <em>shkiah amiti</em> (sunset) time. If the calculation
 	 *         can't be computed such as in the Arctic Circle where there is at least one day a year where the sun does not
-	 *         rise, and one where it does not set, a <code>null</code> will be returned. See detailed explanation on top of
+	 *         rise, and one where it does not set, {@link Long#MIN_VALUE} will be returned. See detailed explanation on top of
 	 *         the {@link AstronomicalCalendar} documentation.
 	 * 
 	 * @see #getSunset()
@@ -3984,8 +6059,8 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getSunriseBaalHatanya()
 	 * @see #ZENITH_1_POINT_583
 	 */
-	private ZonedDateTime getSunsetBaalHatanya() {
-		return getSunsetOffsetByDegrees(ZENITH_1_POINT_583);
+	private long getSunsetBaalHatanyaMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_1_POINT_583);
 	}
 
 	/**
@@ -4015,7 +6090,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_1_POINT_583
 	 */
 	public long getShaahZmanisBaalHatanya() {
-		return getTemporalHour(getSunriseBaalHatanya(), getSunsetBaalHatanya());
+		return getTemporalHour(getSunriseBaalHatanyaMillis(), getSunsetBaalHatanyaMillis());
 	}
 
 	/**
@@ -4030,7 +6105,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getAlosBaalHatanya() {
-		return getSunriseOffsetByDegrees(ZENITH_16_POINT_9);
+		return getZonedDateTime(getAlosBaalHatanyaMillis());
+	}
+
+	/**
+	 * Returns {@link #getAlosBaalHatanya()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlosBaalHatanya()
+	 */
+	public long getAlosBaalHatanyaMillis() {
+		return getSunriseOffsetByDegreesMillis(ZENITH_16_POINT_9);
 	}
 
 	/**
@@ -4048,7 +6134,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getSofZmanShmaBaalHatanya() {
-		return getSofZmanShma(getSunriseBaalHatanya(), getSunsetBaalHatanya());
+		return getZonedDateTime(getSofZmanShmaBaalHatanyaMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaBaalHatanya()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaBaalHatanya()
+	 */
+	public long getSofZmanShmaBaalHatanyaMillis() {
+		return getSofZmanShma(getSunriseBaalHatanyaMillis(), getSunsetBaalHatanyaMillis());
 	}
 
 	/**
@@ -4065,7 +6162,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getSofZmanTfilaBaalHatanya() {
-		return getSofZmanTfila(getSunriseBaalHatanya(), getSunsetBaalHatanya());
+		return getZonedDateTime(getSofZmanTfilaBaalHatanyaMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaBaalHatanya()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaBaalHatanya()
+	 */
+	public long getSofZmanTfilaBaalHatanyaMillis() {
+		return getSofZmanTfila(getSunriseBaalHatanyaMillis(), getSunsetBaalHatanyaMillis());
 	}
 
 	/**
@@ -4083,15 +6191,26 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getSofZmanAchilasChametzBaalHatanya() {
+		return getZonedDateTime(getSofZmanAchilasChametzBaalHatanyaMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanAchilasChametzBaalHatanya()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanAchilasChametzBaalHatanya()
+	 */
+	public long getSofZmanAchilasChametzBaalHatanyaMillis() {
 		/*JewishCalendar jewishCalendar = new JewishCalendar();
 		jewishCalendar.setGregorianDate(getCalendar().get(Calendar.YEAR), getCalendar().get(Calendar.MONTH),
 				getCalendar().get(Calendar.DAY_OF_MONTH));
 		if (jewishCalendar.getJewishMonth() == JewishCalendar.NISSAN && jewishCalendar.getJewishDayOfMonth() == 14) {
-			return getSofZmanTfilaBaalHatanya();
+			return getSofZmanTfilaBaalHatanyaMillis();
 		} else {
-			return null;
+			return Long.MIN_VALUE;
 		}*/
-		return getSofZmanTfilaBaalHatanya();
+		return getSofZmanTfilaBaalHatanyaMillis();
 	}
 
 	/**
@@ -4107,15 +6226,26 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getSofZmanBiurChametzBaalHatanya() {
+		return getZonedDateTime(getSofZmanBiurChametzBaalHatanyaMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanBiurChametzBaalHatanya()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanBiurChametzBaalHatanya()
+	 */
+	public long getSofZmanBiurChametzBaalHatanyaMillis() {
 		/*JewishCalendar jewishCalendar = new JewishCalendar();
 		jewishCalendar.setGregorianDate(getCalendar().get(Calendar.YEAR), getCalendar().get(Calendar.MONTH),
 				getCalendar().get(Calendar.DAY_OF_MONTH));
 		if (jewishCalendar.getJewishMonth() == JewishCalendar.NISSAN && jewishCalendar.getJewishDayOfMonth() == 14) {
-			return getTimeOffset(getSunriseBaalHatanya(), getShaahZmanisBaalHatanya() * 5);
+			return getTimeOffset(getSunriseBaalHatanyaMillis(), getShaahZmanisBaalHatanya() * 5);
 		} else {
-			return null;
+			return Long.MIN_VALUE;
 		}*/
-		return getTimeOffset(getSunriseBaalHatanya(), getShaahZmanisBaalHatanya() * 5);
+		return getTimeOffset(getSunriseBaalHatanyaMillis(), getShaahZmanisBaalHatanya() * 5);
 	}
 
 	/**
@@ -4141,7 +6271,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getMinchaGedolaBaalHatanya() {
-		return getMinchaGedola(getSunriseBaalHatanya(), getSunsetBaalHatanya());
+		return getZonedDateTime(getMinchaGedolaBaalHatanyaMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaGedolaBaalHatanya()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaGedolaBaalHatanya()
+	 */
+	public long getMinchaGedolaBaalHatanyaMillis() {
+		return getMinchaGedola(getSunriseBaalHatanyaMillis(), getSunsetBaalHatanyaMillis());
 	}
 
 	/**
@@ -4158,12 +6299,23 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getMinchaGedolaBaalHatanyaGreaterThan30() {
-		if (getMinchaGedola30Minutes() == null || getMinchaGedolaBaalHatanya() == null) {
-			return null;
-		} else {
-			return getMinchaGedola30Minutes().compareTo(getMinchaGedolaBaalHatanya()) > 0 ? getMinchaGedola30Minutes()
-					: getMinchaGedolaBaalHatanya();
+		return getZonedDateTime(getMinchaGedolaBaalHatanyaGreaterThan30Millis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaGedolaBaalHatanyaGreaterThan30()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaGedolaBaalHatanyaGreaterThan30()
+	 */
+	public long getMinchaGedolaBaalHatanyaGreaterThan30Millis() {
+		long minchaGedola30 = getMinchaGedola30MinutesMillis();
+		long minchaGedola = getMinchaGedolaBaalHatanyaMillis();
+		if (minchaGedola30 == Long.MIN_VALUE || minchaGedola == Long.MIN_VALUE) {
+			return Long.MIN_VALUE;
 		}
+		return minchaGedola30 > minchaGedola ? minchaGedola30 : minchaGedola;
 	}
 
 	/**
@@ -4184,7 +6336,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getMinchaKetanaBaalHatanya() {
-		return getMinchaKetana(getSunriseBaalHatanya(), getSunsetBaalHatanya());
+		return getZonedDateTime(getMinchaKetanaBaalHatanyaMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaKetanaBaalHatanya()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaKetanaBaalHatanya()
+	 */
+	public long getMinchaKetanaBaalHatanyaMillis() {
+		return getMinchaKetana(getSunriseBaalHatanyaMillis(), getSunsetBaalHatanyaMillis());
 	}
 
 	/**
@@ -4200,7 +6363,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getPlagHaminchaBaalHatanya() {
-		return getPlagHamincha(getSunriseBaalHatanya(), getSunsetBaalHatanya());
+		return getZonedDateTime(getPlagHaminchaBaalHatanyaMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHaminchaBaalHatanya()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHaminchaBaalHatanya()
+	 */
+	public long getPlagHaminchaBaalHatanyaMillis() {
+		return getPlagHamincha(getSunriseBaalHatanyaMillis(), getSunsetBaalHatanyaMillis());
 	}
 
 	/**
@@ -4215,7 +6389,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #ZENITH_6_DEGREES
 	 */
 	public ZonedDateTime getTzaisBaalHatanya() {
-		return this.getSunsetOffsetByDegrees(ZENITH_6_DEGREES);
+		return getZonedDateTime(getTzaisBaalHatanyaMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzaisBaalHatanya()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzaisBaalHatanya()
+	 */
+	public long getTzaisBaalHatanyaMillis() {
+		return this.getSunsetOffsetByDegreesMillis(ZENITH_6_DEGREES);
 	}
 	
 	/**
@@ -4247,6 +6432,28 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
 	public ZonedDateTime getFixedLocalChatzosBasedZmanim(ZonedDateTime startOfHalfDay, ZonedDateTime endOfHalfDay, double hours) {
+		return getZonedDateTime(getFixedLocalChatzosBasedZmanim(getEpochMillis(startOfHalfDay), getEpochMillis(endOfHalfDay), hours));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getFixedLocalChatzosBasedZmanim(ZonedDateTime, ZonedDateTime,
+	 * double)} using times in milliseconds since the epoch.
+	 * 
+	 * @param startOfHalfDay
+	 *            the start of half day in milliseconds since the epoch. See {@link
+	 *            #getFixedLocalChatzosBasedZmanim(ZonedDateTime, ZonedDateTime, double)}.
+	 * @param endOfHalfDay
+	 *            the end of half day in milliseconds since the epoch. See {@link
+	 *            #getFixedLocalChatzosBasedZmanim(ZonedDateTime, ZonedDateTime, double)}.
+	 * @param hours
+	 *            the number of hours to offset the beginning of the first or second half of the day
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getFixedLocalChatzosBasedZmanim(ZonedDateTime, ZonedDateTime, double)
+	 * @deprecated See {@link #getFixedLocalChatzosBasedZmanim(ZonedDateTime, ZonedDateTime, double)}.
+	 */
+	@Deprecated // (forRemoval=true) // add back once Java 9 is the minimum supported version
+	public long getFixedLocalChatzosBasedZmanim(long startOfHalfDay, long endOfHalfDay, double hours) {
 		return getHalfDayBasedZman(startOfHalfDay, endOfHalfDay, hours);
 	}
 	
@@ -4267,7 +6474,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see ZmanimCalendar#getHalfDayBasedZman(Date, Date, double)
 	 */
 	public ZonedDateTime getSofZmanShmaMGA18DegreesToFixedLocalChatzos() {
-		return getHalfDayBasedZman(getAlos18Degrees(), getFixedLocalChatzos(), 3);
+		return getZonedDateTime(getSofZmanShmaMGA18DegreesToFixedLocalChatzosMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA18DegreesToFixedLocalChatzos()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA18DegreesToFixedLocalChatzos()
+	 */
+	public long getSofZmanShmaMGA18DegreesToFixedLocalChatzosMillis() {
+		return getHalfDayBasedZman(getAlos18DegreesMillis(), getFixedLocalChatzosMillis(), 3);
 	}
 	
 	/**
@@ -4287,7 +6505,19 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getHalfDayBasedZman(Date, Date, double)
 	 */
 	public ZonedDateTime getSofZmanShmaMGA16Point1DegreesToFixedLocalChatzos() {
-		return getHalfDayBasedZman(getAlos16Point1Degrees(), getFixedLocalChatzos(), 3);
+		return getZonedDateTime(getSofZmanShmaMGA16Point1DegreesToFixedLocalChatzosMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA16Point1DegreesToFixedLocalChatzos()} as the number of milliseconds since the
+	 * epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA16Point1DegreesToFixedLocalChatzos()
+	 */
+	public long getSofZmanShmaMGA16Point1DegreesToFixedLocalChatzosMillis() {
+		return getHalfDayBasedZman(getAlos16Point1DegreesMillis(), getFixedLocalChatzosMillis(), 3);
 	}
 	
 	/**
@@ -4308,7 +6538,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getHalfDayBasedZman(Date, Date, double)
 	 */
 	public ZonedDateTime getSofZmanShmaMGA90MinutesToFixedLocalChatzos() {
-		return getHalfDayBasedZman(getAlos90(), getFixedLocalChatzos(), 3);
+		return getZonedDateTime(getSofZmanShmaMGA90MinutesToFixedLocalChatzosMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA90MinutesToFixedLocalChatzos()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA90MinutesToFixedLocalChatzos()
+	 */
+	public long getSofZmanShmaMGA90MinutesToFixedLocalChatzosMillis() {
+		return getHalfDayBasedZman(getAlos90Millis(), getFixedLocalChatzosMillis(), 3);
 	}
 	
 	/**
@@ -4329,7 +6570,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getHalfDayBasedZman(Date, Date, double)
 	 */
 	public ZonedDateTime getSofZmanShmaMGA72MinutesToFixedLocalChatzos() {
-		return getHalfDayBasedZman(getAlos72(), getFixedLocalChatzos(), 3);
+		return getZonedDateTime(getSofZmanShmaMGA72MinutesToFixedLocalChatzosMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA72MinutesToFixedLocalChatzos()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA72MinutesToFixedLocalChatzos()
+	 */
+	public long getSofZmanShmaMGA72MinutesToFixedLocalChatzosMillis() {
+		return getHalfDayBasedZman(getAlos72Millis(), getFixedLocalChatzosMillis(), 3);
 	}
 		
 	/**
@@ -4349,7 +6601,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getHalfDayBasedZman(Date, Date, double)
 	 */
 	public ZonedDateTime getSofZmanShmaGRASunriseToFixedLocalChatzos() {
-		return getHalfDayBasedZman(getSunrise(), getFixedLocalChatzos(), 3);
+		return getZonedDateTime(getSofZmanShmaGRASunriseToFixedLocalChatzosMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaGRASunriseToFixedLocalChatzos()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaGRASunriseToFixedLocalChatzos()
+	 */
+	public long getSofZmanShmaGRASunriseToFixedLocalChatzosMillis() {
+		return getHalfDayBasedZman(getSunriseMillis(), getFixedLocalChatzosMillis(), 3);
 	}
 	
 	/**
@@ -4369,7 +6632,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getHalfDayBasedZman(Date, Date, double)
 	 */
 	public ZonedDateTime getSofZmanTfilaGRASunriseToFixedLocalChatzos() {
-		return getHalfDayBasedZman(getSunrise(), getFixedLocalChatzos(), 4);
+		return getZonedDateTime(getSofZmanTfilaGRASunriseToFixedLocalChatzosMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaGRASunriseToFixedLocalChatzos()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaGRASunriseToFixedLocalChatzos()
+	 */
+	public long getSofZmanTfilaGRASunriseToFixedLocalChatzosMillis() {
+		return getHalfDayBasedZman(getSunriseMillis(), getFixedLocalChatzosMillis(), 4);
 	}
 	
 	/**
@@ -4388,7 +6662,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see #getMinchaKetanaGRAFixedLocalChatzosToSunset
 	 */
 	public ZonedDateTime getMinchaGedolaGRAFixedLocalChatzos30Minutes() {
-		return getTimeOffset(getFixedLocalChatzos(), MINUTE_MILLIS * 30);
+		return getZonedDateTime(getMinchaGedolaGRAFixedLocalChatzos30MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaGedolaGRAFixedLocalChatzos30Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaGedolaGRAFixedLocalChatzos30Minutes()
+	 */
+	public long getMinchaGedolaGRAFixedLocalChatzos30MinutesMillis() {
+		return getTimeOffset(getFixedLocalChatzosMillis(), MINUTE_MILLIS * 30);
 	}
 	
 	/**
@@ -4409,7 +6694,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see ZmanimCalendar#getHalfDayBasedZman(Date, Date, double)
 	 */
 	public ZonedDateTime getMinchaKetanaGRAFixedLocalChatzosToSunset() {
-		return getHalfDayBasedZman(getFixedLocalChatzos(), getSunset(), 3.5);
+		return getZonedDateTime(getMinchaKetanaGRAFixedLocalChatzosToSunsetMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaKetanaGRAFixedLocalChatzosToSunset()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaKetanaGRAFixedLocalChatzosToSunset()
+	 */
+	public long getMinchaKetanaGRAFixedLocalChatzosToSunsetMillis() {
+		return getHalfDayBasedZman(getFixedLocalChatzosMillis(), getSunsetMillis(), 3.5);
 	}
 	
 	/**
@@ -4430,7 +6726,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see ZmanimCalendar#getHalfDayBasedZman(Date, Date, double)
 	 */
 	public ZonedDateTime getPlagHaminchaGRAFixedLocalChatzosToSunset() {
-		return getHalfDayBasedZman(getFixedLocalChatzos(), getSunset(), 4.75);
+		return getZonedDateTime(getPlagHaminchaGRAFixedLocalChatzosToSunsetMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHaminchaGRAFixedLocalChatzosToSunset()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHaminchaGRAFixedLocalChatzosToSunset()
+	 */
+	public long getPlagHaminchaGRAFixedLocalChatzosToSunsetMillis() {
+		return getHalfDayBasedZman(getFixedLocalChatzosMillis(), getSunsetMillis(), 4.75);
 	}
 	
 	/**
@@ -4444,7 +6751,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         documentation.
 	 */
 	public ZonedDateTime getTzais50() {
-		return getTimeOffset(getElevationAdjustedSunset(), 50 * MINUTE_MILLIS);
+		return getZonedDateTime(getTzais50Millis());
+	}
+
+	/**
+	 * Returns {@link #getTzais50()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais50()
+	 */
+	public long getTzais50Millis() {
+		return getTimeOffset(getElevationAdjustedSunsetMillis(), 50 * MINUTE_MILLIS);
 	}
 	
 	/**
@@ -4465,7 +6783,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getSamuchLeMinchaKetanaGRA() {
-		return getSamuchLeMinchaKetana(getElevationAdjustedSunrise(), getElevationAdjustedSunset());
+		return getZonedDateTime(getSamuchLeMinchaKetanaGRAMillis());
+	}
+
+	/**
+	 * Returns {@link #getSamuchLeMinchaKetanaGRA()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSamuchLeMinchaKetanaGRA()
+	 */
+	public long getSamuchLeMinchaKetanaGRAMillis() {
+		return getSamuchLeMinchaKetana(getElevationAdjustedSunriseMillis(), getElevationAdjustedSunsetMillis());
 	}
 	
 	/**
@@ -4483,7 +6812,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getSamuchLeMinchaKetana16Point1Degrees() {
-		return getSamuchLeMinchaKetana(getAlos16Point1Degrees(), getTzais16Point1Degrees());
+		return getZonedDateTime(getSamuchLeMinchaKetana16Point1DegreesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSamuchLeMinchaKetana16Point1Degrees()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSamuchLeMinchaKetana16Point1Degrees()
+	 */
+	public long getSamuchLeMinchaKetana16Point1DegreesMillis() {
+		return getSamuchLeMinchaKetana(getAlos16Point1DegreesMillis(), getTzais16Point1DegreesMillis());
 	}
 	
 	/**
@@ -4501,6 +6841,17 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 *         See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getSamuchLeMinchaKetana72Minutes() {
-		return getSamuchLeMinchaKetana(getAlos72(), getTzais72());
+		return getZonedDateTime(getSamuchLeMinchaKetana72MinutesMillis());
+	}
+
+	/**
+	 * Returns {@link #getSamuchLeMinchaKetana72Minutes()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSamuchLeMinchaKetana72Minutes()
+	 */
+	public long getSamuchLeMinchaKetana72MinutesMillis() {
+		return getSamuchLeMinchaKetana(getAlos72Millis(), getTzais72Millis());
 	}
 }
@@ -0,0 +1,145 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.EnumSet;
+
+/**
+ * An immutable snapshot of all the <em>zmanim</em> and <em>shaos zmaniyos</em> of a {@link ComplexZmanimCalendar} for a
+ * single day, created by {@link ComplexZmanimCalendar#getDailyZmanim()}. A page of <em>zmanim</em> that calls the
+ * getters one by one calculates the same sunrise, sunset, <em>chatzos</em> and dip below the horizon many times, since
+ * most <em>zmanim</em> are based on one or two of a few dozen such times. The snapshot calculates the <em>zmanim</em>
+ * of every {@link ZmanId} with {@link ComplexZmanimCalendar#getZmanim(EnumSet, long[])}, so each of these times is
+ * calculated only once, and keeps them as epoch milliseconds in a single <code>long</code> array indexed by the {@link
+ * ZmanId#ordinal() ordinal} of their identifier. The lengths of the <em>shaos zmaniyos</em> of every {@link
+ * ShaahZmanisId} are calculated with the same cached times and kept the same way.
+ * <p>
+ * A value is looked up by its identifier, so the value of {@link ComplexZmanimCalendar#getAlos72Millis()} is returned
+ * by {@link #getMillis(ZmanId) getMillis(ZmanId.ALOS_72)}. As with the getters, a <em>zman</em> that can't be computed
+ * is {@link Long#MIN_VALUE}. The length of {@link ComplexZmanimCalendar#getShaahZmanisGra()} is returned by {@link
+ * #getShaahZmanis(ShaahZmanisId) getShaahZmanis(ShaahZmanisId.SHAAH_ZMANIS_GRA)}. The values of a subclass of {@link
+ * ComplexZmanimCalendar} that overrides a getter are the ones of the override.
+ * 
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public final class DailyZmanim {
+	/**
+	 * The identifiers of all the <em>zmanim</em>.
+	 */
+	private static final EnumSet<ZmanId> ALL = EnumSet.allOf(ZmanId.class);
+
+	/**
+	 * The date of the <em>zmanim</em>.
+	 */
+	private final LocalDate date;
+
+	/**
+	 * The time zone of the <em>zmanim</em>.
+	 */
+	private final ZoneId zoneId;
+
+	/**
+	 * The values indexed by the {@link ZmanId#ordinal() ordinal} of their identifier.
+	 */
+	private final long[] values;
+
+	/**
+	 * The lengths of the <em>shaos zmaniyos</em> indexed by the {@link ShaahZmanisId#ordinal() ordinal} of their
+	 * identifier.
+	 */
+	private final long[] shaosZmaniyos;
+
+	/**
+	 * Calculates the snapshot of a calendar. The settings of the calendar are not changed.
+	 * 
+	 * @param calendar
+	 *            the calendar
+	 */
+	DailyZmanim(ComplexZmanimCalendar calendar) {
+		this.date = calendar.getCalendar().toLocalDate();
+		this.zoneId = calendar.getCalendar().getZone();
+		this.values = new long[ZmanId.COUNT];
+		this.shaosZmaniyos = new long[ShaahZmanisId.COUNT];
+		ComplexZmanimCalendar cached = calendar.getCachedCopy();
+		cached.getZmanim(ALL, values);
+		for (ShaahZmanisId shaahZmanis : ShaahZmanisId.values()) {
+			shaosZmaniyos[shaahZmanis.ordinal()] = cached.getShaahZmanis(shaahZmanis);
+		}
+	}
+
+	/**
+	 * Returns the date of the <em>zmanim</em>.
+	 * 
+	 * @return the date
+	 */
+	public LocalDate getDate() {
+		return date;
+	}
+
+	/**
+	 * Returns a <em>zman</em> as the number of milliseconds since the epoch.
+	 * 
+	 * @param zman
+	 *            the identifier of the <em>zman</em>, such as {@link ZmanId#ALOS_72}
+	 * @return the <em>zman</em>. If the calculation can't be computed, {@link Long#MIN_VALUE} will be returned.
+	 * @throws IllegalArgumentException
+	 *             if the identifier is <code>null</code>
+	 */
+	public long getMillis(ZmanId zman) {
+		if (zman == null) {
+			throw new IllegalArgumentException("The zman can't be null");
+		}
+		return values[zman.ordinal()];
+	}
+
+	/**
+	 * Returns a <em>zman</em> in the time zone of the calendar.
+	 * 
+	 * @param zman
+	 *            the identifier of the <em>zman</em>, such as {@link ZmanId#ALOS_72}
+	 * @return the <em>zman</em>. If the calculation can't be computed, a <code>null</code> will be returned.
+	 * @throws IllegalArgumentException
+	 *             if the identifier is <code>null</code>
+	 */
+	public ZonedDateTime getZonedDateTime(ZmanId zman) {
+		long millis = getMillis(zman);
+		if (millis == Long.MIN_VALUE) {
+			return null;
+		}
+		return Instant.ofEpochMilli(millis).atZone(zoneId);
+	}
+
+	/**
+	 * Returns the length of a <em>shaah zmanis</em> (temporal hour).
+	 * 
+	 * @param shaahZmanis
+	 *            the identifier of the <em>shaah zmanis</em>, such as {@link ShaahZmanisId#SHAAH_ZMANIS_GRA}
+	 * @return the <code>long</code> millisecond length of the <em>shaah zmanis</em>. If the calculation can't be
+	 *         computed, {@link Long#MIN_VALUE} will be returned.
+	 * @throws IllegalArgumentException
+	 *             if the identifier is <code>null</code>
+	 */
+	public long getShaahZmanis(ShaahZmanisId shaahZmanis) {
+		if (shaahZmanis == null) {
+			throw new IllegalArgumentException("The shaah zmanis can't be null");
+		}
+		return shaosZmaniyos[shaahZmanis.ordinal()];
+	}
+}
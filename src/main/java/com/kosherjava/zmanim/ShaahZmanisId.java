@@ -0,0 +1,94 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+/**
+ * The identifiers of the <em>shaos zmaniyos</em> (temporal hours) of the {@link ComplexZmanimCalendar}, one for each
+ * of its public getters of the length of a <em>shaah zmanis</em>, including the ones of the {@link ZmanimCalendar} and
+ * {@link AstronomicalCalendar} it extends. These are the counterpart of the {@link ZmanId identifiers of the
+ * zmanim} for lengths rather than times, used by {@link ComplexZmanimCalendar#getShaahZmanis(ShaahZmanisId)} and
+ * {@link DailyZmanim#getShaahZmanis(ShaahZmanisId)}. Since identifiers may be added in future versions, an identifier
+ * should be stored or sent by its {@link #name() name} rather than its {@link #ordinal() ordinal}.
+ * 
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public enum ShaahZmanisId {
+	/** {@link ComplexZmanimCalendar#getTemporalHour()} */
+	TEMPORAL_HOUR,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanisGra()} */
+	SHAAH_ZMANIS_GRA,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanisMGA()} */
+	SHAAH_ZMANIS_MGA,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanis19Point8Degrees()} */
+	SHAAH_ZMANIS_19_POINT_8_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanis18Degrees()} */
+	SHAAH_ZMANIS_18_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanis26Degrees()} */
+	SHAAH_ZMANIS_26_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanis16Point1Degrees()} */
+	SHAAH_ZMANIS_16_POINT_1_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanis60Minutes()} */
+	SHAAH_ZMANIS_60_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanis72Minutes()} */
+	SHAAH_ZMANIS_72_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanis72MinutesZmanis()} */
+	SHAAH_ZMANIS_72_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanis90Minutes()} */
+	SHAAH_ZMANIS_90_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanis90MinutesZmanis()} */
+	SHAAH_ZMANIS_90_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanis96MinutesZmanis()} */
+	SHAAH_ZMANIS_96_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanisAteretTorah()} */
+	SHAAH_ZMANIS_ATERET_TORAH,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanisAlos16Point1ToTzais3Point8()} */
+	SHAAH_ZMANIS_ALOS_16_POINT_1_TO_TZAIS_3_POINT_8,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanisAlos16Point1ToTzais3Point7()} */
+	SHAAH_ZMANIS_ALOS_16_POINT_1_TO_TZAIS_3_POINT_7,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanis96Minutes()} */
+	SHAAH_ZMANIS_96_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanis120Minutes()} */
+	SHAAH_ZMANIS_120_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanis120MinutesZmanis()} */
+	SHAAH_ZMANIS_120_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getShaahZmanisBaalHatanya()} */
+	SHAAH_ZMANIS_BAAL_HATANYA;
+
+	/**
+	 * The number of identifiers, which is the length of the array of the <em>shaos zmaniyos</em> of a
+	 * {@link DailyZmanim}.
+	 */
+	public static final int COUNT = values().length;
+}
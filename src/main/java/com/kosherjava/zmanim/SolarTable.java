@@ -0,0 +1,282 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.time.LocalDate;
+
+import com.kosherjava.zmanim.util.AstronomicalCalculator;
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * A table of sunrise, sunset, {@link AstronomicalCalendar#getSunTransit() sun transit} and the rise and set times of
+ * any number of additional zeniths for a range of consecutive days at a single location. This is intended for printing
+ * annual calendars (<em>luchos</em>) and similar bulk jobs, where calling the {@link AstronomicalCalendar} getters for
+ * every day means setting a new date, and running the full calculation for every <em>zman</em> on every day.
+ * <p>
+ * The table is calculated once on construction by incrementing the <a href="https://en.wikipedia.org/wiki/Julian_day"
+ * >Julian day</a> passed to the {@link AstronomicalCalculator}, and calculating all zeniths of each day in a single
+ * {@link AstronomicalCalculator#getUTCSunrisesAndSunsets(double, GeoLocation, double[], boolean, double[], double[])
+ * batch call}. The results are stored in parallel arrays (one per event) of milliseconds since the epoch, indexed by
+ * the day offset from the {@link #getStartDate() start date}. The values are identical to the ones returned by the
+ * matching <code>Millis</code> methods of an {@link AstronomicalCalendar} set to that date, and as there, an event that
+ * does not occur on a day is represented by {@link Long#MIN_VALUE}. Here is an example of printing the sunrise and
+ * 16.1&deg; <em>alos</em> (a zenith of 106.1&deg;) for the year 2024:
+ *
+ * <pre>
+ * SolarTable table = new SolarTable(location, AstronomicalCalculator.getDefault(), 2024,
+ * 		new double[] { AstronomicalCalendar.GEOMETRIC_ZENITH + 16.1 });
+ * long[] sunrises = table.getSunrises();
+ * long[] alos = table.getSunrises(0);
+ * for (int i = 0; i &lt; table.getDays(); i++) {
+ * 	System.out.println(table.getDate(i) + &quot; &quot; + alos[i] + &quot; &quot; + sunrises[i]);
+ * }
+ * </pre>
+ *
+ * @see AstronomicalCalendar
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public class SolarTable {
+	/**
+	 * The first date of the table.
+	 */
+	private final LocalDate startDate;
+
+	/**
+	 * The number of days in the table.
+	 */
+	private final int days;
+
+	/**
+	 * The additional zeniths calculated.
+	 */
+	private final double[] zeniths;
+
+	/**
+	 * The elevation adjusted sunrise of each day.
+	 */
+	private final long[] sunrises;
+
+	/**
+	 * The elevation adjusted sunset of each day.
+	 */
+	private final long[] sunsets;
+
+	/**
+	 * The sun transit of each day.
+	 */
+	private final long[] sunTransits;
+
+	/**
+	 * The rise times of each of the {@link #zeniths} indexed by zenith and then by day.
+	 */
+	private final long[][] zenithSunrises;
+
+	/**
+	 * The set times of each of the {@link #zeniths} indexed by zenith and then by day.
+	 */
+	private final long[][] zenithSunsets;
+
+	/**
+	 * Calculates a table for a range of days.
+	 *
+	 * @param geoLocation
+	 *            the location to calculate the table for
+	 * @param astronomicalCalculator
+	 *            the calculator to use
+	 * @param startDate
+	 *            the first date of the table
+	 * @param days
+	 *            the number of days to calculate
+	 * @param zeniths
+	 *            the zeniths to calculate rise and set times for in addition to sunrise and sunset, such as {@link
+	 *            AstronomicalCalendar#CIVIL_ZENITH} or 106.1&deg; for <em>alos</em> 16.1&deg;. As with {@link
+	 *            AstronomicalCalendar#getSunriseOffsetByDegrees(double)}, these times are not adjusted for elevation
+	 *            unless the zenith is exactly {@link AstronomicalCalendar#GEOMETRIC_ZENITH}. May be empty.
+	 * @throws IllegalArgumentException
+	 *             if any of the objects are <code>null</code> or the number of days is negative
+	 */
+	public SolarTable(GeoLocation geoLocation, AstronomicalCalculator astronomicalCalculator, LocalDate startDate,
+			int days, double[] zeniths) {
+		if (geoLocation == null || astronomicalCalculator == null || startDate == null || zeniths == null) {
+			throw new IllegalArgumentException("The location, calculator, start date and zeniths can't be null");
+		}
+		if (days < 0) {
+			throw new IllegalArgumentException("The number of days can't be negative: " + days);
+		}
+		this.startDate = startDate;
+		this.days = days;
+		this.zeniths = zeniths.clone();
+		sunrises = new long[days];
+		sunsets = new long[days];
+		sunTransits = new long[days];
+		zenithSunrises = new long[zeniths.length][days];
+		zenithSunsets = new long[zeniths.length][days];
+		calculate(geoLocation, astronomicalCalculator);
+	}
+
+	/**
+	 * Calculates a table for a full Gregorian year.
+	 *
+	 * @param geoLocation
+	 *            the location to calculate the table for
+	 * @param astronomicalCalculator
+	 *            the calculator to use
+	 * @param year
+	 *            the Gregorian year
+	 * @param zeniths
+	 *            the zeniths to calculate rise and set times for in addition to sunrise and sunset. See {@link
+	 *            #SolarTable(GeoLocation, AstronomicalCalculator, LocalDate, int, double[])}.
+	 * @throws IllegalArgumentException
+	 *             if any of the objects are <code>null</code>
+	 */
+	public SolarTable(GeoLocation geoLocation, AstronomicalCalculator astronomicalCalculator, int year,
+			double[] zeniths) {
+		this(geoLocation, astronomicalCalculator, LocalDate.of(year, 1, 1), LocalDate.of(year, 1, 1).lengthOfYear(),
+				zeniths);
+	}
+
+	/**
+	 * Fills the tables. Sunrise and sunset are calculated as the first zenith of the batch, so that every day requires
+	 * only a single call to the calculator in addition to the one for the sun transit.
+	 *
+	 * @param geoLocation
+	 *            the location
+	 * @param calculator
+	 *            the calculator
+	 */
+	private void calculate(GeoLocation geoLocation, AstronomicalCalculator calculator) {
+		double[] batchZeniths = new double[zeniths.length + 1];
+		batchZeniths[0] = AstronomicalCalendar.GEOMETRIC_ZENITH;
+		System.arraycopy(zeniths, 0, batchZeniths, 1, zeniths.length);
+		double[] utcSunrises = new double[batchZeniths.length];
+		double[] utcSunsets = new double[batchZeniths.length];
+
+		double longitude = geoLocation.getLongitude();
+		int antimeridianAdjustment = geoLocation.getAntimeridianAdjustment();
+		long epochDay = startDate.toEpochDay() + antimeridianAdjustment;
+		double julianDay = AstronomicalCalculator.getJulianDay(startDate) + antimeridianAdjustment;
+		for (int day = 0; day < days; day++, epochDay++, julianDay++) {
+			calculator.getUTCSunrisesAndSunsets(julianDay, geoLocation, batchZeniths, true, utcSunrises, utcSunsets);
+			sunrises[day] = AstronomicalCalendar.getEpochMillisFromTime(epochDay, longitude, utcSunrises[0], true);
+			sunsets[day] = AstronomicalCalendar.getEpochMillisFromTime(epochDay, longitude, utcSunsets[0], false);
+			for (int i = 0; i < zeniths.length; i++) {
+				zenithSunrises[i][day] = AstronomicalCalendar.getEpochMillisFromTime(epochDay, longitude,
+						utcSunrises[i + 1], true);
+				zenithSunsets[i][day] = AstronomicalCalendar.getEpochMillisFromTime(epochDay, longitude,
+						utcSunsets[i + 1], false);
+			}
+			sunTransits[day] = AstronomicalCalendar.getEpochMillisFromTime(epochDay, longitude,
+					calculator.getUTCNoon(julianDay, geoLocation), false);
+		}
+	}
+
+	/**
+	 * Returns the first date of the table.
+	 *
+	 * @return the start date
+	 */
+	public LocalDate getStartDate() {
+		return startDate;
+	}
+
+	/**
+	 * Returns the number of days in the table. This is the length of all the arrays returned by this class.
+	 *
+	 * @return the number of days
+	 */
+	public int getDays() {
+		return days;
+	}
+
+	/**
+	 * Returns the date of a row of the table.
+	 *
+	 * @param index
+	 *            the day offset from the {@link #getStartDate() start date}
+	 * @return the date
+	 */
+	public LocalDate getDate(int index) {
+		return startDate.plusDays(index);
+	}
+
+	/**
+	 * Returns the additional zeniths the table was calculated for.
+	 *
+	 * @return a copy of the zeniths
+	 */
+	public double[] getZeniths() {
+		return zeniths.clone();
+	}
+
+	/**
+	 * Returns the {@link AstronomicalCalendar#getSunriseMillis() elevation adjusted sunrise} of every day. To avoid
+	 * copying, the array returned is the one used by the table and should not be modified.
+	 *
+	 * @return the sunrises in milliseconds since the epoch, with {@link Long#MIN_VALUE} for days without a sunrise.
+	 */
+	public long[] getSunrises() {
+		return sunrises;
+	}
+
+	/**
+	 * Returns the {@link AstronomicalCalendar#getSunsetMillis() elevation adjusted sunset} of every day. To avoid
+	 * copying, the array returned is the one used by the table and should not be modified.
+	 *
+	 * @return the sunsets in milliseconds since the epoch, with {@link Long#MIN_VALUE} for days without a sunset.
+	 */
+	public long[] getSunsets() {
+		return sunsets;
+	}
+
+	/**
+	 * Returns the {@link AstronomicalCalendar#getSunTransitMillis() sun transit} of every day. To avoid copying, the
+	 * array returned is the one used by the table and should not be modified.
+	 *
+	 * @return the sun transits in milliseconds since the epoch, with {@link Long#MIN_VALUE} for days where it can't be
+	 *         calculated.
+	 */
+	public long[] getSunTransits() {
+		return sunTransits;
+	}
+
+	/**
+	 * Returns the {@link AstronomicalCalendar#getSunriseOffsetByDegreesMillis(double) rise time} of one of the
+	 * {@link #getZeniths() zeniths} for every day. To avoid copying, the array returned is the one used by the table
+	 * and should not be modified.
+	 *
+	 * @param zenithIndex
+	 *            the index of the zenith in the array of zeniths passed to the constructor
+	 * @return the times in milliseconds since the epoch, with {@link Long#MIN_VALUE} for days where the sun does not
+	 *         reach the zenith.
+	 */
+	public long[] getSunrises(int zenithIndex) {
+		return zenithSunrises[zenithIndex];
+	}
+
+	/**
+	 * Returns the {@link AstronomicalCalendar#getSunsetOffsetByDegreesMillis(double) set time} of one of the
+	 * {@link #getZeniths() zeniths} for every day. To avoid copying, the array returned is the one used by the table
+	 * and should not be modified.
+	 *
+	 * @param zenithIndex
+	 *            the index of the zenith in the array of zeniths passed to the constructor
+	 * @return the times in milliseconds since the epoch, with {@link Long#MIN_VALUE} for days where the sun does not
+	 *         reach the zenith.
+	 */
+	public long[] getSunsets(int zenithIndex) {
+		return zenithSunsets[zenithIndex];
+	}
+}
@@ -0,0 +1,430 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+/**
+ * An immutable definition of a <em>zman</em> as data rather than code. Most <em>zmanim</em> are compositions of a few
+ * building blocks, such as {@link ComplexZmanimCalendar#getAlos72() <em>alos</em> 72}, defined as 72 minutes before
+ * sunrise, or {@link ComplexZmanimCalendar#getSofZmanShmaMGA16Point1Degrees() <em>sof zman shma</em> MGA 16.1&deg;},
+ * defined as 3 <em>shaos zmaniyos</em> after <em>alos</em> 16.1&deg; of a day ending at <em>tzais</em> 16.1&deg;. A
+ * definition is either such a building block, or refers to the definitions it is based on, forming a graph that a
+ * {@link ZmanPlan} evaluates. The building blocks are:
+ * <ul>
+ * <li>{@link #sunrise() sunrise} and {@link #sunset() sunset}, adjusted for elevation if the calendar
+ * {@link ZmanimCalendar#isUseElevation() uses elevation}, and {@link #seaLevelSunrise() sea level sunrise} and
+ * {@link #seaLevelSunset() sea level sunset}.</li>
+ * <li>The time the sun is a number of {@link #degreesBeforeSunrise(double) degrees below the horizon before sunrise} or
+ * {@link #degreesAfterSunset(double) after sunset}.</li>
+ * <li>{@link #chatzos() <em>Chatzos</em>} and {@link #localMeanTime(double) local mean time}.</li>
+ * <li>A {@link #offset(ZmanDefinition, double) fixed offset} in minutes, and a
+ * {@link #zmanisOffset(ZmanDefinition, ZmanDefinition, ZmanDefinition, double) zmaniyos offset} in <em>shaos
+ * zmaniyos</em> of a day, from another <em>zman</em>.</li>
+ * <li>A number of <em>shaos zmaniyos</em> into a {@link #shaahZmanisBased(ZmanDefinition, ZmanDefinition, double)
+ * day} or a {@link #halfDayBased(ZmanDefinition, ZmanDefinition, double) half-day}.</li>
+ * </ul>
+ * Two definitions are equal if they define the same calculation, so a {@link ZmanPlan} calculates a <em>zman</em> that
+ * is shared by a number of definitions only once. The building blocks are calculated by the same methods of the
+ * {@link ZmanimCalendar} that its getters use, so a definition of a <em>zman</em> has the same result as its getter.
+ * 
+ * @see ZmanPlan
+ * @see ZmanRegistry
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public final class ZmanDefinition {
+	/** The type of {@link #sunrise()}. */
+	static final int SUNRISE = 0;
+
+	/** The type of {@link #sunset()}. */
+	static final int SUNSET = 1;
+
+	/** The type of {@link #seaLevelSunrise()}. */
+	static final int SEA_LEVEL_SUNRISE = 2;
+
+	/** The type of {@link #seaLevelSunset()}. */
+	static final int SEA_LEVEL_SUNSET = 3;
+
+	/** The type of {@link #degreesBeforeSunrise(double)}. */
+	static final int DEGREES_BEFORE_SUNRISE = 4;
+
+	/** The type of {@link #degreesAfterSunset(double)}. */
+	static final int DEGREES_AFTER_SUNSET = 5;
+
+	/** The type of {@link #chatzos()}. */
+	static final int CHATZOS = 6;
+
+	/** The type of {@link #localMeanTime(double)}. */
+	static final int LOCAL_MEAN_TIME = 7;
+
+	/** The type of {@link #offset(ZmanDefinition, double)}. */
+	static final int OFFSET = 8;
+
+	/** The type of {@link #zmanisOffset(ZmanDefinition, ZmanDefinition, ZmanDefinition, double)}. */
+	static final int ZMANIS_OFFSET = 9;
+
+	/** The type of {@link #shaahZmanisBased(ZmanDefinition, ZmanDefinition, double)}. */
+	static final int SHAAH_ZMANIS_BASED = 10;
+
+	/** The type of {@link #halfDayBased(ZmanDefinition, ZmanDefinition, double)}. */
+	static final int HALF_DAY_BASED = 11;
+
+	private static final ZmanDefinition SUNRISE_DEFINITION = new ZmanDefinition(SUNRISE, 0, null, null, null);
+
+	private static final ZmanDefinition SUNSET_DEFINITION = new ZmanDefinition(SUNSET, 0, null, null, null);
+
+	private static final ZmanDefinition SEA_LEVEL_SUNRISE_DEFINITION = new ZmanDefinition(SEA_LEVEL_SUNRISE, 0, null,
+			null, null);
+
+	private static final ZmanDefinition SEA_LEVEL_SUNSET_DEFINITION = new ZmanDefinition(SEA_LEVEL_SUNSET, 0, null,
+			null, null);
+
+	private static final ZmanDefinition CHATZOS_DEFINITION = new ZmanDefinition(CHATZOS, 0, null, null, null);
+
+	/** The type of the definition. */
+	final int type;
+
+	/** The degrees, local mean time, minutes or hours of the definition, depending on its type. */
+	final double value;
+
+	/** The <em>zman</em> an offset is from, or <code>null</code>. */
+	final ZmanDefinition reference;
+
+	/** The start of the day or half-day, or <code>null</code>. */
+	final ZmanDefinition start;
+
+	/** The end of the day or half-day, or <code>null</code>. */
+	final ZmanDefinition end;
+
+	/** The hash code, calculated once since definitions are often nested. */
+	private final int hashCode;
+
+	private ZmanDefinition(int type, double value, ZmanDefinition reference, ZmanDefinition start,
+			ZmanDefinition end) {
+		this.type = type;
+		this.value = value + 0.0; // no negative zero, which would not be equal to zero
+		this.reference = reference;
+		this.start = start;
+		this.end = end;
+		int hash = type;
+		hash = 31 * hash + Double.valueOf(this.value).hashCode();
+		hash = 31 * hash + (reference == null ? 0 : reference.hashCode());
+		hash = 31 * hash + (start == null ? 0 : start.hashCode());
+		hash = 31 * hash + (end == null ? 0 : end.hashCode());
+		this.hashCode = hash;
+	}
+
+	/**
+	 * Returns sunrise, adjusted for elevation if the calendar {@link ZmanimCalendar#isUseElevation() uses elevation}.
+	 * This is the sunrise used by the <em>zmanim</em> of the {@link ZmanimCalendar}.
+	 * 
+	 * @return the definition
+	 */
+	public static ZmanDefinition sunrise() {
+		return SUNRISE_DEFINITION;
+	}
+
+	/**
+	 * Returns sunset, adjusted for elevation if the calendar {@link ZmanimCalendar#isUseElevation() uses elevation}.
+	 * This is the sunset used by the <em>zmanim</em> of the {@link ZmanimCalendar}.
+	 * 
+	 * @return the definition
+	 */
+	public static ZmanDefinition sunset() {
+		return SUNSET_DEFINITION;
+	}
+
+	/**
+	 * Returns {@link AstronomicalCalendar#getSeaLevelSunrise() sea level sunrise}.
+	 * 
+	 * @return the definition
+	 */
+	public static ZmanDefinition seaLevelSunrise() {
+		return SEA_LEVEL_SUNRISE_DEFINITION;
+	}
+
+	/**
+	 * Returns {@link AstronomicalCalendar#getSeaLevelSunset() sea level sunset}.
+	 * 
+	 * @return the definition
+	 */
+	public static ZmanDefinition seaLevelSunset() {
+		return SEA_LEVEL_SUNSET_DEFINITION;
+	}
+
+	/**
+	 * Returns the time the sun is a number of degrees below the eastern horizon before sunrise, such as 16.1 for
+	 * {@link ComplexZmanimCalendar#getAlos16Point1Degrees() <em>alos</em> 16.1&deg;}.
+	 * 
+	 * @param degrees
+	 *            the degrees below the {@link AstronomicalCalendar#GEOMETRIC_ZENITH geometric horizon}
+	 * @return the definition
+	 * @throws IllegalArgumentException
+	 *             if the degrees are {@link Double#NaN} or infinite
+	 * @see AstronomicalCalendar#getSunriseOffsetByDegrees(double)
+	 */
+	public static ZmanDefinition degreesBeforeSunrise(double degrees) {
+		checkFinite(degrees, "Degrees");
+		return new ZmanDefinition(DEGREES_BEFORE_SUNRISE, degrees, null, null, null);
+	}
+
+	/**
+	 * Returns the time the sun is a number of degrees below the western horizon after sunset, such as 8.5 for
+	 * {@link ComplexZmanimCalendar#getTzaisGeonim8Point5Degrees() <em>tzais</em> 8.5&deg;}.
+	 * 
+	 * @param degrees
+	 *            the degrees below the {@link AstronomicalCalendar#GEOMETRIC_ZENITH geometric horizon}
+	 * @return the definition
+	 * @throws IllegalArgumentException
+	 *             if the degrees are {@link Double#NaN} or infinite
+	 * @see AstronomicalCalendar#getSunsetOffsetByDegrees(double)
+	 */
+	public static ZmanDefinition degreesAfterSunset(double degrees) {
+		checkFinite(degrees, "Degrees");
+		return new ZmanDefinition(DEGREES_AFTER_SUNSET, degrees, null, null, null);
+	}
+
+	/**
+	 * Returns {@link ZmanimCalendar#getChatzos() <em>chatzos</em>}, which is astronomical or half-day
+	 * <em>chatzos</em> depending on the settings of the calendar.
+	 * 
+	 * @return the definition
+	 */
+	public static ZmanDefinition chatzos() {
+		return CHATZOS_DEFINITION;
+	}
+
+	/**
+	 * Returns a {@link AstronomicalCalendar#getLocalMeanTime(double) local mean time}, such as 12 for
+	 * {@link ComplexZmanimCalendar#getFixedLocalChatzos() fixed local <em>chatzos</em>}.
+	 * 
+	 * @param hours
+	 *            the local mean time in hours, from 0 to less than 24
+	 * @return the definition
+	 * @throws IllegalArgumentException
+	 *             if the hours are not between 0 and 24
+	 */
+	public static ZmanDefinition localMeanTime(double hours) {
+		if (!(hours >= 0 && hours < 24)) {
+			throw new IllegalArgumentException("Hours must between 0 and 23.9999...");
+		}
+		return new ZmanDefinition(LOCAL_MEAN_TIME, hours, null, null, null);
+	}
+
+	/**
+	 * Returns a <em>zman</em> a fixed number of minutes after another one, such as -72 from {@link #sunrise()} for
+	 * {@link ZmanimCalendar#getAlos72() <em>alos</em> 72}.
+	 * 
+	 * @param reference
+	 *            the <em>zman</em> the offset is from
+	 * @param minutes
+	 *            the minutes after the <em>zman</em>, or before it if negative
+	 * @return the definition
+	 * @throws IllegalArgumentException
+	 *             if the reference is <code>null</code> or the minutes are {@link Double#NaN} or infinite
+	 */
+	public static ZmanDefinition offset(ZmanDefinition reference, double minutes) {
+		checkNotNull(reference, "reference");
+		checkFinite(minutes, "Minutes");
+		return new ZmanDefinition(OFFSET, minutes, reference, null, null);
+	}
+
+	/**
+	 * Returns a <em>zman</em> a number of <em>shaos zmaniyos</em> of a day after another one, such as -1.2
+	 * <em>shaos zmaniyos</em> of the day from {@link #sunrise()} to {@link #sunset()} before sunrise for
+	 * {@link ComplexZmanimCalendar#getAlos72Zmanis() <em>alos</em> 72 zmaniyos}.
+	 * 
+	 * @param reference
+	 *            the <em>zman</em> the offset is from
+	 * @param startOfDay
+	 *            the start of the day the <em>shaos zmaniyos</em> are of
+	 * @param endOfDay
+	 *            the end of the day the <em>shaos zmaniyos</em> are of
+	 * @param hours
+	 *            the <em>shaos zmaniyos</em> after the <em>zman</em>, or before it if negative
+	 * @return the definition
+	 * @throws IllegalArgumentException
+	 *             if a <em>zman</em> is <code>null</code> or the hours are {@link Double#NaN} or infinite
+	 */
+	public static ZmanDefinition zmanisOffset(ZmanDefinition reference, ZmanDefinition startOfDay,
+			ZmanDefinition endOfDay, double hours) {
+		checkNotNull(reference, "reference");
+		checkNotNull(startOfDay, "start of day");
+		checkNotNull(endOfDay, "end of day");
+		checkFinite(hours, "Hours");
+		return new ZmanDefinition(ZMANIS_OFFSET, hours, reference, startOfDay, endOfDay);
+	}
+
+	/**
+	 * Returns a <em>zman</em> a number of <em>shaos zmaniyos</em> after the start of a day, such as 3 for
+	 * {@link ZmanimCalendar#getSofZmanShmaGRA() <em>sof zman shma</em> GRA} with a day from {@link #sunrise()} to
+	 * {@link #sunset()}.
+	 * 
+	 * @param startOfDay
+	 *            the start of the day
+	 * @param endOfDay
+	 *            the end of the day
+	 * @param hours
+	 *            the <em>shaos zmaniyos</em> after the start of the day
+	 * @return the definition
+	 * @throws IllegalArgumentException
+	 *             if a <em>zman</em> is <code>null</code> or the hours are {@link Double#NaN} or infinite
+	 * @see ZmanimCalendar#getShaahZmanisBasedZman(long, long, double)
+	 */
+	public static ZmanDefinition shaahZmanisBased(ZmanDefinition startOfDay, ZmanDefinition endOfDay, double hours) {
+		checkNotNull(startOfDay, "start of day");
+		checkNotNull(endOfDay, "end of day");
+		checkFinite(hours, "Hours");
+		return new ZmanDefinition(SHAAH_ZMANIS_BASED, hours, null, startOfDay, endOfDay);
+	}
+
+	/**
+	 * Returns a <em>zman</em> a number of <em>shaos zmaniyos</em> of a half-day, each 1/6 of it, after its start, or
+	 * before its end if negative, such as 3 for <em>sof zman shma</em> of a half-day from {@link #sunrise()} to
+	 * {@link #localMeanTime(double) fixed local <em>chatzos</em>}.
+	 * 
+	 * @param startOfHalfDay
+	 *            the start of the half-day
+	 * @param endOfHalfDay
+	 *            the end of the half-day
+	 * @param hours
+	 *            the <em>shaos zmaniyos</em> after the start of the half-day, or before its end if negative
+	 * @return the definition
+	 * @throws IllegalArgumentException
+	 *             if a <em>zman</em> is <code>null</code> or the hours are {@link Double#NaN} or infinite
+	 * @see ZmanimCalendar#getHalfDayBasedZman(long, long, double)
+	 */
+	public static ZmanDefinition halfDayBased(ZmanDefinition startOfHalfDay, ZmanDefinition endOfHalfDay,
+			double hours) {
+		checkNotNull(startOfHalfDay, "start of half-day");
+		checkNotNull(endOfHalfDay, "end of half-day");
+		checkFinite(hours, "Hours");
+		return new ZmanDefinition(HALF_DAY_BASED, hours, null, startOfHalfDay, endOfHalfDay);
+	}
+
+	private static void checkNotNull(ZmanDefinition definition, String name) {
+		if (definition == null) {
+			throw new IllegalArgumentException("The " + name + " can't be null");
+		}
+	}
+
+	private static void checkFinite(double value, String name) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			throw new IllegalArgumentException(name + " must be a finite number");
+		}
+	}
+
+	/**
+	 * @see java.lang.Object#equals(Object)
+	 */
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (!(object instanceof ZmanDefinition)) {
+			return false;
+		}
+		ZmanDefinition definition = (ZmanDefinition) object;
+		return type == definition.type && hashCode == definition.hashCode
+				&& Double.doubleToLongBits(value) == Double.doubleToLongBits(definition.value)
+				&& equals(reference, definition.reference) && equals(start, definition.start)
+				&& equals(end, definition.end);
+	}
+
+	private static boolean equals(ZmanDefinition first, ZmanDefinition second) {
+		return first == null ? second == null : first.equals(second);
+	}
+
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	public int hashCode() {
+		return hashCode;
+	}
+
+	/**
+	 * Returns the definition as a {@link ZmanExpression zman expression}, such as
+	 * "shaahZmanisBased(offset(sunrise, -72), offset(sunset, 72), 3)", that compiles back to an equal definition.
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		append(sb);
+		return sb.toString();
+	}
+
+	/**
+	 * Appends the definition as a {@link ZmanExpression zman expression}.
+	 * 
+	 * @param sb
+	 *            the builder to append to
+	 */
+	private void append(StringBuilder sb) {
+		switch (type) {
+		case SUNRISE:
+			sb.append("sunrise");
+			return;
+		case SUNSET:
+			sb.append("sunset");
+			return;
+		case SEA_LEVEL_SUNRISE:
+			sb.append("seaLevelSunrise");
+			return;
+		case SEA_LEVEL_SUNSET:
+			sb.append("seaLevelSunset");
+			return;
+		case CHATZOS:
+			sb.append("chatzos");
+			return;
+		case DEGREES_BEFORE_SUNRISE:
+			sb.append("degreesBeforeSunrise(");
+			break;
+		case DEGREES_AFTER_SUNSET:
+			sb.append("degreesAfterSunset(");
+			break;
+		case LOCAL_MEAN_TIME:
+			sb.append("localMeanTime(");
+			break;
+		case OFFSET:
+			sb.append("offset(");
+			break;
+		case ZMANIS_OFFSET:
+			sb.append("zmanisOffset(");
+			break;
+		case SHAAH_ZMANIS_BASED:
+			sb.append("shaahZmanisBased(");
+			break;
+		default:
+			sb.append("halfDayBased(");
+			break;
+		}
+		if (reference != null) {
+			reference.append(sb);
+			sb.append(", ");
+		}
+		if (start != null) {
+			start.append(sb);
+			sb.append(", ");
+			end.append(sb);
+			sb.append(", ");
+		}
+		if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+			sb.append((long) value);
+		} else {
+			sb.append(value);
+		}
+		sb.append(')');
+	}
+}
@@ -0,0 +1,391 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+/**
+ * A <em>zman</em> defined by a text expression, parsed once and compiled into a {@link ZmanPlan plan} that can be
+ * cached and evaluated for any date and location without allocating any memory. This allows an application to support
+ * custom opinions, such as ones submitted by its users or read from a configuration file, without subclassing the
+ * {@link ComplexZmanimCalendar}. The expression language is the textual form of a {@link ZmanDefinition}, with the
+ * same names as its factory methods:
+ * <ul>
+ * <li><code>sunrise</code>, <code>sunset</code>, <code>seaLevelSunrise</code>, <code>seaLevelSunset</code> and
+ * <code>chatzos</code>.</li>
+ * <li><code>degreesBeforeSunrise(<em>degrees</em>)</code> and <code>degreesAfterSunset(<em>degrees</em>)</code>, which
+ * are calculated by {@link AstronomicalCalendar#getSunriseOffsetByDegrees(double)} and
+ * {@link AstronomicalCalendar#getSunsetOffsetByDegrees(double)}.</li>
+ * <li><code>localMeanTime(<em>hours</em>)</code>.</li>
+ * <li><code>offset(<em>zman</em>, <em>minutes</em>)</code> and <code>zmanisOffset(<em>zman</em>, <em>start of
+ * day</em>, <em>end of day</em>, <em>hours</em>)</code>.</li>
+ * <li><code>shaahZmanisBased(<em>start of day</em>, <em>end of day</em>, <em>hours</em>)</code> and
+ * <code>halfDayBased(<em>start of half-day</em>, <em>end of half-day</em>, <em>hours</em>)</code>, which are
+ * calculated by {@link ZmanimCalendar#getShaahZmanisBasedZman(long, long, double)} and
+ * {@link ZmanimCalendar#getHalfDayBasedZman(long, long, double)}.</li>
+ * <li>The name of a <em>zman</em> in a {@link ZmanRegistry}, such as <code>Alos72</code> or
+ * <code>Tzais16Point1Degrees</code>.</li>
+ * </ul>
+ * An offset can also be written after a <em>zman</em>, as in <code>sunset + 72 minutes</code> or
+ * <code>sunrise - 1.2 zmaniyos(sunrise, sunset)</code>, and a number of degrees can be followed by a degree sign.
+ * For example, <em>alos</em> 16.9&deg; plus 4 <em>shaos zmaniyos</em> of a day from <em>alos</em> 16.9&deg; to
+ * <em>tzais</em> 7.083&deg; can be written as
+ * <code>shaahZmanisBased(degreesBeforeSunrise(16.9&deg;), degreesAfterSunset(7.083&deg;), 4)</code>.
+ * 
+ * @see ZmanDefinition
+ * @see ZmanPlan
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public final class ZmanExpression {
+	/** The text of the expression. */
+	private final String expression;
+
+	/** The definition of the <em>zman</em>. */
+	private final ZmanDefinition definition;
+
+	/** The compiled plan of the definition. */
+	private final ZmanPlan plan;
+
+	private ZmanExpression(String expression, ZmanDefinition definition) {
+		this.expression = expression;
+		this.definition = definition;
+		this.plan = new ZmanPlan(definition);
+	}
+
+	/**
+	 * Compiles an expression, which can refer to the standard <em>zmanim</em> of a new {@link ZmanRegistry}.
+	 * 
+	 * @param expression
+	 *            the expression
+	 * @return the compiled expression
+	 * @throws IllegalArgumentException
+	 *             if the expression is <code>null</code> or isn't valid
+	 */
+	public static ZmanExpression compile(String expression) {
+		return compile(expression, new ZmanRegistry());
+	}
+
+	/**
+	 * Compiles an expression, which can refer to the <em>zmanim</em> of a registry.
+	 * 
+	 * @param expression
+	 *            the expression
+	 * @param registry
+	 *            the registry of the <em>zmanim</em> the expression can refer to by name, or <code>null</code> if it
+	 *            can't refer to any
+	 * @return the compiled expression
+	 * @throws IllegalArgumentException
+	 *             if the expression is <code>null</code> or isn't valid
+	 */
+	public static ZmanExpression compile(String expression, ZmanRegistry registry) {
+		if (expression == null) {
+			throw new IllegalArgumentException("The expression can't be null");
+		}
+		Parser parser = new Parser(expression, registry);
+		ZmanDefinition definition = parser.parseExpression();
+		parser.skipWhitespace();
+		if (parser.position < expression.length()) {
+			throw parser.error("Unexpected '" + expression.charAt(parser.position) + "'");
+		}
+		return new ZmanExpression(expression, definition);
+	}
+
+	/**
+	 * Returns the text of the expression.
+	 * 
+	 * @return the expression
+	 */
+	public String getExpression() {
+		return expression;
+	}
+
+	/**
+	 * Returns the definition of the <em>zman</em>.
+	 * 
+	 * @return the definition
+	 */
+	public ZmanDefinition getDefinition() {
+		return definition;
+	}
+
+	/**
+	 * Returns the number of calculations that an evaluation makes, which is the minimal length of the array passed to
+	 * {@link #evaluate(ZmanimCalendar, long[])}.
+	 * 
+	 * @return the number of calculations
+	 */
+	public int getCalculationCount() {
+		return plan.getCalculationCount();
+	}
+
+	/**
+	 * Evaluates the <em>zman</em> for the day, location and settings of a calendar.
+	 * 
+	 * @param calendar
+	 *            the calendar
+	 * @return the <em>zman</em> in milliseconds since the epoch, or {@link Long#MIN_VALUE} if it can't be computed
+	 */
+	public long evaluate(ZmanimCalendar calendar) {
+		return plan.evaluate(calendar, 0, new long[plan.getCalculationCount()]);
+	}
+
+	/**
+	 * Evaluates the <em>zman</em> for the day, location and settings of a calendar without allocating any memory, using
+	 * an array for the results of the calculations that can be reused from one evaluation to the next. Each thread
+	 * evaluating the expression concurrently needs its own array.
+	 * 
+	 * @param calendar
+	 *            the calendar
+	 * @param calculations
+	 *            the array the results of the calculations are set in, with a length of at least the {@link
+	 *            #getCalculationCount() number of calculations}
+	 * @return the <em>zman</em> in milliseconds since the epoch, or {@link Long#MIN_VALUE} if it can't be computed
+	 * @throws IllegalArgumentException
+	 *             if the array is too short
+	 */
+	public long evaluate(ZmanimCalendar calendar, long[] calculations) {
+		return plan.evaluate(calendar, 0, calculations);
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		return expression;
+	}
+
+	/**
+	 * A recursive descent parser of an expression.
+	 */
+	private static final class Parser {
+		/** The text being parsed. */
+		private final String text;
+
+		/** The registry names are looked up in, or <code>null</code>. */
+		private final ZmanRegistry registry;
+
+		/** The position of the next character to parse. */
+		private int position;
+
+		private Parser(String text, ZmanRegistry registry) {
+			this.text = text;
+			this.registry = registry;
+		}
+
+		/**
+		 * Parses a <em>zman</em> followed by any number of offsets.
+		 */
+		private ZmanDefinition parseExpression() {
+			ZmanDefinition zman = parseZman();
+			while (true) {
+				skipWhitespace();
+				if (position == text.length() || (text.charAt(position) != '+' && text.charAt(position) != '-')) {
+					return zman;
+				}
+				double sign = text.charAt(position++) == '-' ? -1 : 1;
+				double amount = sign * parseNumber();
+				String unit = parseName();
+				if (unit.equals("minutes")) {
+					zman = ZmanDefinition.offset(zman, amount);
+				} else if (unit.equals("zmaniyos")) {
+					expect('(');
+					ZmanDefinition startOfDay = parseExpression();
+					expect(',');
+					ZmanDefinition endOfDay = parseExpression();
+					expect(')');
+					zman = ZmanDefinition.zmanisOffset(zman, startOfDay, endOfDay, amount);
+				} else {
+					throw error("Expected minutes or zmaniyos but found " + unit);
+				}
+			}
+		}
+
+		/**
+		 * Parses a <em>zman</em> without offsets after it.
+		 */
+		private ZmanDefinition parseZman() {
+			skipWhitespace();
+			if (position < text.length() && text.charAt(position) == '(') {
+				position++;
+				ZmanDefinition zman = parseExpression();
+				expect(')');
+				return zman;
+			}
+			int start = position;
+			String name = parseName();
+			if (name.equals("sunrise")) {
+				parseEmptyArguments();
+				return ZmanDefinition.sunrise();
+			} else if (name.equals("sunset")) {
+				parseEmptyArguments();
+				return ZmanDefinition.sunset();
+			} else if (name.equals("seaLevelSunrise")) {
+				parseEmptyArguments();
+				return ZmanDefinition.seaLevelSunrise();
+			} else if (name.equals("seaLevelSunset")) {
+				parseEmptyArguments();
+				return ZmanDefinition.seaLevelSunset();
+			} else if (name.equals("chatzos")) {
+				parseEmptyArguments();
+				return ZmanDefinition.chatzos();
+			} else if (name.equals("degreesBeforeSunrise")) {
+				expect('(');
+				double degrees = parseNumber();
+				expect(')');
+				return ZmanDefinition.degreesBeforeSunrise(degrees);
+			} else if (name.equals("degreesAfterSunset")) {
+				expect('(');
+				double degrees = parseNumber();
+				expect(')');
+				return ZmanDefinition.degreesAfterSunset(degrees);
+			} else if (name.equals("localMeanTime")) {
+				expect('(');
+				double hours = parseNumber();
+				expect(')');
+				try {
+					return ZmanDefinition.localMeanTime(hours);
+				} catch (IllegalArgumentException e) {
+					position = start;
+					throw error(e.getMessage());
+				}
+			} else if (name.equals("offset")) {
+				expect('(');
+				ZmanDefinition zman = parseExpression();
+				expect(',');
+				double minutes = parseNumber();
+				expect(')');
+				return ZmanDefinition.offset(zman, minutes);
+			} else if (name.equals("zmanisOffset")) {
+				expect('(');
+				ZmanDefinition zman = parseExpression();
+				expect(',');
+				ZmanDefinition startOfDay = parseExpression();
+				expect(',');
+				ZmanDefinition endOfDay = parseExpression();
+				expect(',');
+				double hours = parseNumber();
+				expect(')');
+				return ZmanDefinition.zmanisOffset(zman, startOfDay, endOfDay, hours);
+			} else if (name.equals("shaahZmanisBased") || name.equals("halfDayBased")) {
+				expect('(');
+				ZmanDefinition startOfDay = parseExpression();
+				expect(',');
+				ZmanDefinition endOfDay = parseExpression();
+				expect(',');
+				double hours = parseNumber();
+				expect(')');
+				return name.equals("shaahZmanisBased") ? ZmanDefinition.shaahZmanisBased(startOfDay, endOfDay, hours)
+						: ZmanDefinition.halfDayBased(startOfDay, endOfDay, hours);
+			}
+			if (registry == null) {
+				position = start;
+				throw error("Unknown zman " + name);
+			}
+			try {
+				return registry.getDefinition(name);
+			} catch (IllegalArgumentException e) {
+				position = start;
+				throw error("Unknown zman " + name);
+			}
+		}
+
+		/**
+		 * Parses the optional empty parentheses after the name of a <em>zman</em> without arguments.
+		 */
+		private void parseEmptyArguments() {
+			skipWhitespace();
+			if (position < text.length() && text.charAt(position) == '(') {
+				position++;
+				expect(')');
+			}
+		}
+
+		/**
+		 * Parses a name, made of letters and digits and starting with a letter.
+		 */
+		private String parseName() {
+			skipWhitespace();
+			int start = position;
+			if (position < text.length() && Character.isLetter(text.charAt(position))) {
+				position++;
+				while (position < text.length() && Character.isLetterOrDigit(text.charAt(position))) {
+					position++;
+				}
+			}
+			if (start == position) {
+				throw error("Expected a name");
+			}
+			return text.substring(start, position);
+		}
+
+		/**
+		 * Parses a number, optionally signed and followed by a degree sign.
+		 */
+		private double parseNumber() {
+			skipWhitespace();
+			int start = position;
+			if (position < text.length() && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+				position++;
+			}
+			while (position < text.length() && (Character.isDigit(text.charAt(position))
+					|| text.charAt(position) == '.')) {
+				position++;
+			}
+			if (position < text.length() && (text.charAt(position) == 'E' || text.charAt(position) == 'e')) {
+				position++;
+				if (position < text.length() && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+					position++;
+				}
+				while (position < text.length() && Character.isDigit(text.charAt(position))) {
+					position++;
+				}
+			}
+			double number;
+			try {
+				number = Double.parseDouble(text.substring(start, position));
+			} catch (NumberFormatException e) {
+				position = start;
+				throw error("Expected a number");
+			}
+			if (position < text.length() && text.charAt(position) == '\u00b0') {
+				position++;
+			}
+			return number;
+		}
+
+		/**
+		 * Parses an expected character.
+		 */
+		private void expect(char expected) {
+			skipWhitespace();
+			if (position == text.length() || text.charAt(position) != expected) {
+				throw error("Expected '" + expected + "'");
+			}
+			position++;
+		}
+
+		private void skipWhitespace() {
+			while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+				position++;
+			}
+		}
+
+		/**
+		 * Returns the exception of an error at the current position.
+		 */
+		private IllegalArgumentException error(String message) {
+			return new IllegalArgumentException(message + " at position " + position + " of \"" + text + "\"");
+		}
+	}
+}
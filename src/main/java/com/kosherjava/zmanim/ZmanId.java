@@ -0,0 +1,623 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+/**
+ * The identifiers of all the <em>zmanim</em> of the {@link ComplexZmanimCalendar}, one for each of its public getters
+ * of a time, including the ones of the {@link ZmanimCalendar} and {@link AstronomicalCalendar} it extends. An
+ * application can select the <em>zmanim</em> it needs with an {@link java.util.EnumSet EnumSet} and calculate only
+ * those with {@link ComplexZmanimCalendar#getZmanim(java.util.EnumSet, long[])}, or a single one with
+ * {@link ComplexZmanimCalendar#getZmanMillis(ZmanId)}, without calling the getters by reflection. The
+ * {@link #ordinal() ordinals} of the identifiers are the indexes of the <em>zmanim</em> in the array filled by
+ * {@link ComplexZmanimCalendar#getZmanim(java.util.EnumSet, long[])}. Since identifiers may be added in future
+ * versions, an identifier should be stored or sent by its {@link #name() name} rather than its ordinal.
+ * 
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public enum ZmanId {
+	/** {@link ComplexZmanimCalendar#getSunrise()} */
+	SUNRISE,
+
+	/** {@link ComplexZmanimCalendar#getSeaLevelSunrise()} */
+	SEA_LEVEL_SUNRISE,
+
+	/** {@link ComplexZmanimCalendar#getBeginCivilTwilight()} */
+	BEGIN_CIVIL_TWILIGHT,
+
+	/** {@link ComplexZmanimCalendar#getBeginNauticalTwilight()} */
+	BEGIN_NAUTICAL_TWILIGHT,
+
+	/** {@link ComplexZmanimCalendar#getBeginAstronomicalTwilight()} */
+	BEGIN_ASTRONOMICAL_TWILIGHT,
+
+	/** {@link ComplexZmanimCalendar#getSunset()} */
+	SUNSET,
+
+	/** {@link ComplexZmanimCalendar#getSeaLevelSunset()} */
+	SEA_LEVEL_SUNSET,
+
+	/** {@link ComplexZmanimCalendar#getEndCivilTwilight()} */
+	END_CIVIL_TWILIGHT,
+
+	/** {@link ComplexZmanimCalendar#getEndNauticalTwilight()} */
+	END_NAUTICAL_TWILIGHT,
+
+	/** {@link ComplexZmanimCalendar#getEndAstronomicalTwilight()} */
+	END_ASTRONOMICAL_TWILIGHT,
+
+	/** {@link ComplexZmanimCalendar#getSunTransit()} */
+	SUN_TRANSIT,
+
+	/** {@link ComplexZmanimCalendar#getSolarMidnight()} */
+	SOLAR_MIDNIGHT,
+
+	/** {@link ComplexZmanimCalendar#getTzais()} */
+	TZAIS,
+
+	/** {@link ComplexZmanimCalendar#getAlosHashachar()} */
+	ALOS_HASHACHAR,
+
+	/** {@link ComplexZmanimCalendar#getAlos72()} */
+	ALOS_72,
+
+	/** {@link ComplexZmanimCalendar#getChatzos()} */
+	CHATZOS,
+
+	/** {@link ComplexZmanimCalendar#getChatzosAsHalfDay()} */
+	CHATZOS_AS_HALF_DAY,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaGRA()} */
+	SOF_ZMAN_SHMA_GRA,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA()} */
+	SOF_ZMAN_SHMA_MGA,
+
+	/** {@link ComplexZmanimCalendar#getTzais72()} */
+	TZAIS_72,
+
+	/** {@link ComplexZmanimCalendar#getCandleLighting()} */
+	CANDLE_LIGHTING,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaGRA()} */
+	SOF_ZMAN_TFILA_GRA,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaMGA()} */
+	SOF_ZMAN_TFILA_MGA,
+
+	/** {@link ComplexZmanimCalendar#getMinchaGedola()} */
+	MINCHA_GEDOLA,
+
+	/** {@link ComplexZmanimCalendar#getMinchaKetana()} */
+	MINCHA_KETANA,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha()} */
+	PLAG_HAMINCHA,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha120MinutesZmanis()} */
+	@Deprecated
+	PLAG_HAMINCHA_120_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha120Minutes()} */
+	@Deprecated
+	PLAG_HAMINCHA_120_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getAlos60()} */
+	ALOS_60,
+
+	/** {@link ComplexZmanimCalendar#getAlos72Zmanis()} */
+	ALOS_72_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getAlos96()} */
+	ALOS_96,
+
+	/** {@link ComplexZmanimCalendar#getAlos90Zmanis()} */
+	ALOS_90_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getAlos96Zmanis()} */
+	ALOS_96_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getAlos90()} */
+	ALOS_90,
+
+	/** {@link ComplexZmanimCalendar#getAlos120()} */
+	@Deprecated
+	ALOS_120,
+
+	/** {@link ComplexZmanimCalendar#getAlos120Zmanis()} */
+	@Deprecated
+	ALOS_120_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getAlos26Degrees()} */
+	@Deprecated
+	ALOS_26_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getAlos18Degrees()} */
+	ALOS_18_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getAlos19Degrees()} */
+	ALOS_19_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getAlos19Point8Degrees()} */
+	ALOS_19_POINT_8_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getAlos16Point1Degrees()} */
+	ALOS_16_POINT_1_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getMisheyakir11Point5Degrees()} */
+	MISHEYAKIR_11_POINT_5_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getMisheyakir11Degrees()} */
+	MISHEYAKIR_11_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getMisheyakir10Point2Degrees()} */
+	MISHEYAKIR_10_POINT_2_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getMisheyakir7Point65Degrees()} */
+	MISHEYAKIR_7_POINT_65_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getMisheyakir9Point5Degrees()} */
+	MISHEYAKIR_9_POINT_5_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA19Point8Degrees()} */
+	SOF_ZMAN_SHMA_MGA_19_POINT_8_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA16Point1Degrees()} */
+	SOF_ZMAN_SHMA_MGA_16_POINT_1_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA18Degrees()} */
+	SOF_ZMAN_SHMA_MGA_18_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA72Minutes()} */
+	SOF_ZMAN_SHMA_MGA_72_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA72MinutesZmanis()} */
+	SOF_ZMAN_SHMA_MGA_72_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA90Minutes()} */
+	SOF_ZMAN_SHMA_MGA_90_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA90MinutesZmanis()} */
+	SOF_ZMAN_SHMA_MGA_90_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA96Minutes()} */
+	SOF_ZMAN_SHMA_MGA_96_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA96MinutesZmanis()} */
+	SOF_ZMAN_SHMA_MGA_96_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShma3HoursBeforeChatzos()} */
+	SOF_ZMAN_SHMA_3_HOURS_BEFORE_CHATZOS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA120Minutes()} */
+	SOF_ZMAN_SHMA_MGA_120_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaAlos16Point1ToSunset()} */
+	SOF_ZMAN_SHMA_ALOS_16_POINT_1_TO_SUNSET,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaAlos16Point1ToTzaisGeonim7Point083Degrees()} */
+	SOF_ZMAN_SHMA_ALOS_16_POINT_1_TO_TZAIS_GEONIM_7_POINT_083_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaKolEliyahu()} */
+	@Deprecated
+	SOF_ZMAN_SHMA_KOL_ELIYAHU,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaMGA19Point8Degrees()} */
+	SOF_ZMAN_TFILA_MGA_19_POINT_8_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaMGA16Point1Degrees()} */
+	SOF_ZMAN_TFILA_MGA_16_POINT_1_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaMGA18Degrees()} */
+	SOF_ZMAN_TFILA_MGA_18_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaMGA72Minutes()} */
+	SOF_ZMAN_TFILA_MGA_72_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaMGA72MinutesZmanis()} */
+	SOF_ZMAN_TFILA_MGA_72_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaMGA90Minutes()} */
+	SOF_ZMAN_TFILA_MGA_90_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaMGA90MinutesZmanis()} */
+	SOF_ZMAN_TFILA_MGA_90_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaMGA96Minutes()} */
+	SOF_ZMAN_TFILA_MGA_96_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaMGA96MinutesZmanis()} */
+	SOF_ZMAN_TFILA_MGA_96_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaMGA120Minutes()} */
+	SOF_ZMAN_TFILA_MGA_120_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfila2HoursBeforeChatzos()} */
+	SOF_ZMAN_TFILA_2_HOURS_BEFORE_CHATZOS,
+
+	/** {@link ComplexZmanimCalendar#getMinchaGedola30Minutes()} */
+	MINCHA_GEDOLA_30_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getMinchaGedola72Minutes()} */
+	MINCHA_GEDOLA_72_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getMinchaGedola16Point1Degrees()} */
+	MINCHA_GEDOLA_16_POINT_1_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getMinchaGedolaAhavatShalom()} */
+	MINCHA_GEDOLA_AHAVAT_SHALOM,
+
+	/** {@link ComplexZmanimCalendar#getMinchaGedolaGreaterThan30()} */
+	MINCHA_GEDOLA_GREATER_THAN_30,
+
+	/** {@link ComplexZmanimCalendar#getMinchaKetana16Point1Degrees()} */
+	MINCHA_KETANA_16_POINT_1_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getMinchaKetanaAhavatShalom()} */
+	MINCHA_KETANA_AHAVAT_SHALOM,
+
+	/** {@link ComplexZmanimCalendar#getMinchaKetana72Minutes()} */
+	MINCHA_KETANA_72_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha60Minutes()} */
+	PLAG_HAMINCHA_60_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha72Minutes()} */
+	@Deprecated
+	PLAG_HAMINCHA_72_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha90Minutes()} */
+	@Deprecated
+	PLAG_HAMINCHA_90_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha96Minutes()} */
+	@Deprecated
+	PLAG_HAMINCHA_96_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha96MinutesZmanis()} */
+	@Deprecated
+	PLAG_HAMINCHA_96_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha90MinutesZmanis()} */
+	@Deprecated
+	PLAG_HAMINCHA_90_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha72MinutesZmanis()} */
+	@Deprecated
+	PLAG_HAMINCHA_72_MINUTES_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha16Point1Degrees()} */
+	@Deprecated
+	PLAG_HAMINCHA_16_POINT_1_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha19Point8Degrees()} */
+	@Deprecated
+	PLAG_HAMINCHA_19_POINT_8_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha26Degrees()} */
+	@Deprecated
+	PLAG_HAMINCHA_26_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getPlagHamincha18Degrees()} */
+	@Deprecated
+	PLAG_HAMINCHA_18_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getPlagAlosToSunset()} */
+	@Deprecated
+	PLAG_ALOS_TO_SUNSET,
+
+	/** {@link ComplexZmanimCalendar#getPlagAlos16Point1ToTzaisGeonim7Point083Degrees()} */
+	PLAG_ALOS_16_POINT_1_TO_TZAIS_GEONIM_7_POINT_083_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getPlagAhavatShalom()} */
+	PLAG_AHAVAT_SHALOM,
+
+	/** {@link ComplexZmanimCalendar#getBainHashmashosRT13Point24Degrees()} */
+	BAIN_HASHMASHOS_RT_13_POINT_24_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getBainHasmashosRT13Point24Degrees()} */
+	@Deprecated
+	BAIN_HASMASHOS_RT_13_POINT_24_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getBainHashmashosRT58Point5Minutes()} */
+	BAIN_HASHMASHOS_RT_58_POINT_5_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getBainHasmashosRT58Point5Minutes()} */
+	@Deprecated
+	BAIN_HASMASHOS_RT_58_POINT_5_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getBainHashmashosRT13Point5MinutesBefore7Point083Degrees()} */
+	BAIN_HASHMASHOS_RT_13_POINT_5_MINUTES_BEFORE_7_POINT_083_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getBainHasmashosRT13Point5MinutesBefore7Point083Degrees()} */
+	@Deprecated
+	BAIN_HASMASHOS_RT_13_POINT_5_MINUTES_BEFORE_7_POINT_083_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getBainHashmashosRT2Stars()} */
+	BAIN_HASHMASHOS_RT_2_STARS,
+
+	/** {@link ComplexZmanimCalendar#getBainHasmashosRT2Stars()} */
+	@Deprecated
+	BAIN_HASMASHOS_RT_2_STARS,
+
+	/** {@link ComplexZmanimCalendar#getBainHashmashosYereim18Minutes()} */
+	BAIN_HASHMASHOS_YEREIM_18_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getBainHasmashosYereim18Minutes()} */
+	@Deprecated
+	BAIN_HASMASHOS_YEREIM_18_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getBainHashmashosYereim3Point05Degrees()} */
+	BAIN_HASHMASHOS_YEREIM_3_POINT_05_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getBainHasmashosYereim3Point05Degrees()} */
+	@Deprecated
+	BAIN_HASMASHOS_YEREIM_3_POINT_05_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getBainHashmashosYereim16Point875Minutes()} */
+	BAIN_HASHMASHOS_YEREIM_16_POINT_875_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getBainHasmashosYereim16Point875Minutes()} */
+	@Deprecated
+	BAIN_HASMASHOS_YEREIM_16_POINT_875_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getBainHashmashosYereim2Point8Degrees()} */
+	BAIN_HASHMASHOS_YEREIM_2_POINT_8_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getBainHasmashosYereim2Point8Degrees()} */
+	@Deprecated
+	BAIN_HASMASHOS_YEREIM_2_POINT_8_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getBainHashmashosYereim13Point5Minutes()} */
+	BAIN_HASHMASHOS_YEREIM_13_POINT_5_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getBainHasmashosYereim13Point5Minutes()} */
+	@Deprecated
+	BAIN_HASMASHOS_YEREIM_13_POINT_5_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getBainHashmashosYereim2Point1Degrees()} */
+	BAIN_HASHMASHOS_YEREIM_2_POINT_1_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getBainHasmashosYereim2Point1Degrees()} */
+	@Deprecated
+	BAIN_HASMASHOS_YEREIM_2_POINT_1_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim3Point7Degrees()} */
+	TZAIS_GEONIM_3_POINT_7_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim3Point8Degrees()} */
+	TZAIS_GEONIM_3_POINT_8_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim5Point95Degrees()} */
+	TZAIS_GEONIM_5_POINT_95_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim3Point65Degrees()} */
+	@Deprecated
+	TZAIS_GEONIM_3_POINT_65_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim3Point676Degrees()} */
+	@Deprecated
+	TZAIS_GEONIM_3_POINT_676_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim4Point61Degrees()} */
+	TZAIS_GEONIM_4_POINT_61_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim4Point37Degrees()} */
+	TZAIS_GEONIM_4_POINT_37_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim5Point88Degrees()} */
+	TZAIS_GEONIM_5_POINT_88_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim4Point8Degrees()} */
+	TZAIS_GEONIM_4_POINT_8_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim6Point45Degrees()} */
+	TZAIS_GEONIM_6_POINT_45_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim7Point083Degrees()} */
+	TZAIS_GEONIM_7_POINT_083_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim7Point67Degrees()} */
+	TZAIS_GEONIM_7_POINT_67_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim8Point5Degrees()} */
+	TZAIS_GEONIM_8_POINT_5_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim9Point3Degrees()} */
+	TZAIS_GEONIM_9_POINT_3_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzaisGeonim9Point75Degrees()} */
+	TZAIS_GEONIM_9_POINT_75_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzais60()} */
+	TZAIS_60,
+
+	/** {@link ComplexZmanimCalendar#getTzaisAteretTorah()} */
+	TZAIS_ATERET_TORAH,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaAteretTorah()} */
+	SOF_ZMAN_SHMA_ATERET_TORAH,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaAteretTorah()} */
+	SOF_ZMAN_TFILA_ATERET_TORAH,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilahAteretTorah()} */
+	@Deprecated
+	SOF_ZMAN_TFILAH_ATERET_TORAH,
+
+	/** {@link ComplexZmanimCalendar#getMinchaGedolaAteretTorah()} */
+	MINCHA_GEDOLA_ATERET_TORAH,
+
+	/** {@link ComplexZmanimCalendar#getMinchaKetanaAteretTorah()} */
+	MINCHA_KETANA_ATERET_TORAH,
+
+	/** {@link ComplexZmanimCalendar#getPlagHaminchaAteretTorah()} */
+	PLAG_HAMINCHA_ATERET_TORAH,
+
+	/** {@link ComplexZmanimCalendar#getTzais72Zmanis()} */
+	TZAIS_72_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getTzais90Zmanis()} */
+	TZAIS_90_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getTzais96Zmanis()} */
+	TZAIS_96_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getTzais90()} */
+	TZAIS_90,
+
+	/** {@link ComplexZmanimCalendar#getTzais120()} */
+	@Deprecated
+	TZAIS_120,
+
+	/** {@link ComplexZmanimCalendar#getTzais120Zmanis()} */
+	@Deprecated
+	TZAIS_120_ZMANIS,
+
+	/** {@link ComplexZmanimCalendar#getTzais16Point1Degrees()} */
+	TZAIS_16_POINT_1_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzais26Degrees()} */
+	@Deprecated
+	TZAIS_26_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzais18Degrees()} */
+	TZAIS_18_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzais19Point8Degrees()} */
+	TZAIS_19_POINT_8_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getTzais96()} */
+	TZAIS_96,
+
+	/** {@link ComplexZmanimCalendar#getFixedLocalChatzos()} */
+	FIXED_LOCAL_CHATZOS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaFixedLocal()} */
+	@Deprecated
+	SOF_ZMAN_SHMA_FIXED_LOCAL,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaFixedLocal()} */
+	@Deprecated
+	SOF_ZMAN_TFILA_FIXED_LOCAL,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanKidushLevanaBetweenMoldos()} */
+	SOF_ZMAN_KIDUSH_LEVANA_BETWEEN_MOLDOS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanKidushLevana15Days()} */
+	SOF_ZMAN_KIDUSH_LEVANA_15_DAYS,
+
+	/** {@link ComplexZmanimCalendar#getTchilasZmanKidushLevana3Days()} */
+	TCHILAS_ZMAN_KIDUSH_LEVANA_3_DAYS,
+
+	/** {@link ComplexZmanimCalendar#getZmanMolad()} */
+	ZMAN_MOLAD,
+
+	/** {@link ComplexZmanimCalendar#getTchilasZmanKidushLevana7Days()} */
+	TCHILAS_ZMAN_KIDUSH_LEVANA_7_DAYS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanAchilasChametzGRA()} */
+	SOF_ZMAN_ACHILAS_CHAMETZ_GRA,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanAchilasChametzMGA72Minutes()} */
+	SOF_ZMAN_ACHILAS_CHAMETZ_MGA_72_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanAchilasChametzMGA16Point1Degrees()} */
+	SOF_ZMAN_ACHILAS_CHAMETZ_MGA_16_POINT_1_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanBiurChametzGRA()} */
+	SOF_ZMAN_BIUR_CHAMETZ_GRA,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanBiurChametzMGA72Minutes()} */
+	SOF_ZMAN_BIUR_CHAMETZ_MGA_72_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanBiurChametzMGA16Point1Degrees()} */
+	SOF_ZMAN_BIUR_CHAMETZ_MGA_16_POINT_1_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getAlosBaalHatanya()} */
+	ALOS_BAAL_HATANYA,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaBaalHatanya()} */
+	SOF_ZMAN_SHMA_BAAL_HATANYA,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaBaalHatanya()} */
+	SOF_ZMAN_TFILA_BAAL_HATANYA,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanAchilasChametzBaalHatanya()} */
+	SOF_ZMAN_ACHILAS_CHAMETZ_BAAL_HATANYA,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanBiurChametzBaalHatanya()} */
+	SOF_ZMAN_BIUR_CHAMETZ_BAAL_HATANYA,
+
+	/** {@link ComplexZmanimCalendar#getMinchaGedolaBaalHatanya()} */
+	MINCHA_GEDOLA_BAAL_HATANYA,
+
+	/** {@link ComplexZmanimCalendar#getMinchaGedolaBaalHatanyaGreaterThan30()} */
+	MINCHA_GEDOLA_BAAL_HATANYA_GREATER_THAN_30,
+
+	/** {@link ComplexZmanimCalendar#getMinchaKetanaBaalHatanya()} */
+	MINCHA_KETANA_BAAL_HATANYA,
+
+	/** {@link ComplexZmanimCalendar#getPlagHaminchaBaalHatanya()} */
+	PLAG_HAMINCHA_BAAL_HATANYA,
+
+	/** {@link ComplexZmanimCalendar#getTzaisBaalHatanya()} */
+	TZAIS_BAAL_HATANYA,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA18DegreesToFixedLocalChatzos()} */
+	SOF_ZMAN_SHMA_MGA_18_DEGREES_TO_FIXED_LOCAL_CHATZOS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA16Point1DegreesToFixedLocalChatzos()} */
+	SOF_ZMAN_SHMA_MGA_16_POINT_1_DEGREES_TO_FIXED_LOCAL_CHATZOS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA90MinutesToFixedLocalChatzos()} */
+	SOF_ZMAN_SHMA_MGA_90_MINUTES_TO_FIXED_LOCAL_CHATZOS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaMGA72MinutesToFixedLocalChatzos()} */
+	SOF_ZMAN_SHMA_MGA_72_MINUTES_TO_FIXED_LOCAL_CHATZOS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanShmaGRASunriseToFixedLocalChatzos()} */
+	SOF_ZMAN_SHMA_GRA_SUNRISE_TO_FIXED_LOCAL_CHATZOS,
+
+	/** {@link ComplexZmanimCalendar#getSofZmanTfilaGRASunriseToFixedLocalChatzos()} */
+	SOF_ZMAN_TFILA_GRA_SUNRISE_TO_FIXED_LOCAL_CHATZOS,
+
+	/** {@link ComplexZmanimCalendar#getMinchaGedolaGRAFixedLocalChatzos30Minutes()} */
+	MINCHA_GEDOLA_GRA_FIXED_LOCAL_CHATZOS_30_MINUTES,
+
+	/** {@link ComplexZmanimCalendar#getMinchaKetanaGRAFixedLocalChatzosToSunset()} */
+	MINCHA_KETANA_GRA_FIXED_LOCAL_CHATZOS_TO_SUNSET,
+
+	/** {@link ComplexZmanimCalendar#getPlagHaminchaGRAFixedLocalChatzosToSunset()} */
+	PLAG_HAMINCHA_GRA_FIXED_LOCAL_CHATZOS_TO_SUNSET,
+
+	/** {@link ComplexZmanimCalendar#getTzais50()} */
+	TZAIS_50,
+
+	/** {@link ComplexZmanimCalendar#getSamuchLeMinchaKetanaGRA()} */
+	SAMUCH_LE_MINCHA_KETANA_GRA,
+
+	/** {@link ComplexZmanimCalendar#getSamuchLeMinchaKetana16Point1Degrees()} */
+	SAMUCH_LE_MINCHA_KETANA_16_POINT_1_DEGREES,
+
+	/** {@link ComplexZmanimCalendar#getSamuchLeMinchaKetana72Minutes()} */
+	SAMUCH_LE_MINCHA_KETANA_72_MINUTES;
+
+	/**
+	 * The number of identifiers, which is the minimal length of the array filled by
+	 * {@link ComplexZmanimCalendar#getZmanim(java.util.EnumSet, long[])}.
+	 */
+	public static final int COUNT = values().length;
+}
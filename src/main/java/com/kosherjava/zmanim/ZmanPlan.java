@@ -0,0 +1,337 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled evaluation plan of a number of {@link ZmanDefinition <em>zman</em> definitions}. When the plan is
+ * created, the graph of the definitions is flattened into a list of distinct calculations, each one after the ones it
+ * depends on, so a <em>zman</em> that a number of the definitions share, such as sunrise or <em>alos</em> 16.1&deg;,
+ * is calculated only once per {@link #evaluate(ZmanimCalendar) evaluation}. Only the calculations that the requested
+ * <em>zmanim</em> need are made, so evaluating a plan of a dozen <em>zmanim</em> costs only the sunrises, sunsets and
+ * dips below the horizon those dozen are based on. A plan is immutable, and can be evaluated for any number of days
+ * and locations, concurrently as well.
+ * 
+ * @see ZmanDefinition
+ * @see ZmanRegistry
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public final class ZmanPlan {
+	/** The type of each calculation, in the order they are made. */
+	private final int[] types;
+
+	/** The value of each calculation. */
+	private final double[] values;
+
+	/** The index of the calculation of the reference of each calculation, or -1 if it has none. */
+	private final int[] references;
+
+	/** The index of the calculation of the start of the day of each calculation, or -1 if it has none. */
+	private final int[] starts;
+
+	/** The index of the calculation of the end of the day of each calculation, or -1 if it has none. */
+	private final int[] ends;
+
+	/** The index of the calculation of each requested <em>zman</em>. */
+	private final int[] results;
+
+	/**
+	 * The indexes of the calculations each requested <em>zman</em> depends on, in the order they are made and ending
+	 * with the calculation of the <em>zman</em> itself, which are the only ones made when it is evaluated on its own.
+	 */
+	private final int[][] dependencies;
+
+	/**
+	 * Compiles a plan that evaluates the <em>zmanim</em>.
+	 * 
+	 * @param zmanim
+	 *            the definitions of the <em>zmanim</em>
+	 * @throws IllegalArgumentException
+	 *             if a definition is <code>null</code>
+	 */
+	public ZmanPlan(ZmanDefinition... zmanim) {
+		Map<ZmanDefinition, Integer> indexes = new HashMap<ZmanDefinition, Integer>();
+		List<ZmanDefinition> order = new ArrayList<ZmanDefinition>();
+		results = new int[zmanim.length];
+		for (int i = 0; i < zmanim.length; i++) {
+			if (zmanim[i] == null) {
+				throw new IllegalArgumentException("The definition of a zman can't be null");
+			}
+			results[i] = add(zmanim[i], indexes, order);
+		}
+		types = new int[order.size()];
+		values = new double[order.size()];
+		references = new int[order.size()];
+		starts = new int[order.size()];
+		ends = new int[order.size()];
+		for (int i = 0; i < order.size(); i++) {
+			ZmanDefinition definition = order.get(i);
+			types[i] = definition.type;
+			values[i] = definition.value;
+			references[i] = definition.reference == null ? -1 : indexes.get(definition.reference);
+			starts[i] = definition.start == null ? -1 : indexes.get(definition.start);
+			ends[i] = definition.end == null ? -1 : indexes.get(definition.end);
+		}
+		dependencies = new int[results.length][];
+		for (int i = 0; i < results.length; i++) {
+			dependencies[i] = getDependencies(results[i]);
+		}
+	}
+
+	/**
+	 * Returns the indexes of the calculations a calculation depends on, including itself. Since each calculation comes
+	 * after the ones it depends on, walking back from it once finds all of them.
+	 * 
+	 * @return the indexes in the order the calculations are made
+	 */
+	private int[] getDependencies(int index) {
+		boolean[] needed = new boolean[index + 1];
+		needed[index] = true;
+		int count = 0;
+		for (int i = index; i >= 0; i--) {
+			if (needed[i]) {
+				count++;
+				if (references[i] >= 0) {
+					needed[references[i]] = true;
+				}
+				if (starts[i] >= 0) {
+					needed[starts[i]] = true;
+				}
+				if (ends[i] >= 0) {
+					needed[ends[i]] = true;
+				}
+			}
+		}
+		int[] indexes = new int[count];
+		count = 0;
+		for (int i = 0; i <= index; i++) {
+			if (needed[i]) {
+				indexes[count++] = i;
+			}
+		}
+		return indexes;
+	}
+
+	/**
+	 * Adds a definition to the order of the calculations after the definitions it depends on, unless it was already
+	 * added.
+	 * 
+	 * @return the index of the calculation of the definition
+	 */
+	private static int add(ZmanDefinition definition, Map<ZmanDefinition, Integer> indexes,
+			List<ZmanDefinition> order) {
+		Integer index = indexes.get(definition);
+		if (index != null) {
+			return index;
+		}
+		if (definition.reference != null) {
+			add(definition.reference, indexes, order);
+		}
+		if (definition.start != null) {
+			add(definition.start, indexes, order);
+		}
+		if (definition.end != null) {
+			add(definition.end, indexes, order);
+		}
+		indexes.put(definition, order.size());
+		order.add(definition);
+		return order.size() - 1;
+	}
+
+	/**
+	 * Returns the number of <em>zmanim</em> the plan evaluates.
+	 * 
+	 * @return the number of <em>zmanim</em>
+	 */
+	public int size() {
+		return results.length;
+	}
+
+	/**
+	 * Returns the number of distinct calculations the plan makes, including the <em>zmanim</em> the requested ones are
+	 * based on.
+	 * 
+	 * @return the number of calculations
+	 */
+	public int getCalculationCount() {
+		return types.length;
+	}
+
+	/**
+	 * Evaluates the <em>zmanim</em> for the day, location and settings of a calendar.
+	 * 
+	 * @param calendar
+	 *            the calendar
+	 * @return the <em>zmanim</em> in milliseconds since the epoch, in the order of the definitions the plan was created
+	 *         with. A <em>zman</em> that can't be computed is {@link Long#MIN_VALUE}.
+	 */
+	public long[] evaluate(ZmanimCalendar calendar) {
+		long[] zmanim = new long[results.length];
+		evaluate(calendar, zmanim);
+		return zmanim;
+	}
+
+	/**
+	 * Evaluates the <em>zmanim</em> for the day, location and settings of a calendar into an array.
+	 * 
+	 * @param calendar
+	 *            the calendar
+	 * @param zmanim
+	 *            the array the <em>zmanim</em> are set in, in milliseconds since the epoch and in the order of the
+	 *            definitions the plan was created with. A <em>zman</em> that can't be computed is set to
+	 *            {@link Long#MIN_VALUE}.
+	 * @throws IllegalArgumentException
+	 *             if the array is shorter than the {@link #size() number of zmanim}
+	 */
+	public void evaluate(ZmanimCalendar calendar, long[] zmanim) {
+		evaluate(calendar, zmanim, new long[types.length]);
+	}
+
+	/**
+	 * Evaluates the <em>zmanim</em> for the day, location and settings of a calendar into an array, using an array
+	 * for the results of the calculations that can be reused from one evaluation to the next, so that the evaluation
+	 * itself doesn't allocate any memory. Each thread evaluating the plan concurrently needs its own array.
+	 * 
+	 * @param calendar
+	 *            the calendar
+	 * @param zmanim
+	 *            the array the <em>zmanim</em> are set in, in milliseconds since the epoch and in the order of the
+	 *            definitions the plan was created with. A <em>zman</em> that can't be computed is set to
+	 *            {@link Long#MIN_VALUE}.
+	 * @param calculations
+	 *            the array the results of the calculations are set in, with a length of at least the {@link
+	 *            #getCalculationCount() number of calculations}
+	 * @throws IllegalArgumentException
+	 *             if an array is too short
+	 */
+	public void evaluate(ZmanimCalendar calendar, long[] zmanim, long[] calculations) {
+		if (zmanim.length < results.length) {
+			throw new IllegalArgumentException("The array must have room for " + results.length + " zmanim");
+		}
+		evaluateCalculations(calendar, calculations);
+		for (int i = 0; i < results.length; i++) {
+			zmanim[i] = calculations[results[i]];
+		}
+	}
+
+	/**
+	 * Evaluates a single <em>zman</em> of the plan without allocating any memory. Only the calculations the
+	 * <em>zman</em> depends on are made, and the other elements of the array of the calculations are not changed. See
+	 * {@link #evaluate(ZmanimCalendar, long[], long[])}.
+	 * 
+	 * @param calendar
+	 *            the calendar
+	 * @param zman
+	 *            the index of the <em>zman</em> in the definitions the plan was created with
+	 * @param calculations
+	 *            the array the results of the calculations are set in, with a length of at least the {@link
+	 *            #getCalculationCount() number of calculations}
+	 * @return the <em>zman</em> in milliseconds since the epoch, or {@link Long#MIN_VALUE} if it can't be computed
+	 * @throws IllegalArgumentException
+	 *             if the array is too short
+	 * @throws IndexOutOfBoundsException
+	 *             if there is no <em>zman</em> with the index
+	 */
+	public long evaluate(ZmanimCalendar calendar, int zman, long[] calculations) {
+		int[] indexes = dependencies[zman];
+		checkCalculations(calculations);
+		for (int index : indexes) {
+			calculations[index] = calculate(calendar, index, calculations);
+		}
+		return calculations[results[zman]];
+	}
+
+	/**
+	 * Makes all the calculations in order.
+	 * 
+	 * @param calendar
+	 *            the calendar
+	 * @param calculations
+	 *            the array the results are set in
+	 */
+	private void evaluateCalculations(ZmanimCalendar calendar, long[] calculations) {
+		checkCalculations(calculations);
+		for (int i = 0; i < types.length; i++) {
+			calculations[i] = calculate(calendar, i, calculations);
+		}
+	}
+
+	/**
+	 * Checks that the array of the calculations has room for all of them.
+	 * 
+	 * @param calculations
+	 *            the array the results are set in
+	 * @throws IllegalArgumentException
+	 *             if the array is too short
+	 */
+	private void checkCalculations(long[] calculations) {
+		if (calculations.length < types.length) {
+			throw new IllegalArgumentException("The array must have room for " + types.length + " calculations");
+		}
+	}
+
+	/**
+	 * Makes a calculation, using the same methods of the calendar that its getters use.
+	 * 
+	 * @param calendar
+	 *            the calendar
+	 * @param index
+	 *            the index of the calculation
+	 * @param times
+	 *            the results of the calculations before it
+	 * @return the time in milliseconds since the epoch, or {@link Long#MIN_VALUE} if it can't be computed
+	 */
+	private long calculate(ZmanimCalendar calendar, int index, long[] times) {
+		double value = values[index];
+		switch (types[index]) {
+		case ZmanDefinition.SUNRISE:
+			return calendar.getElevationAdjustedSunriseMillis();
+		case ZmanDefinition.SUNSET:
+			return calendar.getElevationAdjustedSunsetMillis();
+		case ZmanDefinition.SEA_LEVEL_SUNRISE:
+			return calendar.getSeaLevelSunriseMillis();
+		case ZmanDefinition.SEA_LEVEL_SUNSET:
+			return calendar.getSeaLevelSunsetMillis();
+		case ZmanDefinition.DEGREES_BEFORE_SUNRISE:
+			return calendar.getSunriseOffsetByDegreesMillis(AstronomicalCalendar.GEOMETRIC_ZENITH + value);
+		case ZmanDefinition.DEGREES_AFTER_SUNSET:
+			return calendar.getSunsetOffsetByDegreesMillis(AstronomicalCalendar.GEOMETRIC_ZENITH + value);
+		case ZmanDefinition.CHATZOS:
+			return calendar.getChatzosMillis();
+		case ZmanDefinition.LOCAL_MEAN_TIME:
+			return calendar.getLocalMeanTimeMillis(value);
+		case ZmanDefinition.OFFSET:
+			return AstronomicalCalendar.getTimeOffset(times[references[index]],
+					(long) (value * AstronomicalCalendar.MINUTE_MILLIS));
+		case ZmanDefinition.ZMANIS_OFFSET:
+			long shaahZmanis = calendar.getTemporalHour(times[starts[index]], times[ends[index]]);
+			if (shaahZmanis == Long.MIN_VALUE) {
+				return Long.MIN_VALUE;
+			}
+			return AstronomicalCalendar.getTimeOffset(times[references[index]], shaahZmanis * value);
+		case ZmanDefinition.SHAAH_ZMANIS_BASED:
+			return calendar.getShaahZmanisBasedZman(times[starts[index]], times[ends[index]], value);
+		case ZmanDefinition.HALF_DAY_BASED:
+			return calendar.getHalfDayBasedZman(times[starts[index]], times[ends[index]], value);
+		default:
+			throw new IllegalStateException("Unknown zman definition type " + types[index]);
+		}
+	}
+}
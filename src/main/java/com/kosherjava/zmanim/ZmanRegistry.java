@@ -0,0 +1,214 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A registry of named {@link ZmanDefinition <em>zman</em> definitions}. A new registry contains the definitions of the
+ * standard <em>zmanim</em> of the {@link ComplexZmanimCalendar}, named as their getters without the "get" prefix,
+ * such as "Alos72" and "SofZmanShmaGRA", and evaluating them has the same results as the getters with the default
+ * settings of the calendar. Additional opinions, such as ones specific to a community, can be {@link #register(String,
+ * ZmanDefinition) registered} without any code changes to the calendar, and a {@link #getPlan(String...) plan} for any
+ * selection of the registered <em>zmanim</em> makes only the calculations they need.
+ * <p>
+ * A registry is not safe for use by multiple threads while definitions are being registered. The {@link ZmanPlan
+ * plans} it creates are.
+ * 
+ * @see ZmanDefinition
+ * @see ZmanPlan
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public class ZmanRegistry {
+	/**
+	 * The definitions by name, in the order they were registered.
+	 */
+	private final Map<String, ZmanDefinition> definitions = new LinkedHashMap<String, ZmanDefinition>();
+
+	/**
+	 * Creates a registry with the standard <em>zmanim</em> of the {@link ComplexZmanimCalendar}.
+	 */
+	public ZmanRegistry() {
+		ZmanDefinition sunrise = ZmanDefinition.sunrise();
+		ZmanDefinition sunset = ZmanDefinition.sunset();
+		ZmanDefinition chatzos = ZmanDefinition.chatzos();
+		ZmanDefinition fixedLocalChatzos = ZmanDefinition.localMeanTime(12);
+		ZmanDefinition alos72 = ZmanDefinition.offset(sunrise, -72);
+		ZmanDefinition tzais72 = ZmanDefinition.offset(sunset, 72);
+		ZmanDefinition alos90 = ZmanDefinition.offset(sunrise, -90);
+		ZmanDefinition tzais90 = ZmanDefinition.offset(sunset, 90);
+		ZmanDefinition alos16Point1 = ZmanDefinition.degreesBeforeSunrise(16.1);
+		ZmanDefinition tzais16Point1 = ZmanDefinition.degreesAfterSunset(16.1);
+
+		register("ElevationAdjustedSunrise", sunrise);
+		register("ElevationAdjustedSunset", sunset);
+		register("SeaLevelSunrise", ZmanDefinition.seaLevelSunrise());
+		register("SeaLevelSunset", ZmanDefinition.seaLevelSunset());
+		register("Chatzos", chatzos);
+		register("FixedLocalChatzos", fixedLocalChatzos);
+
+		register("AlosHashachar", alos16Point1);
+		register("Alos16Point1Degrees", alos16Point1);
+		register("Alos18Degrees", ZmanDefinition.degreesBeforeSunrise(18));
+		register("Alos19Degrees", ZmanDefinition.degreesBeforeSunrise(19));
+		register("Alos19Point8Degrees", ZmanDefinition.degreesBeforeSunrise(19.8));
+		register("Alos26Degrees", ZmanDefinition.degreesBeforeSunrise(26));
+		register("Alos72", alos72);
+		register("Alos90", alos90);
+		register("Alos96", ZmanDefinition.offset(sunrise, -96));
+		register("Alos120", ZmanDefinition.offset(sunrise, -120));
+		register("Alos72Zmanis", ZmanDefinition.zmanisOffset(sunrise, sunrise, sunset, -1.2));
+		register("Alos90Zmanis", ZmanDefinition.zmanisOffset(sunrise, sunrise, sunset, -1.5));
+		register("Alos96Zmanis", ZmanDefinition.zmanisOffset(sunrise, sunrise, sunset, -1.6));
+		register("Alos120Zmanis", ZmanDefinition.zmanisOffset(sunrise, sunrise, sunset, -2));
+		register("Misheyakir7Point65Degrees", ZmanDefinition.degreesBeforeSunrise(7.65));
+		register("Misheyakir9Point5Degrees", ZmanDefinition.degreesBeforeSunrise(9.5));
+		register("Misheyakir10Point2Degrees", ZmanDefinition.degreesBeforeSunrise(10.2));
+		register("Misheyakir11Degrees", ZmanDefinition.degreesBeforeSunrise(11));
+		register("Misheyakir11Point5Degrees", ZmanDefinition.degreesBeforeSunrise(11.5));
+
+		register("SofZmanShmaGRA", ZmanDefinition.shaahZmanisBased(sunrise, sunset, 3));
+		register("SofZmanShmaMGA", ZmanDefinition.shaahZmanisBased(alos72, tzais72, 3));
+		register("SofZmanShmaMGA72Minutes", ZmanDefinition.shaahZmanisBased(alos72, tzais72, 3));
+		register("SofZmanShmaMGA90Minutes", ZmanDefinition.shaahZmanisBased(alos90, tzais90, 3));
+		register("SofZmanShmaMGA16Point1Degrees", ZmanDefinition.shaahZmanisBased(alos16Point1, tzais16Point1, 3));
+		register("SofZmanShma3HoursBeforeChatzos", ZmanDefinition.offset(chatzos, -180));
+		register("SofZmanTfilaGRA", ZmanDefinition.shaahZmanisBased(sunrise, sunset, 4));
+		register("SofZmanTfilaMGA", ZmanDefinition.shaahZmanisBased(alos72, tzais72, 4));
+		register("SofZmanTfilaMGA72Minutes", ZmanDefinition.shaahZmanisBased(alos72, tzais72, 4));
+		register("SofZmanTfilaMGA90Minutes", ZmanDefinition.shaahZmanisBased(alos90, tzais90, 4));
+		register("SofZmanTfilaMGA16Point1Degrees", ZmanDefinition.shaahZmanisBased(alos16Point1, tzais16Point1, 4));
+		register("SofZmanTfila2HoursBeforeChatzos", ZmanDefinition.offset(chatzos, -120));
+
+		register("MinchaGedola", ZmanDefinition.shaahZmanisBased(sunrise, sunset, 6.5));
+		register("MinchaGedola30Minutes", ZmanDefinition.offset(chatzos, 30));
+		register("MinchaGedola72Minutes", ZmanDefinition.shaahZmanisBased(alos72, tzais72, 6.5));
+		register("MinchaGedola16Point1Degrees", ZmanDefinition.shaahZmanisBased(alos16Point1, tzais16Point1, 6.5));
+		register("MinchaGedolaGRAFixedLocalChatzos30Minutes", ZmanDefinition.offset(fixedLocalChatzos, 30));
+		register("MinchaKetana", ZmanDefinition.shaahZmanisBased(sunrise, sunset, 9.5));
+		register("MinchaKetana72Minutes", ZmanDefinition.shaahZmanisBased(alos72, tzais72, 9.5));
+		register("MinchaKetana16Point1Degrees", ZmanDefinition.shaahZmanisBased(alos16Point1, tzais16Point1, 9.5));
+		register("SamuchLeMinchaKetanaGRA", ZmanDefinition.shaahZmanisBased(sunrise, sunset, 9));
+		register("PlagHamincha", ZmanDefinition.shaahZmanisBased(sunrise, sunset, 10.75));
+		register("PlagHamincha72Minutes", ZmanDefinition.shaahZmanisBased(alos72, tzais72, 10.75));
+		register("PlagHamincha90Minutes", ZmanDefinition.shaahZmanisBased(alos90, tzais90, 10.75));
+		register("PlagHamincha16Point1Degrees", ZmanDefinition.shaahZmanisBased(alos16Point1, tzais16Point1, 10.75));
+
+		register("Tzais", ZmanDefinition.degreesAfterSunset(8.5));
+		register("TzaisGeonim3Point7Degrees", ZmanDefinition.degreesAfterSunset(3.7));
+		register("TzaisGeonim3Point8Degrees", ZmanDefinition.degreesAfterSunset(3.8));
+		register("TzaisGeonim5Point95Degrees", ZmanDefinition.degreesAfterSunset(5.95));
+		register("TzaisGeonim8Point5Degrees", ZmanDefinition.degreesAfterSunset(8.5));
+		register("Tzais16Point1Degrees", tzais16Point1);
+		register("Tzais18Degrees", ZmanDefinition.degreesAfterSunset(18));
+		register("Tzais19Point8Degrees", ZmanDefinition.degreesAfterSunset(19.8));
+		register("Tzais26Degrees", ZmanDefinition.degreesAfterSunset(26));
+		register("Tzais50", ZmanDefinition.offset(sunset, 50));
+		register("Tzais60", ZmanDefinition.offset(sunset, 60));
+		register("Tzais72", tzais72);
+		register("Tzais90", tzais90);
+		register("Tzais96", ZmanDefinition.offset(sunset, 96));
+		register("Tzais120", ZmanDefinition.offset(sunset, 120));
+		register("Tzais72Zmanis", ZmanDefinition.zmanisOffset(sunset, sunrise, sunset, 1.2));
+		register("Tzais90Zmanis", ZmanDefinition.zmanisOffset(sunset, sunrise, sunset, 1.5));
+		register("Tzais96Zmanis", ZmanDefinition.zmanisOffset(sunset, sunrise, sunset, 1.6));
+		register("Tzais120Zmanis", ZmanDefinition.zmanisOffset(sunset, sunrise, sunset, 2));
+	}
+
+	/**
+	 * Registers a definition under a name.
+	 * 
+	 * @param name
+	 *            the name of the <em>zman</em>
+	 * @param definition
+	 *            the definition of the <em>zman</em>
+	 * @throws IllegalArgumentException
+	 *             if the name or definition is <code>null</code>, the name is empty, or a <em>zman</em> with the
+	 *             name is already registered
+	 */
+	public void register(String name, ZmanDefinition definition) {
+		if (name == null || name.length() == 0) {
+			throw new IllegalArgumentException("The name of a zman can't be empty");
+		}
+		if (definition == null) {
+			throw new IllegalArgumentException("The definition of " + name + " can't be null");
+		}
+		if (definitions.containsKey(name)) {
+			throw new IllegalArgumentException("A zman named " + name + " is already registered");
+		}
+		definitions.put(name, definition);
+	}
+
+	/**
+	 * Registers a {@link ZmanExpression <em>zman</em> expression} under a name. The expression can refer to the
+	 * <em>zmanim</em> already registered.
+	 * 
+	 * @param name
+	 *            the name of the <em>zman</em>
+	 * @param expression
+	 *            the expression of the <em>zman</em>, such as "degreesAfterSunset(7.083) - 13.5 minutes"
+	 * @throws IllegalArgumentException
+	 *             if the expression isn't valid, or the name can't be registered as explained in
+	 *             {@link #register(String, ZmanDefinition)}
+	 */
+	public void register(String name, String expression) {
+		register(name, ZmanExpression.compile(expression, this).getDefinition());
+	}
+
+	/**
+	 * Returns the definition registered under a name.
+	 * 
+	 * @param name
+	 *            the name of the <em>zman</em>
+	 * @return the definition
+	 * @throws IllegalArgumentException
+	 *             if there is no <em>zman</em> registered with the name
+	 */
+	public ZmanDefinition getDefinition(String name) {
+		ZmanDefinition definition = definitions.get(name);
+		if (definition == null) {
+			throw new IllegalArgumentException("There is no zman named " + name);
+		}
+		return definition;
+	}
+
+	/**
+	 * Returns the names of the registered <em>zmanim</em>, in the order they were registered.
+	 * 
+	 * @return the names
+	 */
+	public String[] getNames() {
+		return definitions.keySet().toArray(new String[0]);
+	}
+
+	/**
+	 * Creates a plan that evaluates registered <em>zmanim</em>.
+	 * 
+	 * @param names
+	 *            the names of the <em>zmanim</em>, which are the order of the <em>zmanim</em> the plan evaluates
+	 * @return the plan
+	 * @throws IllegalArgumentException
+	 *             if there is no <em>zman</em> registered with one of the names
+	 */
+	public ZmanPlan getPlan(String... names) {
+		ZmanDefinition[] zmanim = new ZmanDefinition[names.length];
+		for (int i = 0; i < names.length; i++) {
+			zmanim[i] = getDefinition(names[i]);
+		}
+		return new ZmanPlan(zmanim);
+	}
+}
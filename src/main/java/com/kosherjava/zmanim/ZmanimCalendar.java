@@ -266,10 +266,21 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see com.kosherjava.zmanim.AstronomicalCalendar#getSunrise()
 	 */
 	protected ZonedDateTime getElevationAdjustedSunrise() {
+		return getZonedDateTime(getElevationAdjustedSunriseMillis());
+	}
+
+	/**
+	 * Returns {@link #getElevationAdjustedSunrise()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getElevationAdjustedSunrise()
+	 */
+	protected long getElevationAdjustedSunriseMillis() {
 		if(isUseElevation()) {
-			return super.getSunrise();
+			return super.getSunriseMillis();
 		}
-		return getSeaLevelSunrise();
+		return getSeaLevelSunriseMillis();
 	}
 	
 	/**
@@ -282,10 +293,21 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see com.kosherjava.zmanim.AstronomicalCalendar#getSunset()
 	 */
 	protected ZonedDateTime getElevationAdjustedSunset() {
+		return getZonedDateTime(getElevationAdjustedSunsetMillis());
+	}
+
+	/**
+	 * Returns {@link #getElevationAdjustedSunset()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getElevationAdjustedSunset()
+	 */
+	protected long getElevationAdjustedSunsetMillis() {
 		if(isUseElevation()) {
-			return super.getSunset();
+			return super.getSunsetMillis();
 		}
-		return getSeaLevelSunset();
+		return getSeaLevelSunsetMillis();
 	}
 
 	/**
@@ -304,7 +326,18 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * ComplexZmanimCalendar#getTzaisGeonim8Point5Degrees() that returns an identical time to this generic <em>tzais</em>
 	 */
 	public ZonedDateTime getTzais() {
-		return getSunsetOffsetByDegrees(ZENITH_8_POINT_5);
+		return getZonedDateTime(getTzaisMillis());
+	}
+
+	/**
+	 * Returns {@link #getTzais()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais()
+	 */
+	public long getTzaisMillis() {
+		return getSunsetOffsetByDegreesMillis(ZENITH_8_POINT_5);
 	}
 
 	/**
@@ -325,7 +358,18 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getAlosHashachar() {
-		return getSunriseOffsetByDegrees(ZENITH_16_POINT_1);
+		return getZonedDateTime(getAlosHashacharMillis());
+	}
+
+	/**
+	 * Returns {@link #getAlosHashachar()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlosHashachar()
+	 */
+	public long getAlosHashacharMillis() {
+		return getSunriseOffsetByDegreesMillis(ZENITH_16_POINT_1);
 	}
 
 	/**
@@ -342,7 +386,18 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         documentation.
 	 */
 	public ZonedDateTime getAlos72() {
-		return getTimeOffset(getElevationAdjustedSunrise(), -72 * MINUTE_MILLIS);
+		return getZonedDateTime(getAlos72Millis());
+	}
+
+	/**
+	 * Returns {@link #getAlos72()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getAlos72()
+	 */
+	public long getAlos72Millis() {
+		return getTimeOffset(getElevationAdjustedSunriseMillis(), -72 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -370,12 +425,23 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getChatzos() {
+		return getZonedDateTime(getChatzosMillis());
+	}
+
+	/**
+	 * Returns {@link #getChatzos()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getChatzos()
+	 */
+	public long getChatzosMillis() {
 		if(useAstronomicalChatzos) {
-			return getSunTransit(); // can be null of the calculator does not support astronomical chatzos
+			return getSunTransitMillis(); // can be null of the calculator does not support astronomical chatzos
 		} else {
-			ZonedDateTime halfDayChatzos = getChatzosAsHalfDay();
-			if(halfDayChatzos == null) {
-				return getSunTransit(); // can be null if the calculator does not support astronomical chatzos
+			long halfDayChatzos = getChatzosAsHalfDayMillis();
+			if(halfDayChatzos == Long.MIN_VALUE) {
+				return getSunTransitMillis(); // can be null if the calculator does not support astronomical chatzos
 			} else {
 				return halfDayChatzos;
 			}
@@ -412,7 +478,18 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getChatzosAsHalfDay() {
-		return getSunTransit(getSeaLevelSunrise(), getSeaLevelSunset());
+		return getZonedDateTime(getChatzosAsHalfDayMillis());
+	}
+
+	/**
+	 * Returns {@link #getChatzosAsHalfDay()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getChatzosAsHalfDay()
+	 */
+	public long getChatzosAsHalfDayMillis() {
+		return getSunTransit(getSeaLevelSunriseMillis(), getSeaLevelSunsetMillis());
 	}
 
 	/**
@@ -447,8 +524,30 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getSofZmanShma(ZonedDateTime startOfDay, ZonedDateTime endOfDay, boolean synchronous) {
+		return getZonedDateTime(getSofZmanShma(getEpochMillis(startOfDay), getEpochMillis(endOfDay), synchronous));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getSofZmanShma(ZonedDateTime, ZonedDateTime, boolean)} using times in
+	 * milliseconds since the epoch.
+	 * 
+	 * @param startOfDay
+	 *            the start of day in milliseconds since the epoch. See {@link #getSofZmanShma(ZonedDateTime,
+	 *            ZonedDateTime, boolean)}.
+	 * @param endOfDay
+	 *            the end of day in milliseconds since the epoch. See {@link #getSofZmanShma(ZonedDateTime,
+	 *            ZonedDateTime, boolean)}.
+	 * @param synchronous
+	 *            If the <em>zman</em> has a synchronous start and end of the day. If this is <code>false</code>, using
+	 *            a {@link #isUseAstronomicalChatzosForOtherZmanim()} makes no sense and will be ignored even if set to
+	 *            true, since by definition <em>chatzos</em> will not be the middle of the day for the <em>zman</em>.
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShma(ZonedDateTime, ZonedDateTime, boolean)
+	 */
+	public long getSofZmanShma(long startOfDay, long endOfDay, boolean synchronous) {
 		if(isUseAstronomicalChatzosForOtherZmanim() && synchronous) {
-			return getHalfDayBasedZman(startOfDay, getChatzos(), 3);
+			return getHalfDayBasedZman(startOfDay, getChatzosMillis(), 3);
 		} else {
 			return getShaahZmanisBasedZman(startOfDay, endOfDay, 3);
 		}
@@ -471,6 +570,24 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see #getSofZmanShma(Date, Date, boolean)
 	 */
 	public ZonedDateTime getSofZmanShma(ZonedDateTime startOfDay, ZonedDateTime endOfDay) {
+		return getZonedDateTime(getSofZmanShma(getEpochMillis(startOfDay), getEpochMillis(endOfDay)));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getSofZmanShma(ZonedDateTime, ZonedDateTime)} using times in
+	 * milliseconds since the epoch.
+	 * 
+	 * @param startOfDay
+	 *            the start of day in milliseconds since the epoch. See {@link #getSofZmanShma(ZonedDateTime,
+	 *            ZonedDateTime)}.
+	 * @param endOfDay
+	 *            the end of day in milliseconds since the epoch. See {@link #getSofZmanShma(ZonedDateTime,
+	 *            ZonedDateTime)}.
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShma(ZonedDateTime, ZonedDateTime)
+	 */
+	public long getSofZmanShma(long startOfDay, long endOfDay) {
 		return getSofZmanShma(startOfDay, endOfDay, false);
 	}
 
@@ -493,7 +610,18 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getSofZmanShmaGRA() {
-		return getSofZmanShma(getElevationAdjustedSunrise(), getElevationAdjustedSunset(), true);
+		return getZonedDateTime(getSofZmanShmaGRAMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaGRA()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaGRA()
+	 */
+	public long getSofZmanShmaGRAMillis() {
+		return getSofZmanShma(getElevationAdjustedSunriseMillis(), getElevationAdjustedSunsetMillis(), true);
 	}
 
 	/**
@@ -514,7 +642,18 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see ComplexZmanimCalendar#getSofZmanShmaMGA72Minutes() that 
 	 */
 	public ZonedDateTime getSofZmanShmaMGA() {
-		return getSofZmanShma(getAlos72(), getTzais72(), true);
+		return getZonedDateTime(getSofZmanShmaMGAMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanShmaMGA()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanShmaMGA()
+	 */
+	public long getSofZmanShmaMGAMillis() {
+		return getSofZmanShma(getAlos72Millis(), getTzais72Millis(), true);
 	}
 
 	/**
@@ -533,7 +672,18 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getTzais72() {
-		return getTimeOffset(getElevationAdjustedSunset(), 72 * MINUTE_MILLIS);
+		return getZonedDateTime(getTzais72Millis());
+	}
+
+	/**
+	 * Returns {@link #getTzais72()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getTzais72()
+	 */
+	public long getTzais72Millis() {
+		return getTimeOffset(getElevationAdjustedSunsetMillis(), 72 * MINUTE_MILLIS);
 	}
 
 	/**
@@ -552,7 +702,18 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see #setCandleLightingOffset(double)
 	 */
 	public ZonedDateTime getCandleLighting() {
-		return getTimeOffset(getSeaLevelSunset(), -getCandleLightingOffset() * MINUTE_MILLIS);
+		return getZonedDateTime(getCandleLightingMillis());
+	}
+
+	/**
+	 * Returns {@link #getCandleLighting()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getCandleLighting()
+	 */
+	public long getCandleLightingMillis() {
+		return getTimeOffset(getSeaLevelSunsetMillis(), -getCandleLightingOffset() * MINUTE_MILLIS);
 	}
 
 	/**
@@ -588,8 +749,30 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getSofZmanTfila(ZonedDateTime startOfDay, ZonedDateTime endOfDay, boolean synchronous) {
+		return getZonedDateTime(getSofZmanTfila(getEpochMillis(startOfDay), getEpochMillis(endOfDay), synchronous));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getSofZmanTfila(ZonedDateTime, ZonedDateTime, boolean)} using times
+	 * in milliseconds since the epoch.
+	 * 
+	 * @param startOfDay
+	 *            the start of day in milliseconds since the epoch. See {@link #getSofZmanTfila(ZonedDateTime,
+	 *            ZonedDateTime, boolean)}.
+	 * @param endOfDay
+	 *            the end of day in milliseconds since the epoch. See {@link #getSofZmanTfila(ZonedDateTime,
+	 *            ZonedDateTime, boolean)}.
+	 * @param synchronous
+	 *            If the <em>zman</em> has a synchronous start and end of the day. If this is <code>false</code>, using
+	 *            a {@link #isUseAstronomicalChatzosForOtherZmanim()} makes no sense and will be ignored even if set to
+	 *            true, since by definition <em>chatzos</em> will not be the middle of the day for the <em>zman</em>.
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfila(ZonedDateTime, ZonedDateTime, boolean)
+	 */
+	public long getSofZmanTfila(long startOfDay, long endOfDay, boolean synchronous) {
 		if(isUseAstronomicalChatzosForOtherZmanim() && synchronous) {
-			return getHalfDayBasedZman(startOfDay, getChatzos(), 4);
+			return getHalfDayBasedZman(startOfDay, getChatzosMillis(), 4);
 		} else {
 			return getShaahZmanisBasedZman(startOfDay, endOfDay, 4);
 		}
@@ -612,6 +795,24 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see #getSofZmanShma(Date, Date, boolean)
 	 */
 	public ZonedDateTime getSofZmanTfila(ZonedDateTime startOfDay, ZonedDateTime endOfDay) {
+		return getZonedDateTime(getSofZmanTfila(getEpochMillis(startOfDay), getEpochMillis(endOfDay)));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getSofZmanTfila(ZonedDateTime, ZonedDateTime)} using times in
+	 * milliseconds since the epoch.
+	 * 
+	 * @param startOfDay
+	 *            the start of day in milliseconds since the epoch. See {@link #getSofZmanTfila(ZonedDateTime,
+	 *            ZonedDateTime)}.
+	 * @param endOfDay
+	 *            the end of day in milliseconds since the epoch. See {@link #getSofZmanTfila(ZonedDateTime,
+	 *            ZonedDateTime)}.
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfila(ZonedDateTime, ZonedDateTime)
+	 */
+	public long getSofZmanTfila(long startOfDay, long endOfDay) {
 		return getSofZmanTfila(startOfDay, endOfDay, false);
 	}
 
@@ -633,7 +834,18 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getSofZmanTfilaGRA() {
-		return getSofZmanTfila(getElevationAdjustedSunrise(), getElevationAdjustedSunset(), true);
+		return getZonedDateTime(getSofZmanTfilaGRAMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaGRA()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaGRA()
+	 */
+	public long getSofZmanTfilaGRAMillis() {
+		return getSofZmanTfila(getElevationAdjustedSunriseMillis(), getElevationAdjustedSunsetMillis(), true);
 	}
 
 	/**
@@ -653,7 +865,18 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see #getAlos72()
 	 */
 	public ZonedDateTime getSofZmanTfilaMGA() {
-		return getSofZmanTfila(getAlos72(), getTzais72(), true);
+		return getZonedDateTime(getSofZmanTfilaMGAMillis());
+	}
+
+	/**
+	 * Returns {@link #getSofZmanTfilaMGA()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSofZmanTfilaMGA()
+	 */
+	public long getSofZmanTfilaMGAMillis() {
+		return getSofZmanTfila(getAlos72Millis(), getTzais72Millis(), true);
 	}
 
 	/**
@@ -697,8 +920,30 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see #isUseAstronomicalChatzosForOtherZmanim()
 	 */
 	public ZonedDateTime getMinchaGedola(ZonedDateTime startOfDay, ZonedDateTime endOfDay, boolean synchronous) {
+		return getZonedDateTime(getMinchaGedola(getEpochMillis(startOfDay), getEpochMillis(endOfDay), synchronous));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getMinchaGedola(ZonedDateTime, ZonedDateTime, boolean)} using times
+	 * in milliseconds since the epoch.
+	 * 
+	 * @param startOfDay
+	 *            the start of day in milliseconds since the epoch. See {@link #getMinchaGedola(ZonedDateTime,
+	 *            ZonedDateTime, boolean)}.
+	 * @param endOfDay
+	 *            the end of day in milliseconds since the epoch. See {@link #getMinchaGedola(ZonedDateTime,
+	 *            ZonedDateTime, boolean)}.
+	 * @param synchronous
+	 *            If the <em>zman</em> has a synchronous start and end of the day. If this is <code>false</code>, using
+	 *            a {@link #isUseAstronomicalChatzosForOtherZmanim()} makes no sense and will be ignored even if set to
+	 *            true, since by definition <em>chatzos</em> will not be the middle of the day for the <em>zman</em>.
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaGedola(ZonedDateTime, ZonedDateTime, boolean)
+	 */
+	public long getMinchaGedola(long startOfDay, long endOfDay, boolean synchronous) {
 		if(isUseAstronomicalChatzosForOtherZmanim() && synchronous) {
-			return getHalfDayBasedZman(getChatzos(), endOfDay, 0.5);
+			return getHalfDayBasedZman(getChatzosMillis(), endOfDay, 0.5);
 		} else {
 			return getShaahZmanisBasedZman(startOfDay, endOfDay, 6.5);
 		}
@@ -722,6 +967,24 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see #getMinchaGedola(Date, Date, boolean)
 	 */
 	public ZonedDateTime getMinchaGedola(ZonedDateTime startOfDay, ZonedDateTime endOfDay) {
+		return getZonedDateTime(getMinchaGedola(getEpochMillis(startOfDay), getEpochMillis(endOfDay)));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getMinchaGedola(ZonedDateTime, ZonedDateTime)} using times in
+	 * milliseconds since the epoch.
+	 * 
+	 * @param startOfDay
+	 *            the start of day in milliseconds since the epoch. See {@link #getMinchaGedola(ZonedDateTime,
+	 *            ZonedDateTime)}.
+	 * @param endOfDay
+	 *            the end of day in milliseconds since the epoch. See {@link #getMinchaGedola(ZonedDateTime,
+	 *            ZonedDateTime)}.
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaGedola(ZonedDateTime, ZonedDateTime)
+	 */
+	public long getMinchaGedola(long startOfDay, long endOfDay) {
 		return getMinchaGedola(startOfDay, endOfDay, false);
 	}
 
@@ -750,7 +1013,18 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getMinchaGedola() {
-		return getMinchaGedola(getElevationAdjustedSunrise(), getElevationAdjustedSunset(), true);
+		return getZonedDateTime(getMinchaGedolaMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaGedola()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaGedola()
+	 */
+	public long getMinchaGedolaMillis() {
+		return getMinchaGedola(getElevationAdjustedSunriseMillis(), getElevationAdjustedSunsetMillis(), true);
 	}
 	
 	/**
@@ -784,8 +1058,30 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see ComplexZmanimCalendar#getSamuchLeMinchaKetana72Minutes()
 	 */
 	public ZonedDateTime getSamuchLeMinchaKetana(ZonedDateTime startOfDay, ZonedDateTime endOfDay, boolean synchronous) {
+		return getZonedDateTime(getSamuchLeMinchaKetana(getEpochMillis(startOfDay), getEpochMillis(endOfDay), synchronous));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getSamuchLeMinchaKetana(ZonedDateTime, ZonedDateTime, boolean)} using
+	 * times in milliseconds since the epoch.
+	 * 
+	 * @param startOfDay
+	 *            the start of day in milliseconds since the epoch. See {@link #getSamuchLeMinchaKetana(ZonedDateTime,
+	 *            ZonedDateTime, boolean)}.
+	 * @param endOfDay
+	 *            the end of day in milliseconds since the epoch. See {@link #getSamuchLeMinchaKetana(ZonedDateTime,
+	 *            ZonedDateTime, boolean)}.
+	 * @param synchronous
+	 *            If the <em>zman</em> has a synchronous start and end of the day. If this is <code>false</code>, using
+	 *            a {@link #isUseAstronomicalChatzosForOtherZmanim()} makes no sense and will be ignored even if set to
+	 *            true, since by definition <em>chatzos</em> will not be the middle of the day for the <em>zman</em>.
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSamuchLeMinchaKetana(ZonedDateTime, ZonedDateTime, boolean)
+	 */
+	public long getSamuchLeMinchaKetana(long startOfDay, long endOfDay, boolean synchronous) {
 		if(isUseAstronomicalChatzosForOtherZmanim()) {
-			return getHalfDayBasedZman(getChatzos(), endOfDay, 3);
+			return getHalfDayBasedZman(getChatzosMillis(), endOfDay, 3);
 		} else {
 			return getShaahZmanisBasedZman(startOfDay, endOfDay, 9);
 		}
@@ -808,6 +1104,24 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see #getSamuchLeMinchaKetana(Date, Date, boolean)
 	 */
 	public ZonedDateTime getSamuchLeMinchaKetana(ZonedDateTime startOfDay, ZonedDateTime endOfDay) {
+		return getZonedDateTime(getSamuchLeMinchaKetana(getEpochMillis(startOfDay), getEpochMillis(endOfDay)));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getSamuchLeMinchaKetana(ZonedDateTime, ZonedDateTime)} using times in
+	 * milliseconds since the epoch.
+	 * 
+	 * @param startOfDay
+	 *            the start of day in milliseconds since the epoch. See {@link #getSamuchLeMinchaKetana(ZonedDateTime,
+	 *            ZonedDateTime)}.
+	 * @param endOfDay
+	 *            the end of day in milliseconds since the epoch. See {@link #getSamuchLeMinchaKetana(ZonedDateTime,
+	 *            ZonedDateTime)}.
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getSamuchLeMinchaKetana(ZonedDateTime, ZonedDateTime)
+	 */
+	public long getSamuchLeMinchaKetana(long startOfDay, long endOfDay) {
 		return getSamuchLeMinchaKetana(startOfDay, endOfDay, false);
 	}
 
@@ -845,8 +1159,30 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getMinchaKetana(ZonedDateTime startOfDay, ZonedDateTime endOfDay, boolean synchronous) {
+		return getZonedDateTime(getMinchaKetana(getEpochMillis(startOfDay), getEpochMillis(endOfDay), synchronous));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getMinchaKetana(ZonedDateTime, ZonedDateTime, boolean)} using times
+	 * in milliseconds since the epoch.
+	 * 
+	 * @param startOfDay
+	 *            the start of day in milliseconds since the epoch. See {@link #getMinchaKetana(ZonedDateTime,
+	 *            ZonedDateTime, boolean)}.
+	 * @param endOfDay
+	 *            the end of day in milliseconds since the epoch. See {@link #getMinchaKetana(ZonedDateTime,
+	 *            ZonedDateTime, boolean)}.
+	 * @param synchronous
+	 *            If the <em>zman</em> has a synchronous start and end of the day. If this is <code>false</code>, using
+	 *            a {@link #isUseAstronomicalChatzosForOtherZmanim()} makes no sense and will be ignored even if set to
+	 *            true, since by definition <em>chatzos</em> will not be the middle of the day for the <em>zman</em>.
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaKetana(ZonedDateTime, ZonedDateTime, boolean)
+	 */
+	public long getMinchaKetana(long startOfDay, long endOfDay, boolean synchronous) {
 		if(isUseAstronomicalChatzosForOtherZmanim()) {
-			return getHalfDayBasedZman(getChatzos(), endOfDay, 3.5);
+			return getHalfDayBasedZman(getChatzosMillis(), endOfDay, 3.5);
 		} else {
 			return getShaahZmanisBasedZman(startOfDay, endOfDay, 9.5);
 		}
@@ -869,6 +1205,24 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see #getMinchaKetana(Date, Date, boolean)
 	 */
 	public ZonedDateTime getMinchaKetana(ZonedDateTime startOfDay, ZonedDateTime endOfDay) {
+		return getZonedDateTime(getMinchaKetana(getEpochMillis(startOfDay), getEpochMillis(endOfDay)));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getMinchaKetana(ZonedDateTime, ZonedDateTime)} using times in
+	 * milliseconds since the epoch.
+	 * 
+	 * @param startOfDay
+	 *            the start of day in milliseconds since the epoch. See {@link #getMinchaKetana(ZonedDateTime,
+	 *            ZonedDateTime)}.
+	 * @param endOfDay
+	 *            the end of day in milliseconds since the epoch. See {@link #getMinchaKetana(ZonedDateTime,
+	 *            ZonedDateTime)}.
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaKetana(ZonedDateTime, ZonedDateTime)
+	 */
+	public long getMinchaKetana(long startOfDay, long endOfDay) {
 		return getMinchaKetana(startOfDay, endOfDay, false);
 	}
 
@@ -893,7 +1247,18 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getMinchaKetana() {
-		return getMinchaKetana(getElevationAdjustedSunrise(), getElevationAdjustedSunset(), true);
+		return getZonedDateTime(getMinchaKetanaMillis());
+	}
+
+	/**
+	 * Returns {@link #getMinchaKetana()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getMinchaKetana()
+	 */
+	public long getMinchaKetanaMillis() {
+		return getMinchaKetana(getElevationAdjustedSunriseMillis(), getElevationAdjustedSunsetMillis(), true);
 	}
 
 	/**
@@ -927,8 +1292,30 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getPlagHamincha(ZonedDateTime startOfDay, ZonedDateTime endOfDay, boolean synchronous) {
+		return getZonedDateTime(getPlagHamincha(getEpochMillis(startOfDay), getEpochMillis(endOfDay), synchronous));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getPlagHamincha(ZonedDateTime, ZonedDateTime, boolean)} using times
+	 * in milliseconds since the epoch.
+	 * 
+	 * @param startOfDay
+	 *            the start of day in milliseconds since the epoch. See {@link #getPlagHamincha(ZonedDateTime,
+	 *            ZonedDateTime, boolean)}.
+	 * @param endOfDay
+	 *            the end of day in milliseconds since the epoch. See {@link #getPlagHamincha(ZonedDateTime,
+	 *            ZonedDateTime, boolean)}.
+	 * @param synchronous
+	 *            If the <em>zman</em> has a synchronous start and end of the day. If this is <code>false</code>, using
+	 *            a {@link #isUseAstronomicalChatzosForOtherZmanim()} makes no sense and will be ignored even if set to
+	 *            true, since by definition <em>chatzos</em> will not be the middle of the day for the <em>zman</em>.
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha(ZonedDateTime, ZonedDateTime, boolean)
+	 */
+	public long getPlagHamincha(long startOfDay, long endOfDay, boolean synchronous) {
 		if(isUseAstronomicalChatzosForOtherZmanim() && synchronous) {
-			return getHalfDayBasedZman(getChatzos(), endOfDay, 4.75);
+			return getHalfDayBasedZman(getChatzosMillis(), endOfDay, 4.75);
 		} else {
 			return getShaahZmanisBasedZman(startOfDay, endOfDay, 10.75);
 		}
@@ -949,6 +1336,24 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see #getPlagHamincha(Date, Date, boolean)
 	 */
 	public ZonedDateTime getPlagHamincha(ZonedDateTime startOfDay, ZonedDateTime endOfDay) {
+		return getZonedDateTime(getPlagHamincha(getEpochMillis(startOfDay), getEpochMillis(endOfDay)));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getPlagHamincha(ZonedDateTime, ZonedDateTime)} using times in
+	 * milliseconds since the epoch.
+	 * 
+	 * @param startOfDay
+	 *            the start of day in milliseconds since the epoch. See {@link #getPlagHamincha(ZonedDateTime,
+	 *            ZonedDateTime)}.
+	 * @param endOfDay
+	 *            the end of day in milliseconds since the epoch. See {@link #getPlagHamincha(ZonedDateTime,
+	 *            ZonedDateTime)}.
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha(ZonedDateTime, ZonedDateTime)
+	 */
+	public long getPlagHamincha(long startOfDay, long endOfDay) {
 		return getPlagHamincha(startOfDay, endOfDay, false);
 	}
 
@@ -969,7 +1374,18 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getPlagHamincha() {
-		return getPlagHamincha(getElevationAdjustedSunrise(), getElevationAdjustedSunset(), true);
+		return getZonedDateTime(getPlagHaminchaMillis());
+	}
+
+	/**
+	 * Returns {@link #getPlagHamincha()} as the number of milliseconds since the epoch.
+	 * 
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getPlagHamincha()
+	 */
+	public long getPlagHaminchaMillis() {
+		return getPlagHamincha(getElevationAdjustedSunriseMillis(), getElevationAdjustedSunsetMillis(), true);
 	}
 
 	/**
@@ -991,7 +1407,7 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see ComplexZmanimCalendar#getShaahZmanisBaalHatanya()
 	 */
 	public long getShaahZmanisGra() {
-		return getTemporalHour(getElevationAdjustedSunrise(), getElevationAdjustedSunset());
+		return getTemporalHour(getElevationAdjustedSunriseMillis(), getElevationAdjustedSunsetMillis());
 	}
 
 	/**
@@ -1010,7 +1426,7 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public long getShaahZmanisMGA() {
-		return getTemporalHour(getAlos72(), getTzais72());
+		return getTemporalHour(getAlos72Millis(), getTzais72Millis());
 	}
 
 	/**
@@ -1118,7 +1534,30 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         {@link AstronomicalCalendar} documentation.
 	 */
 	public ZonedDateTime getShaahZmanisBasedZman(ZonedDateTime startOfDay, ZonedDateTime endOfDay, double hours) {
+		return getZonedDateTime(getShaahZmanisBasedZman(getEpochMillis(startOfDay), getEpochMillis(endOfDay), hours));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getShaahZmanisBasedZman(ZonedDateTime, ZonedDateTime, double)} using
+	 * times in milliseconds since the epoch.
+	 * 
+	 * @param startOfDay
+	 *            the start of day in milliseconds since the epoch. See {@link #getShaahZmanisBasedZman(ZonedDateTime,
+	 *            ZonedDateTime, double)}.
+	 * @param endOfDay
+	 *            the end of day in milliseconds since the epoch. See {@link #getShaahZmanisBasedZman(ZonedDateTime,
+	 *            ZonedDateTime, double)}.
+	 * @param hours
+	 *            the number of <em>shaahos zmaniyos</em> (temporal hours) to offset from the start of day
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getShaahZmanisBasedZman(ZonedDateTime, ZonedDateTime, double)
+	 */
+	public long getShaahZmanisBasedZman(long startOfDay, long endOfDay, double hours) {
 		long shaahZmanis = getTemporalHour(startOfDay, endOfDay);
+		if (shaahZmanis == Long.MIN_VALUE) {
+			return Long.MIN_VALUE;
+		}
 		return getTimeOffset(startOfDay, shaahZmanis * hours);
 	}
 	
@@ -1141,23 +1580,23 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 *         explanation on top of the page.
 	 */
 	public double getPercentOfShaahZmanisFromDegrees(double degrees, boolean sunset) {
-		ZonedDateTime seaLevelSunrise = getSeaLevelSunrise();
-		ZonedDateTime seaLevelSunset = getSeaLevelSunset();
-		ZonedDateTime twilight = null;
+		long seaLevelSunrise = getSeaLevelSunriseMillis();
+		long seaLevelSunset = getSeaLevelSunsetMillis();
+		long twilight;
 		if(sunset) {
-			twilight = getSunsetOffsetByDegrees(GEOMETRIC_ZENITH + degrees);
+			twilight = getSunsetOffsetByDegreesMillis(GEOMETRIC_ZENITH + degrees);
 		} else {
-			twilight = getSunriseOffsetByDegrees(GEOMETRIC_ZENITH + degrees);
+			twilight = getSunriseOffsetByDegreesMillis(GEOMETRIC_ZENITH + degrees);
 		}
-		if(seaLevelSunrise == null || seaLevelSunset == null || twilight == null) {
+		if(seaLevelSunrise == Long.MIN_VALUE || seaLevelSunset == Long.MIN_VALUE || twilight == Long.MIN_VALUE) {
 			return Double.MIN_VALUE;
 		}
-		double shaahZmanis = (seaLevelSunset.toEpochSecond() - seaLevelSunrise.toEpochSecond()) / 12.0;
+		double shaahZmanis = (seaLevelSunset - seaLevelSunrise) / 12.0;
 		long riseSetToTwilight;
 		if(sunset) {
-			riseSetToTwilight = twilight.toEpochSecond() - seaLevelSunset.toEpochSecond();
+			riseSetToTwilight = twilight - seaLevelSunset;
 		} else {
-			riseSetToTwilight = seaLevelSunrise.toEpochSecond() - twilight.toEpochSecond();
+			riseSetToTwilight = seaLevelSunrise - twilight;
 		}
 		return riseSetToTwilight / shaahZmanis;
 	}
@@ -1193,12 +1632,35 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @see ComplexZmanimCalendar#getFixedLocalChatzos()
 	 */
 	public ZonedDateTime getHalfDayBasedZman(ZonedDateTime startOfHalfDay, ZonedDateTime endOfHalfDay, double hours) {
-		if (startOfHalfDay == null || endOfHalfDay == null) {
-			return null;
+		return getZonedDateTime(getHalfDayBasedZman(getEpochMillis(startOfHalfDay), getEpochMillis(endOfHalfDay), hours));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getHalfDayBasedZman(ZonedDateTime, ZonedDateTime, double)} using
+	 * times in milliseconds since the epoch.
+	 * 
+	 * @param startOfHalfDay
+	 *            the start of half day in milliseconds since the epoch. See {@link #getHalfDayBasedZman(ZonedDateTime,
+	 *            ZonedDateTime, double)}.
+	 * @param endOfHalfDay
+	 *            the end of half day in milliseconds since the epoch. See {@link #getHalfDayBasedZman(ZonedDateTime,
+	 *            ZonedDateTime, double)}.
+	 * @param hours
+	 *            The number of <em>sha'os zmaniyos</em> (hours) to offset the beginning of the first or second half of
+	 *            the day. For example, 3 for <em>sof zman Shma</em>, 0.5 for <em>mincha gedola</em> (half an hour after
+	 *            <em>chatzos</em>) and 4.75 for <em>plag hamincha</em>. If the number of hours is negative, it will
+	 *            subtract the number of <em>sha'os zmaniyos</em> from the end of the day.
+	 * @return the time in milliseconds since the epoch. If the calculation can't be computed, {@link Long#MIN_VALUE}
+	 *         will be returned. See detailed explanation on top of the {@link AstronomicalCalendar} documentation.
+	 * @see #getHalfDayBasedZman(ZonedDateTime, ZonedDateTime, double)
+	 */
+	public long getHalfDayBasedZman(long startOfHalfDay, long endOfHalfDay, double hours) {
+		if (startOfHalfDay == Long.MIN_VALUE || endOfHalfDay == Long.MIN_VALUE) {
+			return Long.MIN_VALUE;
 		}
 		long shaahZmanis = getHalfDayBasedShaahZmanis(startOfHalfDay, endOfHalfDay);
 		if(shaahZmanis == Long.MIN_VALUE) { //defensive, should not be needed
-			return null;
+			return Long.MIN_VALUE;
 		}
 		if(hours >= 0) { // forward from start a day
 			return getTimeOffset(startOfHalfDay, shaahZmanis * hours);
@@ -1222,9 +1684,26 @@ public class ZmanimCalendar extends AstronomicalCalendar {
 	 * @todo Consider adjusting various shaah zmanis times to use this.
 	 */
 	public long getHalfDayBasedShaahZmanis(ZonedDateTime startOfHalfDay, ZonedDateTime endOfHalfDay) {
-		if (startOfHalfDay == null || endOfHalfDay == null) {
+		return getHalfDayBasedShaahZmanis(getEpochMillis(startOfHalfDay), getEpochMillis(endOfHalfDay));
+	}
+
+	/**
+	 * The <code>long</code> equivalent of {@link #getHalfDayBasedShaahZmanis(ZonedDateTime, ZonedDateTime)} using times
+	 * in milliseconds since the epoch.
+	 * 
+	 * @param startOfHalfDay
+	 *            the start of half day in milliseconds since the epoch. See {@link
+	 *            #getHalfDayBasedShaahZmanis(ZonedDateTime, ZonedDateTime)}.
+	 * @param endOfHalfDay
+	 *            the end of half day in milliseconds since the epoch. See {@link
+	 *            #getHalfDayBasedShaahZmanis(ZonedDateTime, ZonedDateTime)}.
+	 * @return the length in milliseconds, or {@link Long#MIN_VALUE} if it can't be calculated.
+	 * @see #getHalfDayBasedShaahZmanis(ZonedDateTime, ZonedDateTime)
+	 */
+	public long getHalfDayBasedShaahZmanis(long startOfHalfDay, long endOfHalfDay) {
+		if (startOfHalfDay == Long.MIN_VALUE || endOfHalfDay == Long.MIN_VALUE) {
 			return Long.MIN_VALUE;
 		}
-		return (endOfHalfDay.toEpochSecond() - startOfHalfDay.toEpochSecond()) / 6;
+		return (endOfHalfDay - startOfHalfDay) / 6;
 	}
 }
@@ -1579,7 +1579,7 @@ public class JewishCalendar extends JewishDate {
         ZonedDateTime cal = ZonedDateTime.of(
                 LocalDateTime.of(
                         molad.getGregorianYear(),
-                        molad.getGregorianMonth(),
+                        molad.getGregorianMonth() + 1, // the JewishDate month is 0 based
                         molad.getGregorianDayOfMonth(),
                         molad.getMoladHours(),
                         molad.getMoladMinutes(),
@@ -15,11 +15,23 @@
  */
 package com.kosherjava.zmanim.util;
 
+import java.lang.ref.WeakReference;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * An abstract class that all sun time calculating classes extend. This allows the algorithm used to be changed at
  * runtime, easily allowing comparison the results of using different algorithms.
+ * <p>
+ * A calculator holds only its configuration (the {@link #getRefraction() refraction}, {@link #getSolarRadius() solar
+ * radius} and {@link #getEarthRadius() earth radius}) and thread safe caches, so a single instance can be used by any
+ * number of calendars and threads. {@link #toShared() Shared} calculators are immutable and interned, so that all the
+ * calendars with the same configuration use the same instance. Customized ones are created with the <code>with</code>
+ * methods such as {@link #withRefraction(double)} instead of the setters, which throw an
+ * <code>UnsupportedOperationException</code> for a shared calculator.
  * @todo Consider methods that would allow atmospheric modeling. This can currently be adjusted by {@link
  * #setRefraction(double) setting the refraction}.
  * 
@@ -50,6 +62,44 @@ public abstract class AstronomicalCalculator implements Cloneable {
 	 */
 	private double earthRadius = 6356.9; // in KM
 
+	/**
+	 * If this calculator is {@link #toShared() shared}, in which case its configuration can't be changed.
+	 */
+	private volatile boolean shared;
+
+	/**
+	 * The sunrise and sunset zenith adjustment of the most recently used elevation. See {@link #adjustZenith(double,
+	 * double)}.
+	 */
+	private transient volatile ZenithAdjustment zenithAdjustment;
+
+	/**
+	 * An immutable cache of the adjustment added to the {@link #GEOMETRIC_ZENITH} for an elevation, which is the sum of
+	 * the {@link #getSolarRadius() solar radius}, {@link #getRefraction() refraction} and {@link
+	 * #getElevationAdjustment(double) elevation adjustment}. The elevation of a location rarely changes, so this saves
+	 * the arc cosine of the elevation adjustment on almost every sunrise and sunset calculation. The cache is cleared
+	 * by the setters, and a changed {@link GeoLocation#setElevation(double) elevation} simply doesn't match it.
+	 */
+	private static final class ZenithAdjustment {
+		/** The elevation in meters. */
+		private final double elevation;
+
+		/** The adjustment in degrees. */
+		private final double adjustment;
+
+		private ZenithAdjustment(double elevation, double adjustment) {
+			this.elevation = elevation;
+			this.adjustment = adjustment;
+		}
+	}
+
+	/**
+	 * The interned shared calculators, each mapped to a weak reference to itself, so that a calculator that is no
+	 * longer used, along with any tables it holds, can be garbage collected. Access is synchronized on the map.
+	 */
+	private static final Map<AstronomicalCalculator, WeakReference<AstronomicalCalculator>> SHARED_CALCULATORS =
+			new WeakHashMap<AstronomicalCalculator, WeakReference<AstronomicalCalculator>>();
+
 	/**
 	 * A method that returns the earth radius in KM. The value currently defaults to 6356.9 KM if not set.
 	 * 
@@ -64,9 +114,29 @@ public abstract class AstronomicalCalculator implements Cloneable {
 	 * 
 	 * @param earthRadius
 	 *            the earthRadius to set in KM
+	 * @throws UnsupportedOperationException
+	 *             if the calculator is {@link #isShared() shared}. Use {@link #withEarthRadius(double)} instead.
 	 */
 	public void setEarthRadius(double earthRadius) {
+		checkNotShared();
 		this.earthRadius = earthRadius;
+		zenithAdjustment = null;
+	}
+
+	/**
+	 * Returns a {@link #toShared() shared} calculator with the configuration of this one, but with a different earth
+	 * radius. This calculator is not changed.
+	 * 
+	 * @param earthRadius
+	 *            the earth radius in KM
+	 * @return the shared calculator
+	 * @see #setEarthRadius(double)
+	 */
+	public AstronomicalCalculator withEarthRadius(double earthRadius) {
+		AstronomicalCalculator calculator = (AstronomicalCalculator) clone();
+		calculator.earthRadius = earthRadius;
+		calculator.zenithAdjustment = null;
+		return calculator.toShared();
 	}
 
 	/**
@@ -74,6 +144,12 @@ public abstract class AstronomicalCalculator implements Cloneable {
 	 */
 	private static final double GEOMETRIC_ZENITH = 90;
 
+	/**
+	 * The <a href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a> of the start of the Unix epoch,
+	 * January 1, 1970 at 0:00 UTC.
+	 */
+	static final double JULIAN_DAY_EPOCH = 2440587.5;
+
 	/**
 	 * Returns the default class for calculating sunrise and sunset. This is currently the {@link NOAACalculator},
 	 * but this may change.
@@ -85,6 +161,72 @@ public abstract class AstronomicalCalculator implements Cloneable {
 		return new NOAACalculator();
 	}
 
+	/**
+	 * Returns the {@link #toShared() shared} instance of the {@link #getDefault() default calculator}. Unlike the
+	 * calculator a calendar creates for itself, it can be set on any number of calendars but can't be changed.
+	 * 
+	 * @return the shared default calculator
+	 */
+	public static AstronomicalCalculator getSharedDefault() {
+		return SharedDefaultHolder.DEFAULT;
+	}
+
+	/**
+	 * Holds the {@link #getSharedDefault() shared default calculator}, so that it is only created when first used.
+	 */
+	private static final class SharedDefaultHolder {
+		/** The shared default calculator. */
+		private static final AstronomicalCalculator DEFAULT = getDefault().toShared();
+	}
+
+	/**
+	 * Returns the shared, immutable calculator with the same class and configuration as this one. All the calls with
+	 * equal calculators return the same instance for as long as it is used, and it can be used by any number of
+	 * calendars and threads. A shared calculator that is no longer referenced is not kept, so interning any number of
+	 * configurations doesn't leak memory. If this calculator is already shared, it is returned.
+	 * 
+	 * @return the shared calculator
+	 * @see #isShared()
+	 */
+	public AstronomicalCalculator toShared() {
+		if (shared) {
+			return this;
+		}
+		synchronized (SHARED_CALCULATORS) {
+			WeakReference<AstronomicalCalculator> reference = SHARED_CALCULATORS.get(this);
+			AstronomicalCalculator calculator = reference == null ? null : reference.get();
+			if (calculator == null) {
+				calculator = (AstronomicalCalculator) clone();
+				calculator.shared = true;
+				SHARED_CALCULATORS.put(calculator, new WeakReference<AstronomicalCalculator>(calculator));
+			}
+			return calculator;
+		}
+	}
+
+	/**
+	 * Returns if this calculator is {@link #toShared() shared}, in which case its configuration can't be changed.
+	 * 
+	 * @return <code>true</code> if the calculator is shared
+	 */
+	public boolean isShared() {
+		return shared;
+	}
+
+	/**
+	 * Throws an exception if this calculator is {@link #isShared() shared}. Called by all the setters of the
+	 * configuration.
+	 * 
+	 * @throws UnsupportedOperationException
+	 *             if the calculator is shared
+	 */
+	protected void checkNotShared() {
+		if (shared) {
+			throw new UnsupportedOperationException("A shared calculator can't be changed. Use the with methods, such "
+					+ "as withRefraction(double), to get a calculator with a different configuration.");
+		}
+	}
+
 	/**
 	 * Returns the name of the algorithm.
 	 * 
@@ -163,6 +305,321 @@ public abstract class AstronomicalCalculator implements Cloneable {
 	 */
 	public abstract double getUTCNoon(ZonedDateTime calendar, GeoLocation geoLocation);
 
+	/**
+	 * A method that calculates UTC sunrise and sunset for a number of zeniths on the same day in a single call. This
+	 * allows implementations to calculate the date dependent part of the calculation only once, instead of once per
+	 * zenith as is done when calling {@link #getUTCSunrise(ZonedDateTime, GeoLocation, double, boolean)} and {@link
+	 * #getUTCSunset(ZonedDateTime, GeoLocation, double, boolean)} for each zenith. This default implementation simply
+	 * calls these methods for each zenith, and is overridden by the {@link NOAACalculator} and {@link
+	 * SunTimesCalculator} with more efficient implementations. The results are identical to the ones returned by the
+	 * single zenith methods.
+	 * 
+	 * @param calendar
+	 *            Used to calculate day of year.
+	 * @param geoLocation
+	 *            The location information used for astronomical calculating sun times.
+	 * @param zeniths
+	 *            the zeniths to calculate sunrise and sunset for. See {@link #getUTCSunrise(ZonedDateTime, GeoLocation,
+	 *            double, boolean)} for details.
+	 * @param adjustForElevation
+	 *            Should the time be adjusted for elevation
+	 * @param sunrises
+	 *            an array of at least <code>zeniths.length</code> that will be filled with the UTC time of sunrise for
+	 *            the zenith at the same index (or {@link java.lang.Double#NaN} if it can't be calculated). If
+	 *            <code>null</code>, sunrise will not be calculated.
+	 * @param sunsets
+	 *            an array of at least <code>zeniths.length</code> that will be filled with the UTC time of sunset for
+	 *            the zenith at the same index (or {@link java.lang.Double#NaN} if it can't be calculated). If
+	 *            <code>null</code>, sunset will not be calculated.
+	 * @throws IllegalArgumentException
+	 *             if <code>zeniths</code> is null or if either of the result arrays is shorter than <code>zeniths</code>.
+	 */
+	public void getUTCSunrisesAndSunsets(ZonedDateTime calendar, GeoLocation geoLocation, double[] zeniths,
+			boolean adjustForElevation, double[] sunrises, double[] sunsets) {
+		validateBatchArrays(zeniths, sunrises, sunsets);
+		for (int i = 0; i < zeniths.length; i++) {
+			if (sunrises != null) {
+				sunrises[i] = getUTCSunrise(calendar, geoLocation, zeniths[i], adjustForElevation);
+			}
+			if (sunsets != null) {
+				sunsets[i] = getUTCSunset(calendar, geoLocation, zeniths[i], adjustForElevation);
+			}
+		}
+	}
+
+	/**
+	 * Return <a href="https://en.wikipedia.org/wiki/Noon#Solar_noon">solar noon</a> (UTC) for the day starting at the
+	 * <a href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a> passed in. This allows a range of days to be
+	 * calculated by incrementing the Julian day, without creating a <code>ZonedDateTime</code> for every day. This
+	 * default implementation converts the Julian day to a <code>ZonedDateTime</code> and calls {@link
+	 * #getUTCNoon(ZonedDateTime, GeoLocation)}, and is overridden by the {@link NOAACalculator} that works directly with
+	 * the Julian day.
+	 * 
+	 * @param julianDay
+	 *            the Julian day at the start (0:00 UTC) of the day as returned by {@link #getJulianDay(LocalDate)}.
+	 * @param geoLocation
+	 *            The location information used for astronomical calculating sun times.
+	 * @return the time in minutes from zero UTC
+	 * @see #getUTCNoon(ZonedDateTime, GeoLocation)
+	 */
+	public double getUTCNoon(double julianDay, GeoLocation geoLocation) {
+		return getUTCNoon(getCalendar(julianDay), geoLocation);
+	}
+
+	/**
+	 * Return solar midnight (UTC), the time when the sun is at its <a href="https://en.wikipedia.org/wiki/Nadir">nadir
+	 * </a> crossing the lower meridian, on the night after the {@link #getUTCNoon(ZonedDateTime, GeoLocation) solar
+	 * noon} of the day. This default implementation returns the time halfway between the solar noon of the day and the
+	 * solar noon of the next day, and is overridden by calculators that can calculate it directly.
+	 * 
+	 * @param calendar
+	 *            The Calendar representing the date to calculate solar midnight after
+	 * @param geoLocation
+	 *            The location information used for astronomical calculating sun times.
+	 * @return the time in hours from zero UTC (&gt;= 0 and &lt; 24). If the calculation can't be computed, {@link
+	 *         java.lang.Double#NaN} will be returned.
+	 * @see #getUTCNoon(ZonedDateTime, GeoLocation)
+	 */
+	public double getUTCMidnight(ZonedDateTime calendar, GeoLocation geoLocation) {
+		double noon = getUTCNoon(calendar, geoLocation);
+		double nextNoon = getUTCNoon(calendar.plusDays(1), geoLocation);
+		double midnight = noon + 12 + Math.IEEEremainder(nextNoon - noon, 24) / 2;
+		return midnight - 24 * Math.floor(midnight / 24);
+	}
+
+	/**
+	 * Returns if the sun crosses the zenith on the day, and if not, if it is above or below it all day. This is cheap
+	 * compared to calculating the time, and can be used to explain a {@link java.lang.Double#NaN} returned by {@link
+	 * #getUTCSunrise(ZonedDateTime, GeoLocation, double, boolean)} or {@link #getUTCSunset(ZonedDateTime, GeoLocation,
+	 * double, boolean)}. This default implementation uses the declination of the sun at the approximate solar noon
+	 * calculated by the {@link NOAACalculator} algorithm, and may disagree with a calculator on the day that the sun
+	 * first or last crosses the zenith, since the declination changes during the day.
+	 * 
+	 * @param calendar
+	 *            Used to calculate day of year.
+	 * @param geoLocation
+	 *            The location information used for astronomical calculating sun times.
+	 * @param zenith
+	 *            the azimuth below the vertical zenith of 90 degrees. See {@link #getUTCSunrise(ZonedDateTime,
+	 *            GeoLocation, double, boolean)} for details.
+	 * @param adjustForElevation
+	 *            Should the zenith be adjusted for elevation
+	 * @return the status of the sunrise and sunset for the zenith
+	 * @see SolarEventStatus#getStatus(double, double, double)
+	 */
+	public SolarEventStatus getSolarEventStatus(ZonedDateTime calendar, GeoLocation geoLocation, double zenith,
+			boolean adjustForElevation) {
+		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
+		double julianDay = getJulianDay(calendar);
+		double declination = NOAACalculator.getSunDeclination(NOAACalculator.getJulianCenturiesFromJulianDay(julianDay
+				+ 0.5 - geoLocation.getLongitude() / 360));
+		return SolarEventStatus.getStatus(geoLocation.getLatitude(), declination, adjustZenith(zenith, elevation));
+	}
+
+	/**
+	 * The <a href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a> based equivalent of {@link
+	 * #getUTCSunrisesAndSunsets(ZonedDateTime, GeoLocation, double[], boolean, double[], double[])}. This allows a
+	 * range of days to be calculated by incrementing the Julian day, without creating a <code>ZonedDateTime</code> for
+	 * every day. This default implementation converts the Julian day to a <code>ZonedDateTime</code>, and is
+	 * overridden by the {@link NOAACalculator} that works directly with the Julian day.
+	 * 
+	 * @param julianDay
+	 *            the Julian day at the start (0:00 UTC) of the day as returned by {@link #getJulianDay(LocalDate)}.
+	 * @param geoLocation
+	 *            The location information used for astronomical calculating sun times.
+	 * @param zeniths
+	 *            the zeniths to calculate sunrise and sunset for. See {@link #getUTCSunrise(ZonedDateTime, GeoLocation,
+	 *            double, boolean)} for details.
+	 * @param adjustForElevation
+	 *            Should the time be adjusted for elevation
+	 * @param sunrises
+	 *            an array of at least <code>zeniths.length</code> that will be filled with the UTC time of sunrise for
+	 *            the zenith at the same index, or <code>null</code> if sunrise should not be calculated.
+	 * @param sunsets
+	 *            an array of at least <code>zeniths.length</code> that will be filled with the UTC time of sunset for
+	 *            the zenith at the same index, or <code>null</code> if sunset should not be calculated.
+	 * @throws IllegalArgumentException
+	 *             if <code>zeniths</code> is null or if either of the result arrays is shorter than <code>zeniths</code>.
+	 * @see #getUTCSunrisesAndSunsets(ZonedDateTime, GeoLocation, double[], boolean, double[], double[])
+	 */
+	public void getUTCSunrisesAndSunsets(double julianDay, GeoLocation geoLocation, double[] zeniths,
+			boolean adjustForElevation, double[] sunrises, double[] sunsets) {
+		getUTCSunrisesAndSunsets(getCalendar(julianDay), geoLocation, zeniths, adjustForElevation, sunrises, sunsets);
+	}
+
+	/**
+	 * A method that calculates UTC sunrise and sunset for a single zenith at a number of locations on the same <a
+	 * href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a>, such as when recalculating every location of a
+	 * database for a new year. This default implementation calls {@link #getUTCSunrisesAndSunsets(double, GeoLocation,
+	 * double[], boolean, double[], double[])} for each location, and is overridden by the {@link NOAACalculator} that
+	 * calculates a number of locations at once when the platform supports it.
+	 *
+	 * @param julianDay
+	 *            the Julian day at the start (0:00 UTC) of the day as returned by {@link #getJulianDay(LocalDate)}.
+	 * @param geoLocations
+	 *            the locations to calculate sunrise and sunset for
+	 * @param zenith
+	 *            the azimuth below the vertical zenith of 90 degrees. See {@link #getUTCSunrise(ZonedDateTime,
+	 *            GeoLocation, double, boolean)} for details.
+	 * @param adjustForElevation
+	 *            Should the time be adjusted for the elevation of each location
+	 * @param sunrises
+	 *            an array of at least <code>geoLocations.length</code> that will be filled with the UTC time of sunrise
+	 *            at the location at the same index, or <code>null</code> if sunrise should not be calculated.
+	 * @param sunsets
+	 *            an array of at least <code>geoLocations.length</code> that will be filled with the UTC time of sunset
+	 *            at the location at the same index, or <code>null</code> if sunset should not be calculated.
+	 * @throws IllegalArgumentException
+	 *             if <code>geoLocations</code> is null or if either of the result arrays is shorter than
+	 *             <code>geoLocations</code>.
+	 */
+	public void getUTCSunrisesAndSunsets(double julianDay, GeoLocation[] geoLocations, double zenith,
+			boolean adjustForElevation, double[] sunrises, double[] sunsets) {
+		validateLocationArrays(geoLocations, sunrises, sunsets);
+		double[] zeniths = { zenith };
+		double[] sunrise = new double[1];
+		double[] sunset = new double[1];
+		for (int i = 0; i < geoLocations.length; i++) {
+			getUTCSunrisesAndSunsets(julianDay, geoLocations[i], zeniths, adjustForElevation,
+					sunrises == null ? null : sunrise, sunsets == null ? null : sunset);
+			if (sunrises != null) {
+				sunrises[i] = sunrise[0];
+			}
+			if (sunsets != null) {
+				sunsets[i] = sunset[0];
+			}
+		}
+	}
+
+	/**
+	 * Return the <a href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a> at the start (0:00 UTC) of the
+	 * date passed in. Consecutive days differ by exactly 1, so a range of days can be iterated by incrementing the
+	 * returned value.
+	 * 
+	 * @param date
+	 *            the date
+	 * @return the Julian day corresponding to the start of the date
+	 */
+	public static double getJulianDay(LocalDate date) {
+		return getJulianDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+	}
+
+	/**
+	 * Return the <a href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a> at the start (0:00 UTC) of the day
+	 * of the calendar. Fractional days should be added later.
+	 * 
+	 * @param calendar
+	 *            the calendar
+	 * @return the Julian day corresponding to the start of the date of the calendar
+	 */
+	protected static double getJulianDay(ZonedDateTime calendar) {
+		return getJulianDay(calendar.getYear(), calendar.getMonthValue(), calendar.getDayOfMonth());
+	}
+
+	/**
+	 * Return the <a href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a> at the start (0:00 UTC) of the
+	 * Gregorian date passed in.
+	 * 
+	 * @param year
+	 *            the year
+	 * @param month
+	 *            the month (1 - 12)
+	 * @param day
+	 *            the day of month
+	 * @return the Julian day corresponding to the start of the date
+	 */
+	static double getJulianDay(int year, int month, int day) {
+		if (month <= 2) {
+			year -= 1;
+			month += 12;
+		}
+		int a = year / 100;
+		int b = 2 - a + a / 4;
+
+		return Math.floor(365.25 * (year + 4716)) + Math.floor(30.6001 * (month + 1)) + day + b - 1524.5;
+	}
+
+	/**
+	 * Converts a time in minutes from zero UTC to hours in the range of &gt;= 0 and &lt; 24.
+	 * 
+	 * @param minutes
+	 *            the time in minutes from zero UTC
+	 * @return the time in hours, or {@link Double#NaN} if <code>minutes</code> is NaN
+	 */
+	protected static double getHoursFromMinutesUTC(double minutes) {
+		double hours = minutes / 60;
+
+		// ensure that the time is >= 0 and < 24
+		while (hours < 0.0) {
+			hours += 24.0;
+		}
+		while (hours >= 24.0) {
+			hours -= 24.0;
+		}
+		return hours;
+	}
+
+	/**
+	 * Returns a UTC <code>ZonedDateTime</code> at the start of the <a href="https://en.wikipedia.org/wiki/Julian_day">
+	 * Julian day</a> passed in, for use by the default implementations of the Julian day based methods.
+	 * 
+	 * @param julianDay
+	 *            the Julian day
+	 * @return the <code>ZonedDateTime</code> of the start of the day
+	 */
+	private static ZonedDateTime getCalendar(double julianDay) {
+		return LocalDate.ofEpochDay((long) Math.floor(julianDay - JULIAN_DAY_EPOCH)).atStartOfDay(ZoneOffset.UTC);
+	}
+
+	/**
+	 * Validates the arrays passed to {@link #getUTCSunrisesAndSunsets(ZonedDateTime, GeoLocation, double[], boolean,
+	 * double[], double[])}.
+	 * 
+	 * @param zeniths
+	 *            the zeniths
+	 * @param sunrises
+	 *            the sunrise results array. May be <code>null</code>.
+	 * @param sunsets
+	 *            the sunset results array. May be <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if <code>zeniths</code> is null or if either of the result arrays is shorter than <code>zeniths</code>.
+	 */
+	static void validateBatchArrays(double[] zeniths, double[] sunrises, double[] sunsets) {
+		if (zeniths == null) {
+			throw new IllegalArgumentException("The zeniths array can't be null");
+		}
+		if ((sunrises != null && sunrises.length < zeniths.length)
+				|| (sunsets != null && sunsets.length < zeniths.length)) {
+			throw new IllegalArgumentException("The result arrays must be at least as long as the zeniths array ("
+					+ zeniths.length + ")");
+		}
+	}
+
+	/**
+	 * Validates the arrays passed to {@link #getUTCSunrisesAndSunsets(double, GeoLocation[], double, boolean, double[],
+	 * double[])}.
+	 *
+	 * @param geoLocations
+	 *            the locations
+	 * @param sunrises
+	 *            the sunrise results array. May be <code>null</code>.
+	 * @param sunsets
+	 *            the sunset results array. May be <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if <code>geoLocations</code> is null or if either of the result arrays is shorter than
+	 *             <code>geoLocations</code>.
+	 */
+	static void validateLocationArrays(GeoLocation[] geoLocations, double[] sunrises, double[] sunsets) {
+		if (geoLocations == null) {
+			throw new IllegalArgumentException("The locations array can't be null");
+		}
+		if ((sunrises != null && sunrises.length < geoLocations.length)
+				|| (sunsets != null && sunsets.length < geoLocations.length)) {
+			throw new IllegalArgumentException("The result arrays must be at least as long as the locations array ("
+					+ geoLocations.length + ")");
+		}
+	}
+
 	/**
 	 * Method to return the adjustment to the zenith required to account for the elevation. Since a person at a higher
 	 * elevation can see farther below the horizon, the calculation for sunrise / sunset is calculated below the horizon
@@ -229,7 +686,13 @@ public abstract class AstronomicalCalculator implements Cloneable {
 	double adjustZenith(double zenith, double elevation) {
 		double adjustedZenith = zenith;
 		if (zenith == GEOMETRIC_ZENITH) { // only adjust if it is exactly sunrise or sunset
-			adjustedZenith = zenith + (getSolarRadius() + getRefraction() + getElevationAdjustment(elevation));
+			ZenithAdjustment cached = zenithAdjustment;
+			if (cached == null || Double.doubleToLongBits(cached.elevation) != Double.doubleToLongBits(elevation)) {
+				cached = new ZenithAdjustment(elevation, getSolarRadius() + getRefraction()
+						+ getElevationAdjustment(elevation));
+				zenithAdjustment = cached;
+			}
+			adjustedZenith = zenith + cached.adjustment;
 		}
 		return adjustedZenith;
 	}
@@ -255,10 +718,30 @@ public abstract class AstronomicalCalculator implements Cloneable {
 	 * 
 	 * @param refraction
 	 *            The refraction in arc minutes.
+	 * @throws UnsupportedOperationException
+	 *             if the calculator is {@link #isShared() shared}. Use {@link #withRefraction(double)} instead.
 	 * @see #getRefraction()
 	 */
 	public void setRefraction(double refraction) {
+		checkNotShared();
 		this.refraction = refraction;
+		zenithAdjustment = null;
+	}
+
+	/**
+	 * Returns a {@link #toShared() shared} calculator with the configuration of this one, but with a different
+	 * refraction. This calculator is not changed.
+	 * 
+	 * @param refraction
+	 *            The refraction in arc minutes.
+	 * @return the shared calculator
+	 * @see #setRefraction(double)
+	 */
+	public AstronomicalCalculator withRefraction(double refraction) {
+		AstronomicalCalculator calculator = (AstronomicalCalculator) clone();
+		calculator.refraction = refraction;
+		calculator.zenithAdjustment = null;
+		return calculator.toShared();
 	}
 
 	/**
@@ -287,13 +770,36 @@ public abstract class AstronomicalCalculator implements Cloneable {
 	 * 
 	 * @param solarRadius
 	 *            The sun's radius in arc minutes.
+	 * @throws UnsupportedOperationException
+	 *             if the calculator is {@link #isShared() shared}. Use {@link #withSolarRadius(double)} instead.
 	 * @see #getSolarRadius()
 	 */
 	public void setSolarRadius(double solarRadius) {
+		checkNotShared();
 		this.solarRadius = solarRadius;
+		zenithAdjustment = null;
+	}
+
+	/**
+	 * Returns a {@link #toShared() shared} calculator with the configuration of this one, but with a different solar
+	 * radius. This calculator is not changed.
+	 * 
+	 * @param solarRadius
+	 *            The sun's radius in arc minutes.
+	 * @return the shared calculator
+	 * @see #setSolarRadius(double)
+	 */
+	public AstronomicalCalculator withSolarRadius(double solarRadius) {
+		AstronomicalCalculator calculator = (AstronomicalCalculator) clone();
+		calculator.solarRadius = solarRadius;
+		calculator.zenithAdjustment = null;
+		return calculator.toShared();
 	}
 
 	/**
+	 * Returns a copy of the calculator. The copy is never {@link #isShared() shared}, so it can be configured using the
+	 * setters even if this calculator is shared.
+	 * 
 	 * @see java.lang.Object#clone()
 	 * @since 1.1
 	 */
@@ -304,6 +810,39 @@ public abstract class AstronomicalCalculator implements Cloneable {
 		} catch (CloneNotSupportedException cnse) {
 			System.out.print("Required by the compiler. Should never be reached since we implement clone()");
 		}
+		clone.shared = false;
 		return clone;
 	}
+
+	/**
+	 * Two calculators are equal if they are of the same class and have the same configuration, regardless of whether
+	 * they are {@link #isShared() shared}.
+	 * 
+	 * @see java.lang.Object#equals(Object)
+	 */
+	public boolean equals(Object object) {
+		if (this == object)
+			return true;
+		if (object == null || object.getClass() != getClass())
+			return false;
+		AstronomicalCalculator calculator = (AstronomicalCalculator) object;
+		return Double.doubleToLongBits(this.refraction) == Double.doubleToLongBits(calculator.refraction)
+				&& Double.doubleToLongBits(this.solarRadius) == Double.doubleToLongBits(calculator.solarRadius)
+				&& Double.doubleToLongBits(this.earthRadius) == Double.doubleToLongBits(calculator.earthRadius);
+	}
+
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	public int hashCode() {
+		int result = 17;
+		long refractionLong = Double.doubleToLongBits(this.refraction);
+		long solarRadiusLong = Double.doubleToLongBits(this.solarRadius);
+		long earthRadiusLong = Double.doubleToLongBits(this.earthRadius);
+		result = 37 * result + getClass().hashCode();
+		result += 37 * result + (int) (refractionLong ^ (refractionLong >>> 32));
+		result += 37 * result + (int) (solarRadiusLong ^ (solarRadiusLong >>> 32));
+		result += 37 * result + (int) (earthRadiusLong ^ (earthRadiusLong >>> 32));
+		return result;
+	}
 }
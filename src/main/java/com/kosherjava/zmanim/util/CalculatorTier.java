@@ -0,0 +1,71 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+/**
+ * The performance and accuracy tiers of the {@link AstronomicalCalculator} implementations, for choosing a calculator
+ * by its trade-off rather than by its class. The calculator of an {@link com.kosherjava.zmanim.AstronomicalCalendar}
+ * can be set to a tier with:
+ *
+ * <pre>
+ * calendar.setAstronomicalCalculator(CalculatorTier.PRECISE.getSharedCalculator());
+ * </pre>
+ *
+ * @see AstronomicalCalculator#getDefault()
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public enum CalculatorTier {
+	/**
+	 * The {@link FastNOAACalculator}, for serving times in bulk. It is about twice as fast as the {@link #STANDARD}
+	 * tier, and within {@link FastNOAACalculator#MAX_ERROR_MILLIS 2 milliseconds} of it.
+	 */
+	FAST,
+	/**
+	 * The {@link NOAACalculator}, the {@link AstronomicalCalculator#getDefault() default calculator}.
+	 */
+	STANDARD,
+	/**
+	 * The {@link SPACalculator}, for publishing reference calendars. It is accurate to a fraction of a second
+	 * (excluding the variation of the refraction), but is many times slower than the {@link #STANDARD} tier.
+	 */
+	PRECISE;
+
+	/**
+	 * Returns a new instance of the calculator of the tier.
+	 *
+	 * @return the calculator
+	 */
+	public AstronomicalCalculator getCalculator() {
+		switch (this) {
+		case FAST:
+			return new FastNOAACalculator();
+		case PRECISE:
+			return new SPACalculator();
+		default:
+			return new NOAACalculator();
+		}
+	}
+
+	/**
+	 * Returns the {@link AstronomicalCalculator#toShared() shared} instance of the calculator of the tier, which can be
+	 * used by any number of calendars and threads.
+	 *
+	 * @return the shared calculator
+	 */
+	public AstronomicalCalculator getSharedCalculator() {
+		return this == STANDARD ? AstronomicalCalculator.getSharedDefault() : getCalculator().toShared();
+	}
+}
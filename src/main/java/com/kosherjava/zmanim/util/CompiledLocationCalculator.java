@@ -0,0 +1,628 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.time.Month;
+import java.time.Year;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+/**
+ * A calculator "compiled" for a single heavily used location. On construction, the sunrise and sunset of each zenith
+ * and the solar noon calculated by another calculator (typically the {@link NOAACalculator}) for every day of a range of
+ * years are fitted with a <a href="https://en.wikipedia.org/wiki/Chebyshev_polynomials">Chebyshev polynomial</a> per
+ * month. Looking up a time for that location then evaluates a polynomial of a few terms instead of running the full
+ * calculation. As the calendars only ever calculate times for whole days, every fitted day is checked against the
+ * source calculator, and a month is only fitted if all of its times are within {@link #MAX_ERROR_MILLIS} of it.
+ * <p>
+ * Anything not compiled is calculated by the source calculator, so this calculator can be set on any calendar. This
+ * includes other locations, other zeniths, dates outside of the range of years, and the months in which an event does
+ * not occur on some days (at high latitudes) or that can't be fitted closely enough. The coefficients take about 1.5 KB
+ * per event per year, far less than a table of the times themselves for ranges of many years. Here is an example of
+ * compiling a location for sunrise, sunset and the zeniths used for <em>alos</em> and <em>tzais</em>:
+ *
+ * <pre>
+ * AstronomicalCalculator compiled = new CompiledLocationCalculator(location, AstronomicalCalculator.getDefault(), 2020,
+ * 		2040, new double[] { AstronomicalCalendar.GEOMETRIC_ZENITH, 106.1, 98.5 }).toShared();
+ * ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(location);
+ * calendar.setAstronomicalCalculator(compiled);
+ * </pre>
+ *
+ * The sunrise and sunset for {@link com.kosherjava.zmanim.AstronomicalCalendar#GEOMETRIC_ZENITH 90&deg;} are
+ * compiled both with and without the elevation adjustment, as they are used for both by the calendars. The
+ * configuration of the calculator (such as the {@link #getRefraction() refraction}) is the one of the source calculator
+ * and can't be changed after compilation.
+ *
+ * @see NOAACalculator
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public class CompiledLocationCalculator extends AstronomicalCalculator {
+	/**
+	 * The maximum difference in milliseconds between the times returned by this class and the ones calculated by the
+	 * source calculator. This is checked for every compiled day.
+	 */
+	public static final long MAX_ERROR_MILLIS = 1;
+
+	/**
+	 * The {@link #MAX_ERROR_MILLIS} in hours.
+	 */
+	private static final double MAX_ERROR_HOURS = MAX_ERROR_MILLIS / 3600000.0;
+
+	/**
+	 * The zenith of sunrise and sunset, the only zenith that is adjusted for elevation.
+	 */
+	private static final double GEOMETRIC_ZENITH = 90;
+
+	/**
+	 * The lowest degree of polynomial fitted to a month.
+	 */
+	private static final int MIN_DEGREE = 4;
+
+	/**
+	 * The highest degree of polynomial fitted to a month. Months that need a higher degree are not compiled.
+	 */
+	private static final int MAX_DEGREE = 14;
+
+	/**
+	 * The number of coefficients stored for every month.
+	 */
+	private static final int COEFFICIENTS = MAX_DEGREE + 1;
+
+	/**
+	 * The {@link #toShared() shared} copy of the calculator that was compiled, used for everything not compiled.
+	 */
+	private final AstronomicalCalculator calculator;
+
+	/**
+	 * A copy of the location that was compiled.
+	 */
+	private final GeoLocation geoLocation;
+
+	/**
+	 * The first year compiled.
+	 */
+	private final int startYear;
+
+	/**
+	 * The last year compiled.
+	 */
+	private final int endYear;
+
+	/**
+	 * The zeniths that were compiled.
+	 */
+	private final double[] zeniths;
+
+	/**
+	 * The sunrise of each of the {@link #zeniths} at sea level.
+	 */
+	private final Series[] sunrises;
+
+	/**
+	 * The sunset of each of the {@link #zeniths} at sea level.
+	 */
+	private final Series[] sunsets;
+
+	/**
+	 * The elevation adjusted sunrise, or <code>null</code> if 90&deg; wasn't compiled or the elevation is 0.
+	 */
+	private final Series elevationSunrise;
+
+	/**
+	 * The elevation adjusted sunset, or <code>null</code> if 90&deg; wasn't compiled or the elevation is 0.
+	 */
+	private final Series elevationSunset;
+
+	/**
+	 * The solar noon.
+	 */
+	private final Series noons;
+
+	/**
+	 * The Chebyshev polynomials of a single event for every month of the compiled years. Each month is fitted over its
+	 * days, with the first day of the month at -1 and the last day at 1.
+	 */
+	private static final class Series {
+		/**
+		 * The first year of the series.
+		 */
+		private final int startYear;
+
+		/**
+		 * The degree of the polynomial of every month, or -1 if the month isn't compiled.
+		 */
+		private final byte[] degrees;
+
+		/**
+		 * The {@link #COEFFICIENTS} of every month, in hours UTC.
+		 */
+		private final double[] coefficients;
+
+		private Series(int startYear, int months) {
+			this.startYear = startYear;
+			degrees = new byte[months];
+			coefficients = new double[months * COEFFICIENTS];
+		}
+
+		/**
+		 * Returns the time for the date of the calendar.
+		 *
+		 * @param calendar
+		 *            the date
+		 * @return the time in hours UTC, or {@link Double#NaN} if the date isn't compiled
+		 */
+		private double getHours(ZonedDateTime calendar) {
+			int year = calendar.getYear();
+			int month = (year - startYear) * 12 + calendar.getMonthValue() - 1;
+			if (month < 0 || month >= degrees.length || degrees[month] < 0) {
+				return Double.NaN;
+			}
+			int days = calendar.getMonth().length(Year.isLeap(year));
+			double x = (2.0 * (calendar.getDayOfMonth() - 1) - (days - 1)) / (days - 1);
+			double hours = evaluate(coefficients, month * COEFFICIENTS, degrees[month], x);
+			return hours - 24 * Math.floor(hours / 24);
+		}
+	}
+
+	/**
+	 * Compiles a location.
+	 *
+	 * @param geoLocation
+	 *            the location to compile. A copy is kept, so later changes to it do not affect this calculator.
+	 * @param calculator
+	 *            the calculator to compile, such as the {@link NOAACalculator}. Its {@link #toShared() shared} copy is
+	 *            kept, so later changes to it do not affect this calculator.
+	 * @param startYear
+	 *            the first year to compile
+	 * @param endYear
+	 *            the last year to compile
+	 * @param zeniths
+	 *            the zeniths to compile sunrise and sunset for, such as {@link
+	 *            com.kosherjava.zmanim.AstronomicalCalendar#GEOMETRIC_ZENITH} or 106.1&deg; for <em>alos</em> 16.1&deg;.
+	 *            May be empty, in which case only solar noon is compiled.
+	 * @throws IllegalArgumentException
+	 *             if any of the objects are <code>null</code> or the end year is before the start year
+	 */
+	public CompiledLocationCalculator(GeoLocation geoLocation, AstronomicalCalculator calculator, int startYear,
+			int endYear, double[] zeniths) {
+		if (geoLocation == null || calculator == null || zeniths == null) {
+			throw new IllegalArgumentException("The location, calculator and zeniths can't be null");
+		}
+		if (endYear < startYear) {
+			throw new IllegalArgumentException("The end year " + endYear + " is before the start year " + startYear);
+		}
+		super.setRefraction(calculator.getRefraction());
+		super.setSolarRadius(calculator.getSolarRadius());
+		super.setEarthRadius(calculator.getEarthRadius());
+		this.calculator = calculator.toShared();
+		this.geoLocation = (GeoLocation) geoLocation.clone();
+		this.startYear = startYear;
+		this.endYear = endYear;
+		this.zeniths = zeniths.clone();
+
+		int months = (endYear - startYear + 1) * 12;
+		sunrises = new Series[zeniths.length];
+		sunsets = new Series[zeniths.length];
+		int geometric = -1;
+		for (int i = 0; i < zeniths.length; i++) {
+			sunrises[i] = new Series(startYear, months);
+			sunsets[i] = new Series(startYear, months);
+			if (zeniths[i] == GEOMETRIC_ZENITH) {
+				geometric = i;
+			}
+		}
+		boolean compileElevation = geometric >= 0 && geoLocation.getElevation() != 0;
+		elevationSunrise = compileElevation ? new Series(startYear, months) : null;
+		elevationSunset = compileElevation ? new Series(startYear, months) : null;
+		noons = new Series(startYear, months);
+		compile();
+	}
+
+	/**
+	 * Calculates the times of every day using the source calculator and fits the polynomials of every month.
+	 */
+	private void compile() {
+		int count = zeniths.length;
+		double[][] sunriseHours = new double[count][31];
+		double[][] sunsetHours = new double[count][31];
+		double[] elevationSunriseHours = new double[31];
+		double[] elevationSunsetHours = new double[31];
+		double[] noonHours = new double[31];
+		double[] sunrise = new double[count];
+		double[] sunset = new double[count];
+		double[] geometric = { GEOMETRIC_ZENITH };
+		double[] elevationSunriseTime = new double[1];
+		double[] elevationSunsetTime = new double[1];
+		double[] work = new double[31 * COEFFICIENTS + COEFFICIENTS * (COEFFICIENTS + 1)];
+
+		for (int year = startYear; year <= endYear; year++) {
+			for (int monthOfYear = 1; monthOfYear <= 12; monthOfYear++) {
+				int month = (year - startYear) * 12 + monthOfYear - 1;
+				int days = Month.of(monthOfYear).length(Year.isLeap(year));
+				for (int day = 0; day < days; day++) {
+					double julianDay = getJulianDay(year, monthOfYear, day + 1);
+					calculator.getUTCSunrisesAndSunsets(julianDay, geoLocation, zeniths, false, sunrise, sunset);
+					for (int i = 0; i < count; i++) {
+						sunriseHours[i][day] = sunrise[i];
+						sunsetHours[i][day] = sunset[i];
+					}
+					if (elevationSunrise != null) {
+						calculator.getUTCSunrisesAndSunsets(julianDay, geoLocation, geometric, true,
+								elevationSunriseTime, elevationSunsetTime);
+						elevationSunriseHours[day] = elevationSunriseTime[0];
+						elevationSunsetHours[day] = elevationSunsetTime[0];
+					}
+					noonHours[day] = calculator.getUTCNoon(julianDay, geoLocation);
+				}
+				for (int i = 0; i < count; i++) {
+					fit(sunrises[i], month, sunriseHours[i], days, work);
+					fit(sunsets[i], month, sunsetHours[i], days, work);
+				}
+				if (elevationSunrise != null) {
+					fit(elevationSunrise, month, elevationSunriseHours, days, work);
+					fit(elevationSunset, month, elevationSunsetHours, days, work);
+				}
+				fit(noons, month, noonHours, days, work);
+			}
+		}
+	}
+
+	/**
+	 * Fits the lowest degree polynomial that is within {@link #MAX_ERROR_MILLIS} of the times on every day of a month
+	 * using least squares, and stores it in the series. If there is none up to {@link #MAX_DEGREE}, or if the event
+	 * does not occur on some day, the month is marked as not compiled.
+	 *
+	 * @param series
+	 *            the series to store the polynomial in
+	 * @param month
+	 *            the index of the month in the series
+	 * @param hours
+	 *            the times of the days of the month in hours UTC. These are unwrapped in place so that the times do
+	 *            not jump by 24 hours across midnight UTC.
+	 * @param days
+	 *            the number of days in the month
+	 * @param work
+	 *            a work array large enough for the basis and the normal equations
+	 */
+	private static void fit(Series series, int month, double[] hours, int days, double[] work) {
+		series.degrees[month] = -1;
+		for (int day = 0; day < days; day++) {
+			if (Double.isNaN(hours[day])) {
+				return;
+			}
+			if (day > 0) {
+				hours[day] += 24 * Math.rint((hours[day - 1] - hours[day]) / 24);
+			}
+		}
+		// the basis T0 ... T(MAX_DEGREE) at every day, followed by the normal equations
+		int normal = days * COEFFICIENTS;
+		for (int day = 0; day < days; day++) {
+			double x = (2.0 * day - (days - 1)) / (days - 1);
+			int row = day * COEFFICIENTS;
+			work[row] = 1;
+			work[row + 1] = x;
+			for (int k = 2; k < COEFFICIENTS; k++) {
+				work[row + k] = 2 * x * work[row + k - 1] - work[row + k - 2];
+			}
+		}
+		int offset = month * COEFFICIENTS;
+		for (int degree = MIN_DEGREE; degree <= MAX_DEGREE && degree < days; degree++) {
+			int n = degree + 1;
+			for (int i = 0; i < n; i++) {
+				for (int j = 0; j <= n; j++) {
+					double sum = 0;
+					for (int day = 0; day < days; day++) {
+						int row = day * COEFFICIENTS;
+						sum += work[row + i] * (j < n ? work[row + j] : hours[day]);
+					}
+					work[normal + i * (n + 1) + j] = sum;
+				}
+			}
+			solve(work, normal, n, series.coefficients, offset);
+			double maxError = 0;
+			for (int day = 0; day < days; day++) {
+				double x = (2.0 * day - (days - 1)) / (days - 1);
+				maxError = Math.max(maxError, Math.abs(evaluate(series.coefficients, offset, degree, x) - hours[day]));
+			}
+			if (maxError <= MAX_ERROR_HOURS) {
+				series.degrees[month] = (byte) degree;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Solves a system of linear equations using Gaussian elimination with partial pivoting.
+	 *
+	 * @param matrix
+	 *            the augmented matrix of <code>n</code> rows of <code>n + 1</code> values, destroyed by the solve
+	 * @param start
+	 *            the index of the matrix in the array
+	 * @param n
+	 *            the number of equations
+	 * @param solution
+	 *            the array to store the solution in
+	 * @param offset
+	 *            the index to store the solution at
+	 */
+	private static void solve(double[] matrix, int start, int n, double[] solution, int offset) {
+		int width = n + 1;
+		for (int column = 0; column < n; column++) {
+			int pivot = column;
+			for (int row = column + 1; row < n; row++) {
+				if (Math.abs(matrix[start + row * width + column]) > Math.abs(matrix[start + pivot * width + column])) {
+					pivot = row;
+				}
+			}
+			for (int j = column; j < width; j++) {
+				double swap = matrix[start + column * width + j];
+				matrix[start + column * width + j] = matrix[start + pivot * width + j];
+				matrix[start + pivot * width + j] = swap;
+			}
+			for (int row = column + 1; row < n; row++) {
+				double factor = matrix[start + row * width + column] / matrix[start + column * width + column];
+				for (int j = column; j < width; j++) {
+					matrix[start + row * width + j] -= factor * matrix[start + column * width + j];
+				}
+			}
+		}
+		for (int row = n - 1; row >= 0; row--) {
+			double sum = matrix[start + row * width + n];
+			for (int j = row + 1; j < n; j++) {
+				sum -= matrix[start + row * width + j] * solution[offset + j];
+			}
+			solution[offset + row] = sum / matrix[start + row * width + row];
+		}
+		for (int j = n; j < COEFFICIENTS; j++) {
+			solution[offset + j] = 0;
+		}
+	}
+
+	/**
+	 * Evaluates a Chebyshev polynomial using <a href="https://en.wikipedia.org/wiki/Clenshaw_algorithm">Clenshaw's
+	 * algorithm</a>.
+	 *
+	 * @param coefficients
+	 *            the array of coefficients
+	 * @param offset
+	 *            the index of the first coefficient
+	 * @param degree
+	 *            the degree of the polynomial
+	 * @param x
+	 *            the point to evaluate at, between -1 and 1
+	 * @return the value of the polynomial
+	 */
+	private static double evaluate(double[] coefficients, int offset, int degree, double x) {
+		double b1 = 0;
+		double b2 = 0;
+		double twoX = 2 * x;
+		for (int k = degree; k > 0; k--) {
+			double b0 = coefficients[offset + k] + twoX * b1 - b2;
+			b2 = b1;
+			b1 = b0;
+		}
+		return coefficients[offset] + x * b1 - b2;
+	}
+
+	/**
+	 * Returns if the location is the compiled one. Only the coordinates and elevation are compared, since the name
+	 * and time zone do not affect the UTC times.
+	 *
+	 * @param location
+	 *            the location
+	 * @return <code>true</code> if the times of the location were compiled
+	 */
+	private boolean isCompiled(GeoLocation location) {
+		return location.getLatitude() == geoLocation.getLatitude()
+				&& location.getLongitude() == geoLocation.getLongitude()
+				&& location.getElevation() == geoLocation.getElevation();
+	}
+
+	/**
+	 * Returns the compiled series of an event.
+	 *
+	 * @param series
+	 *            the sea level series of the {@link #zeniths} of the event
+	 * @param elevationSeries
+	 *            the elevation adjusted series of the event
+	 * @param location
+	 *            the location
+	 * @param zenith
+	 *            the zenith
+	 * @param adjustForElevation
+	 *            if the time is adjusted for elevation
+	 * @return the series, or <code>null</code> if it wasn't compiled
+	 */
+	private Series getSeries(Series[] series, Series elevationSeries, GeoLocation location, double zenith,
+			boolean adjustForElevation) {
+		if (!isCompiled(location)) {
+			return null;
+		}
+		if (adjustForElevation && zenith == GEOMETRIC_ZENITH && location.getElevation() != 0) {
+			return elevationSeries;
+		}
+		for (int i = 0; i < zeniths.length; i++) {
+			if (zeniths[i] == zenith) {
+				return series[i];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getCalculatorName()
+	 */
+	public String getCalculatorName() {
+		return calculator.getCalculatorName() + " (compiled for " + geoLocation.getLocationName() + ")";
+	}
+
+	/**
+	 * Returns the source calculator that was compiled. This is the {@link #toShared() shared} copy of the calculator
+	 * passed to the constructor.
+	 *
+	 * @return the calculator
+	 */
+	public AstronomicalCalculator getCalculator() {
+		return calculator;
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCSunrise(ZonedDateTime, GeoLocation, double, boolean)
+	 */
+	public double getUTCSunrise(ZonedDateTime calendar, GeoLocation geoLocation, double zenith, boolean adjustForElevation) {
+		Series series = getSeries(sunrises, elevationSunrise, geoLocation, zenith, adjustForElevation);
+		if (series != null) {
+			double hours = series.getHours(calendar);
+			if (!Double.isNaN(hours)) {
+				return hours;
+			}
+		}
+		return calculator.getUTCSunrise(calendar, geoLocation, zenith, adjustForElevation);
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCSunset(ZonedDateTime, GeoLocation, double, boolean)
+	 */
+	public double getUTCSunset(ZonedDateTime calendar, GeoLocation geoLocation, double zenith, boolean adjustForElevation) {
+		Series series = getSeries(sunsets, elevationSunset, geoLocation, zenith, adjustForElevation);
+		if (series != null) {
+			double hours = series.getHours(calendar);
+			if (!Double.isNaN(hours)) {
+				return hours;
+			}
+		}
+		return calculator.getUTCSunset(calendar, geoLocation, zenith, adjustForElevation);
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCNoon(ZonedDateTime, GeoLocation)
+	 */
+	public double getUTCNoon(ZonedDateTime calendar, GeoLocation geoLocation) {
+		if (isCompiled(geoLocation)) {
+			double hours = noons.getHours(calendar);
+			if (!Double.isNaN(hours)) {
+				return hours;
+			}
+		}
+		return calculator.getUTCNoon(calendar, geoLocation);
+	}
+
+	/**
+	 * Solar midnight isn't compiled, and is calculated by the source calculator.
+	 * 
+	 * @see AstronomicalCalculator#getUTCMidnight(ZonedDateTime, GeoLocation)
+	 */
+	public double getUTCMidnight(ZonedDateTime calendar, GeoLocation geoLocation) {
+		return calculator.getUTCMidnight(calendar, geoLocation);
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getSolarEventStatus(ZonedDateTime, GeoLocation, double, boolean)
+	 */
+	public SolarEventStatus getSolarEventStatus(ZonedDateTime calendar, GeoLocation geoLocation, double zenith,
+			boolean adjustForElevation) {
+		return calculator.getSolarEventStatus(calendar, geoLocation, zenith, adjustForElevation);
+	}
+
+	/**
+	 * The configuration of a compiled calculator is the one of the source calculator.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             always. Use {@link #withRefraction(double)} instead.
+	 */
+	public void setRefraction(double refraction) {
+		throw new UnsupportedOperationException("The configuration of a compiled calculator can't be changed");
+	}
+
+	/**
+	 * The configuration of a compiled calculator is the one of the source calculator.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             always. Use {@link #withSolarRadius(double)} instead.
+	 */
+	public void setSolarRadius(double solarRadius) {
+		throw new UnsupportedOperationException("The configuration of a compiled calculator can't be changed");
+	}
+
+	/**
+	 * The configuration of a compiled calculator is the one of the source calculator.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             always. Use {@link #withEarthRadius(double)} instead.
+	 */
+	public void setEarthRadius(double earthRadius) {
+		throw new UnsupportedOperationException("The configuration of a compiled calculator can't be changed");
+	}
+
+	/**
+	 * Compiles the location again using the source calculator with a different refraction.
+	 *
+	 * @see AstronomicalCalculator#withRefraction(double)
+	 */
+	public AstronomicalCalculator withRefraction(double refraction) {
+		return new CompiledLocationCalculator(geoLocation, calculator.withRefraction(refraction), startYear, endYear,
+				zeniths).toShared();
+	}
+
+	/**
+	 * Compiles the location again using the source calculator with a different solar radius.
+	 *
+	 * @see AstronomicalCalculator#withSolarRadius(double)
+	 */
+	public AstronomicalCalculator withSolarRadius(double solarRadius) {
+		return new CompiledLocationCalculator(geoLocation, calculator.withSolarRadius(solarRadius), startYear,
+				endYear, zeniths).toShared();
+	}
+
+	/**
+	 * Compiles the location again using the source calculator with a different earth radius.
+	 *
+	 * @see AstronomicalCalculator#withEarthRadius(double)
+	 */
+	public AstronomicalCalculator withEarthRadius(double earthRadius) {
+		return new CompiledLocationCalculator(geoLocation, calculator.withEarthRadius(earthRadius), startYear,
+				endYear, zeniths).toShared();
+	}
+
+	/**
+	 * Two compiled calculators are equal if they compiled the same location, calculator, years and zeniths.
+	 *
+	 * @see AstronomicalCalculator#equals(Object)
+	 */
+	public boolean equals(Object object) {
+		if (!super.equals(object)) {
+			return false;
+		}
+		CompiledLocationCalculator compiled = (CompiledLocationCalculator) object;
+		return calculator.equals(compiled.calculator) && isCompiled(compiled.geoLocation)
+				&& startYear == compiled.startYear && endYear == compiled.endYear
+				&& Arrays.equals(zeniths, compiled.zeniths);
+	}
+
+	/**
+	 * @see AstronomicalCalculator#hashCode()
+	 */
+	public int hashCode() {
+		int result = 37 * super.hashCode() + calculator.hashCode();
+		long latLong = Double.doubleToLongBits(geoLocation.getLatitude());
+		long lonLong = Double.doubleToLongBits(geoLocation.getLongitude());
+		result = 37 * result + (int) (latLong ^ (latLong >>> 32));
+		result = 37 * result + (int) (lonLong ^ (lonLong >>> 32));
+		result = 37 * result + startYear;
+		result = 37 * result + endYear;
+		return 37 * result + Arrays.hashCode(zeniths);
+	}
+}
@@ -0,0 +1,312 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+/**
+ * An immutable table of the sun's <a href="https://en.wikipedia.org/wiki/Declination">declination</a> and the <a
+ * href="https://en.wikipedia.org/wiki/Equation_of_time">equation of time</a> as calculated by the {@link
+ * NOAACalculator}, sampled at a fixed interval of <a href="https://en.wikipedia.org/wiki/Julian_day">Julian days</a>.
+ * Both values depend only on the time and not on the location, so a single table can be shared by every calculator
+ * and location. Values between the samples are calculated with 4 point (cubic) Lagrange interpolation. With the
+ * default interval of one day, the interpolated values differ from the series expansions used by the {@link
+ * NOAACalculator} by less than 10<sup>-6</sup>&deg; of declination and 10<sup>-5</sup> minutes of equation of time,
+ * far below the accuracy of the algorithm itself. This is well under a millisecond of sunrise or sunset, but the
+ * results are not bit for bit identical to the ones calculated without a table.
+ * <p>
+ * A table is used by a {@link NOAACalculator} once {@link NOAACalculator#setEphemerisTable(EphemerisTable) set}. Dates
+ * outside the range of the table fall back to the series expansions. The {@link #getDefault() default table} covering
+ * 1900 - 2200 is built in memory the first time it is requested. A table can also be {@link #save(Path) saved} to a
+ * file and {@link #load(Path) loaded} as a read only memory-mapped file, allowing multiple JVMs on the same machine to
+ * share a single copy through the operating system's page cache. {@link #loadOrCreate(Path)} does both.
+ *
+ * @see NOAACalculator#setEphemerisTable(EphemerisTable)
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public final class EphemerisTable {
+	/**
+	 * The value at the start of an ephemeris table file used to identify the file. The ASCII for "KJEP".
+	 */
+	private static final int MAGIC = 0x4B4A4550;
+
+	/**
+	 * The version of the file format.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The size in bytes of the file header, containing the {@link #MAGIC}, {@link #VERSION}, start Julian day, interval
+	 * and the number of samples, padded to a multiple of 8 so that the samples are aligned.
+	 */
+	private static final int HEADER_SIZE = 32;
+
+	/**
+	 * The number of values stored per sample (the declination and the equation of time).
+	 */
+	private static final int VALUES_PER_SAMPLE = 2;
+
+	/**
+	 * The Julian day of the first sample.
+	 */
+	private final double startJulianDay;
+
+	/**
+	 * The interval between samples in days.
+	 */
+	private final double interval;
+
+	/**
+	 * The number of samples.
+	 */
+	private final int size;
+
+	/**
+	 * The samples, stored as pairs of declination and equation of time. This is either a heap buffer or a view of a
+	 * memory-mapped file, and is never modified after construction.
+	 */
+	private final DoubleBuffer samples;
+
+	/**
+	 * Lazily creates the {@link EphemerisTable#getDefault() default table} the first time it is used.
+	 */
+	private static final class DefaultHolder {
+		/** The default table. */
+		private static final EphemerisTable DEFAULT = new EphemerisTable(LocalDate.of(1900, 1, 1),
+				LocalDate.of(2201, 1, 1), 1);
+	}
+
+	/**
+	 * Calculates a table in memory covering a range of dates.
+	 *
+	 * @param startDate
+	 *            the first date of the table
+	 * @param endDate
+	 *            the date the table ends (inclusive)
+	 * @param interval
+	 *            the interval between the samples in days. An interval of 1 day is accurate to well under a millisecond
+	 *            of sunrise or sunset.
+	 * @throws IllegalArgumentException
+	 *             if a date is <code>null</code>, the end date is not after the start date or the interval is not
+	 *             positive
+	 */
+	public EphemerisTable(LocalDate startDate, LocalDate endDate, double interval) {
+		if (startDate == null || endDate == null || !endDate.isAfter(startDate)) {
+			throw new IllegalArgumentException("The end date must be after the start date");
+		}
+		if (!(interval > 0)) {
+			throw new IllegalArgumentException("The interval must be positive: " + interval);
+		}
+		// one extra sample on each side of the range so that the whole range can be interpolated with 4 samples
+		this.interval = interval;
+		this.startJulianDay = AstronomicalCalculator.getJulianDay(startDate) - interval;
+		double endJulianDay = AstronomicalCalculator.getJulianDay(endDate);
+		this.size = (int) Math.ceil((endJulianDay - startJulianDay) / interval) + 3;
+		double[] values = new double[size * VALUES_PER_SAMPLE];
+		for (int i = 0; i < size; i++) {
+			double julianCenturies = NOAACalculator.getJulianCenturiesFromJulianDay(startJulianDay + i * interval);
+			values[i * VALUES_PER_SAMPLE] = NOAACalculator.getSunDeclination(julianCenturies);
+			values[i * VALUES_PER_SAMPLE + 1] = NOAACalculator.getEquationOfTime(julianCenturies);
+		}
+		this.samples = DoubleBuffer.wrap(values).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Creates a table backed by a previously read or mapped buffer.
+	 *
+	 * @param startJulianDay
+	 *            the Julian day of the first sample
+	 * @param interval
+	 *            the interval between samples in days
+	 * @param size
+	 *            the number of samples
+	 * @param samples
+	 *            the samples
+	 */
+	private EphemerisTable(double startJulianDay, double interval, int size, DoubleBuffer samples) {
+		this.startJulianDay = startJulianDay;
+		this.interval = interval;
+		this.size = size;
+		this.samples = samples;
+	}
+
+	/**
+	 * Returns the shared default table covering the years 1900 through 2200 at an interval of one day. The table is
+	 * calculated the first time this method is called.
+	 *
+	 * @return the default table
+	 */
+	public static EphemerisTable getDefault() {
+		return DefaultHolder.DEFAULT;
+	}
+
+	/**
+	 * Returns if the Julian day is within the range that can be interpolated by this table.
+	 *
+	 * @param julianDay
+	 *            the Julian day (including the fraction of the day)
+	 * @return <code>true</code> if the table covers the Julian day
+	 */
+	public boolean contains(double julianDay) {
+		double position = (julianDay - startJulianDay) / interval;
+		return position >= 1 && position < size - 2;
+	}
+
+	/**
+	 * Returns the interpolated <a href="https://en.wikipedia.org/wiki/Declination">declination</a> of the sun.
+	 *
+	 * @param julianDay
+	 *            the Julian day (including the fraction of the day)
+	 * @return the sun's declination in degrees
+	 * @throws IllegalArgumentException
+	 *             if the Julian day is not {@link #contains(double) covered} by this table
+	 */
+	public double getSunDeclination(double julianDay) {
+		return interpolate(julianDay, 0);
+	}
+
+	/**
+	 * Returns the interpolated <a href="https://en.wikipedia.org/wiki/Equation_of_time">equation of time</a>.
+	 *
+	 * @param julianDay
+	 *            the Julian day (including the fraction of the day)
+	 * @return equation of time in minutes of time
+	 * @throws IllegalArgumentException
+	 *             if the Julian day is not {@link #contains(double) covered} by this table
+	 */
+	public double getEquationOfTime(double julianDay) {
+		return interpolate(julianDay, 1);
+	}
+
+	/**
+	 * Interpolates one of the values of the samples using 4 point Lagrange interpolation on the samples surrounding the
+	 * Julian day.
+	 *
+	 * @param julianDay
+	 *            the Julian day
+	 * @param value
+	 *            the index of the value within the sample
+	 * @return the interpolated value
+	 */
+	private double interpolate(double julianDay, int value) {
+		if (!contains(julianDay)) {
+			throw new IllegalArgumentException("The Julian day " + julianDay + " is outside the range of the table");
+		}
+		double position = (julianDay - startJulianDay) / interval;
+		int i = (int) position - 1;
+		double p = position - (i + 1); // 0 <= p < 1 between sample i + 1 and i + 2
+		double y0 = samples.get(i * VALUES_PER_SAMPLE + value);
+		double y1 = samples.get((i + 1) * VALUES_PER_SAMPLE + value);
+		double y2 = samples.get((i + 2) * VALUES_PER_SAMPLE + value);
+		double y3 = samples.get((i + 3) * VALUES_PER_SAMPLE + value);
+		double pm1 = p - 1;
+		double pm2 = p - 2;
+		double pp1 = p + 1;
+		return -y0 * p * pm1 * pm2 / 6 + y1 * pp1 * pm1 * pm2 / 2 - y2 * pp1 * p * pm2 / 2 + y3 * pp1 * p * pm1 / 6;
+	}
+
+	/**
+	 * Saves the table to a file that can be {@link #load(Path) loaded} by this or another JVM. The file is written to a
+	 * temporary file that is then moved into place, so that a JVM loading the file concurrently never sees a partially
+	 * written file.
+	 *
+	 * @param file
+	 *            the file to save to
+	 * @throws IOException
+	 *             if the file can't be written
+	 */
+	public void save(Path file) throws IOException {
+		Path absolute = file.toAbsolutePath();
+		Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+		try {
+			ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + size * VALUES_PER_SAMPLE * Double.BYTES);
+			buffer.putInt(MAGIC).putInt(VERSION).putDouble(startJulianDay).putDouble(interval).putInt(size);
+			// cast to Buffer, since the covariant ByteBuffer overrides added in Java 9 don't exist on Java 8
+			((Buffer) buffer).position(HEADER_SIZE);
+			for (int i = 0; i < size * VALUES_PER_SAMPLE; i++) {
+				buffer.putDouble(samples.get(i));
+			}
+			((Buffer) buffer).flip();
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+			}
+			Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Loads a table {@link #save(Path) saved} to a file. The file is memory-mapped read only, so the samples are not
+	 * copied to the heap, and all JVMs mapping the same file share the same physical memory.
+	 *
+	 * @param file
+	 *            the file to load
+	 * @return the table
+	 * @throws IOException
+	 *             if the file can't be read or is not an ephemeris table file
+	 */
+	public static EphemerisTable load(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long length = channel.size();
+			if (length < HEADER_SIZE) {
+				throw new IOException(file + " is not an ephemeris table file");
+			}
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				throw new IOException(file + " is not an ephemeris table file of version " + VERSION);
+			}
+			double startJulianDay = buffer.getDouble();
+			double interval = buffer.getDouble();
+			int size = buffer.getInt();
+			if (size < 4 || !(interval > 0)
+					|| length != HEADER_SIZE + (long) size * VALUES_PER_SAMPLE * Double.BYTES) {
+				throw new IOException(file + " is corrupt");
+			}
+			((Buffer) buffer).position(HEADER_SIZE);
+			return new EphemerisTable(startJulianDay, interval, size, buffer.slice().asDoubleBuffer());
+		}
+	}
+
+	/**
+	 * Loads the table from a file if it exists, or calculates the {@link #getDefault() default table} range, saves it
+	 * to the file and loads it otherwise. This allows all JVMs on a machine to share a single table by pointing them to
+	 * the same file.
+	 *
+	 * @param file
+	 *            the file to load or create
+	 * @return the table
+	 * @throws IOException
+	 *             if the file can't be read or written
+	 */
+	public static EphemerisTable loadOrCreate(Path file) throws IOException {
+		if (!Files.exists(file)) {
+			getDefault().save(file);
+		}
+		return load(file);
+	}
+}
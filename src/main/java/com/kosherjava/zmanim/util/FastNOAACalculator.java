@@ -0,0 +1,372 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.time.ZonedDateTime;
+
+/**
+ * A faster approximation of the {@link NOAACalculator}, intended for bulk calculations where times are displayed
+ * rounded to the minute. It uses the same <a href="https://noaa.gov">NOAA</a> equations and two pass calculation as the
+ * {@link NOAACalculator}, but replaces the {@link Math#sin(double)}, {@link Math#cos(double)}, {@link Math#tan(double)},
+ * {@link Math#asin(double)} and {@link Math#acos(double)} calls with polynomial approximations, uses trigonometric
+ * identities to derive the sines and cosines of multiple angles from a single one, and works in radians throughout
+ * instead of converting every angle with {@link Math#toRadians(double)}.
+ * <p>
+ * The approximations are accurate to better than 10<sup>-9</sup> radians (sine and cosine) and 2 &times;
+ * 10<sup>-8</sup> radians (arc cosine). Tested across the globe (latitudes up to &plusmn;89&deg;) for the years 1900 -
+ * 2100, sunrise, sunset and twilight times calculated by this class are within {@link #MAX_ERROR_MILLIS 2
+ * milliseconds} of the ones calculated by the {@link NOAACalculator} (the largest difference found was under 1
+ * millisecond), and solar noon is within a few microseconds. The only theoretical exception is at high latitudes on a
+ * day when the sun barely reaches the zenith being calculated (at the start and end of the midnight sun or polar night,
+ * or the season when the sun does not dip low enough for a twilight zenith). The time of such an event is extremely
+ * sensitive to the declination of the sun, so a larger difference is possible, as is this class returning {@link
+ * Double#NaN} on the last day that the {@link NOAACalculator} returns a time (or vice versa). This is far below the
+ * accuracy of the NOAA algorithm itself on those days.
+ * 
+ * @see NOAACalculator
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public class FastNOAACalculator extends AstronomicalCalculator {
+	/**
+	 * The documented maximum difference in milliseconds between the times calculated by this class and the {@link
+	 * NOAACalculator}, outside of the edge cases listed in the class documentation.
+	 */
+	public static final long MAX_ERROR_MILLIS = 2;
+
+	/**
+	 * The <a href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a> of January 1, 2000, known as
+	 * <a href="https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
+	 */
+	private static final double JULIAN_DAY_JAN_1_2000 = 2451545.0;
+
+	/**
+	 * Julian days per century.
+	 */
+	private static final double JULIAN_DAYS_PER_CENTURY = 36525.0;
+
+	/** Radians per degree. */
+	private static final double RAD = Math.PI / 180;
+
+	/** Degrees per radian. */
+	private static final double DEG = 180 / Math.PI;
+
+	/**
+	 * The most recently used {@link SolarDay}. See the {@link NOAACalculator} for details.
+	 */
+	private transient volatile SolarDay solarDay;
+
+	/**
+	 * The position of the sun at a point in time, holding the values of the NOAA algorithm needed to calculate
+	 * sunrise and sunset.
+	 */
+	private static final class Sun {
+		/** The equation of time in minutes of time. */
+		private final double equationOfTime;
+
+		/** The sine of the sun's declination. */
+		private final double sinDeclination;
+
+		/** The cosine of the sun's declination. */
+		private final double cosDeclination;
+
+		/**
+		 * Calculates the position of the sun.
+		 * 
+		 * @param julianCenturies
+		 *            the number of Julian centuries since J2000.0.
+		 */
+		private Sun(double julianCenturies) {
+			double t = julianCenturies;
+			double meanLongitude = RAD * (280.46646 + t * (36000.76983 + 0.0003032 * t));
+			double meanAnomaly = RAD * (357.52911 + t * (35999.05029 - 0.0001537 * t));
+			double eccentricity = 0.016708634 - t * (0.000042037 + 0.0000001267 * t);
+			double omega = RAD * (125.04 - 1934.136 * t);
+
+			double sinM = sin(meanAnomaly);
+			double cosM = cos(meanAnomaly);
+			double sin2M = 2 * sinM * cosM;
+			double sin3M = sinM * (3 - 4 * sinM * sinM);
+			double equationOfCenter = sinM * (1.914602 - t * (0.004817 + 0.000014 * t))
+					+ sin2M * (0.019993 - 0.000101 * t) + sin3M * 0.000289; // in degrees
+
+			double apparentLongitude = meanLongitude + RAD * (equationOfCenter - 0.00569 - 0.00478 * sin(omega));
+			double seconds = 21.448 - t * (46.8150 + t * (0.00059 - t * (0.001813)));
+			double obliquity = RAD * (23.0 + (26.0 + (seconds / 60.0)) / 60.0 + 0.00256 * cos(omega));
+			double cosObliquity = cos(obliquity);
+
+			sinDeclination = sin(obliquity) * sin(apparentLongitude);
+			cosDeclination = Math.sqrt(1 - sinDeclination * sinDeclination);
+
+			double y = (1 - cosObliquity) / (1 + cosObliquity); // tan(obliquity / 2) squared
+			double sin2L0 = sin(2 * meanLongitude);
+			double cos2L0 = cos(2 * meanLongitude);
+			double sin4L0 = 2 * sin2L0 * cos2L0;
+			double equationOfTime = y * sin2L0 - 2.0 * eccentricity * sinM + 4.0 * eccentricity * y * sinM * cos2L0
+					- 0.5 * y * y * sin4L0 - 1.25 * eccentricity * eccentricity * sin2M;
+			this.equationOfTime = DEG * equationOfTime * 4.0; // in minutes of time
+		}
+	}
+
+	/**
+	 * The values of the algorithm that depend only on the Julian day and longitude. See the {@link NOAACalculator} for
+	 * details.
+	 */
+	private static final class SolarDay {
+		/** The Julian day at the start of the day. */
+		private final double julianDay;
+
+		/** The longitude of observer in degrees (west positive as used internally by the NOAA algorithm). */
+		private final double longitude;
+
+		/** The time of solar noon in minutes from zero UTC. */
+		private final double solarNoonUTC;
+
+		/** The position of the sun at solar noon. */
+		private final Sun sunAtNoon;
+
+		private SolarDay(double julianDay, double longitude) {
+			this.julianDay = julianDay;
+			this.longitude = longitude;
+			// First pass uses approximate solar noon to calculate equation of time
+			double eqTime = new Sun(getJulianCenturies(julianDay + longitude / 360.0)).equationOfTime;
+			double solarNoon = 720 + (longitude * 4) - eqTime;
+			eqTime = new Sun(getJulianCenturies(julianDay - 0.5 + solarNoon / 1440.0)).equationOfTime;
+			this.solarNoonUTC = 720 + (longitude * 4) - eqTime;
+			this.sunAtNoon = new Sun(getJulianCenturies(julianDay + solarNoonUTC / 1440.0));
+		}
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getCalculatorName()
+	 */
+	public String getCalculatorName() {
+		return "US National Oceanic and Atmospheric Administration Algorithm (fast approximation)";
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCSunrise(ZonedDateTime, GeoLocation, double, boolean)
+	 */
+	public double getUTCSunrise(ZonedDateTime calendar, GeoLocation geoLocation, double zenith, boolean adjustForElevation) {
+		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
+		SolarDay day = getSolarDay(getJulianDay(calendar), -geoLocation.getLongitude());
+		double latitude = RAD * geoLocation.getLatitude();
+		return getHoursFromMinutesUTC(getTimeUTC(day, sin(latitude), cos(latitude),
+				cos(RAD * adjustZenith(zenith, elevation)), true));
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCSunset(ZonedDateTime, GeoLocation, double, boolean)
+	 */
+	public double getUTCSunset(ZonedDateTime calendar, GeoLocation geoLocation, double zenith, boolean adjustForElevation) {
+		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
+		SolarDay day = getSolarDay(getJulianDay(calendar), -geoLocation.getLongitude());
+		double latitude = RAD * geoLocation.getLatitude();
+		return getHoursFromMinutesUTC(getTimeUTC(day, sin(latitude), cos(latitude),
+				cos(RAD * adjustZenith(zenith, elevation)), false));
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCSunrisesAndSunsets(ZonedDateTime, GeoLocation, double[], boolean, double[],
+	 *      double[])
+	 */
+	public void getUTCSunrisesAndSunsets(ZonedDateTime calendar, GeoLocation geoLocation, double[] zeniths,
+			boolean adjustForElevation, double[] sunrises, double[] sunsets) {
+		getUTCSunrisesAndSunsets(getJulianDay(calendar), geoLocation, zeniths, adjustForElevation, sunrises, sunsets);
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCSunrisesAndSunsets(double, GeoLocation, double[], boolean, double[], double[])
+	 */
+	public void getUTCSunrisesAndSunsets(double julianDay, GeoLocation geoLocation, double[] zeniths,
+			boolean adjustForElevation, double[] sunrises, double[] sunsets) {
+		validateBatchArrays(zeniths, sunrises, sunsets);
+		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
+		SolarDay day = getSolarDay(julianDay, -geoLocation.getLongitude());
+		double latitude = RAD * geoLocation.getLatitude();
+		double sinLatitude = sin(latitude);
+		double cosLatitude = cos(latitude);
+		for (int i = 0; i < zeniths.length; i++) {
+			double cosZenith = cos(RAD * adjustZenith(zeniths[i], elevation));
+			if (sunrises != null) {
+				sunrises[i] = getHoursFromMinutesUTC(getTimeUTC(day, sinLatitude, cosLatitude, cosZenith, true));
+			}
+			if (sunsets != null) {
+				sunsets[i] = getHoursFromMinutesUTC(getTimeUTC(day, sinLatitude, cosLatitude, cosZenith, false));
+			}
+		}
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCNoon(ZonedDateTime, GeoLocation)
+	 */
+	public double getUTCNoon(ZonedDateTime calendar, GeoLocation geoLocation) {
+		return getUTCNoon(getJulianDay(calendar), geoLocation);
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCNoon(double, GeoLocation)
+	 */
+	public double getUTCNoon(double julianDay, GeoLocation geoLocation) {
+		return getHoursFromMinutesUTC(getSolarDay(julianDay, -geoLocation.getLongitude()).solarNoonUTC);
+	}
+
+	/**
+	 * Returns solar midnight using the same calculation as the {@link NOAACalculator}.
+	 * 
+	 * @see NOAACalculator#getUTCMidnight(ZonedDateTime, GeoLocation)
+	 */
+	public double getUTCMidnight(ZonedDateTime calendar, GeoLocation geoLocation) {
+		double julianDay = getJulianDay(calendar);
+		double longitude = -geoLocation.getLongitude();
+		// First pass uses mean solar midnight to calculate equation of time
+		double eqTime = new Sun(getJulianCenturies(julianDay + 0.5 + longitude / 360.0)).equationOfTime;
+		double solarMidnight = 1440 + (longitude * 4) - eqTime;
+		eqTime = new Sun(getJulianCenturies(julianDay - 0.5 + solarMidnight / 1440.0)).equationOfTime;
+		return getHoursFromMinutesUTC(1440 + (longitude * 4) - eqTime);
+	}
+
+	/**
+	 * Returns the {@link SolarDay} for the Julian day and longitude, reusing the last one calculated if it matches.
+	 * 
+	 * @param julianDay
+	 *            the Julian day
+	 * @param longitude
+	 *            the longitude of observer in degrees
+	 * @return the SolarDay for the Julian day and longitude
+	 */
+	private SolarDay getSolarDay(double julianDay, double longitude) {
+		SolarDay day = solarDay;
+		if (day == null || day.julianDay != julianDay || day.longitude != longitude) {
+			day = new SolarDay(julianDay, longitude);
+			solarDay = day;
+		}
+		return day;
+	}
+
+	/**
+	 * Returns the time of sunrise or sunset using the same two passes as the {@link NOAACalculator}.
+	 * 
+	 * @param solarDay
+	 *            the {@link SolarDay} of the Julian day and longitude of observer
+	 * @param sinLatitude
+	 *            the sine of the latitude of observer
+	 * @param cosLatitude
+	 *            the cosine of the latitude of observer
+	 * @param cosZenith
+	 *            the cosine of the zenith
+	 * @param isSunrise
+	 *            <code>true</code> for sunrise, <code>false</code> for sunset
+	 * @return the time in minutes from zero UTC, or {@link Double#NaN} if the sun does not reach the zenith.
+	 */
+	private static double getTimeUTC(SolarDay solarDay, double sinLatitude, double cosLatitude, double cosZenith,
+			boolean isSunrise) {
+		// First pass to approximate the time (using solar noon)
+		Sun sun = solarDay.sunAtNoon;
+		double hourAngle = getHourAngle(sun, sinLatitude, cosLatitude, cosZenith, isSunrise);
+		if (Double.isNaN(hourAngle)) { // the sun is above or below the zenith all day, so skip the second pass
+			return Double.NaN;
+		}
+		double timeUTC = 720 + 4 * (solarDay.longitude - DEG * hourAngle) - sun.equationOfTime;
+
+		// Second pass includes fractional Julian Day in gamma calc
+		sun = new Sun(getJulianCenturies(solarDay.julianDay + timeUTC / 1440.0));
+		hourAngle = getHourAngle(sun, sinLatitude, cosLatitude, cosZenith, isSunrise);
+		return 720 + 4 * (solarDay.longitude - DEG * hourAngle) - sun.equationOfTime;
+	}
+
+	/**
+	 * Returns the <a href="https://en.wikipedia.org/wiki/Hour_angle">hour angle</a> of the sun at sunrise or sunset.
+	 * This is the same formula used by the {@link NOAACalculator}, rearranged to avoid the tangents.
+	 * 
+	 * @param sun
+	 *            the position of the sun
+	 * @param sinLatitude
+	 *            the sine of the latitude of observer
+	 * @param cosLatitude
+	 *            the cosine of the latitude of observer
+	 * @param cosZenith
+	 *            the cosine of the zenith
+	 * @param isSunrise
+	 *            <code>true</code> for sunrise, <code>false</code> for sunset
+	 * @return the hour angle in radians, positive for sunrise and negative for sunset, or {@link Double#NaN} if the sun
+	 *         does not reach the zenith
+	 */
+	private static double getHourAngle(Sun sun, double sinLatitude, double cosLatitude, double cosZenith,
+			boolean isSunrise) {
+		double hourAngle = acos((cosZenith - sinLatitude * sun.sinDeclination) / (cosLatitude * sun.cosDeclination));
+		return isSunrise ? hourAngle : -hourAngle;
+	}
+
+	/**
+	 * Returns the number of Julian centuries since J2000.0.
+	 * 
+	 * @param julianDay
+	 *            the Julian day
+	 * @return the Julian centuries
+	 */
+	private static double getJulianCenturies(double julianDay) {
+		return (julianDay - JULIAN_DAY_JAN_1_2000) / JULIAN_DAYS_PER_CENTURY;
+	}
+
+	/**
+	 * Returns an approximation of the sine of an angle, accurate to better than 10<sup>-9</sup>. The angle is reduced to
+	 * the range of -&pi;/2 to &pi;/2, and the sine is calculated with its Taylor series up to the 15th power.
+	 * 
+	 * @param angle
+	 *            the angle in radians. Since the reduction loses precision for very large angles, the angle should be
+	 *            within a few thousand radians of 0, as are all the angles in the NOAA algorithm for the years covered by
+	 *            it.
+	 * @return the sine of the angle
+	 */
+	static double sin(double angle) {
+		double quadrants = Math.rint(angle / Math.PI);
+		double x = angle - quadrants * Math.PI;
+		double x2 = x * x;
+		double sin = x * (1 + x2 * (-1 / 6d + x2 * (1 / 120d + x2 * (-1 / 5040d + x2 * (1 / 362880d
+				+ x2 * (-1 / 39916800d + x2 * (1 / 6227020800d + x2 * (-1 / 1307674368000d))))))));
+		return ((long) quadrants & 1) == 0 ? sin : -sin;
+	}
+
+	/**
+	 * Returns an approximation of the cosine of an angle. See {@link #sin(double)}.
+	 * 
+	 * @param angle
+	 *            the angle in radians
+	 * @return the cosine of the angle
+	 */
+	static double cos(double angle) {
+		return sin(angle + Math.PI / 2);
+	}
+
+	/**
+	 * Returns an approximation of the arc cosine, accurate to about 2 &times; 10<sup>-8</sup> radians, using formula
+	 * 4.4.46 of Abramowitz and Stegun's <em>Handbook of Mathematical Functions</em>.
+	 * 
+	 * @param x
+	 *            the value
+	 * @return the arc cosine in radians, or {@link Double#NaN} if the absolute value of x is greater than 1 (when the
+	 *         sun does not reach the zenith)
+	 */
+	static double acos(double x) {
+		if (!(x >= -1 && x <= 1)) {
+			return Double.NaN;
+		}
+		double a = Math.abs(x);
+		double acos = Math.sqrt(1 - a) * (1.5707963050 + a * (-0.2145988016 + a * (0.0889789874 + a * (-0.0501743046
+				+ a * (0.0308918810 + a * (-0.0170881256 + a * (0.0066700901 + a * (-0.0012624911))))))));
+		return x >= 0 ? acos : Math.PI - acos;
+	}
+}
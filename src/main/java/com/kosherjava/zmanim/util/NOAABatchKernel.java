@@ -0,0 +1,99 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+/**
+ * A kernel calculating the {@link NOAACalculator} sunrise and sunset of a number of locations on the same day, used by
+ * {@link NOAACalculator#getUTCSunrisesAndSunsets(double, GeoLocation[], double, boolean, double[], double[])}. The
+ * only implementation is the <code>NOAAVectorKernel</code> using the <a href="https://openjdk.org/jeps/414">Vector
+ * API</a>, which is compiled for Java 17 into the <code>META-INF/versions/17</code> directory of the multi-release jar.
+ * It is loaded by reflection, so that on Java 8, when running from a directory of classes instead of the jar, or when
+ * the <code>jdk.incubator.vector</code> module was not added to the JVM, there is no kernel and the calculator falls
+ * back to its scalar implementation.
+ * 
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+abstract class NOAABatchKernel {
+	/**
+	 * The system property that disables the vector kernel if set to <code>false</code>.
+	 */
+	static final String VECTOR_PROPERTY = "com.kosherjava.zmanim.vector";
+
+	/**
+	 * The name of the class of the vector kernel.
+	 */
+	private static final String VECTOR_KERNEL_CLASS = "com.kosherjava.zmanim.util.NOAAVectorKernel";
+
+	/**
+	 * The vector kernel, or <code>null</code> if it is not available.
+	 */
+	private static final NOAABatchKernel VECTOR_KERNEL = loadVectorKernel();
+
+	/**
+	 * Returns the vector kernel.
+	 * 
+	 * @return the kernel, or <code>null</code> if it is not available on this platform or was disabled
+	 */
+	static NOAABatchKernel getVectorKernel() {
+		return VECTOR_KERNEL;
+	}
+
+	/**
+	 * Loads the vector kernel and runs it once, so that a missing <code>jdk.incubator.vector</code> module is detected
+	 * here rather than on the first use.
+	 * 
+	 * @return the kernel, or <code>null</code> if it can't be loaded or was disabled
+	 */
+	private static NOAABatchKernel loadVectorKernel() {
+		try {
+			if (!Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))) {
+				return null;
+			}
+			NOAABatchKernel kernel = (NOAABatchKernel) Class.forName(VECTOR_KERNEL_CLASS).getDeclaredConstructor()
+					.newInstance();
+			kernel.getSunrisesAndSunsets(2451545.0, new double[] { 0 }, new double[] { 0 }, new double[] { 90 }, 1,
+					new double[1], new double[1]);
+			return kernel;
+		} catch (Exception e) {
+			return null;
+		} catch (LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Calculates the sunrise and sunset of a number of locations.
+	 * 
+	 * @param julianDay
+	 *            the Julian day at the start (0:00 UTC) of the day
+	 * @param latitudes
+	 *            the latitudes of the locations in degrees
+	 * @param longitudes
+	 *            the longitudes of the locations in degrees, west positive as used internally by the NOAA algorithm
+	 * @param zeniths
+	 *            the zenith of each location, already adjusted for refraction, solar radius and elevation
+	 * @param length
+	 *            the number of locations
+	 * @param sunrises
+	 *            the array to fill with the time of sunrise in minutes from zero UTC, which may be negative or over a
+	 *            day, or {@link Double#NaN} if there is none. May be <code>null</code>.
+	 * @param sunsets
+	 *            the array to fill with the time of sunset in minutes from zero UTC, which may be negative or over a
+	 *            day, or {@link Double#NaN} if there is none. May be <code>null</code>.
+	 */
+	abstract void getSunrisesAndSunsets(double julianDay, double[] latitudes, double[] longitudes, double[] zeniths,
+			int length, double[] sunrises, double[] sunsets);
+}
@@ -38,11 +38,193 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 */
 	private static final double JULIAN_DAY_JAN_1_2000 = 2451545.0;
 
+	/**
+	 * The number of milliseconds in a day.
+	 */
+	private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
 	/**
 	 * Julian days per century.
 	 */
 	private static final double JULIAN_DAYS_PER_CENTURY = 36525.0;
 
+	/**
+	 * The maximum difference in milliseconds between the times calculated for a number of locations by the vector
+	 * kernel and by this scalar implementation. See {@link #getUTCSunrisesAndSunsets(double, GeoLocation[], double,
+	 * boolean, double[], double[])}.
+	 */
+	public static final long VECTOR_TOLERANCE_MILLIS = 1;
+
+	/**
+	 * The most recently used {@link SolarDay}. A {@link com.kosherjava.zmanim.ComplexZmanimCalendar} requests dozens of
+	 * zeniths for the same date and location, and all of them share the solar noon based first pass of the calculation.
+	 * Since a <code>SolarDay</code> is immutable, publishing it through a volatile field is safe if the calculator is
+	 * shared between threads.
+	 */
+	private transient volatile SolarDay solarDay;
+
+	/**
+	 * The {@link SolarDay} used before the {@link #solarDay most recent one}. When iterating over consecutive dates,
+	 * calculations such as {@link com.kosherjava.zmanim.AstronomicalCalendar#getSolarMidnight() solar midnight} also
+	 * need the next day, which is the current day of the next iteration. Keeping the previous day as well as the current
+	 * one allows alternating between two days without recalculating either of them.
+	 */
+	private transient volatile SolarDay previousSolarDay;
+
+	/**
+	 * The optional table of precomputed declination and equation of time values. If <code>null</code>, the values are
+	 * calculated using the series expansions of the algorithm.
+	 * 
+	 * @see #setEphemerisTable(EphemerisTable)
+	 */
+	private EphemerisTable ephemerisTable;
+
+	/**
+	 * An immutable per-day ephemeris holding the values of the NOAA algorithm that depend only on the Julian day and
+	 * longitude, and not on the zenith. These are the solar noon and the equation of time and declination of the sun at
+	 * solar noon, used for the first pass of every sunrise and sunset calculation on that day. The second pass is
+	 * evaluated at the approximate time of the event itself and is therefore specific to each zenith.
+	 */
+	private static final class SolarDay {
+		/** The Julian day at the start of the day. */
+		private final double julianDay;
+
+		/** The longitude of observer in degrees (west positive as used internally by the NOAA algorithm). */
+		private final double longitude;
+
+		/** The number of Julian centuries since J2000.0 corresponding to the {@link #julianDay}. */
+		private final double julianCenturies;
+
+		/** The time of solar noon in minutes from zero UTC. */
+		private final double solarNoonUTC;
+
+		/** The equation of time at solar noon in minutes of time. */
+		private final double eqTimeAtNoon;
+
+		/** The declination of the sun at solar noon in degrees. */
+		private final double solarDecAtNoon;
+
+		/** The {@link EphemerisTable} used for the calculation, or <code>null</code> if none is used. */
+		private final EphemerisTable ephemerisTable;
+
+		private SolarDay(double julianDay, double longitude, EphemerisTable ephemerisTable) {
+			this.julianDay = julianDay;
+			this.longitude = longitude;
+			this.ephemerisTable = ephemerisTable;
+			this.julianCenturies = getJulianCenturiesFromJulianDay(julianDay);
+			this.solarNoonUTC = getSolarNoonUTC(julianCenturies, longitude, ephemerisTable);
+			double tnoon = getJulianCenturiesFromJulianDay(julianDay + solarNoonUTC / 1440.0);
+			this.eqTimeAtNoon = getEquationOfTime(tnoon, ephemerisTable);
+			this.solarDecAtNoon = getSunDeclination(tnoon, ephemerisTable);
+		}
+
+		/**
+		 * Returns if this day was calculated for the Julian day, longitude and table.
+		 * 
+		 * @param julianDay
+		 *            the Julian day
+		 * @param longitude
+		 *            the longitude of observer in degrees
+		 * @param ephemerisTable
+		 *            the table, or <code>null</code>
+		 * @return <code>true</code> if this day can be used for the parameters
+		 */
+		private boolean matches(double julianDay, double longitude, EphemerisTable ephemerisTable) {
+			return this.julianDay == julianDay && this.longitude == longitude
+					&& this.ephemerisTable == ephemerisTable;
+		}
+	}
+
+	/**
+	 * Returns the {@link SolarDay} for the Julian day and longitude, reusing one of the last two calculated if it
+	 * matches.
+	 * 
+	 * @param julianDay
+	 *            the Julian day
+	 * @param longitude
+	 *            the longitude of observer in degrees
+	 * @return the SolarDay for the Julian day and longitude
+	 */
+	private SolarDay getSolarDay(double julianDay, double longitude) {
+		EphemerisTable table = ephemerisTable;
+		SolarDay day = solarDay;
+		if (day != null && day.matches(julianDay, longitude, table)) {
+			return day;
+		}
+		SolarDay previous = previousSolarDay;
+		if (previous != null && previous.matches(julianDay, longitude, table)) {
+			previousSolarDay = day;
+			solarDay = previous;
+			return previous;
+		}
+		previousSolarDay = day;
+		day = new SolarDay(julianDay, longitude, table);
+		solarDay = day;
+		return day;
+	}
+
+	/**
+	 * Returns the {@link EphemerisTable} used to look up the declination and equation of time.
+	 * 
+	 * @return the table, or <code>null</code> if the values are calculated by the series expansions of the algorithm
+	 *         (the default).
+	 * @see #setEphemerisTable(EphemerisTable)
+	 */
+	public EphemerisTable getEphemerisTable() {
+		return ephemerisTable;
+	}
+
+	/**
+	 * Sets an {@link EphemerisTable} of precomputed declination and equation of time values to be used instead of
+	 * calculating them for every sunrise and sunset. Since these values do not depend on the location, a single table
+	 * such as the {@link EphemerisTable#getDefault() default table} can be shared by all calculators. Times calculated
+	 * with a table differ from the ones calculated without it by well under a millisecond. Dates outside the range of
+	 * the table are calculated without it.
+	 * 
+	 * @param ephemerisTable
+	 *            the table to use, or <code>null</code> to calculate the values using the series expansions of the
+	 *            algorithm.
+	 * @throws UnsupportedOperationException
+	 *             if the calculator is {@link #isShared() shared}. Use {@link #withEphemerisTable(EphemerisTable)}
+	 *             instead.
+	 */
+	public void setEphemerisTable(EphemerisTable ephemerisTable) {
+		checkNotShared();
+		this.ephemerisTable = ephemerisTable;
+	}
+
+	/**
+	 * Returns a {@link #toShared() shared} calculator with the configuration of this one, but with a different
+	 * {@link EphemerisTable}. This calculator is not changed.
+	 * 
+	 * @param ephemerisTable
+	 *            the table to use, or <code>null</code> to calculate the values using the series expansions of the
+	 *            algorithm.
+	 * @return the shared calculator
+	 * @see #setEphemerisTable(EphemerisTable)
+	 */
+	public NOAACalculator withEphemerisTable(EphemerisTable ephemerisTable) {
+		NOAACalculator calculator = (NOAACalculator) clone();
+		calculator.ephemerisTable = ephemerisTable;
+		return (NOAACalculator) calculator.toShared();
+	}
+
+	/**
+	 * Two NOAA calculators are equal if they also use the same {@link EphemerisTable}.
+	 * 
+	 * @see AstronomicalCalculator#equals(Object)
+	 */
+	public boolean equals(Object object) {
+		return super.equals(object) && ephemerisTable == ((NOAACalculator) object).ephemerisTable;
+	}
+
+	/**
+	 * @see AstronomicalCalculator#hashCode()
+	 */
+	public int hashCode() {
+		return 37 * super.hashCode() + (ephemerisTable == null ? 0 : ephemerisTable.hashCode());
+	}
+
 	/**
 	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getCalculatorName()
 	 */
@@ -57,18 +239,9 @@ public class NOAACalculator extends AstronomicalCalculator {
 		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
 		double adjustedZenith = adjustZenith(zenith, elevation);
 
-		double sunrise = getSunriseUTC(getJulianDay(calendar), geoLocation.getLatitude(), -geoLocation.getLongitude(),
-				adjustedZenith);
-		sunrise = sunrise / 60;
-
-		// ensure that the time is >= 0 and < 24
-		while (sunrise < 0.0) {
-			sunrise += 24.0;
-		}
-		while (sunrise >= 24.0) {
-			sunrise -= 24.0;
-		}
-		return sunrise;
+		double sunrise = getSunriseUTC(getSolarDay(getJulianDay(calendar), -geoLocation.getLongitude()),
+				geoLocation.getLatitude(), adjustedZenith);
+		return getHoursFromMinutesUTC(sunrise);
 	}
 
 	/**
@@ -78,40 +251,135 @@ public class NOAACalculator extends AstronomicalCalculator {
 		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
 		double adjustedZenith = adjustZenith(zenith, elevation);
 
-		double sunset = getSunsetUTC(getJulianDay(calendar), geoLocation.getLatitude(), -geoLocation.getLongitude(),
-				adjustedZenith);
-		sunset = sunset / 60;
+		double sunset = getSunsetUTC(getSolarDay(getJulianDay(calendar), -geoLocation.getLongitude()),
+				geoLocation.getLatitude(), adjustedZenith);
+		return getHoursFromMinutesUTC(sunset);
+	}
 
-		// ensure that the time is >= 0 and < 24
-		while (sunset < 0.0) {
-			sunset += 24.0;
-		}
-		while (sunset >= 24.0) {
-			sunset -= 24.0;
-		}
-		return sunset;
+	/**
+	 * Returns the status using the declination of the sun at solar noon of the {@link SolarDay}, which is the one used
+	 * by the first pass of the sunrise and sunset calculations. The times are {@link Double#NaN} whenever the status is
+	 * not {@link SolarEventStatus#OCCURS}.
+	 * 
+	 * @see AstronomicalCalculator#getSolarEventStatus(ZonedDateTime, GeoLocation, double, boolean)
+	 */
+	public SolarEventStatus getSolarEventStatus(ZonedDateTime calendar, GeoLocation geoLocation, double zenith,
+			boolean adjustForElevation) {
+		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
+		SolarDay day = getSolarDay(getJulianDay(calendar), -geoLocation.getLongitude());
+		return SolarEventStatus.getStatus(geoLocation.getLatitude(), day.solarDecAtNoon, adjustZenith(zenith,
+				elevation));
 	}
 
 	/**
-	 * Return the <a href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a> from a Java Calendar
+	 * Returns if the sun can't cross the zenith on the day of the {@link SolarDay}, in which case the first pass of the
+	 * sunrise and sunset calculations would return {@link Double#NaN}, and the second pass would only propagate it. This
+	 * compares angles, so it avoids all the trigonometry of the two passes on the days of the polar day and night. A
+	 * margin far above the rounding errors ensures that it never returns <code>true</code> for a day that the hour angle
+	 * can be calculated on.
 	 * 
-	 * @param calendar
-	 *            The Java Calendar
-	 * @return the Julian day corresponding to the date Note: Number is returned for start of day. Fractional days
-	 *         should be added later.
-	 */
-	private static double getJulianDay(ZonedDateTime calendar) {
-		int year = calendar.getYear();
-		int month = calendar.getMonthValue();
-		int day = calendar.getDayOfMonth();
-		if (month <= 2) {
-			year -= 1;
-			month += 12;
+	 * @param solarDay
+	 *            the {@link SolarDay} of the Julian day and longitude of observer
+	 * @param latitude
+	 *            the latitude of observer in degrees
+	 * @param zenith
+	 *            the zenith
+	 * @return <code>true</code> if the sun is above or below the zenith all day
+	 * @see SolarEventStatus#getStatus(double, double, double)
+	 */
+	private static boolean isNeverCrossed(SolarDay solarDay, double latitude, double zenith) {
+		double declination = solarDay.solarDecAtNoon;
+		return Math.abs(latitude - declination) > zenith + 1e-9
+				|| 180 - Math.abs(latitude + declination) < zenith - 1e-9;
+	}
+
+	/**
+	 * Calculates sunrise and sunset for all the zeniths using a single {@link SolarDay}, so that the Julian day, solar
+	 * noon and the first pass of the calculation are only done once for all zeniths.
+	 * 
+	 * @see AstronomicalCalculator#getUTCSunrisesAndSunsets(ZonedDateTime, GeoLocation, double[], boolean, double[],
+	 *      double[])
+	 */
+	public void getUTCSunrisesAndSunsets(ZonedDateTime calendar, GeoLocation geoLocation, double[] zeniths,
+			boolean adjustForElevation, double[] sunrises, double[] sunsets) {
+		getUTCSunrisesAndSunsets(getJulianDay(calendar), geoLocation, zeniths, adjustForElevation, sunrises, sunsets);
+	}
+
+	/**
+	 * Calculates sunrise and sunset for all the zeniths on the Julian day using a single {@link SolarDay}.
+	 * 
+	 * @see AstronomicalCalculator#getUTCSunrisesAndSunsets(double, GeoLocation, double[], boolean, double[], double[])
+	 */
+	public void getUTCSunrisesAndSunsets(double julianDay, GeoLocation geoLocation, double[] zeniths,
+			boolean adjustForElevation, double[] sunrises, double[] sunsets) {
+		validateBatchArrays(zeniths, sunrises, sunsets);
+		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
+		double latitude = geoLocation.getLatitude();
+		SolarDay day = getSolarDay(julianDay, -geoLocation.getLongitude());
+		for (int i = 0; i < zeniths.length; i++) {
+			double adjustedZenith = adjustZenith(zeniths[i], elevation);
+			if (sunrises != null) {
+				sunrises[i] = getHoursFromMinutesUTC(getSunriseUTC(day, latitude, adjustedZenith));
+			}
+			if (sunsets != null) {
+				sunsets[i] = getHoursFromMinutesUTC(getSunsetUTC(day, latitude, adjustedZenith));
+			}
 		}
-		int a = year / 100;
-		int b = 2 - a + a / 4;
+	}
 
-		return Math.floor(365.25 * (year + 4716)) + Math.floor(30.6001 * (month + 1)) + day + b - 1524.5;
+	/**
+	 * Calculates sunrise and sunset for a number of locations on the Julian day. When running on Java 17 or later with
+	 * the <code>jdk.incubator.vector</code> module added (<code>--add-modules jdk.incubator.vector</code>), and no
+	 * {@link #setEphemerisTable(EphemerisTable) ephemeris table} is set, the locations are calculated in the lanes of
+	 * the <a href="https://openjdk.org/jeps/414">Vector API</a> by the <code>NOAAVectorKernel</code> in the Java 17
+	 * part of the multi-release jar. The results of the vector kernel are within {@link #VECTOR_TOLERANCE_MILLIS} of
+	 * the ones of this scalar implementation, except within a few days of the sun first or last crossing the zenith at
+	 * a location, where the time of sunrise or sunset changes too fast for any tolerance. Otherwise (and if the
+	 * <code>com.kosherjava.zmanim.vector</code> system property is <code>false</code>) each location is calculated as
+	 * by {@link #getUTCSunrisesAndSunsets(double, GeoLocation, double[], boolean, double[], double[])}, without
+	 * replacing the cached {@link SolarDay}.
+	 *
+	 * @see AstronomicalCalculator#getUTCSunrisesAndSunsets(double, GeoLocation[], double, boolean, double[],
+	 *      double[])
+	 */
+	public void getUTCSunrisesAndSunsets(double julianDay, GeoLocation[] geoLocations, double zenith,
+			boolean adjustForElevation, double[] sunrises, double[] sunsets) {
+		validateLocationArrays(geoLocations, sunrises, sunsets);
+		EphemerisTable table = ephemerisTable;
+		NOAABatchKernel kernel = NOAABatchKernel.getVectorKernel();
+		if (kernel == null || table != null) {
+			for (int i = 0; i < geoLocations.length; i++) {
+				GeoLocation geoLocation = geoLocations[i];
+				double adjustedZenith = adjustZenith(zenith, adjustForElevation ? geoLocation.getElevation() : 0);
+				SolarDay day = new SolarDay(julianDay, -geoLocation.getLongitude(), table);
+				if (sunrises != null) {
+					sunrises[i] = getHoursFromMinutesUTC(getSunriseUTC(day, geoLocation.getLatitude(), adjustedZenith));
+				}
+				if (sunsets != null) {
+					sunsets[i] = getHoursFromMinutesUTC(getSunsetUTC(day, geoLocation.getLatitude(), adjustedZenith));
+				}
+			}
+			return;
+		}
+		int length = geoLocations.length;
+		double[] latitudes = new double[length];
+		double[] longitudes = new double[length];
+		double[] zeniths = new double[length];
+		for (int i = 0; i < length; i++) {
+			GeoLocation geoLocation = geoLocations[i];
+			latitudes[i] = geoLocation.getLatitude();
+			longitudes[i] = -geoLocation.getLongitude();
+			zeniths[i] = adjustZenith(zenith, adjustForElevation ? geoLocation.getElevation() : 0);
+		}
+		kernel.getSunrisesAndSunsets(julianDay, latitudes, longitudes, zeniths, length, sunrises, sunsets);
+		for (int i = 0; i < length; i++) {
+			if (sunrises != null) {
+				sunrises[i] = getHoursFromMinutesUTC(sunrises[i]);
+			}
+			if (sunsets != null) {
+				sunsets[i] = getHoursFromMinutesUTC(sunsets[i]);
+			}
+		}
 	}
 
 	/**
@@ -122,7 +390,7 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 *            the Julian Day to convert
 	 * @return the centuries since 2000 Julian corresponding to the Julian Day
 	 */
-	private static double getJulianCenturiesFromJulianDay(double julianDay) {
+	static double getJulianCenturiesFromJulianDay(double julianDay) {
 		return (julianDay - JULIAN_DAY_JAN_1_2000) / JULIAN_DAYS_PER_CENTURY;
 	}
 
@@ -287,7 +555,7 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * @return
 	 *            the sun's declination in degrees
 	 */
-	private static double getSunDeclination(double julianCenturies) {
+	static double getSunDeclination(double julianCenturies) {
 		double obliquityCorrection = getObliquityCorrection(julianCenturies);
 		double lambda = getSunApparentLongitude(julianCenturies);
 
@@ -305,7 +573,7 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 *            "https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
 	 * @return equation of time in minutes of time
 	 */
-	private static double getEquationOfTime(double julianCenturies) {
+	static double getEquationOfTime(double julianCenturies) {
 		double epsilon = getObliquityCorrection(julianCenturies);
 		double geomMeanLongSun = getSunGeometricMeanLongitude(julianCenturies);
 		double eccentricityEarthOrbit = getEarthOrbitEccentricity(julianCenturies);
@@ -325,6 +593,48 @@ public class NOAACalculator extends AstronomicalCalculator {
 		return Math.toDegrees(equationOfTime) * 4.0; // in minutes of time
 	}
 
+	/**
+	 * Return the declination of the sun, looking it up in the {@link EphemerisTable} if one is passed in and covers the
+	 * date, or calculating it with {@link #getSunDeclination(double)} otherwise.
+	 * 
+	 * @param julianCenturies
+	 *            the number of Julian centuries since <a href=
+	 *            "https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
+	 * @param ephemerisTable
+	 *            the table, or <code>null</code>
+	 * @return the sun's declination in degrees
+	 */
+	private static double getSunDeclination(double julianCenturies, EphemerisTable ephemerisTable) {
+		if (ephemerisTable != null) {
+			double julianDay = getJulianDayFromJulianCenturies(julianCenturies);
+			if (ephemerisTable.contains(julianDay)) {
+				return ephemerisTable.getSunDeclination(julianDay);
+			}
+		}
+		return getSunDeclination(julianCenturies);
+	}
+
+	/**
+	 * Return the equation of time, looking it up in the {@link EphemerisTable} if one is passed in and covers the date,
+	 * or calculating it with {@link #getEquationOfTime(double)} otherwise.
+	 * 
+	 * @param julianCenturies
+	 *            the number of Julian centuries since <a href=
+	 *            "https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
+	 * @param ephemerisTable
+	 *            the table, or <code>null</code>
+	 * @return equation of time in minutes of time
+	 */
+	private static double getEquationOfTime(double julianCenturies, EphemerisTable ephemerisTable) {
+		if (ephemerisTable != null) {
+			double julianDay = getJulianDayFromJulianCenturies(julianCenturies);
+			if (ephemerisTable.contains(julianDay)) {
+				return ephemerisTable.getEquationOfTime(julianDay);
+			}
+		}
+		return getEquationOfTime(julianCenturies);
+	}
+
 	/**
 	 * Return the <a href="https://en.wikipedia.org/wiki/Hour_angle">hour angle</a> of the sun in
 	 * <a href="https://en.wikipedia.org/wiki/Radian">radians</a> at sunrise for the latitude.
@@ -380,31 +690,44 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * @param lon
 	 *            longitude of location for calculation
 	 * @return solar elevation in degrees - horizon is 0 degrees, civil twilight is -6 degrees
+	 * @see #getSolarElevation(long, double, double)
 	 */
-
 	public static double getSolarElevation(ZonedDateTime cal, double lat, double lon) {
-		double julianDay = getJulianDay(cal);
-		double julianCenturies = getJulianCenturiesFromJulianDay(julianDay);
-
-		Double eot = getEquationOfTime(julianCenturies);
+		return getSolarElevation(cal.toInstant().toEpochMilli(), lat, lon);
+	}
 
-		double longitude = (cal.getHour() + 12.0)
-				+ (cal.getMinute() + eot + cal.getSecond() / 60.0) / 60.0;
+	/**
+	 * Return the <a href="https://en.wikipedia.org/wiki/Celestial_coordinate_system">Solar Elevation</a> for the
+	 * horizontal coordinate system at the given location at the given time in milliseconds since the epoch. The
+	 * declination and equation of time are calculated for the exact time, so no <code>ZonedDateTime</code> or time
+	 * zone handling is needed, making this suitable for calculating the elevation at many times. Can be negative if
+	 * the sun is below the horizon. Not corrected for altitude or refraction.
+	 * 
+	 * @param epochMillis
+	 *            time of calculation in milliseconds since the epoch
+	 * @param lat
+	 *            latitude of location for calculation
+	 * @param lon
+	 *            longitude of location for calculation
+	 * @return solar elevation in degrees - horizon is 0 degrees, civil twilight is -6 degrees
+	 */
+	public static double getSolarElevation(long epochMillis, double lat, double lon) {
+		double minutes = Math.floorMod(epochMillis, DAY_MILLIS) / 60000.0;
+		double julianDay = JULIAN_DAY_EPOCH + Math.floorDiv(epochMillis, DAY_MILLIS) + minutes / 1440.0;
+		double julianCenturies = getJulianCenturiesFromJulianDay(julianDay);
 
-		longitude = -(longitude * 360.0 / 24.0) % 360.0;
-		double hourAngle_rad = Math.toRadians(lon - longitude);
-		double declination = getSunDeclination(julianCenturies);
-		double dec_rad = Math.toRadians(declination);
+		double eot = getEquationOfTime(julianCenturies);
+		double hourAngle_rad = Math.toRadians(lon + (minutes + eot) / 4.0 - 180.0);
+		double dec_rad = Math.toRadians(getSunDeclination(julianCenturies));
 		double lat_rad = Math.toRadians(lat);
 		return Math.toDegrees(Math.asin((Math.sin(lat_rad) * Math.sin(dec_rad))
 				+ (Math.cos(lat_rad) * Math.cos(dec_rad) * Math.cos(hourAngle_rad))));
-
 	}
 
 	/**
 	 * Return the <a href="https://en.wikipedia.org/wiki/Celestial_coordinate_system">Solar Azimuth</a> for the
-	 * horizontal coordinate system at the given location at the given time. Not corrected for altitude. True south is 0
-	 * degrees.
+	 * horizontal coordinate system at the given location at the given time. Not corrected for altitude. The azimuth is
+	 * measured clockwise from true north, so due south is 180 degrees.
 	 * 
 	 * @param cal
 	 *            time of calculation
@@ -413,67 +736,196 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * @param lon
 	 *            longitude of location for calculation
 	 * @return the solar azimuth
+	 * @see #getSolarAzimuth(long, double, double)
 	 */
-
 	public static double getSolarAzimuth(ZonedDateTime cal, double lat, double lon) {
-		double julianDay = getJulianDay(cal);
-		double julianCenturies = getJulianCenturiesFromJulianDay(julianDay);
-
-		Double eot = getEquationOfTime(julianCenturies);
+		return getSolarAzimuth(cal.toInstant().toEpochMilli(), lat, lon);
+	}
 
-		double longitude = (cal.getHour() + 12.0)
-				+ (cal.getMinute() + eot + cal.getSecond() / 60.0) / 60.0;
+	/**
+	 * Return the <a href="https://en.wikipedia.org/wiki/Celestial_coordinate_system">Solar Azimuth</a> for the
+	 * horizontal coordinate system at the given location at the given time in milliseconds since the epoch. See
+	 * {@link #getSolarElevation(long, double, double)} for details.
+	 * 
+	 * @param epochMillis
+	 *            time of calculation in milliseconds since the epoch
+	 * @param lat
+	 *            latitude of location for calculation
+	 * @param lon
+	 *            longitude of location for calculation
+	 * @return the solar azimuth in degrees clockwise from true north (0 to 360)
+	 */
+	public static double getSolarAzimuth(long epochMillis, double lat, double lon) {
+		double minutes = Math.floorMod(epochMillis, DAY_MILLIS) / 60000.0;
+		double julianDay = JULIAN_DAY_EPOCH + Math.floorDiv(epochMillis, DAY_MILLIS) + minutes / 1440.0;
+		double julianCenturies = getJulianCenturiesFromJulianDay(julianDay);
 
-		longitude = -(longitude * 360.0 / 24.0) % 360.0;
-		double hourAngle_rad = Math.toRadians(lon - longitude);
-		double declination = getSunDeclination(julianCenturies);
-		double dec_rad = Math.toRadians(declination);
+		double eot = getEquationOfTime(julianCenturies);
+		double hourAngle_rad = Math.toRadians(lon + (minutes + eot) / 4.0 - 180.0);
+		double dec_rad = Math.toRadians(getSunDeclination(julianCenturies));
 		double lat_rad = Math.toRadians(lat);
+		return Math.toDegrees(Math.atan2(Math.sin(hourAngle_rad), (Math.cos(hourAngle_rad) * Math.sin(lat_rad))
+				- (Math.tan(dec_rad) * Math.cos(lat_rad)))) + 180;
+	}
+
+	/**
+	 * Fills arrays with the {@link #getSolarElevation(long, double, double) solar elevation} and {@link
+	 * #getSolarAzimuth(long, double, double) solar azimuth} at evenly spaced times, such as every minute of a day for a
+	 * sun path chart. Rather than calculating the Julian centuries, equation of time and declination from scratch for
+	 * every time, they are calculated at the start, middle and end of each quarter day of the series and interpolated
+	 * between them, so each time only requires the trigonometry of the hour angle. The interpolation error is less than
+	 * 10<sup>-6</sup> degrees, other than within a few degrees of the zenith and nadir, where the azimuth is not well
+	 * defined.
+	 * 
+	 * @param geoLocation
+	 *            the location of the observer
+	 * @param startEpochMillis
+	 *            the first time in milliseconds since the epoch
+	 * @param stepMillis
+	 *            the milliseconds between times. Must be positive.
+	 * @param count
+	 *            the number of times
+	 * @param elevations
+	 *            the array to fill with the elevations in degrees, of at least <code>count</code> length, or
+	 *            <code>null</code> if the elevations are not needed
+	 * @param azimuths
+	 *            the array to fill with the azimuths in degrees clockwise from true north, of at least
+	 *            <code>count</code> length, or <code>null</code> if the azimuths are not needed
+	 * @throws IllegalArgumentException
+	 *             if the location is <code>null</code>, the step is not positive, the count is negative or an array is
+	 *             too short
+	 */
+	public static void getSolarPositions(GeoLocation geoLocation, long startEpochMillis, long stepMillis, int count,
+			double[] elevations, double[] azimuths) {
+		if (geoLocation == null) {
+			throw new IllegalArgumentException("The location can't be null");
+		}
+		if (stepMillis <= 0 || count < 0) {
+			throw new IllegalArgumentException("The step must be positive and the count can't be negative: "
+					+ stepMillis + ", " + count);
+		}
+		if ((elevations != null && elevations.length < count) || (azimuths != null && azimuths.length < count)) {
+			throw new IllegalArgumentException("The arrays must have room for " + count + " positions");
+		}
+		double longitude = geoLocation.getLongitude();
+		double latRad = Math.toRadians(geoLocation.getLatitude());
+		double sinLat = Math.sin(latRad);
+		double cosLat = Math.cos(latRad);
+
+		// quadratic interpolation coefficients of the equation of time and the sine and cosine of the declination over
+		// the current quarter day of the series, as a function of the fraction of the quarter day
+		double segmentStart = Double.NaN;
+		double[] eot = new double[3];
+		double[] sinDec = new double[3];
+		double[] cosDec = new double[3];
+		for (int i = 0; i < count; i++) {
+			long time = startEpochMillis + i * stepMillis;
+			double minutes = Math.floorMod(time, DAY_MILLIS) / 60000.0;
+			double julianDay = JULIAN_DAY_EPOCH + Math.floorDiv(time, DAY_MILLIS) + minutes / 1440.0;
+			double u = (julianDay - segmentStart) * 4;
+			if (!(u <= 1)) {
+				segmentStart = julianDay;
+				u = 0;
+				setInterpolation(julianDay, eot, sinDec, cosDec);
+			}
+			double equationOfTime = eot[0] + u * (eot[1] + u * eot[2]);
+			double sinDeclination = sinDec[0] + u * (sinDec[1] + u * sinDec[2]);
+			double cosDeclination = cosDec[0] + u * (cosDec[1] + u * cosDec[2]);
+
+			double hourAngle = Math.toRadians(longitude + (minutes + equationOfTime) / 4.0 - 180.0);
+			double sinHourAngle = Math.sin(hourAngle);
+			double cosHourAngle = Math.cos(hourAngle);
+			if (elevations != null) {
+				elevations[i] = Math.toDegrees(Math.asin(sinLat * sinDeclination
+						+ cosLat * cosDeclination * cosHourAngle));
+			}
+			if (azimuths != null) {
+				// the azimuth formula multiplied through by the cosine of the declination to avoid the tangent
+				azimuths[i] = Math.toDegrees(Math.atan2(sinHourAngle * cosDeclination,
+						cosHourAngle * sinLat * cosDeclination - sinDeclination * cosLat)) + 180;
+			}
+		}
+	}
 
-		return Math.toDegrees(Math.atan(Math.sin(hourAngle_rad)
-				/ ((Math.cos(hourAngle_rad) * Math.sin(lat_rad)) - (Math.tan(dec_rad) * Math.cos(lat_rad)))))+180;
+	/**
+	 * Sets the coefficients of the quadratic polynomials in the fraction of a quarter day <em>u</em>
+	 * (<em>c</em><sub>0</sub> + <em>c</em><sub>1</sub><em>u</em> + <em>c</em><sub>2</sub><em>u</em><sup>2</sup>) that
+	 * pass through the equation of time and the sine and cosine of the declination at the start, middle and end of a
+	 * quarter day, used by
+	 * {@link #getSolarPositions(GeoLocation, long, long, int, double[], double[])}.
+	 * 
+	 * @param julianDay
+	 *            the Julian day of the start of the quarter day
+	 * @param eot
+	 *            the coefficients of the equation of time
+	 * @param sinDec
+	 *            the coefficients of the sine of the declination
+	 * @param cosDec
+	 *            the coefficients of the cosine of the declination
+	 */
+	private static void setInterpolation(double julianDay, double[] eot, double[] sinDec, double[] cosDec) {
+		double[] eotSamples = new double[3];
+		double[] decSamples = new double[3];
+		for (int i = 0; i < 3; i++) {
+			double julianCenturies = getJulianCenturiesFromJulianDay(julianDay + i / 8.0);
+			eotSamples[i] = getEquationOfTime(julianCenturies);
+			decSamples[i] = Math.toRadians(getSunDeclination(julianCenturies));
+		}
+		setQuadratic(eotSamples[0], eotSamples[1], eotSamples[2], eot);
+		setQuadratic(Math.sin(decSamples[0]), Math.sin(decSamples[1]), Math.sin(decSamples[2]), sinDec);
+		setQuadratic(Math.cos(decSamples[0]), Math.cos(decSamples[1]), Math.cos(decSamples[2]), cosDec);
+	}
 
+	/**
+	 * Sets the coefficients of the quadratic polynomial passing through values at 0, &frac12; and 1.
+	 * 
+	 * @param f0
+	 *            the value at 0
+	 * @param fHalf
+	 *            the value at &frac12;
+	 * @param f1
+	 *            the value at 1
+	 * @param coefficients
+	 *            the array to set the coefficients in, from the constant up
+	 */
+	private static void setQuadratic(double f0, double fHalf, double f1, double[] coefficients) {
+		coefficients[0] = f0;
+		coefficients[1] = 4 * fHalf - 3 * f0 - f1;
+		coefficients[2] = 2 * f0 - 4 * fHalf + 2 * f1;
 	}
 
 	/**
 	 * Return the <a href="https://en.wikipedia.org/wiki/Universal_Coordinated_Time">Universal Coordinated Time</a> (UTC)
 	 * of sunrise for the given day at the given location on earth.
 	 * 
-	 * @param julianDay
-	 *            the Julian day
+	 * @param solarDay
+	 *            the {@link SolarDay} of the Julian day and longitude of observer
 	 * @param latitude
 	 *            the latitude of observer in degrees
-	 * @param longitude
-	 *            the longitude of observer in degrees
 	 * @param zenith
 	 *            the zenith
 	 * @return the time in minutes from zero UTC
 	 */
-	private static double getSunriseUTC(double julianDay, double latitude, double longitude, double zenith) {
-		double julianCenturies = getJulianCenturiesFromJulianDay(julianDay);
-
-		// Find the time of solar noon at the location, and use that declination. This is better than start of the
-		// Julian day
-
-		double noonmin = getSolarNoonUTC(julianCenturies, longitude);
-		double tnoon = getJulianCenturiesFromJulianDay(julianDay + noonmin / 1440.0);
+	private static double getSunriseUTC(SolarDay solarDay, double latitude, double zenith) {
+		if (isNeverCrossed(solarDay, latitude, zenith)) {
+			return Double.NaN;
+		}
+		double longitude = solarDay.longitude;
 
 		// First pass to approximate sunrise (using solar noon)
 
-		double eqTime = getEquationOfTime(tnoon);
-		double solarDec = getSunDeclination(tnoon);
-		double hourAngle = getSunHourAngleAtSunrise(latitude, solarDec, zenith);
+		double hourAngle = getSunHourAngleAtSunrise(latitude, solarDay.solarDecAtNoon, zenith);
 
 		double delta = longitude - Math.toDegrees(hourAngle);
 		double timeDiff = 4 * delta; // in minutes of time
-		double timeUTC = 720 + timeDiff - eqTime; // in minutes
+		double timeUTC = 720 + timeDiff - solarDay.eqTimeAtNoon; // in minutes
 
 		// Second pass includes fractional Julian Day in gamma calc
 
-		double newt = getJulianCenturiesFromJulianDay(getJulianDayFromJulianCenturies(julianCenturies) + timeUTC
+		double newt = getJulianCenturiesFromJulianDay(getJulianDayFromJulianCenturies(solarDay.julianCenturies) + timeUTC
 				/ 1440.0);
-		eqTime = getEquationOfTime(newt);
-		solarDec = getSunDeclination(newt);
+		double eqTime = getEquationOfTime(newt, solarDay.ephemerisTable);
+		double solarDec = getSunDeclination(newt, solarDay.ephemerisTable);
 		hourAngle = getSunHourAngleAtSunrise(latitude, solarDec, zenith);
 		delta = longitude - Math.toDegrees(hourAngle);
 		timeDiff = 4 * delta;
@@ -489,7 +941,7 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * "https://kosherjava.com/2020/07/02/definition-of-chatzos/">The Definition of <em>Chatzos</em></a> for details on
 	 * solar noon calculations.
 	 * @see AstronomicalCalculator#getUTCNoon(ZonedDateTime, GeoLocation)
-	 * @see #getSolarNoonUTC(double, double)
+	 * @see #getSolarNoonUTC(double, double, EphemerisTable)
 	 * 
 	 * @param calendar
 	 *            The Calendar representing the date to calculate solar noon for
@@ -499,20 +951,53 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * @return the time in minutes from zero UTC
 	 */
 	public double getUTCNoon(ZonedDateTime calendar, GeoLocation geoLocation) {
-		double julianDay = getJulianDay(calendar);
-		double julianCenturies = getJulianCenturiesFromJulianDay(julianDay);
-		
-		double noon = getSolarNoonUTC(julianCenturies, -geoLocation.getLongitude());
-		noon = noon / 60;
+		return getUTCNoon(getJulianDay(calendar), geoLocation);
+	}
 
-		// ensure that the time is >= 0 and < 24
-		while (noon < 0.0) {
-			noon += 24.0;
-		}
-		while (noon >= 24.0) {
-			noon -= 24.0;
-		}
-		return noon;
+	/**
+	 * @see AstronomicalCalculator#getUTCNoon(double, GeoLocation)
+	 */
+	public double getUTCNoon(double julianDay, GeoLocation geoLocation) {
+		return getHoursFromMinutesUTC(getSolarDay(julianDay, -geoLocation.getLongitude()).solarNoonUTC);
+	}
+
+	/**
+	 * Returns solar midnight as the time that the <a href="https://en.wikipedia.org/wiki/Hour_angle">hour angle</a> of
+	 * the sun is 180&deg;, calculated directly rather than as halfway between the solar noon of the day and the next
+	 * day. See {@link #getSolarMidnightUTC(double, double, EphemerisTable)} for details.
+	 * 
+	 * @see AstronomicalCalculator#getUTCMidnight(ZonedDateTime, GeoLocation)
+	 */
+	public double getUTCMidnight(ZonedDateTime calendar, GeoLocation geoLocation) {
+		return getHoursFromMinutesUTC(getSolarMidnightUTC(getJulianDay(calendar), -geoLocation.getLongitude(),
+				ephemerisTable));
+	}
+
+	/**
+	 * Return the <a href="https://en.wikipedia.org/wiki/Universal_Coordinated_Time">Universal Coordinated Time</a> (UTC)
+	 * of solar midnight after the solar noon of the given day at the given location on earth. This is the time of the
+	 * anti-transit, when the hour angle of the sun is 180&deg;, 12 hours after the mean solar noon corrected by the
+	 * equation of time. As in {@link #getSolarNoonUTC(double, double, EphemerisTable)}, the equation of time is taken
+	 * half a day before the time calculated by the first pass. Since this is the instant halfway between the ones used
+	 * for the solar noon of the day and of the next day, the result stays halfway between the two sun transits.
+	 * 
+	 * @param julianDay
+	 *            the Julian day at the start of the day
+	 * @param longitude
+	 *            the longitude of observer in degrees
+	 * @param ephemerisTable
+	 *            the {@link EphemerisTable} to look up the equation of time in, or <code>null</code>
+	 * @return the time in minutes from zero UTC
+	 */
+	private static double getSolarMidnightUTC(double julianDay, double longitude, EphemerisTable ephemerisTable) {
+		// First pass uses mean solar midnight to calculate equation of time
+		double eqTime = getEquationOfTime(getJulianCenturiesFromJulianDay(julianDay + 0.5 + longitude / 360.0),
+				ephemerisTable);
+		double solarMidnightUTC = 1440 + (longitude * 4) - eqTime; // min
+
+		eqTime = getEquationOfTime(getJulianCenturiesFromJulianDay(julianDay - 0.5 + solarMidnightUTC / 1440.0),
+				ephemerisTable);
+		return 1440 + (longitude * 4) - eqTime; // min
 	}
 
 	/**
@@ -525,23 +1010,25 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 *            "https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
 	 * @param longitude
 	 *            the longitude of observer in degrees
+	 * @param ephemerisTable
+	 *            the {@link EphemerisTable} to look up the equation of time in, or <code>null</code>
 	 * 
 	 * @return the time in minutes from zero UTC
 	 * 
 	 * @see AstronomicalCalculator#getUTCNoon(ZonedDateTime, GeoLocation)
 	 * @see AstronomicalCalculator#getUTCNoon(ZonedDateTime, GeoLocation)
 	 */
-	private static double getSolarNoonUTC(double julianCenturies, double longitude) {
+	private static double getSolarNoonUTC(double julianCenturies, double longitude, EphemerisTable ephemerisTable) {
 		// First pass uses approximate solar noon to calculate equation of time
 		double tnoon = getJulianCenturiesFromJulianDay(getJulianDayFromJulianCenturies(julianCenturies) + longitude
 				/ 360.0);
-		double eqTime = getEquationOfTime(tnoon);
+		double eqTime = getEquationOfTime(tnoon, ephemerisTable);
 		double solNoonUTC = 720 + (longitude * 4) - eqTime; // min
 
 		double newt = getJulianCenturiesFromJulianDay(getJulianDayFromJulianCenturies(julianCenturies) - 0.5
 				+ solNoonUTC / 1440.0);
 
-		eqTime = getEquationOfTime(newt);
+		eqTime = getEquationOfTime(newt, ephemerisTable);
 		return 720 + (longitude * 4) - eqTime; // min
 	}
 
@@ -549,41 +1036,34 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * Return the <a href="https://en.wikipedia.org/wiki/Universal_Coordinated_Time">Universal Coordinated Time</a> (UTC)
 	 * of sunset for the given day at the given location on earth.
 	 * 
-	 * @param julianDay
-	 *            the Julian day
+	 * @param solarDay
+	 *            the {@link SolarDay} of the Julian day and longitude of observer
 	 * @param latitude
 	 *            the latitude of observer in degrees
-	 * @param longitude
-	 *            longitude of observer in degrees
 	 * @param zenith
 	 *            zenith
 	 * @return the time in minutes from zero Universal Coordinated Time (UTC)
 	 */
-	private static double getSunsetUTC(double julianDay, double latitude, double longitude, double zenith) {
-		double julianCenturies = getJulianCenturiesFromJulianDay(julianDay);
-
-		// Find the time of solar noon at the location, and use that declination. This is better than start of the
-		// Julian day
-
-		double noonmin = getSolarNoonUTC(julianCenturies, longitude);
-		double tnoon = getJulianCenturiesFromJulianDay(julianDay + noonmin / 1440.0);
+	private static double getSunsetUTC(SolarDay solarDay, double latitude, double zenith) {
+		if (isNeverCrossed(solarDay, latitude, zenith)) {
+			return Double.NaN;
+		}
+		double longitude = solarDay.longitude;
 
 		// First calculates sunrise and approx length of day
 
-		double eqTime = getEquationOfTime(tnoon);
-		double solarDec = getSunDeclination(tnoon);
-		double hourAngle = getSunHourAngleAtSunset(latitude, solarDec, zenith);
+		double hourAngle = getSunHourAngleAtSunset(latitude, solarDay.solarDecAtNoon, zenith);
 
 		double delta = longitude - Math.toDegrees(hourAngle);
 		double timeDiff = 4 * delta;
-		double timeUTC = 720 + timeDiff - eqTime;
+		double timeUTC = 720 + timeDiff - solarDay.eqTimeAtNoon;
 
 		// Second pass includes fractional Julian Day in gamma calc
 
-		double newt = getJulianCenturiesFromJulianDay(getJulianDayFromJulianCenturies(julianCenturies) + timeUTC
+		double newt = getJulianCenturiesFromJulianDay(getJulianDayFromJulianCenturies(solarDay.julianCenturies) + timeUTC
 				/ 1440.0);
-		eqTime = getEquationOfTime(newt);
-		solarDec = getSunDeclination(newt);
+		double eqTime = getEquationOfTime(newt, solarDay.ephemerisTable);
+		double solarDec = getSunDeclination(newt, solarDay.ephemerisTable);
 		hourAngle = getSunHourAngleAtSunset(latitude, solarDec, zenith);
 
 		delta = longitude - Math.toDegrees(hourAngle);
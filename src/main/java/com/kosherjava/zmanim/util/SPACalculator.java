@@ -0,0 +1,481 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.time.ZonedDateTime;
+
+/**
+ * A high precision implementation of sunrise, sunset and solar noon based on the <a
+ * href="https://midcdmz.nrel.gov/spa/">NREL Solar Position Algorithm (SPA)</a> by Ibrahim Reda and Afshin Andreas,
+ * which in turn is based on the VSOP87 theory as truncated by Jean Meeus in <em>Astronomical Algorithms</em>. The
+ * position of the sun is calculated from the full SPA tables of the periodic terms of the earth, with the nutation
+ * series truncated to its four largest terms (a difference of less than half an arc second), corrected for
+ * aberration, the difference between terrestrial and universal time (&Delta;T) and the parallax of the sun. SPA is
+ * accurate to &plusmn;0.0003&deg; for the years -2000 to 6000, compared to about 0.01&deg; for the {@link
+ * NOAACalculator}.
+ * <p>
+ * Rather than the fixed two passes of the {@link NOAACalculator}, every time is iterated until the hour angle of the
+ * sun converges to within 10<sup>-7</sup>&deg; (a few microseconds). To keep this practical, the position of the sun
+ * is calculated in full only 3 times a day, half a day apart around solar noon, and interpolated between them, which
+ * adds an error of less than 0.01 arc seconds. Even so this calculator is many times slower than the {@link
+ * NOAACalculator}, and is intended for publishing reference calendars rather than for serving times in bulk. See the
+ * {@link CalculatorTier} for choosing between the calculators.
+ * <p>
+ * As with all the calculators, the actual times of sunrise and sunset are limited far more by the variation of the
+ * {@link #getRefraction() refraction} near the horizon than by the accuracy of the position of the sun.
+ *
+ * @see CalculatorTier#PRECISE
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public class SPACalculator extends AstronomicalCalculator {
+	/**
+	 * The <a href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a> of January 1, 2000, known as
+	 * <a href="https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
+	 */
+	private static final double JULIAN_DAY_JAN_1_2000 = 2451545.0;
+
+	/**
+	 * The rate of change of the hour angle of the sun in degrees per day, used to convert hour angles to time.
+	 */
+	private static final double SIDEREAL_RATE = 360.985647;
+
+	/**
+	 * The hour angle difference in degrees within which the time of an event is considered converged.
+	 */
+	private static final double CONVERGENCE = 1e-7;
+
+	/**
+	 * The maximum number of iterations for an event. Convergence usually takes 3 or 4.
+	 */
+	private static final int MAX_ITERATIONS = 20;
+
+	/** Radians per degree. */
+	private static final double RAD = Math.PI / 180;
+
+	/** Degrees per radian. */
+	private static final double DEG = 180 / Math.PI;
+
+	/**
+	 * The periodic terms of the earth's heliocentric longitude, as {A, B, C} triplets of the term A cos(B + C&tau;),
+	 * indexed by the power of &tau; (Julian millennia from J2000.0) they are multiplied by.
+	 */
+	private static final double[][][] L_TERMS = {
+			{ { 175347046, 0, 0 }, { 3341656, 4.6692568, 6283.07585 }, { 34894, 4.6261, 12566.1517 },
+					{ 3497, 2.7441, 5753.3849 }, { 3418, 2.8289, 3.5231 }, { 3136, 3.6277, 77713.7715 },
+					{ 2676, 4.4181, 7860.4194 }, { 2343, 6.1352, 3930.2097 }, { 1324, 0.7425, 11506.7698 },
+					{ 1273, 2.0371, 529.691 }, { 1199, 1.1096, 1577.3435 }, { 990, 5.233, 5884.927 },
+					{ 902, 2.045, 26.298 }, { 857, 3.508, 398.149 }, { 780, 1.179, 5223.694 },
+					{ 753, 2.533, 5507.553 }, { 505, 4.583, 18849.228 }, { 492, 4.205, 775.523 },
+					{ 357, 2.92, 0.067 }, { 317, 5.849, 11790.629 }, { 284, 1.899, 796.298 },
+					{ 271, 0.315, 10977.079 }, { 243, 0.345, 5486.778 }, { 206, 4.806, 2544.314 },
+					{ 205, 1.869, 5573.143 }, { 202, 2.458, 6069.777 }, { 156, 0.833, 213.299 },
+					{ 132, 3.411, 2942.463 }, { 126, 1.083, 20.775 }, { 115, 0.645, 0.98 },
+					{ 103, 0.636, 4694.003 }, { 102, 0.976, 15720.839 }, { 102, 4.267, 7.114 },
+					{ 99, 6.21, 2146.17 }, { 98, 0.68, 155.42 }, { 86, 5.98, 161000.69 }, { 85, 1.3, 6275.96 },
+					{ 85, 3.67, 71430.7 }, { 80, 1.81, 17260.15 }, { 79, 3.04, 12036.46 }, { 75, 1.76, 5088.63 },
+					{ 74, 3.5, 3154.69 }, { 74, 4.68, 801.82 }, { 70, 0.83, 9437.76 }, { 62, 3.98, 8827.39 },
+					{ 61, 1.82, 7084.9 }, { 57, 2.78, 6286.6 }, { 56, 4.39, 14143.5 }, { 56, 3.47, 6279.55 },
+					{ 52, 0.19, 12139.55 }, { 52, 1.33, 1748.02 }, { 51, 0.28, 5856.48 }, { 49, 0.49, 1194.45 },
+					{ 41, 5.37, 8429.24 }, { 41, 2.4, 19651.05 }, { 39, 6.17, 10447.39 }, { 37, 6.04, 10213.29 },
+					{ 37, 2.57, 1059.38 }, { 36, 1.71, 2352.87 }, { 36, 1.78, 6812.77 }, { 33, 0.59, 17789.85 },
+					{ 30, 0.44, 83996.85 }, { 30, 2.74, 1349.87 }, { 25, 3.16, 4690.48 } },
+			{ { 628331966747.0, 0, 0 }, { 206059, 2.678235, 6283.07585 }, { 4303, 2.6351, 12566.1517 },
+					{ 425, 1.59, 3.523 }, { 119, 5.796, 26.298 }, { 109, 2.966, 1577.344 }, { 93, 2.59, 18849.23 },
+					{ 72, 1.14, 529.69 }, { 68, 1.87, 398.15 }, { 67, 4.41, 5507.55 }, { 59, 2.89, 5223.69 },
+					{ 56, 2.17, 155.42 }, { 45, 0.4, 796.3 }, { 36, 0.47, 775.52 }, { 29, 2.65, 7.11 },
+					{ 21, 5.34, 0.98 }, { 19, 1.85, 5486.78 }, { 19, 4.97, 213.3 }, { 17, 2.99, 6275.96 },
+					{ 16, 0.03, 2544.31 }, { 16, 1.43, 2146.17 }, { 15, 1.21, 10977.08 }, { 12, 2.83, 1748.02 },
+					{ 12, 3.26, 5088.63 }, { 12, 5.27, 1194.45 }, { 12, 2.08, 4694 }, { 11, 0.77, 553.57 },
+					{ 10, 1.3, 6286.6 }, { 10, 4.24, 1349.87 }, { 9, 2.7, 242.73 }, { 9, 5.64, 951.72 },
+					{ 8, 5.3, 2352.87 }, { 6, 2.65, 9437.76 }, { 6, 4.67, 4690.48 } },
+			{ { 52919, 0, 0 }, { 8720, 1.0721, 6283.0758 }, { 309, 0.867, 12566.152 }, { 27, 0.05, 3.52 },
+					{ 16, 5.19, 26.3 }, { 16, 3.68, 155.42 }, { 10, 0.76, 18849.23 }, { 9, 2.06, 77713.77 },
+					{ 7, 0.83, 775.52 }, { 5, 4.66, 1577.34 }, { 4, 1.03, 7.11 }, { 4, 3.44, 5573.14 },
+					{ 3, 5.14, 796.3 }, { 3, 6.05, 5507.55 }, { 3, 1.19, 242.73 }, { 3, 6.12, 529.69 },
+					{ 3, 0.31, 398.15 }, { 3, 2.28, 553.57 }, { 2, 4.38, 5223.69 }, { 2, 3.75, 0.98 } },
+			{ { 289, 5.844, 6283.076 }, { 35, 0, 0 }, { 17, 5.49, 12566.15 }, { 3, 5.2, 155.42 }, { 1, 4.72, 3.52 },
+					{ 1, 5.3, 18849.23 }, { 1, 5.97, 242.73 } },
+			{ { 114, 3.142, 0 }, { 8, 4.13, 6283.08 }, { 1, 3.84, 12566.15 } },
+			{ { 1, 3.14, 0 } } };
+
+	/**
+	 * The periodic terms of the earth's heliocentric latitude. See {@link #L_TERMS}.
+	 */
+	private static final double[][][] B_TERMS = {
+			{ { 280, 3.199, 84334.662 }, { 102, 5.422, 5507.553 }, { 80, 3.88, 5223.69 }, { 44, 3.7, 2352.87 },
+					{ 32, 4, 1577.34 } },
+			{ { 9, 3.9, 5507.55 }, { 6, 1.73, 5223.69 } } };
+
+	/**
+	 * The periodic terms of the earth's radius vector. See {@link #L_TERMS}.
+	 */
+	private static final double[][][] R_TERMS = {
+			{ { 100013989, 0, 0 }, { 1670700, 3.0984635, 6283.07585 }, { 13956, 3.05525, 12566.1517 },
+					{ 3084, 5.1985, 77713.7715 }, { 1628, 1.1739, 5753.3849 }, { 1576, 2.8469, 7860.4194 },
+					{ 925, 5.453, 11506.77 }, { 542, 4.564, 3930.21 }, { 472, 3.661, 5884.927 },
+					{ 346, 0.964, 5507.553 }, { 329, 5.9, 5223.694 }, { 307, 0.299, 5573.143 },
+					{ 243, 4.273, 11790.629 }, { 212, 5.847, 1577.344 }, { 186, 5.022, 10977.079 },
+					{ 175, 3.012, 18849.228 }, { 110, 5.055, 5486.778 }, { 98, 0.89, 6069.78 },
+					{ 86, 5.69, 15720.84 }, { 86, 1.27, 161000.69 }, { 65, 0.27, 17260.15 }, { 63, 0.92, 529.69 },
+					{ 57, 2.01, 83996.85 }, { 56, 5.24, 71430.7 }, { 49, 3.25, 2544.31 }, { 47, 2.58, 775.52 },
+					{ 45, 5.54, 9437.76 }, { 43, 6.01, 6275.96 }, { 39, 5.36, 4694 }, { 38, 2.39, 8827.39 },
+					{ 37, 0.83, 19651.05 }, { 37, 4.9, 12139.55 }, { 36, 1.67, 12036.46 }, { 35, 1.84, 2942.46 },
+					{ 33, 0.24, 7084.9 }, { 32, 0.18, 5088.63 }, { 32, 1.78, 398.15 }, { 28, 1.21, 6286.6 },
+					{ 28, 1.9, 6279.55 }, { 26, 4.59, 10447.39 } },
+			{ { 103019, 1.10749, 6283.07585 }, { 1721, 1.0644, 12566.1517 }, { 702, 3.142, 0 },
+					{ 32, 1.02, 18849.23 }, { 31, 2.84, 5507.55 }, { 25, 1.32, 5223.69 }, { 18, 1.42, 1577.34 },
+					{ 10, 5.91, 10977.08 }, { 9, 1.42, 6275.96 }, { 9, 0.27, 5486.78 } },
+			{ { 4359, 5.7846, 6283.0758 }, { 124, 5.579, 12566.152 }, { 12, 3.14, 0 }, { 9, 3.63, 77713.77 },
+					{ 6, 1.87, 5573.14 }, { 3, 5.47, 18849.23 } },
+			{ { 145, 4.273, 6283.076 }, { 7, 3.92, 12566.15 } },
+			{ { 4, 2.56, 6283.08 } } };
+
+	/**
+	 * The most recently used {@link SolarDay}. See the {@link NOAACalculator} for details.
+	 */
+	private transient volatile SolarDay solarDay;
+
+	/**
+	 * The apparent position of the sun at a point in time.
+	 */
+	static final class Sun {
+		/**
+		 * The apparent right ascension in degrees, less the equation of the equinoxes, so that the hour angle is the
+		 * mean sidereal time plus the longitude less this value.
+		 */
+		final double rightAscension;
+
+		/** The apparent declination in degrees. */
+		final double declination;
+
+		/** The equatorial horizontal parallax of the sun in degrees. */
+		final double parallax;
+
+		/**
+		 * Calculates the position of the sun.
+		 *
+		 * @param julianDay
+		 *            the Julian day in universal time
+		 */
+		Sun(double julianDay) {
+			double julianEphemerisDay = julianDay + getDeltaT(2000 + (julianDay - JULIAN_DAY_JAN_1_2000) / 365.25)
+					/ 86400;
+			double millennia = (julianEphemerisDay - JULIAN_DAY_JAN_1_2000) / 365250;
+			double centuries = millennia * 10;
+
+			double heliocentricLongitude = DEG * sumPeriodicTerms(L_TERMS, millennia);
+			double heliocentricLatitude = DEG * sumPeriodicTerms(B_TERMS, millennia);
+			double radius = sumPeriodicTerms(R_TERMS, millennia);
+
+			// nutation in longitude and obliquity in arc seconds, from the four largest terms of the series
+			double omega = RAD * (125.04452 - 1934.136261 * centuries);
+			double sunLongitude = RAD * (280.4665 + 36000.7698 * centuries);
+			double moonLongitude = RAD * (218.3165 + 481267.8813 * centuries);
+			double nutationLongitude = -17.20 * Math.sin(omega) - 1.32 * Math.sin(2 * sunLongitude) - 0.23
+					* Math.sin(2 * moonLongitude) + 0.21 * Math.sin(2 * omega);
+			double nutationObliquity = 9.20 * Math.cos(omega) + 0.57 * Math.cos(2 * sunLongitude) + 0.10
+					* Math.cos(2 * moonLongitude) - 0.09 * Math.cos(2 * omega);
+
+			double u = centuries / 100;
+			double meanObliquity = 84381.448 + u * (-4680.93 + u * (-1.55 + u * (1999.25 + u * (-51.38 + u
+					* (-249.67 + u * (-39.05 + u * (7.12 + u * (27.87 + u * (5.79 + u * 2.45)))))))));
+			double obliquity = RAD * (meanObliquity + nutationObliquity) / 3600;
+
+			double longitude = RAD * (heliocentricLongitude + 180 + (nutationLongitude - 20.4898 / radius) / 3600);
+			double latitude = -RAD * heliocentricLatitude;
+			double sinLongitude = Math.sin(longitude);
+			double sinObliquity = Math.sin(obliquity);
+			double cosObliquity = Math.cos(obliquity);
+
+			double equationOfEquinoxes = nutationLongitude / 3600 * cosObliquity;
+			this.rightAscension = DEG * Math.atan2(sinLongitude * cosObliquity - Math.tan(latitude) * sinObliquity,
+					Math.cos(longitude)) - equationOfEquinoxes;
+			this.declination = DEG * Math.asin(Math.sin(latitude) * cosObliquity + Math.cos(latitude)
+					* sinObliquity * sinLongitude);
+			this.parallax = 8.794 / 3600 / radius;
+		}
+	}
+
+	/**
+	 * The position of the sun at 3 times half a day apart centered on the approximate solar noon of a Julian day and
+	 * longitude, used to interpolate the position of the sun at any time of the day.
+	 */
+	private static final class SolarDay {
+		/** The Julian day at the start of the day. */
+		private final double julianDay;
+
+		/** The longitude of observer in degrees (east positive). */
+		private final double longitude;
+
+		/** The approximate time of solar noon in days from the start of the day, the center of the interpolation. */
+		private final double noon;
+
+		/** The right ascension at the center, and its first and second differences. */
+		private final double rightAscension0, rightAscension1, rightAscension2;
+
+		/** The declination at the center, and its first and second differences. */
+		private final double declination0, declination1, declination2;
+
+		/** The parallax at the center. */
+		private final double parallax;
+
+		private SolarDay(double julianDay, double longitude) {
+			this.julianDay = julianDay;
+			this.longitude = longitude;
+			this.noon = 0.5 - longitude / 360;
+			Sun before = new Sun(julianDay + noon - 0.5);
+			Sun center = new Sun(julianDay + noon);
+			Sun after = new Sun(julianDay + noon + 0.5);
+
+			// the right ascension increases by about a degree a day, so unwrap it around the center
+			double raBefore = center.rightAscension + normalize(before.rightAscension - center.rightAscension);
+			double raAfter = center.rightAscension + normalize(after.rightAscension - center.rightAscension);
+			rightAscension0 = center.rightAscension;
+			rightAscension1 = (raAfter - raBefore) / 2;
+			rightAscension2 = (raAfter + raBefore - 2 * center.rightAscension) / 2;
+			declination0 = center.declination;
+			declination1 = (after.declination - before.declination) / 2;
+			declination2 = (after.declination + before.declination - 2 * center.declination) / 2;
+			parallax = center.parallax;
+		}
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getCalculatorName()
+	 */
+	public String getCalculatorName() {
+		return "NREL Solar Position Algorithm (SPA)";
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCSunrise(ZonedDateTime, GeoLocation, double, boolean)
+	 */
+	public double getUTCSunrise(ZonedDateTime calendar, GeoLocation geoLocation, double zenith, boolean adjustForElevation) {
+		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
+		SolarDay day = getSolarDay(getJulianDay(calendar), geoLocation.getLongitude());
+		return getHoursFromMinutesUTC(getTimeUTC(day, geoLocation.getLatitude(), adjustZenith(zenith, elevation), -1));
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCSunset(ZonedDateTime, GeoLocation, double, boolean)
+	 */
+	public double getUTCSunset(ZonedDateTime calendar, GeoLocation geoLocation, double zenith, boolean adjustForElevation) {
+		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
+		SolarDay day = getSolarDay(getJulianDay(calendar), geoLocation.getLongitude());
+		return getHoursFromMinutesUTC(getTimeUTC(day, geoLocation.getLatitude(), adjustZenith(zenith, elevation), 1));
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCSunrisesAndSunsets(ZonedDateTime, GeoLocation, double[], boolean, double[],
+	 *      double[])
+	 */
+	public void getUTCSunrisesAndSunsets(ZonedDateTime calendar, GeoLocation geoLocation, double[] zeniths,
+			boolean adjustForElevation, double[] sunrises, double[] sunsets) {
+		getUTCSunrisesAndSunsets(getJulianDay(calendar), geoLocation, zeniths, adjustForElevation, sunrises, sunsets);
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCSunrisesAndSunsets(double, GeoLocation, double[], boolean, double[], double[])
+	 */
+	public void getUTCSunrisesAndSunsets(double julianDay, GeoLocation geoLocation, double[] zeniths,
+			boolean adjustForElevation, double[] sunrises, double[] sunsets) {
+		validateBatchArrays(zeniths, sunrises, sunsets);
+		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
+		double latitude = geoLocation.getLatitude();
+		SolarDay day = getSolarDay(julianDay, geoLocation.getLongitude());
+		for (int i = 0; i < zeniths.length; i++) {
+			double adjustedZenith = adjustZenith(zeniths[i], elevation);
+			if (sunrises != null) {
+				sunrises[i] = getHoursFromMinutesUTC(getTimeUTC(day, latitude, adjustedZenith, -1));
+			}
+			if (sunsets != null) {
+				sunsets[i] = getHoursFromMinutesUTC(getTimeUTC(day, latitude, adjustedZenith, 1));
+			}
+		}
+	}
+
+	/**
+	 * Returns the time the center of the sun crosses the meridian, true solar noon.
+	 *
+	 * @see AstronomicalCalculator#getUTCNoon(ZonedDateTime, GeoLocation)
+	 */
+	public double getUTCNoon(ZonedDateTime calendar, GeoLocation geoLocation) {
+		return getUTCNoon(getJulianDay(calendar), geoLocation);
+	}
+
+	/**
+	 * @see AstronomicalCalculator#getUTCNoon(double, GeoLocation)
+	 */
+	public double getUTCNoon(double julianDay, GeoLocation geoLocation) {
+		return getHoursFromMinutesUTC(getTimeUTC(getSolarDay(julianDay, geoLocation.getLongitude()), 0, 90, 0));
+	}
+
+	/**
+	 * Returns the {@link SolarDay} for the Julian day and longitude, reusing the last one calculated if it matches.
+	 *
+	 * @param julianDay
+	 *            the Julian day
+	 * @param longitude
+	 *            the longitude of observer in degrees
+	 * @return the SolarDay for the Julian day and longitude
+	 */
+	private SolarDay getSolarDay(double julianDay, double longitude) {
+		SolarDay day = solarDay;
+		if (day == null || day.julianDay != julianDay || day.longitude != longitude) {
+			day = new SolarDay(julianDay, longitude);
+			solarDay = day;
+		}
+		return day;
+	}
+
+	/**
+	 * Iterates the time of sunrise, sunset or noon until the hour angle of the sun at that time converges to the one
+	 * of the event.
+	 *
+	 * @param solarDay
+	 *            the {@link SolarDay} of the Julian day and longitude of observer
+	 * @param latitude
+	 *            the latitude of observer in degrees
+	 * @param zenith
+	 *            the zenith of the event as seen from the surface of the earth
+	 * @param direction
+	 *            -1 for sunrise, 1 for sunset and 0 for solar noon
+	 * @return the time in minutes from zero UTC, or {@link Double#NaN} if the sun does not reach the zenith.
+	 */
+	private static double getTimeUTC(SolarDay solarDay, double latitude, double zenith, int direction) {
+		double sinLatitude = Math.sin(RAD * latitude);
+		double cosLatitude = Math.cos(RAD * latitude);
+		// the parallax makes the sun appear lower from the surface of the earth than from its center
+		double altitude = 90 - zenith;
+		double sinAltitude = Math.sin(RAD * (altitude + solarDay.parallax * Math.cos(RAD * altitude)));
+
+		double time = solarDay.noon;
+		for (int i = 0; i < MAX_ITERATIONS; i++) {
+			double u = (time - solarDay.noon) * 2;
+			double rightAscension = solarDay.rightAscension0 + u * (solarDay.rightAscension1 + u
+					* solarDay.rightAscension2);
+			double targetHourAngle = 0;
+			if (direction != 0) {
+				double declination = RAD * (solarDay.declination0 + u * (solarDay.declination1 + u
+						* solarDay.declination2));
+				double cosHourAngle = (sinAltitude - sinLatitude * Math.sin(declination))
+						/ (cosLatitude * Math.cos(declination));
+				if (!(cosHourAngle >= -1 && cosHourAngle <= 1)) {
+					return Double.NaN;
+				}
+				targetHourAngle = direction * DEG * Math.acos(cosHourAngle);
+			}
+			double hourAngle = getMeanSiderealTime(solarDay.julianDay + time) + solarDay.longitude - rightAscension;
+			double correction = normalize(targetHourAngle - hourAngle);
+			time += correction / SIDEREAL_RATE;
+			if (Math.abs(correction) < CONVERGENCE) {
+				break;
+			}
+		}
+		return time * 1440;
+	}
+
+	/**
+	 * Returns the Greenwich mean sidereal time.
+	 *
+	 * @param julianDay
+	 *            the Julian day in universal time
+	 * @return the sidereal time in degrees, not normalized
+	 */
+	private static double getMeanSiderealTime(double julianDay) {
+		double days = julianDay - JULIAN_DAY_JAN_1_2000;
+		double centuries = days / 36525;
+		return 280.46061837 + 360.98564736629 * days + centuries * centuries * (0.000387933 - centuries / 38710000);
+	}
+
+	/**
+	 * Sums the periodic terms of one of the VSOP87 series.
+	 *
+	 * @param terms
+	 *            the terms, indexed by the power of &tau;
+	 * @param millennia
+	 *            &tau;, the Julian ephemeris millennia from J2000.0
+	 * @return the value in radians (or astronomical units for the radius vector)
+	 */
+	static double sumPeriodicTerms(double[][][] terms, double millennia) {
+		double value = 0;
+		for (int power = terms.length - 1; power >= 0; power--) {
+			double sum = 0;
+			for (double[] term : terms[power]) {
+				sum += term[0] * Math.cos(term[1] + term[2] * millennia);
+			}
+			value = value * millennia + sum;
+		}
+		return value / 1e8;
+	}
+
+	/**
+	 * Returns an estimate of &Delta;T, the difference between terrestrial time and universal time, using the
+	 * polynomial expressions of Espenak and Meeus from the <a
+	 * href="https://eclipse.gsfc.nasa.gov/SEcat5/deltatpoly.html">NASA Five Millennium Canon of Solar Eclipses</a>.
+	 * Years before 1800 use the long term parabola, which is accurate to well under a minute back to the year 1600.
+	 *
+	 * @param year
+	 *            the decimal year
+	 * @return &Delta;T in seconds
+	 */
+	static double getDeltaT(double year) {
+		double t;
+		if (year < 1800 || year >= 2150) {
+			t = (year - 1820) / 100;
+			return -20 + 32 * t * t;
+		} else if (year < 1860) {
+			t = year - 1800;
+			return 13.72 + t * (-0.332447 + t * (0.0068612 + t * (0.0041116 + t * (-0.00037436 + t * (0.0000121272
+					+ t * (-0.0000001699 + t * 0.000000000875))))));
+		} else if (year < 1900) {
+			t = year - 1860;
+			return 7.62 + t * (0.5737 + t * (-0.251754 + t * (0.01680668 + t * (-0.0004473624 + t / 233174))));
+		} else if (year < 1920) {
+			t = year - 1900;
+			return -2.79 + t * (1.494119 + t * (-0.0598939 + t * (0.0061966 - t * 0.000197)));
+		} else if (year < 1941) {
+			t = year - 1920;
+			return 21.20 + t * (0.84493 + t * (-0.076100 + t * 0.0020936));
+		} else if (year < 1961) {
+			t = year - 1950;
+			return 29.07 + t * (0.407 + t * (-1.0 / 233 + t / 2547));
+		} else if (year < 1986) {
+			t = year - 1975;
+			return 45.45 + t * (1.067 + t * (-1.0 / 260 - t / 718));
+		} else if (year < 2005) {
+			t = year - 2000;
+			return 63.86 + t * (0.3345 + t * (-0.060374 + t * (0.0017275 + t * (0.000651814 + t * 0.00002373599))));
+		} else if (year < 2050) {
+			t = year - 2000;
+			return 62.92 + t * (0.32217 + t * 0.005589);
+		} else {
+			t = (year - 1820) / 100;
+			return -20 + 32 * t * t - 0.5628 * (2150 - year);
+		}
+	}
+
+	/**
+	 * Normalizes an angle to the range of -180&deg; to 180&deg;.
+	 *
+	 * @param degrees
+	 *            the angle
+	 * @return the normalized angle
+	 */
+	private static double normalize(double degrees) {
+		return degrees - 360 * Math.floor((degrees + 180) / 360);
+	}
+}
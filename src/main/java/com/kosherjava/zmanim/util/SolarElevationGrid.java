@@ -0,0 +1,258 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A lookup grid of the {@link NOAACalculator#getSolarElevation(long, double, double) solar elevation} at a location,
+ * for answering many "is the sun below this angle now?" checks, such as checking every minute if a <em>zman</em> based
+ * on the depression of the sun has passed. The elevation of each UTC day is sampled every {@link
+ * #getIntervalMinutes() interval} the first time that a time on that day is requested, using {@link
+ * NOAACalculator#getSolarPositions(GeoLocation, long, long, int, double[], double[])}, and stored in a
+ * <code>float[]</code>. Every later request for that day is answered in constant time by linear interpolation between
+ * the two samples around the time. Only the {@link #getMaximumDays() most recently used days} are kept.
+ * <p>
+ * The error of the linear interpolation grows with the square of the interval. With the {@link
+ * #DEFAULT_INTERVAL_MINUTES default} interval of 5 minutes it is less than 0.003&deg; within 20&deg; of the horizon,
+ * where all the zmanim defined by degrees are, which is about a second of time at mid latitudes. It is larger where the
+ * elevation changes direction sharply, reaching 0.1&deg; when the sun passes within a couple of degrees of the zenith
+ * or nadir. The grid shouldn't be used to find the exact time of an event. This class is thread safe.
+ * 
+ * @see com.kosherjava.zmanim.AstronomicalCalendar#getSolarDepression(long)
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public class SolarElevationGrid {
+	/**
+	 * The default minutes between samples.
+	 */
+	public static final int DEFAULT_INTERVAL_MINUTES = 5;
+
+	/**
+	 * The default number of days kept, enough for the previous, current and next day around midnight.
+	 */
+	public static final int DEFAULT_MAXIMUM_DAYS = 3;
+
+	/**
+	 * The number of milliseconds in a day.
+	 */
+	private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+	/**
+	 * The samples of a single UTC day, including the first sample of the next day for interpolating the last interval.
+	 */
+	private static final class Day {
+		/** The days since the epoch. */
+		private final long epochDay;
+
+		/** The elevations in degrees. */
+		private final float[] elevations;
+
+		private Day(long epochDay, float[] elevations) {
+			this.epochDay = epochDay;
+			this.elevations = elevations;
+		}
+	}
+
+	/**
+	 * A copy of the location, so that changes to the location passed in do not change the cached days.
+	 */
+	private final GeoLocation geoLocation;
+
+	/**
+	 * The minutes between samples.
+	 */
+	private final int intervalMinutes;
+
+	/**
+	 * The milliseconds between samples.
+	 */
+	private final long intervalMillis;
+
+	/**
+	 * The maximum number of days kept.
+	 */
+	private final int maximumDays;
+
+	/**
+	 * The days kept by epoch day, in access order so that the least recently used day is removed first.
+	 */
+	private final Map<Long, Day> days;
+
+	/**
+	 * The most recently used day, checked before locking the {@link #days}, since nearly all requests are for the
+	 * same day as the previous one.
+	 */
+	private volatile Day lastDay;
+
+	/**
+	 * Creates a grid with the {@link #DEFAULT_INTERVAL_MINUTES default interval} and {@link #DEFAULT_MAXIMUM_DAYS
+	 * default number of days}.
+	 * 
+	 * @param geoLocation
+	 *            the location
+	 */
+	public SolarElevationGrid(GeoLocation geoLocation) {
+		this(geoLocation, DEFAULT_INTERVAL_MINUTES, DEFAULT_MAXIMUM_DAYS);
+	}
+
+	/**
+	 * Creates a grid.
+	 * 
+	 * @param geoLocation
+	 *            the location
+	 * @param intervalMinutes
+	 *            the minutes between samples, which must divide a day evenly (1440 minutes)
+	 * @param maximumDays
+	 *            the maximum number of days to keep. Must be positive.
+	 * @throws IllegalArgumentException
+	 *             if the location is <code>null</code>, the interval doesn't divide a day or the number of days isn't
+	 *             positive
+	 */
+	public SolarElevationGrid(GeoLocation geoLocation, int intervalMinutes, final int maximumDays) {
+		if (geoLocation == null) {
+			throw new IllegalArgumentException("The location can't be null");
+		}
+		if (intervalMinutes <= 0 || 1440 % intervalMinutes != 0 || maximumDays <= 0) {
+			throw new IllegalArgumentException("The interval must divide a day and the maximum days must be positive: "
+					+ intervalMinutes + ", " + maximumDays);
+		}
+		this.geoLocation = (GeoLocation) geoLocation.clone();
+		this.intervalMinutes = intervalMinutes;
+		this.intervalMillis = intervalMinutes * 60 * 1000L;
+		this.maximumDays = maximumDays;
+		this.days = new LinkedHashMap<Long, Day>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			protected boolean removeEldestEntry(Map.Entry<Long, Day> eldest) {
+				return size() > maximumDays;
+			}
+		};
+	}
+
+	/**
+	 * Returns the location of the grid.
+	 * 
+	 * @return a copy of the location
+	 */
+	public GeoLocation getGeoLocation() {
+		return (GeoLocation) geoLocation.clone();
+	}
+
+	/**
+	 * Returns the minutes between samples.
+	 * 
+	 * @return the interval in minutes
+	 */
+	public int getIntervalMinutes() {
+		return intervalMinutes;
+	}
+
+	/**
+	 * Returns the maximum number of days kept.
+	 * 
+	 * @return the maximum number of days
+	 */
+	public int getMaximumDays() {
+		return maximumDays;
+	}
+
+	/**
+	 * Returns the number of days currently kept.
+	 * 
+	 * @return the number of days
+	 */
+	int getDays() {
+		synchronized (days) {
+			return days.size();
+		}
+	}
+
+	/**
+	 * Returns the interpolated solar elevation at a time.
+	 * 
+	 * @param epochMillis
+	 *            the time in milliseconds since the epoch
+	 * @return the elevation in degrees, negative when the sun is below the horizon
+	 * @see NOAACalculator#getSolarElevation(long, double, double)
+	 */
+	public double getSolarElevation(long epochMillis) {
+		long epochDay = Math.floorDiv(epochMillis, DAY_MILLIS);
+		long millis = epochMillis - epochDay * DAY_MILLIS;
+		int index = (int) (millis / intervalMillis);
+		double fraction = (double) (millis - index * intervalMillis) / intervalMillis;
+		float[] elevations = getDay(epochDay).elevations;
+		return elevations[index] + fraction * (elevations[index + 1] - elevations[index]);
+	}
+
+	/**
+	 * Returns the interpolated solar elevation at a time.
+	 * 
+	 * @param time
+	 *            the time
+	 * @return the elevation in degrees, negative when the sun is below the horizon
+	 * @see #getSolarElevation(long)
+	 */
+	public double getSolarElevation(ZonedDateTime time) {
+		return getSolarElevation(time.toInstant().toEpochMilli());
+	}
+
+	/**
+	 * Returns the interpolated depression of the sun below the horizon at a time, the angle used by zmanim such as
+	 * <em>alos</em> and <em>tzais</em> that are defined by degrees below the horizon.
+	 * 
+	 * @param epochMillis
+	 *            the time in milliseconds since the epoch
+	 * @return the depression in degrees, negative when the sun is above the horizon
+	 * @see com.kosherjava.zmanim.AstronomicalCalendar#getSolarDepression(long)
+	 */
+	public double getSolarDepression(long epochMillis) {
+		return -getSolarElevation(epochMillis);
+	}
+
+	/**
+	 * Returns the samples of a day, calculating them if the day isn't kept.
+	 * 
+	 * @param epochDay
+	 *            the days since the epoch
+	 * @return the day
+	 */
+	private Day getDay(long epochDay) {
+		Day day = lastDay;
+		if (day != null && day.epochDay == epochDay) {
+			return day;
+		}
+		synchronized (days) {
+			day = days.get(epochDay);
+			if (day == null) {
+				int count = (int) (DAY_MILLIS / intervalMillis) + 1;
+				double[] samples = new double[count];
+				NOAACalculator.getSolarPositions(geoLocation, epochDay * DAY_MILLIS, intervalMillis, count, samples,
+						null);
+				float[] elevations = new float[count];
+				for (int i = 0; i < count; i++) {
+					elevations[i] = (float) samples[i];
+				}
+				day = new Day(epochDay, elevations);
+				days.put(epochDay, day);
+			}
+		}
+		lastDay = day;
+		return day;
+	}
+}
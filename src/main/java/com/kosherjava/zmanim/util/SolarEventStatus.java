@@ -0,0 +1,67 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+/**
+ * If the sun crosses a zenith on a day, and if it does not, the reason why. In the Arctic and Antarctic circles there
+ * are days on which the sun does not rise or set, and at higher latitudes there are also days on which it does not dip
+ * low enough for the twilight zenith used for <em>alos</em> or <em>tzais</em>. The times of these events are
+ * returned as {@link Double#NaN} (or <code>null</code> by the calendars) and the status tells the two cases apart.
+ * <p>
+ * The status is decided from the <a href="https://en.wikipedia.org/wiki/Declination">declination</a> of the sun alone,
+ * without calculating the time of the event. The sun is highest at noon, when its angle from the zenith is the
+ * difference between the latitude and the declination, and lowest at midnight, when its angle from the zenith is 180&deg;
+ * less the absolute value of their sum. If the zenith is not between the two, the sun does not cross it on that day.
+ *
+ * @see AstronomicalCalculator#getSolarEventStatus(java.time.ZonedDateTime, GeoLocation, double, boolean)
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+public enum SolarEventStatus {
+	/**
+	 * The sun crosses the zenith, so the times of the sunrise and sunset for the zenith can be calculated.
+	 */
+	OCCURS,
+	/**
+	 * The sun is above the zenith all day, such as the sun not setting during the summer in the Arctic circle, or the
+	 * night not getting dark enough for <em>alos</em> and <em>tzais</em> during the summer in northern Europe.
+	 */
+	ALWAYS_ABOVE,
+	/**
+	 * The sun is below the zenith all day, such as the sun not rising during the winter in the Arctic circle.
+	 */
+	ALWAYS_BELOW;
+
+	/**
+	 * Returns the status for a latitude, declination of the sun and zenith.
+	 *
+	 * @param latitude
+	 *            the latitude of observer in degrees
+	 * @param declination
+	 *            the declination of the sun in degrees
+	 * @param zenith
+	 *            the zenith in degrees, already adjusted for refraction, the solar radius and elevation if needed
+	 * @return the status
+	 */
+	public static SolarEventStatus getStatus(double latitude, double declination, double zenith) {
+		if (Math.abs(latitude - declination) > zenith) {
+			return ALWAYS_BELOW;
+		}
+		if (180 - Math.abs(latitude + declination) < zenith) {
+			return ALWAYS_ABOVE;
+		}
+		return OCCURS;
+	}
+}
@@ -234,6 +234,31 @@ public class SunTimesCalculator extends AstronomicalCalculator {
 		double sunRightAscensionHours = getSunRightAscensionHours(sunTrueLong);
 		double cosLocalHourAngle = getCosLocalHourAngle(sunTrueLong, geoLocation.getLatitude(), zenith);
 
+		return getTimeUTC(cosLocalHourAngle, sunRightAscensionHours,
+				getApproxTimeDays(dayOfYear, getHoursFromMeridian(geoLocation.getLongitude()), isSunrise),
+				geoLocation.getLongitude(), isSunrise);
+	}
+
+	/**
+	 * Get sunrise or sunset time in UTC from the cosine of the Sun's local hour angle. This is the zenith dependent part
+	 * of {@link #getTimeUTC(ZonedDateTime, GeoLocation, double, boolean)}.
+	 * 
+	 * @param cosLocalHourAngle
+	 *            the cosine of the Sun's local hour angle
+	 * @param sunRightAscensionHours
+	 *            the sun's right ascension in hours
+	 * @param approxTimeDays
+	 *            approximate time days
+	 * @param longitude
+	 *            the longitude
+	 * @param isSunrise
+	 *            True for sunrise and false for sunset.
+	 * @return the time as a double. If an error was encountered in the calculation
+	 *         (expected behavior for some locations such as near the poles,
+	 *         {@link Double#NaN} will be returned.
+	 */
+	private static double getTimeUTC(double cosLocalHourAngle, double sunRightAscensionHours, double approxTimeDays,
+			double longitude, boolean isSunrise) {
 		double localHourAngle = 0;
 		if (isSunrise) {
 			localHourAngle = 360.0 - acosDeg(cosLocalHourAngle);
@@ -242,9 +267,8 @@ public class SunTimesCalculator extends AstronomicalCalculator {
 		}
 		double localHour = localHourAngle / DEG_PER_HOUR;
 
-		double localMeanTime = getLocalMeanTime(localHour, sunRightAscensionHours,
-				getApproxTimeDays(dayOfYear, getHoursFromMeridian(geoLocation.getLongitude()), isSunrise));
-		double pocessedTime = localMeanTime - getHoursFromMeridian(geoLocation.getLongitude());
+		double localMeanTime = getLocalMeanTime(localHour, sunRightAscensionHours, approxTimeDays);
+		double pocessedTime = localMeanTime - getHoursFromMeridian(longitude);
 		while (pocessedTime < 0.0) {
 			pocessedTime += 24.0;
 		}
@@ -253,6 +277,62 @@ public class SunTimesCalculator extends AstronomicalCalculator {
 		}
 		return pocessedTime;
 	}
+
+	/**
+	 * Calculates sunrise and sunset for all the zeniths, calculating the Sun's mean anomaly, true longitude, right
+	 * ascension and declination only once for sunrise and once for sunset, since they do not depend on the zenith.
+	 * 
+	 * @see AstronomicalCalculator#getUTCSunrisesAndSunsets(ZonedDateTime, GeoLocation, double[], boolean, double[],
+	 *      double[])
+	 */
+	public void getUTCSunrisesAndSunsets(ZonedDateTime calendar, GeoLocation geoLocation, double[] zeniths,
+			boolean adjustForElevation, double[] sunrises, double[] sunsets) {
+		validateBatchArrays(zeniths, sunrises, sunsets);
+		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
+		if (sunrises != null) {
+			getTimesUTC(calendar, geoLocation, zeniths, elevation, true, sunrises);
+		}
+		if (sunsets != null) {
+			getTimesUTC(calendar, geoLocation, zeniths, elevation, false, sunsets);
+		}
+	}
+
+	/**
+	 * Get sunrise or sunset times in UTC for a number of zeniths, according to flag.
+	 * 
+	 * @param calendar
+	 *            the Calendar object to extract the day of year for calculation
+	 * @param geoLocation
+	 *            the GeoLocation object that contains the latitude and longitude
+	 * @param zeniths
+	 *            Sun's zeniths, in degrees, before {@link #adjustZenith(double, double) adjustment}
+	 * @param elevation
+	 *            the elevation used to adjust the zenith
+	 * @param isSunrise
+	 *            True for sunrise and false for sunset.
+	 * @param times
+	 *            the array filled with the time for each zenith
+	 */
+	private void getTimesUTC(ZonedDateTime calendar, GeoLocation geoLocation, double[] zeniths, double elevation,
+			boolean isSunrise, double[] times) {
+		int dayOfYear = calendar.getDayOfYear();
+		double latitude = geoLocation.getLatitude();
+		double longitude = geoLocation.getLongitude();
+		double sunMeanAnomaly = getMeanAnomaly(dayOfYear, longitude, isSunrise);
+		double sunTrueLong = getSunTrueLongitude(sunMeanAnomaly);
+		double sunRightAscensionHours = getSunRightAscensionHours(sunTrueLong);
+		double approxTimeDays = getApproxTimeDays(dayOfYear, getHoursFromMeridian(longitude), isSunrise);
+
+		// see getCosLocalHourAngle
+		double sinDec = 0.39782 * sinDeg(sunTrueLong);
+		double cosDec = cosDeg(asinDeg(sinDec));
+		double sinDecSinLat = sinDec * sinDeg(latitude);
+		double cosDecCosLat = cosDec * cosDeg(latitude);
+		for (int i = 0; i < zeniths.length; i++) {
+			double cosLocalHourAngle = (cosDeg(adjustZenith(zeniths[i], elevation)) - sinDecSinLat) / cosDecCosLat;
+			times[i] = getTimeUTC(cosLocalHourAngle, sunRightAscensionHours, approxTimeDays, longitude, isSunrise);
+		}
+	}
 	
 	/**
 	 * Return the <a href="https://en.wikipedia.org/wiki/Universal_Coordinated_Time">Universal Coordinated Time</a> (UTC)
@@ -283,4 +363,26 @@ public class SunTimesCalculator extends AstronomicalCalculator {
 		} 
 		return noon;
 	}
+
+	/**
+	 * Return solar midnight (UTC) as the time halfway between sea level sunset of the day and sea level sunrise of the
+	 * next day, the same as {@link #getUTCNoon(ZonedDateTime, GeoLocation)} is halfway between sunrise and sunset. This
+	 * can be slightly off the real nadir of the sun due to changes in declination during the night.
+	 * @see AstronomicalCalculator#getUTCMidnight(ZonedDateTime, GeoLocation)
+	 * 
+	 * @param calendar
+	 *            The Calendar representing the date to calculate solar midnight after
+	 * @param geoLocation
+	 *            The location information used for astronomical calculating sun times.
+	 * @return the time in hours from zero UTC. If an error was encountered in the calculation (expected behavior for
+	 *         some locations such as near the poles, {@link Double#NaN} will be returned.
+	 */
+	public double getUTCMidnight(ZonedDateTime calendar, GeoLocation geoLocation) {
+		double sunset = getUTCSunset(calendar, geoLocation, 90, false);
+		double nextSunrise = getUTCSunrise(calendar.plusDays(1), geoLocation, 90, false);
+		double night = nextSunrise - sunset;
+		night -= 24 * Math.floor(night / 24);
+		double midnight = sunset + night / 2;
+		return midnight - 24 * Math.floor(midnight / 24);
+	}
 }
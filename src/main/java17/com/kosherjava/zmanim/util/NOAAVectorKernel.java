@@ -0,0 +1,262 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2004-2023 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@link NOAABatchKernel} calculating the {@link NOAACalculator} sunrise and sunset of as many locations at once
+ * as fit in the lanes of the preferred {@link DoubleVector} of the platform. This is a lane-wise port of the scalar
+ * methods of the {@link NOAACalculator}, with the two passes of solar noon and of each event, and the same check for
+ * days that the sun never crosses the zenith. The sines and cosines of the <a
+ * href="https://openjdk.org/jeps/414">Vector API</a> may differ from the ones of {@link Math} in the last bit, which
+ * keeps the results within {@link NOAACalculator#VECTOR_TOLERANCE_MILLIS} of the scalar ones. This class is compiled
+ * for Java 17 into the multi-release jar, and requires the <code>jdk.incubator.vector</code> module at runtime.
+ * 
+ * @author &copy; Eliyahu Hershfeld 2004 - 2023
+ */
+final class NOAAVectorKernel extends NOAABatchKernel {
+	/**
+	 * The species of the vectors.
+	 */
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	/**
+	 * The <a href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a> of January 1, 2000, known as
+	 * <a href="https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
+	 */
+	private static final double JULIAN_DAY_JAN_1_2000 = 2451545.0;
+
+	/**
+	 * Julian days per century.
+	 */
+	private static final double JULIAN_DAYS_PER_CENTURY = 36525.0;
+
+	/**
+	 * Degrees to radians.
+	 */
+	private static final double RADIANS = Math.PI / 180;
+
+	/**
+	 * Radians to degrees.
+	 */
+	private static final double DEGREES = 180 / Math.PI;
+
+	/**
+	 * Calculates the locations in chunks of the vector length, masking the lanes past the last location.
+	 * 
+	 * @see NOAABatchKernel#getSunrisesAndSunsets(double, double[], double[], double[], int, double[], double[])
+	 */
+	void getSunrisesAndSunsets(double julianDay, double[] latitudes, double[] longitudes, double[] zeniths, int length,
+			double[] sunrises, double[] sunsets) {
+		for (int i = 0; i < length; i += SPECIES.length()) {
+			VectorMask<Double> mask = SPECIES.indexInRange(i, length);
+			DoubleVector latitude = DoubleVector.fromArray(SPECIES, latitudes, i, mask);
+			DoubleVector longitude = DoubleVector.fromArray(SPECIES, longitudes, i, mask);
+			DoubleVector zenith = DoubleVector.fromArray(SPECIES, zeniths, i, mask);
+
+			// solar noon, using the equation of time at the approximate solar noon for the first pass
+			DoubleVector meanNoon = longitude.mul(4).add(720);
+			DoubleVector eqTime = getEquationOfTime(getJulianCenturies(julianDay, longitude.div(360)));
+			DoubleVector solarNoon = meanNoon.sub(eqTime);
+			eqTime = getEquationOfTime(getJulianCenturies(julianDay - 0.5, solarNoon.div(1440)));
+			solarNoon = meanNoon.sub(eqTime);
+			DoubleVector tNoon = getJulianCenturies(julianDay, solarNoon.div(1440));
+			DoubleVector eqTimeAtNoon = getEquationOfTime(tNoon);
+			DoubleVector solarDecAtNoon = getSunDeclination(tNoon);
+
+			VectorMask<Double> neverCrossed = latitude.sub(solarDecAtNoon).abs().compare(VectorOperators.GT,
+					zenith.add(1e-9)).or(latitude.add(solarDecAtNoon).abs().neg().add(180).compare(VectorOperators.LT,
+					zenith.sub(1e-9)));
+			DoubleVector cosZenith = zenith.mul(RADIANS).lanewise(VectorOperators.COS);
+			DoubleVector latitudeRadians = latitude.mul(RADIANS);
+			DoubleVector cosLatitude = latitudeRadians.lanewise(VectorOperators.COS);
+			DoubleVector tanLatitude = latitudeRadians.lanewise(VectorOperators.TAN);
+			DoubleVector hourAngle = getHourAngle(cosLatitude, tanLatitude, solarDecAtNoon, cosZenith);
+			if (sunrises != null) {
+				getEventTime(julianDay, meanNoon, eqTimeAtNoon, hourAngle, cosLatitude, tanLatitude, cosZenith, 1)
+						.blend(Double.NaN, neverCrossed).intoArray(sunrises, i, mask);
+			}
+			if (sunsets != null) {
+				getEventTime(julianDay, meanNoon, eqTimeAtNoon, hourAngle, cosLatitude, tanLatitude, cosZenith, -1)
+						.blend(Double.NaN, neverCrossed).intoArray(sunsets, i, mask);
+			}
+		}
+	}
+
+	/**
+	 * Returns the time of sunrise or sunset with the second pass at the time of the first pass, as in the scalar
+	 * <code>getSunriseUTC</code> and <code>getSunsetUTC</code>.
+	 * 
+	 * @param julianDay
+	 *            the Julian day at the start of the day
+	 * @param meanNoon
+	 *            the mean solar noon in minutes from zero UTC
+	 * @param eqTimeAtNoon
+	 *            the equation of time at solar noon in minutes
+	 * @param hourAngleAtNoon
+	 *            the hour angle of sunrise in radians using the declination at solar noon
+	 * @param cosLatitude
+	 *            the cosine of the latitudes
+	 * @param tanLatitude
+	 *            the tangent of the latitudes
+	 * @param cosZenith
+	 *            the cosine of the zeniths
+	 * @param sign
+	 *            1 for sunrise or -1 for sunset
+	 * @return the time in minutes from zero UTC
+	 */
+	private static DoubleVector getEventTime(double julianDay, DoubleVector meanNoon, DoubleVector eqTimeAtNoon,
+			DoubleVector hourAngleAtNoon, DoubleVector cosLatitude, DoubleVector tanLatitude, DoubleVector cosZenith,
+			double sign) {
+		DoubleVector timeUTC = meanNoon.sub(hourAngleAtNoon.mul(4 * DEGREES * sign)).sub(eqTimeAtNoon);
+		DoubleVector newt = getJulianCenturies(julianDay, timeUTC.div(1440));
+		DoubleVector hourAngle = getHourAngle(cosLatitude, tanLatitude, getSunDeclination(newt), cosZenith);
+		return meanNoon.sub(hourAngle.mul(4 * DEGREES * sign)).sub(getEquationOfTime(newt));
+	}
+
+	/**
+	 * Returns the hour angle of sunrise.
+	 * 
+	 * @param cosLatitude
+	 *            the cosine of the latitudes
+	 * @param tanLatitude
+	 *            the tangent of the latitudes
+	 * @param solarDec
+	 *            the declination of the sun in degrees
+	 * @param cosZenith
+	 *            the cosine of the zeniths
+	 * @return the hour angle in radians, or NaN if the sun doesn't reach the zenith
+	 */
+	private static DoubleVector getHourAngle(DoubleVector cosLatitude, DoubleVector tanLatitude, DoubleVector solarDec,
+			DoubleVector cosZenith) {
+		DoubleVector sdRad = solarDec.mul(RADIANS);
+		return cosZenith.div(cosLatitude.mul(sdRad.lanewise(VectorOperators.COS)))
+				.sub(tanLatitude.mul(sdRad.lanewise(VectorOperators.TAN))).lanewise(VectorOperators.ACOS);
+	}
+
+	/**
+	 * Returns the Julian centuries since J2000.0 of a fraction of a day after the start of the Julian day.
+	 * 
+	 * @param julianDay
+	 *            the Julian day
+	 * @param fraction
+	 *            the fraction of the day
+	 * @return the Julian centuries
+	 */
+	private static DoubleVector getJulianCenturies(double julianDay, DoubleVector fraction) {
+		return fraction.add(julianDay - JULIAN_DAY_JAN_1_2000).div(JULIAN_DAYS_PER_CENTURY);
+	}
+
+	/**
+	 * Returns the geometric mean longitude of the sun. Unlike the scalar implementation, this is not reduced to 0 -
+	 * 360&deg;, since it is only used in sines and cosines.
+	 * 
+	 * @param t
+	 *            the Julian centuries since J2000.0
+	 * @return the geometric mean longitude in degrees
+	 */
+	private static DoubleVector getSunGeometricMeanLongitude(DoubleVector t) {
+		return t.mul(0.0003032).add(36000.76983).mul(t).add(280.46646);
+	}
+
+	/**
+	 * Returns the geometric mean anomaly of the sun.
+	 * 
+	 * @param t
+	 *            the Julian centuries since J2000.0
+	 * @return the geometric mean anomaly in degrees
+	 */
+	private static DoubleVector getSunGeometricMeanAnomaly(DoubleVector t) {
+		return t.mul(-0.0001537).add(35999.05029).mul(t).add(357.52911);
+	}
+
+	/**
+	 * Returns the corrected obliquity of the ecliptic.
+	 * 
+	 * @param t
+	 *            the Julian centuries since J2000.0
+	 * @param omega
+	 *            the longitude of the ascending node of the moon's orbit in radians
+	 * @return the obliquity in degrees
+	 */
+	private static DoubleVector getObliquityCorrection(DoubleVector t, DoubleVector omega) {
+		DoubleVector seconds = t.mul(-0.001813).add(0.00059).mul(t).add(46.8150).mul(t).neg().add(21.448);
+		return seconds.div(60).add(26).div(60).add(23).add(omega.lanewise(VectorOperators.COS).mul(0.00256));
+	}
+
+	/**
+	 * Returns the longitude of the ascending node of the moon's orbit, used for nutation.
+	 * 
+	 * @param t
+	 *            the Julian centuries since J2000.0
+	 * @return the longitude in radians
+	 */
+	private static DoubleVector getOmega(DoubleVector t) {
+		return t.mul(-1934.136).add(125.04).mul(RADIANS);
+	}
+
+	/**
+	 * Returns the declination of the sun.
+	 * 
+	 * @param t
+	 *            the Julian centuries since J2000.0
+	 * @return the declination in degrees
+	 */
+	private static DoubleVector getSunDeclination(DoubleVector t) {
+		DoubleVector omega = getOmega(t);
+		DoubleVector mrad = getSunGeometricMeanAnomaly(t).mul(RADIANS);
+		DoubleVector center = mrad.lanewise(VectorOperators.SIN)
+				.mul(t.mul(0.000014).add(0.004817).mul(t).neg().add(1.914602))
+				.add(mrad.mul(2).lanewise(VectorOperators.SIN).mul(t.mul(-0.000101).add(0.019993)))
+				.add(mrad.mul(3).lanewise(VectorOperators.SIN).mul(0.000289));
+		DoubleVector lambda = getSunGeometricMeanLongitude(t).add(center).sub(0.00569)
+				.sub(omega.lanewise(VectorOperators.SIN).mul(0.00478));
+		DoubleVector sint = getObliquityCorrection(t, omega).mul(RADIANS).lanewise(VectorOperators.SIN)
+				.mul(lambda.mul(RADIANS).lanewise(VectorOperators.SIN));
+		return sint.lanewise(VectorOperators.ASIN).mul(DEGREES);
+	}
+
+	/**
+	 * Returns the equation of time.
+	 * 
+	 * @param t
+	 *            the Julian centuries since J2000.0
+	 * @return the equation of time in minutes of time
+	 */
+	private static DoubleVector getEquationOfTime(DoubleVector t) {
+		DoubleVector epsilon = getObliquityCorrection(t, getOmega(t));
+		DoubleVector l0 = getSunGeometricMeanLongitude(t).mul(RADIANS);
+		DoubleVector e = t.mul(0.0000001267).add(0.000042037).mul(t).neg().add(0.016708634);
+		DoubleVector m = getSunGeometricMeanAnomaly(t).mul(RADIANS);
+
+		DoubleVector y = epsilon.mul(RADIANS / 2).lanewise(VectorOperators.TAN);
+		y = y.mul(y);
+
+		DoubleVector sin2l0 = l0.mul(2).lanewise(VectorOperators.SIN);
+		DoubleVector sinm = m.lanewise(VectorOperators.SIN);
+		DoubleVector cos2l0 = l0.mul(2).lanewise(VectorOperators.COS);
+		DoubleVector sin4l0 = l0.mul(4).lanewise(VectorOperators.SIN);
+		DoubleVector sin2m = m.mul(2).lanewise(VectorOperators.SIN);
+
+		DoubleVector equationOfTime = y.mul(sin2l0).sub(e.mul(2).mul(sinm)).add(e.mul(4).mul(y).mul(sinm).mul(cos2l0))
+				.sub(y.mul(y).mul(0.5).mul(sin4l0)).sub(e.mul(e).mul(1.25).mul(sin2m));
+		return equationOfTime.mul(DEGREES * 4);
+	}
+}
@@ -0,0 +1,136 @@
+package com.kosherjava.zmanim;
+
+import org.junit.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
+import com.kosherjava.zmanim.util.AstronomicalCalculator;
+import com.kosherjava.zmanim.util.Fixtures;
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.NOAACalculator;
+
+/**
+ * Verify that the annual extremes found by searching are the ones found by calculating every day of the year.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_AnnualExtremes {
+
+	private static final GeoLocation[] LOCATIONS = { Fixtures.getJerusalem(), Fixtures.getLakewood(),
+			Fixtures.getMelbourne(),
+			new GeoLocation("Honolulu", 21.3069, -157.8583, 0, TimeZone.getTimeZone("Pacific/Honolulu")),
+			new GeoLocation("London", 51.5074, -0.1278, 11, TimeZone.getTimeZone("Europe/London")),
+			Fixtures.getTromso(), Fixtures.getFortConger(), Fixtures.getApia() };
+
+	private static final double[] ZENITHS = { 106.1, 98.5, AstronomicalCalendar.ASTRONOMICAL_ZENITH };
+
+	@Test
+	public void testMatchesEveryDay() {
+		AstronomicalCalculator calculator = new NOAACalculator();
+		for (int year : new int[] { 2023, 2024 }) {
+			for (GeoLocation location : LOCATIONS) {
+				AnnualExtremes extremes = new AnnualExtremes(location, calculator, year, ZENITHS);
+				SolarTable table = new SolarTable(location, calculator, year, ZENITHS);
+				String message = location.getLocationName() + " " + year;
+				ZoneId zoneId = location.getTimeZone().toZoneId();
+
+				long[] sunrises = table.getSunrises();
+				long[] sunsets = table.getSunsets();
+				assertExtremes(message + " sunrise", table, zoneId, sunrises, extremes.getEarliestSunrise(),
+						extremes.getLatestSunrise());
+				assertExtremes(message + " sunset", table, zoneId, sunsets, extremes.getEarliestSunset(),
+						extremes.getLatestSunset());
+				for (int i = 0; i < ZENITHS.length; i++) {
+					assertExtremes(message + " rise " + ZENITHS[i], table, zoneId, table.getSunrises(i),
+							extremes.getEarliestSunrise(i), extremes.getLatestSunrise(i));
+					assertExtremes(message + " set " + ZENITHS[i], table, zoneId, table.getSunsets(i),
+							extremes.getEarliestSunset(i), extremes.getLatestSunset(i));
+				}
+
+				long shortest = Long.MAX_VALUE;
+				long longest = Long.MIN_VALUE;
+				for (int day = 0; day < table.getDays(); day++) {
+					if (sunrises[day] != Long.MIN_VALUE && sunsets[day] != Long.MIN_VALUE) {
+						shortest = Math.min(shortest, sunsets[day] - sunrises[day]);
+						longest = Math.max(longest, sunsets[day] - sunrises[day]);
+					}
+				}
+				if (longest == Long.MIN_VALUE) {
+					Assert.assertNull(message, extremes.getShortestDay());
+					Assert.assertEquals(message, Long.MIN_VALUE, extremes.getShortestDayLength());
+				} else {
+					Assert.assertEquals(message, shortest, extremes.getShortestDayLength());
+					Assert.assertEquals(message, longest, extremes.getLongestDayLength());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Asserts that the events found are the ones with the earliest and latest local time on any day of the table.
+	 */
+	private static void assertExtremes(String message, SolarTable table, ZoneId zoneId, long[] times,
+			ZonedDateTime earliest, ZonedDateTime latest) {
+		int min = -1;
+		int max = -1;
+		long[] localTimes = new long[times.length];
+		for (int day = 0; day < times.length; day++) {
+			if (times[day] != Long.MIN_VALUE) {
+				localTimes[day] = getLocalTime(table.getDate(day), zoneId, times[day]);
+				if (min < 0 || localTimes[day] < localTimes[min]) {
+					min = day;
+				}
+				if (max < 0 || localTimes[day] > localTimes[max]) {
+					max = day;
+				}
+			}
+		}
+		if (min < 0) {
+			Assert.assertNull(message, earliest);
+			Assert.assertNull(message, latest);
+		} else {
+			Assert.assertEquals(message, times[min], earliest.toInstant().toEpochMilli());
+			Assert.assertEquals(message, times[max], latest.toInstant().toEpochMilli());
+		}
+	}
+
+	/**
+	 * Returns the milliseconds of a time as shown on a clock from the local midnight at the start of a day.
+	 */
+	private static long getLocalTime(LocalDate date, ZoneId zoneId, long epochMillis) {
+		LocalDateTime time = Instant.ofEpochMilli(epochMillis).atZone(zoneId).toLocalDateTime();
+		return Duration.between(date.atStartOfDay(), time).toMillis();
+	}
+
+	@Test
+	public void testCalculatesFewerDays() {
+		for (GeoLocation location : new GeoLocation[] { LOCATIONS[0], LOCATIONS[1], LOCATIONS[2] }) {
+			AnnualExtremes extremes = new AnnualExtremes(location, new NOAACalculator(), 2024, ZENITHS);
+			Assert.assertTrue(location.getLocationName() + " " + extremes.getCalculatedDays(),
+					extremes.getCalculatedDays() < 366 / 2);
+		}
+	}
+
+	@Test
+	public void testSolstices() {
+		AnnualExtremes extremes = new AnnualExtremes(LOCATIONS[0], new NOAACalculator(), 2024, new double[0]);
+		Assert.assertEquals(LocalDate.of(2024, 6, 20), extremes.getLongestDay());
+		Assert.assertEquals(LocalDate.of(2024, 12, 21), extremes.getShortestDay());
+		// the earliest sunset is before the shortest day, and the latest sunset after the longest
+		Assert.assertEquals(LocalDate.of(2024, 12, 3), extremes.getEarliestSunset().toLocalDate());
+		Assert.assertEquals(LocalDate.of(2024, 6, 29), extremes.getLatestSunset().toLocalDate());
+		// with daylight saving time, the earliest and latest sunrises are on the days before the clocks change
+		Assert.assertEquals(LocalDate.of(2024, 3, 28), extremes.getEarliestSunrise().toLocalDate());
+		Assert.assertEquals(LocalDate.of(2024, 10, 26), extremes.getLatestSunrise().toLocalDate());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNullLocation() {
+		new AnnualExtremes(null, new NOAACalculator(), 2024, ZENITHS);
+	}
+}
@@ -0,0 +1,109 @@
+package com.kosherjava.zmanim;
+
+import org.junit.*;
+
+import java.time.ZonedDateTime;
+
+import com.kosherjava.zmanim.util.Fixtures;
+import com.kosherjava.zmanim.util.Fixtures.CountingCalculator;
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * Verify that the daily snapshot holds the same values as the getters of the calendar, calculated with far fewer
+ * calls to the calculator.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_DailyZmanim {
+
+	private static final GeoLocation[] LOCATIONS = { Fixtures.getLakewood(), Fixtures.getJerusalem(),
+			Fixtures.getTromso() };
+
+	@Test
+	public void testSameAsGetters() {
+		for (GeoLocation location : LOCATIONS) {
+			CountingCalculator calculator = new CountingCalculator();
+			ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(location);
+			calendar.setAstronomicalCalculator(calculator);
+			calendar.setUseElevation(true);
+			ZonedDateTime date = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, location.getTimeZone().toZoneId());
+			for (int day = 0; day < 366; day += 5) {
+				calendar.setCalendar(date.plusDays(day));
+				calculator.resetCalculations();
+				DailyZmanim zmanim = calendar.getDailyZmanim();
+				int snapshotCalculations = calculator.getCalculations();
+				Assert.assertEquals(date.plusDays(day).toLocalDate(), zmanim.getDate());
+				calculator.resetCalculations();
+				for (ZmanId zman : ZmanId.values()) {
+					Assert.assertEquals(location.getLocationName() + " " + date.plusDays(day) + " " + zman,
+							calendar.getZmanMillis(zman), zmanim.getMillis(zman));
+				}
+				for (ShaahZmanisId shaahZmanis : ShaahZmanisId.values()) {
+					Assert.assertEquals(location.getLocationName() + " " + date.plusDays(day) + " " + shaahZmanis,
+							calendar.getShaahZmanis(shaahZmanis), zmanim.getShaahZmanis(shaahZmanis));
+				}
+				Assert.assertTrue(snapshotCalculations + " " + calculator.getCalculations(),
+						snapshotCalculations * 5 < calculator.getCalculations());
+			}
+		}
+	}
+
+	@Test
+	public void testLookup() {
+		ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(LOCATIONS[1]);
+		calendar.setCalendar(ZonedDateTime.of(2024, 6, 21, 0, 0, 0, 0, LOCATIONS[1].getTimeZone().toZoneId()));
+		DailyZmanim zmanim = calendar.getDailyZmanim();
+		Assert.assertFalse(calendar.isUseResultCache());
+		Assert.assertEquals(calendar.getAlos72(), zmanim.getZonedDateTime(ZmanId.ALOS_72));
+		Assert.assertEquals(calendar.getSofZmanShmaGRAMillis(), zmanim.getMillis(ZmanId.SOF_ZMAN_SHMA_GRA));
+		Assert.assertEquals(calendar.getTemporalHour(), zmanim.getShaahZmanis(ShaahZmanisId.TEMPORAL_HOUR));
+		Assert.assertEquals(calendar.getShaahZmanisGra(), zmanim.getShaahZmanis(ShaahZmanisId.SHAAH_ZMANIS_GRA));
+		Assert.assertEquals(calendar.getShaahZmanisMGA(), zmanim.getShaahZmanis(ShaahZmanisId.SHAAH_ZMANIS_MGA));
+		Assert.assertEquals(calendar.getShaahZmanis72Minutes(),
+				zmanim.getShaahZmanis(ShaahZmanisId.SHAAH_ZMANIS_72_MINUTES));
+		Assert.assertEquals(calendar.getShaahZmanis16Point1Degrees(),
+				zmanim.getShaahZmanis(ShaahZmanisId.SHAAH_ZMANIS_16_POINT_1_DEGREES));
+		Assert.assertEquals(calendar.getShaahZmanisAlos16Point1ToTzais3Point8(),
+				zmanim.getShaahZmanis(ShaahZmanisId.SHAAH_ZMANIS_ALOS_16_POINT_1_TO_TZAIS_3_POINT_8));
+		Assert.assertEquals(calendar.getShaahZmanisBaalHatanya(),
+				zmanim.getShaahZmanis(ShaahZmanisId.SHAAH_ZMANIS_BAAL_HATANYA));
+
+		ComplexZmanimCalendar tromso = new ComplexZmanimCalendar(LOCATIONS[2]);
+		tromso.setCalendar(ZonedDateTime.of(2024, 6, 21, 0, 0, 0, 0, LOCATIONS[2].getTimeZone().toZoneId()));
+		Assert.assertEquals(Long.MIN_VALUE, tromso.getDailyZmanim().getMillis(ZmanId.SUNRISE));
+		Assert.assertNull(tromso.getDailyZmanim().getZonedDateTime(ZmanId.SUNRISE));
+		Assert.assertEquals(Long.MIN_VALUE, tromso.getDailyZmanim().getShaahZmanis(ShaahZmanisId.SHAAH_ZMANIS_GRA));
+	}
+
+	@Test
+	public void testCalendarNotChanged() {
+		CountingCalculator calculator = new CountingCalculator();
+		ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(LOCATIONS[0]);
+		calendar.setAstronomicalCalculator(calculator);
+		calendar.setCalendar(ZonedDateTime.of(2024, 3, 5, 0, 0, 0, 0, LOCATIONS[0].getTimeZone().toZoneId()));
+		calendar.getDailyZmanim();
+		Assert.assertFalse(calendar.isUseResultCache());
+		Assert.assertSame(calculator, calendar.getAstronomicalCalculator());
+		// the sunrise of the snapshot wasn't cached by the calendar
+		calculator.resetCalculations();
+		calendar.getSunrise();
+		Assert.assertEquals(1, calculator.getCalculations());
+
+		// a calendar that uses the result cache keeps the times of the snapshot in its own cache
+		calendar.setUseResultCache(true);
+		calendar.getDailyZmanim();
+		Assert.assertTrue(calendar.isUseResultCache());
+		calculator.resetCalculations();
+		calendar.getSunrise();
+		Assert.assertEquals(0, calculator.getCalculations());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNullId() {
+		new ComplexZmanimCalendar(LOCATIONS[0]).getDailyZmanim().getMillis(null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNullShaahZmanisId() {
+		new ComplexZmanimCalendar(LOCATIONS[0]).getDailyZmanim().getShaahZmanis(null);
+	}
+}
@@ -0,0 +1,152 @@
+package com.kosherjava.zmanim;
+
+import org.junit.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.kosherjava.zmanim.util.Fixtures;
+import com.kosherjava.zmanim.util.Fixtures.CountingCalculator;
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.NOAACalculator;
+
+/**
+ * Verify that the zmanim calculated with the result cache are identical to the ones calculated without it, with far
+ * fewer sunrise and sunset calculations, and that the cache follows changes to the calendar.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_ResultCache {
+
+	private static final GeoLocation[] LOCATIONS = Fixtures.getLocations();
+
+	/**
+	 * Returns the getters of all the zmanim of the ComplexZmanimCalendar.
+	 */
+	private static List<Method> getZmanimGetters() {
+		List<Method> getters = new ArrayList<Method>();
+		for (Method method : ComplexZmanimCalendar.class.getMethods()) {
+			if (method.getName().startsWith("get") && method.getParameterTypes().length == 0
+					&& !Modifier.isStatic(method.getModifiers())
+					&& (method.getReturnType() == ZonedDateTime.class || method.getReturnType() == long.class)
+					&& !method.getName().equals("getCalendar")) {
+				getters.add(method);
+			}
+		}
+		return getters;
+	}
+
+	@Test
+	public void testIdenticalResults() throws IllegalAccessException {
+		List<Method> getters = getZmanimGetters();
+		for (GeoLocation location : LOCATIONS) {
+			for (boolean useElevation : new boolean[] { true, false }) {
+				CountingCalculator uncachedCalculator = new CountingCalculator();
+				CountingCalculator cachedCalculator = new CountingCalculator();
+				ComplexZmanimCalendar uncached = new ComplexZmanimCalendar(location);
+				uncached.setAstronomicalCalculator(uncachedCalculator);
+				uncached.setUseElevation(useElevation);
+				ComplexZmanimCalendar cached = new ComplexZmanimCalendar(location);
+				cached.setAstronomicalCalculator(cachedCalculator);
+				cached.setUseElevation(useElevation);
+				cached.setUseResultCache(true);
+				ZonedDateTime date = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, location.getTimeZone().toZoneId());
+				for (int day = 0; day < 366; day += 73) {
+					uncached.setCalendar(date.plusDays(day));
+					cached.setCalendar(date.plusDays(day));
+					for (Method getter : getters) {
+						Assert.assertEquals(location.getLocationName() + " " + date.plusDays(day) + " "
+								+ getter.getName(), invoke(getter, uncached), invoke(getter, cached));
+					}
+				}
+				Assert.assertTrue(cachedCalculator.getCalculations() + " " + uncachedCalculator.getCalculations(),
+						cachedCalculator.getCalculations() * 5 < uncachedCalculator.getCalculations());
+			}
+		}
+	}
+
+	/**
+	 * Returns the result of a getter, or the class of the exception it throws.
+	 */
+	private static Object invoke(Method getter, ComplexZmanimCalendar calendar) throws IllegalAccessException {
+		try {
+			return getter.invoke(calendar);
+		} catch (InvocationTargetException e) {
+			return e.getCause().getClass();
+		}
+	}
+
+	@Test
+	public void testInvalidation() {
+		GeoLocation location = (GeoLocation) LOCATIONS[1].clone();
+		ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(location);
+		ComplexZmanimCalendar reference = new ComplexZmanimCalendar(location);
+		calendar.setUseResultCache(true);
+		Assert.assertTrue(calendar.isUseResultCache());
+		ZonedDateTime date = ZonedDateTime.of(2024, 6, 21, 0, 0, 0, 0, location.getTimeZone().toZoneId());
+		calendar.setCalendar(date);
+		reference.setCalendar(date);
+		Assert.assertEquals(reference.getSunrise(), calendar.getSunrise());
+
+		calendar.setCalendar(date.plusDays(1));
+		reference.setCalendar(date.plusDays(1));
+		Assert.assertEquals(reference.getSunrise(), calendar.getSunrise());
+
+		// changing the location in place
+		location.setElevation(0);
+		Assert.assertEquals(reference.getSunrise(), calendar.getSunrise());
+		Assert.assertEquals(calendar.getSeaLevelSunrise(), calendar.getSunrise());
+
+		GeoLocation lakewood = LOCATIONS[0];
+		calendar.setGeoLocation(lakewood);
+		reference.setGeoLocation(lakewood);
+		Assert.assertEquals(reference.getSunset(), calendar.getSunset());
+
+		calendar.setAstronomicalCalculator(new NOAACalculator().withRefraction(0.6));
+		reference.setAstronomicalCalculator(new NOAACalculator().withRefraction(0.6));
+		Assert.assertEquals(reference.getSunset(), calendar.getSunset());
+		Assert.assertEquals(reference.getTzais(), calendar.getTzais());
+	}
+
+	@Test
+	public void testCalculatorChanges() {
+		ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(LOCATIONS[1]);
+		ComplexZmanimCalendar reference = new ComplexZmanimCalendar(LOCATIONS[1]);
+		calendar.setUseResultCache(true);
+		ZonedDateTime date = ZonedDateTime.of(2024, 6, 21, 0, 0, 0, 0, LOCATIONS[1].getTimeZone().toZoneId());
+		calendar.setCalendar(date);
+		reference.setCalendar(date);
+		Assert.assertEquals(reference.getSunrise(), calendar.getSunrise());
+		Assert.assertEquals(reference.getSunset(), calendar.getSunset());
+
+		// changing the calculator in place
+		calendar.getAstronomicalCalculator().setRefraction(0.9);
+		reference.getAstronomicalCalculator().setRefraction(0.9);
+		Assert.assertEquals(reference.getSunrise(), calendar.getSunrise());
+		Assert.assertEquals(reference.getSunset(), calendar.getSunset());
+
+		calendar.getAstronomicalCalculator().setSolarRadius(0.3);
+		reference.getAstronomicalCalculator().setSolarRadius(0.3);
+		Assert.assertEquals(reference.getSunrise(), calendar.getSunrise());
+
+		calendar.getAstronomicalCalculator().setEarthRadius(6371);
+		reference.getAstronomicalCalculator().setEarthRadius(6371);
+		Assert.assertEquals(reference.getSunset(), calendar.getSunset());
+	}
+
+	@Test
+	public void testClone() {
+		ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(LOCATIONS[1]);
+		calendar.setUseResultCache(true);
+		calendar.setCalendar(ZonedDateTime.of(2024, 6, 21, 0, 0, 0, 0, LOCATIONS[1].getTimeZone().toZoneId()));
+		ZonedDateTime sunrise = calendar.getSunrise();
+		ComplexZmanimCalendar clone = (ComplexZmanimCalendar) calendar.clone();
+		Assert.assertTrue(clone.isUseResultCache());
+		clone.getGeoLocation().setLatitude(40);
+		Assert.assertEquals(sunrise, calendar.getSunrise());
+		Assert.assertNotEquals(sunrise, clone.getSunrise());
+	}
+}
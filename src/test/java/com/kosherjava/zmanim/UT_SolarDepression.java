@@ -0,0 +1,63 @@
+package com.kosherjava.zmanim;
+
+import org.junit.*;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
+import com.kosherjava.zmanim.util.Fixtures;
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.NOAACalculator;
+
+/**
+ * Verify that the solar depression angle at the time of an offset by degrees is the degrees of the offset.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_SolarDepression {
+
+	private static final GeoLocation[] LOCATIONS = { Fixtures.getJerusalem(), Fixtures.getLakewood(),
+			Fixtures.getApia() };
+
+	private static final double[] DEGREES = { 0.5, 6, 11.5, 16.1, 19.8, -3 };
+
+	@Test
+	public void testInverseOfOffsetByDegrees() {
+		for (GeoLocation location : LOCATIONS) {
+			AstronomicalCalendar calendar = new AstronomicalCalendar(location);
+			ZonedDateTime date = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, location.getTimeZone().toZoneId());
+			for (int day = 0; day < 366; day += 7) {
+				calendar.setCalendar(date.plusDays(day));
+				long[] times = new long[DEGREES.length * 2];
+				for (int i = 0; i < DEGREES.length; i++) {
+					times[i * 2] = calendar.getSunriseOffsetByDegreesMillis(AstronomicalCalendar.GEOMETRIC_ZENITH
+							+ DEGREES[i]);
+					times[i * 2 + 1] = calendar.getSunsetOffsetByDegreesMillis(AstronomicalCalendar.GEOMETRIC_ZENITH
+							+ DEGREES[i]);
+				}
+				double[] depressions = calendar.getSolarDepressions(times);
+				for (int i = 0; i < times.length; i++) {
+					String message = location.getLocationName() + " " + calendar.getCalendar() + " " + i;
+					Assert.assertEquals(message, DEGREES[i / 2], depressions[i], 0.01);
+					Assert.assertEquals(message, calendar.getSolarDepression(times[i]), depressions[i], 0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testNoTime() {
+		AstronomicalCalendar calendar = new AstronomicalCalendar(LOCATIONS[0]);
+		Assert.assertTrue(Double.isNaN(calendar.getSolarDepression((ZonedDateTime) null)));
+		Assert.assertTrue(Double.isNaN(calendar.getSolarDepressions(new long[] { Long.MIN_VALUE })[0]));
+	}
+
+	@Test
+	public void testTimeZoneIndependent() {
+		ZonedDateTime utc = ZonedDateTime.of(2024, 6, 21, 3, 17, 42, 0, ZoneOffset.UTC);
+		double elevation = NOAACalculator.getSolarElevation(utc, 31.778, 35.235);
+		Assert.assertEquals(elevation, NOAACalculator.getSolarElevation(
+				utc.withZoneSameInstant(TimeZone.getTimeZone("Asia/Jerusalem").toZoneId()), 31.778, 35.235), 0);
+		Assert.assertEquals(-elevation, new AstronomicalCalendar(LOCATIONS[0]).getSolarDepression(utc), 0);
+	}
+}
@@ -0,0 +1,127 @@
+package com.kosherjava.zmanim;
+
+import org.junit.*;
+
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
+import com.kosherjava.zmanim.util.Fixtures;
+import com.kosherjava.zmanim.util.Fixtures.CountingCalculator;
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * Verify that the solar dip solver returns the dip that walking the degrees in steps of the tolerance finds, using only
+ * a few calculations.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_SolarDipFromOffset {
+
+	private static final double TOLERANCE = AstronomicalCalendar.DEFAULT_SOLAR_DIP_TOLERANCE;
+
+	private static final GeoLocation[] LOCATIONS = { Fixtures.getJerusalem(), Fixtures.getLakewood(),
+			new GeoLocation("Gateshead", 54.9526, -1.6014, 50, TimeZone.getTimeZone("Europe/London")) };
+
+	private static final int[][] DATES = { { 2024, 3, 20 }, { 2024, 6, 21 }, { 2024, 12, 21 } };
+
+	private static final double[] MINUTES = { 72, 90, 18, -30 };
+
+	@Test
+	public void testMatchesDegreeWalk() {
+		for (GeoLocation location : LOCATIONS) {
+			for (int[] date : DATES) {
+				AstronomicalCalendar calendar = getCalendar(location, date);
+				for (double minutes : MINUTES) {
+					String message = location.getLocationName() + " " + calendar.getCalendar() + " " + minutes;
+					double sunriseDip = calendar.getSunriseSolarDipFromOffset(minutes);
+					if (!Double.isNaN(sunriseDip)) {
+						Assert.assertEquals(message, walkDip(calendar, minutes, true), sunriseDip, TOLERANCE + 1e-9);
+					}
+					double sunsetDip = calendar.getSunsetSolarDipFromOffset(minutes);
+					if (!Double.isNaN(sunsetDip)) {
+						Assert.assertEquals(message, walkDip(calendar, minutes, false), sunsetDip, TOLERANCE + 1e-9);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testJerusalemEquinox() {
+		AstronomicalCalendar calendar = getCalendar(LOCATIONS[0], DATES[0]);
+		Assert.assertEquals(16.1, calendar.getSunriseSolarDipFromOffset(72), 0.2);
+		Assert.assertEquals(16.1, calendar.getSunsetSolarDipFromOffset(72), 0.2);
+		Assert.assertEquals(0, calendar.getSunriseSolarDipFromOffset(0), 0);
+	}
+
+	@Test
+	public void testFewCalculations() {
+		for (GeoLocation location : LOCATIONS) {
+			for (int[] date : DATES) {
+				AstronomicalCalendar calendar = getCalendar(location, date);
+				CountingCalculator calculator = new CountingCalculator();
+				calendar.setAstronomicalCalculator(calculator);
+				for (double minutes : MINUTES) {
+					calculator.resetCalculations();
+					calendar.getSunriseSolarDipFromOffset(minutes);
+					Assert.assertTrue(location.getLocationName() + " " + minutes + ": " + calculator.getCalculations(),
+							calculator.getCalculations() <= 30);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testTolerance() {
+		AstronomicalCalendar calendar = getCalendar(LOCATIONS[1], DATES[0]);
+		double precise = calendar.getSunriseSolarDipFromOffset(72, 1e-7);
+		Assert.assertEquals(precise, calendar.getSunriseSolarDipFromOffset(72, 0.01), 0.01);
+		Assert.assertEquals(precise, calendar.getSunriseSolarDipFromOffset(72), TOLERANCE);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidTolerance() {
+		getCalendar(LOCATIONS[0], DATES[0]).getSunriseSolarDipFromOffset(72, 0);
+	}
+
+	@Test
+	public void testUnreachableOffset() {
+		// the sun in Gateshead in June is never more than about 12 degrees below the horizon
+		AstronomicalCalendar calendar = getCalendar(LOCATIONS[2], DATES[1]);
+		Assert.assertTrue(Double.isNaN(calendar.getSunriseSolarDipFromOffset(240)));
+		Assert.assertTrue(Double.isNaN(calendar.getSunsetSolarDipFromOffset(240)));
+		// and never more than about 59 degrees above it
+		Assert.assertTrue(Double.isNaN(calendar.getSunriseSolarDipFromOffset(-600)));
+	}
+
+	private static AstronomicalCalendar getCalendar(GeoLocation location, int[] date) {
+		AstronomicalCalendar calendar = new AstronomicalCalendar(location);
+		calendar.setCalendar(ZonedDateTime.of(date[0], date[1], date[2], 0, 0, 0, 0,
+				location.getTimeZone().toZoneId()));
+		return calendar;
+	}
+
+	/**
+	 * Finds the dip by walking the degrees in steps of the tolerance until the offset by degrees reaches the offset by
+	 * time.
+	 */
+	private static double walkDip(AstronomicalCalendar calendar, double minutes, boolean isSunrise) {
+		long offsetByTime = isSunrise
+				? calendar.getSeaLevelSunriseMillis() - (long) (minutes * AstronomicalCalendar.MINUTE_MILLIS)
+				: calendar.getSeaLevelSunsetMillis() + (long) (minutes * AstronomicalCalendar.MINUTE_MILLIS);
+		double step = Math.signum(minutes) * TOLERANCE;
+		for (int i = 1;; i++) {
+			double dip = i * step;
+			long offsetByDegrees = isSunrise
+					? calendar.getSunriseOffsetByDegreesMillis(AstronomicalCalendar.GEOMETRIC_ZENITH + dip)
+					: calendar.getSunsetOffsetByDegreesMillis(AstronomicalCalendar.GEOMETRIC_ZENITH + dip);
+			if (offsetByDegrees == Long.MIN_VALUE) {
+				continue;
+			}
+			boolean reached = isSunrise == minutes > 0 ? offsetByDegrees <= offsetByTime
+					: offsetByDegrees >= offsetByTime;
+			if (reached) {
+				return dip;
+			}
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.kosherjava.zmanim;
+
+import org.junit.*;
+
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
+import com.kosherjava.zmanim.util.FastNOAACalculator;
+import com.kosherjava.zmanim.util.Fixtures;
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.NOAACalculator;
+import com.kosherjava.zmanim.util.SolarEventStatus;
+
+/**
+ * Verify that the solar event status explains when sunrise and sunset can't be calculated in the polar regions.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_SolarEventStatus {
+
+	private static final GeoLocation[] LOCATIONS = { Fixtures.getFortConger(), Fixtures.getTromso(),
+			new GeoLocation("Anchorage, AK", 61.2181, -149.9003, 30, TimeZone.getTimeZone("America/Anchorage")),
+			new GeoLocation("McMurdo Station", -77.846, 166.676, 10, TimeZone.getTimeZone("Antarctica/McMurdo")),
+			Fixtures.getJerusalem() };
+
+	private static final double[] ZENITHS = { AstronomicalCalendar.GEOMETRIC_ZENITH,
+			AstronomicalCalendar.CIVIL_ZENITH, AstronomicalCalendar.NAUTICAL_ZENITH,
+			AstronomicalCalendar.ASTRONOMICAL_ZENITH };
+
+	@Test
+	public void testExplainsNaN() {
+		for (GeoLocation location : LOCATIONS) {
+			AstronomicalCalendar calendar = new AstronomicalCalendar(location);
+			ZonedDateTime date = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, location.getTimeZone().toZoneId());
+			for (int day = 0; day < 366; day++) {
+				calendar.setCalendar(date.plusDays(day));
+				for (double zenith : ZENITHS) {
+					String message = location.getLocationName() + " " + calendar.getCalendar() + " " + zenith;
+					SolarEventStatus status = calendar.getSeaLevelSolarEventStatus(zenith);
+					double sunrise = calendar.getUTCSeaLevelSunrise(zenith);
+					double sunset = calendar.getUTCSeaLevelSunset(zenith);
+					if (status != SolarEventStatus.OCCURS) {
+						Assert.assertTrue(message, Double.isNaN(sunrise) && Double.isNaN(sunset));
+						// the sun is above the zenith at noon if it is always above, and below it if it is always below
+						double noonElevation = NOAACalculator.getSolarElevation(calendar.getSunTransitMillis(),
+								location.getLatitude(), location.getLongitude());
+						Assert.assertEquals(message, status == SolarEventStatus.ALWAYS_ABOVE,
+								noonElevation > 90 - zenith);
+					} else {
+						Assert.assertFalse(message, Double.isNaN(sunrise) && Double.isNaN(sunset));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testPolarDayAndNight() {
+		GeoLocation fortConger = LOCATIONS[0];
+		AstronomicalCalendar calendar = new AstronomicalCalendar(fortConger);
+		calendar.setCalendar(ZonedDateTime.of(2024, 6, 21, 0, 0, 0, 0, fortConger.getTimeZone().toZoneId()));
+		Assert.assertEquals(SolarEventStatus.ALWAYS_ABOVE,
+				calendar.getSolarEventStatus(AstronomicalCalendar.GEOMETRIC_ZENITH));
+		Assert.assertNull(calendar.getSunrise());
+		calendar.setCalendar(ZonedDateTime.of(2024, 12, 21, 0, 0, 0, 0, fortConger.getTimeZone().toZoneId()));
+		Assert.assertEquals(SolarEventStatus.ALWAYS_BELOW,
+				calendar.getSolarEventStatus(AstronomicalCalendar.GEOMETRIC_ZENITH));
+		Assert.assertNull(calendar.getSunset());
+
+		GeoLocation jerusalem = LOCATIONS[4];
+		calendar = new AstronomicalCalendar(jerusalem);
+		calendar.setCalendar(ZonedDateTime.of(2024, 6, 21, 0, 0, 0, 0, jerusalem.getTimeZone().toZoneId()));
+		Assert.assertEquals(SolarEventStatus.OCCURS,
+				calendar.getSeaLevelSolarEventStatus(AstronomicalCalendar.ASTRONOMICAL_ZENITH));
+		// the sun is below 90 degrees from the zenith, and above 180 degrees from it, all day
+		Assert.assertEquals(SolarEventStatus.ALWAYS_ABOVE, calendar.getSeaLevelSolarEventStatus(180));
+		Assert.assertEquals(SolarEventStatus.ALWAYS_BELOW, calendar.getSeaLevelSolarEventStatus(0));
+	}
+
+	@Test
+	public void testDefaultImplementation() {
+		AstronomicalCalendar calendar = new AstronomicalCalendar(LOCATIONS[1]);
+		calendar.setAstronomicalCalculator(new FastNOAACalculator());
+		calendar.setCalendar(ZonedDateTime.of(2024, 6, 21, 0, 0, 0, 0, LOCATIONS[1].getTimeZone().toZoneId()));
+		Assert.assertEquals(SolarEventStatus.ALWAYS_ABOVE,
+				calendar.getSolarEventStatus(AstronomicalCalendar.GEOMETRIC_ZENITH));
+		Assert.assertTrue(Double.isNaN(calendar.getUTCSunrise(AstronomicalCalendar.GEOMETRIC_ZENITH)));
+		calendar.setCalendar(ZonedDateTime.of(2024, 3, 21, 0, 0, 0, 0, LOCATIONS[1].getTimeZone().toZoneId()));
+		Assert.assertEquals(SolarEventStatus.OCCURS,
+				calendar.getSolarEventStatus(AstronomicalCalendar.GEOMETRIC_ZENITH));
+	}
+
+	@Test
+	public void testStatus() {
+		Assert.assertEquals(SolarEventStatus.OCCURS, SolarEventStatus.getStatus(31.778, 23.44, 90.833));
+		Assert.assertEquals(SolarEventStatus.ALWAYS_ABOVE, SolarEventStatus.getStatus(69.6496, 23.44, 90.833));
+		Assert.assertEquals(SolarEventStatus.ALWAYS_BELOW, SolarEventStatus.getStatus(69.6496, -23.44, 90.833));
+		Assert.assertEquals(SolarEventStatus.ALWAYS_ABOVE, SolarEventStatus.getStatus(-77.846, -23.44, 90.833));
+		Assert.assertEquals(SolarEventStatus.ALWAYS_ABOVE, SolarEventStatus.getStatus(51.5, 23.44, 108));
+	}
+}
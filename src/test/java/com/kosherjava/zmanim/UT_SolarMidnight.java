@@ -0,0 +1,90 @@
+package com.kosherjava.zmanim;
+
+import org.junit.*;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import com.kosherjava.zmanim.util.AstronomicalCalculator;
+import com.kosherjava.zmanim.util.FastNOAACalculator;
+import com.kosherjava.zmanim.util.Fixtures;
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.NOAACalculator;
+import com.kosherjava.zmanim.util.SunTimesCalculator;
+
+/**
+ * Verify that solar midnight and the other times calculated while advancing a calendar one day at a time are identical
+ * to the ones calculated by a new calendar for each day, and that solar midnight is close to halfway between the sun
+ * transits of the day and the next day.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_SolarMidnight {
+
+	private static final GeoLocation[] LOCATIONS = { Fixtures.getLakewood(), Fixtures.getJerusalem(),
+			Fixtures.getApia() };
+
+	@Test
+	public void testNOAASequentialDays() {
+		// the NOAA anti-transit is within a fraction of a second of halfway between the transits
+		assertSequentialDays(new NOAACalculator(), 250);
+	}
+
+	@Test
+	public void testSunTimesSequentialDays() {
+		// the USNO midnight is halfway through the night, while the transit is halfway through the day
+		assertSequentialDays(new SunTimesCalculator(), 60_000);
+	}
+
+	@Test
+	public void testNadir() {
+		for (GeoLocation location : LOCATIONS) {
+			AstronomicalCalendar calendar = new AstronomicalCalendar(location);
+			AstronomicalCalendar fast = new AstronomicalCalendar(location);
+			fast.setAstronomicalCalculator(new FastNOAACalculator());
+			ZonedDateTime date = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, location.getTimeZone().toZoneId());
+			for (int day = 0; day < 366; day += 5) {
+				calendar.setCalendar(date.plusDays(day));
+				fast.setCalendar(date.plusDays(day));
+				long midnight = calendar.getSolarMidnightMillis();
+				String message = location.getLocationName() + " " + calendar.getCalendar();
+				// the sun is lowest at midnight, about 12 hours after the transit
+				double depression = calendar.getSolarDepression(midnight);
+				Assert.assertTrue(message, depression > calendar.getSolarDepression(midnight - 60_000));
+				Assert.assertTrue(message, depression > calendar.getSolarDepression(midnight + 60_000));
+				Assert.assertEquals(message, 12 * AstronomicalCalendar.HOUR_MILLIS,
+						(double) (midnight - calendar.getSunTransitMillis()), 60_000);
+				Assert.assertEquals(message, 0, (double) (midnight - fast.getSolarMidnightMillis()),
+						FastNOAACalculator.MAX_ERROR_MILLIS);
+			}
+		}
+	}
+
+	private static void assertSequentialDays(AstronomicalCalculator calculator, long midnightTolerance) {
+		for (GeoLocation location : LOCATIONS) {
+			ZoneId zone = location.getTimeZone().toZoneId();
+			AstronomicalCalendar sequential = new AstronomicalCalendar(location);
+			sequential.setAstronomicalCalculator(calculator);
+			ZonedDateTime date = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, zone);
+			for (int day = 0; day < 400; day++) {
+				ZonedDateTime current = date.plusDays(day);
+				sequential.setCalendar(current);
+				AstronomicalCalendar single = new AstronomicalCalendar(location);
+				single.setAstronomicalCalculator((AstronomicalCalculator) calculator.clone());
+				single.setCalendar(current);
+				AstronomicalCalendar next = new AstronomicalCalendar(location);
+				next.setAstronomicalCalculator((AstronomicalCalculator) calculator.clone());
+				next.setCalendar(current.plusDays(1));
+				long transit = single.getSunTransitMillis();
+				long expectedMidnight = transit + (next.getSunTransitMillis() - transit) / 2;
+
+				String message = location.getLocationName() + " " + current;
+				Assert.assertEquals(message, (double) expectedMidnight, (double) sequential.getSolarMidnightMillis(),
+						midnightTolerance);
+				Assert.assertEquals(message, single.getSolarMidnightMillis(), sequential.getSolarMidnightMillis());
+				Assert.assertEquals(message, single.getSunriseMillis(), sequential.getSunriseMillis());
+				Assert.assertEquals(message, single.getSunsetMillis(), sequential.getSunsetMillis());
+				Assert.assertEquals(message, transit, sequential.getSunTransitMillis());
+			}
+		}
+	}
+}
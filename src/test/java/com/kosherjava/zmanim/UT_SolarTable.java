@@ -0,0 +1,70 @@
+package com.kosherjava.zmanim;
+
+import org.junit.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import com.kosherjava.zmanim.util.AstronomicalCalculator;
+import com.kosherjava.zmanim.util.Fixtures;
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.NOAACalculator;
+import com.kosherjava.zmanim.util.SunTimesCalculator;
+
+/**
+ * Verify that the {@link SolarTable} returns exactly the same results as an {@link AstronomicalCalendar} set to each
+ * day of the table.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_SolarTable {
+
+	private static final double[] ZENITHS = { AstronomicalCalendar.CIVIL_ZENITH, ZmanimCalendar.ZENITH_16_POINT_1,
+			ZmanimCalendar.ZENITH_8_POINT_5, AstronomicalCalendar.ASTRONOMICAL_ZENITH };
+
+	private static final GeoLocation[] LOCATIONS = Fixtures.getLocations();
+
+	@Test
+	public void testNOAATableMatchesCalendar() {
+		for (GeoLocation location : LOCATIONS) {
+			assertTableMatchesCalendar(location, new NOAACalculator());
+		}
+	}
+
+	@Test
+	public void testSunTimesTableMatchesCalendar() {
+		for (GeoLocation location : LOCATIONS) {
+			assertTableMatchesCalendar(location, new SunTimesCalculator());
+		}
+	}
+
+	@Test
+	public void testYearLength() {
+		Assert.assertEquals(366, new SolarTable(LOCATIONS[0], new NOAACalculator(), 2024, new double[0]).getDays());
+		Assert.assertEquals(365, new SolarTable(LOCATIONS[0], new NOAACalculator(), 2023, new double[0]).getDays());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeDays() {
+		new SolarTable(LOCATIONS[0], new NOAACalculator(), LocalDate.of(2023, 1, 1), -1, ZENITHS);
+	}
+
+	private static void assertTableMatchesCalendar(GeoLocation location, AstronomicalCalculator calculator) {
+		SolarTable table = new SolarTable(location, calculator, 2023, ZENITHS);
+		AstronomicalCalendar calendar = new AstronomicalCalendar(location);
+		calendar.setAstronomicalCalculator(calculator);
+		ZoneId zone = location.getTimeZone().toZoneId();
+		for (int day = 0; day < table.getDays(); day++) {
+			calendar.setCalendar(table.getDate(day).atStartOfDay(zone));
+			String message = location.getLocationName() + " " + table.getDate(day);
+			Assert.assertEquals(message, calendar.getSunriseMillis(), table.getSunrises()[day]);
+			Assert.assertEquals(message, calendar.getSunsetMillis(), table.getSunsets()[day]);
+			Assert.assertEquals(message, calendar.getSunTransitMillis(), table.getSunTransits()[day]);
+			for (int i = 0; i < ZENITHS.length; i++) {
+				Assert.assertEquals(message, calendar.getSunriseOffsetByDegreesMillis(ZENITHS[i]),
+						table.getSunrises(i)[day]);
+				Assert.assertEquals(message, calendar.getSunsetOffsetByDegreesMillis(ZENITHS[i]),
+						table.getSunsets(i)[day]);
+			}
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.kosherjava.zmanim;
+
+import org.junit.*;
+
+import java.time.ZonedDateTime;
+
+import com.kosherjava.zmanim.util.Fixtures;
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * Verify that zman expressions compile to the same definitions and times as the primitives of the calendar, and that
+ * invalid expressions are rejected.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_ZmanExpression {
+
+	private static final GeoLocation LAKEWOOD = Fixtures.getLakewood();
+
+	private static ComplexZmanimCalendar getCalendar() {
+		ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(LAKEWOOD);
+		calendar.setCalendar(ZonedDateTime.of(2024, 5, 14, 0, 0, 0, 0, LAKEWOOD.getTimeZone().toZoneId()));
+		return calendar;
+	}
+
+	@Test
+	public void testCustomOpinion() {
+		ComplexZmanimCalendar calendar = getCalendar();
+		ZmanExpression expression = ZmanExpression.compile(
+				"shaahZmanisBased(degreesBeforeSunrise(16.9\u00b0), degreesAfterSunset(7.083\u00b0), 4)");
+		long expected = calendar.getShaahZmanisBasedZman(calendar.getSunriseOffsetByDegreesMillis(90 + 16.9),
+				calendar.getSunsetOffsetByDegreesMillis(90 + 7.083), 4);
+		Assert.assertEquals(expected, expression.evaluate(calendar));
+		Assert.assertEquals(3, expression.getCalculationCount());
+	}
+
+	@Test
+	public void testSameAsGetters() {
+		ComplexZmanimCalendar calendar = getCalendar();
+		Assert.assertEquals(calendar.getTzais72Millis(),
+				ZmanExpression.compile("sunset + 72 minutes").evaluate(calendar));
+		Assert.assertEquals(calendar.getAlos72ZmanisMillis(),
+				ZmanExpression.compile("sunrise - 1.2 zmaniyos(sunrise, sunset)").evaluate(calendar));
+		Assert.assertEquals(calendar.getTzaisMillis(),
+				ZmanExpression.compile("degreesAfterSunset(8.5)").evaluate(calendar));
+		Assert.assertEquals(calendar.getPlagHamincha(calendar.getAlos72Millis(), calendar.getTzais72Millis()),
+				ZmanExpression.compile("shaahZmanisBased(Alos72, (sunset() + 72 minutes), 10.75)").evaluate(calendar));
+		Assert.assertEquals(calendar.getMinchaGedola30MinutesMillis(),
+				ZmanExpression.compile(" offset ( chatzos , 30 ) ").evaluate(calendar));
+	}
+
+	@Test
+	public void testRoundTrip() {
+		ZmanRegistry registry = new ZmanRegistry();
+		for (String name : registry.getNames()) {
+			ZmanDefinition definition = registry.getDefinition(name);
+			Assert.assertEquals(name, definition, ZmanExpression.compile(definition.toString(), null).getDefinition());
+		}
+		Assert.assertEquals("shaahZmanisBased(offset(sunrise, -72), offset(sunset, 72), 3)",
+				registry.getDefinition("SofZmanShmaMGA").toString());
+	}
+
+	@Test
+	public void testReusedCalculations() {
+		ComplexZmanimCalendar calendar = getCalendar();
+		ZmanExpression expression = ZmanExpression.compile("halfDayBased(sunrise, localMeanTime(12), 3)");
+		long[] calculations = new long[expression.getCalculationCount()];
+		ZonedDateTime date = calendar.getCalendar();
+		for (int day = 0; day < 30; day++) {
+			calendar.setCalendar(date.plusDays(day));
+			Assert.assertEquals(expression.evaluate(calendar), expression.evaluate(calendar, calculations));
+		}
+	}
+
+	@Test
+	public void testRegisteredExpression() {
+		ZmanRegistry registry = new ZmanRegistry();
+		registry.register("Tzais7Point083Degrees", "degreesAfterSunset(7.083)");
+		registry.register("BainHashmashos", "Tzais7Point083Degrees - 13.5 minutes");
+		ComplexZmanimCalendar calendar = getCalendar();
+		Assert.assertEquals(calendar.getSunsetOffsetByDegreesMillis(90 + 7.083) - 810000,
+				registry.getPlan("BainHashmashos").evaluate(calendar)[0]);
+	}
+
+	@Test
+	public void testInvalidExpressions() {
+		String[] expressions = { "", "sunrise +", "sunrise + 72", "sunrise + 72 hours", "Alos73", "offset(sunrise 72)",
+				"localMeanTime(25)", "sunrise sunset", "degreesBeforeSunrise(1.2.3)", "(sunrise", "sunrise(1)" };
+		for (String expression : expressions) {
+			try {
+				ZmanExpression.compile(expression);
+				Assert.fail(expression);
+			} catch (IllegalArgumentException e) {
+				Assert.assertTrue(e.getMessage(), e.getMessage().contains("at position"));
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNoRegistry() {
+		ZmanExpression.compile("Alos72", null);
+	}
+}
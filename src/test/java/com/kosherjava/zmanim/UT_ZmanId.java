@@ -0,0 +1,86 @@
+package com.kosherjava.zmanim;
+
+import org.junit.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.kosherjava.zmanim.util.Fixtures;
+import com.kosherjava.zmanim.util.Fixtures.CountingCalculator;
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * Verify that there is a zman identifier for every getter of the calendar, and that calculating a selection of them
+ * has the same results as the getters with fewer calculations.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_ZmanId {
+
+	private static final GeoLocation JERUSALEM = Fixtures.getJerusalem();
+
+	private static ComplexZmanimCalendar getCalendar() {
+		ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(JERUSALEM);
+		calendar.setCalendar(ZonedDateTime.of(2024, 4, 22, 0, 0, 0, 0, JERUSALEM.getTimeZone().toZoneId()));
+		return calendar;
+	}
+
+	@Test
+	public void testEveryGetter() throws IllegalAccessException, InvocationTargetException {
+		ComplexZmanimCalendar calendar = getCalendar();
+		Set<ZmanId> found = new HashSet<ZmanId>();
+		for (Method method : ComplexZmanimCalendar.class.getMethods()) {
+			String name = method.getName();
+			if (name.startsWith("get") && name.endsWith("Millis") && method.getParameterTypes().length == 0
+					&& method.getReturnType() == long.class && !Modifier.isStatic(method.getModifiers())) {
+				String id = name.substring(3, name.length() - 6).replaceAll("([a-z])([A-Z0-9])", "$1_$2")
+						.replaceAll("([A-Z])([A-Z][a-z])", "$1_$2").replaceAll("([0-9])([A-Za-z])", "$1_$2")
+						.replaceAll("([A-Z])([0-9])", "$1_$2").toUpperCase();
+				ZmanId zman = ZmanId.valueOf(id);
+				Assert.assertTrue(id, found.add(zman));
+				Assert.assertEquals(id, method.invoke(calendar), calendar.getZmanMillis(zman));
+			}
+		}
+		Assert.assertEquals(ZmanId.COUNT, found.size());
+	}
+
+	@Test
+	public void testSelection() {
+		EnumSet<ZmanId> selection = EnumSet.of(ZmanId.ALOS_HASHACHAR, ZmanId.ALOS_72,
+				ZmanId.MISHEYAKIR_10_POINT_2_DEGREES, ZmanId.SEA_LEVEL_SUNRISE, ZmanId.SOF_ZMAN_SHMA_MGA,
+				ZmanId.SOF_ZMAN_SHMA_GRA, ZmanId.SOF_ZMAN_TFILA_MGA,
+				ZmanId.SOF_ZMAN_TFILA_GRA, ZmanId.CHATZOS, ZmanId.MINCHA_GEDOLA, ZmanId.MINCHA_KETANA,
+				ZmanId.PLAG_HAMINCHA, ZmanId.CANDLE_LIGHTING, ZmanId.SEA_LEVEL_SUNSET, ZmanId.TZAIS,
+				ZmanId.TZAIS_72);
+		CountingCalculator calculator = new CountingCalculator();
+		ComplexZmanimCalendar calendar = getCalendar();
+		calendar.setAstronomicalCalculator(calculator);
+		long[] results = new long[ZmanId.COUNT];
+		Arrays.fill(results, 42);
+		calendar.getZmanim(selection, results);
+		int selectionCalculations = calculator.getCalculations();
+		Assert.assertFalse(calendar.isUseResultCache());
+
+		calculator.resetCalculations();
+		for (ZmanId zman : ZmanId.values()) {
+			if (selection.contains(zman)) {
+				Assert.assertEquals(zman.name(), calendar.getZmanMillis(zman), results[zman.ordinal()]);
+			} else {
+				Assert.assertEquals(zman.name(), 42, results[zman.ordinal()]);
+			}
+		}
+		// sunrise and sunset at sea level, 16.1, 10.2 and 8.5 degrees, and the sun transit of chatzos
+		Assert.assertEquals(6, selectionCalculations);
+		Assert.assertTrue(calculator.getCalculations() > 3 * selectionCalculations);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testShortArray() {
+		getCalendar().getZmanim(EnumSet.of(ZmanId.SUNRISE), new long[ZmanId.COUNT - 1]);
+	}
+}
@@ -0,0 +1,147 @@
+package com.kosherjava.zmanim;
+
+import org.junit.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.ZonedDateTime;
+
+import com.kosherjava.zmanim.util.Fixtures;
+import com.kosherjava.zmanim.util.Fixtures.CountingCalculator;
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * Verify that the standard definitions of the registry evaluate to the same times as the getters of the calendar, and
+ * that a plan calculates shared zmanim only once.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_ZmanPlan {
+
+	private static final GeoLocation[] LOCATIONS = { Fixtures.getLakewood(), Fixtures.getJerusalem(),
+			Fixtures.getTromso() };
+
+	@Test
+	public void testStandardZmanim() throws IllegalAccessException, InvocationTargetException {
+		ZmanRegistry registry = new ZmanRegistry();
+		String[] names = registry.getNames();
+		ZmanPlan plan = registry.getPlan(names);
+		Method[] getters = new Method[names.length];
+		for (int i = 0; i < names.length; i++) {
+			getters[i] = getGetter(names[i]);
+		}
+		for (GeoLocation location : LOCATIONS) {
+			for (boolean useElevation : new boolean[] { true, false }) {
+				ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(location);
+				calendar.setUseElevation(useElevation);
+				ZonedDateTime date = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, location.getTimeZone().toZoneId());
+				for (int day = 0; day < 366; day += 11) {
+					calendar.setCalendar(date.plusDays(day));
+					long[] zmanim = plan.evaluate(calendar);
+					for (int i = 0; i < names.length; i++) {
+						Assert.assertEquals(location.getLocationName() + " " + date.plusDays(day) + " " + names[i],
+								getters[i].invoke(calendar), zmanim[i]);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the getter of a zman in milliseconds since the epoch, which may be protected.
+	 */
+	private static Method getGetter(String name) {
+		for (Class<?> type = ComplexZmanimCalendar.class; type != null; type = type.getSuperclass()) {
+			try {
+				Method getter = type.getDeclaredMethod("get" + name + "Millis");
+				getter.setAccessible(true);
+				return getter;
+			} catch (NoSuchMethodException e) {
+				// look in the superclass
+			}
+		}
+		throw new AssertionError("No getter for " + name);
+	}
+
+	@Test
+	public void testSharedCalculations() {
+		ZmanRegistry registry = new ZmanRegistry();
+		ZmanPlan plan = registry.getPlan("SofZmanShmaGRA", "SofZmanTfilaGRA", "MinchaGedola", "MinchaKetana",
+				"PlagHamincha", "SofZmanShmaMGA16Point1Degrees", "PlagHamincha16Point1Degrees", "Tzais72",
+				"SofZmanShmaMGA", "SofZmanTfilaMGA", "Alos72Zmanis", "Tzais72Zmanis");
+		Assert.assertEquals(12, plan.size());
+		// sunrise, sunset, alos and tzais 16.1, alos 72 and the 12 zmanim, of which tzais 72 is also the end of the day
+		Assert.assertEquals(17, plan.getCalculationCount());
+
+		CountingCalculator calculator = new CountingCalculator();
+		ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(LOCATIONS[1]);
+		calendar.setAstronomicalCalculator(calculator);
+		plan.evaluate(calendar);
+		Assert.assertEquals(4, calculator.getCalculations());
+	}
+
+	@Test
+	public void testSingleZman() {
+		ZmanPlan plan = new ZmanRegistry().getPlan("SofZmanShmaMGA16Point1Degrees", "Tzais72", "PlagHamincha");
+		CountingCalculator calculator = new CountingCalculator();
+		ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(LOCATIONS[1]);
+		calendar.setAstronomicalCalculator(calculator);
+		long[] zmanim = plan.evaluate(calendar);
+		long[] calculations = new long[plan.getCalculationCount()];
+		// alos and tzais 16.1, sunset, and sunrise and sunset
+		int[] expectedCalculations = { 2, 1, 2 };
+		for (int i = 0; i < plan.size(); i++) {
+			calculator.resetCalculations();
+			Assert.assertEquals(zmanim[i], plan.evaluate(calendar, i, calculations));
+			Assert.assertEquals(expectedCalculations[i], calculator.getCalculations());
+		}
+	}
+
+	@Test
+	public void testCommunityOpinion() {
+		ZmanRegistry registry = new ZmanRegistry();
+		// tzais 13.5 minutes zmaniyos before 7.083 degrees
+		ZmanDefinition tzais = ZmanDefinition.zmanisOffset(ZmanDefinition.degreesAfterSunset(7 + 5.0 / 60),
+				ZmanDefinition.sunrise(), ZmanDefinition.sunset(), -13.5 / 60);
+		registry.register("BainHashmashosRT13Point5MinutesBefore7Point083DegreesZmanis", tzais);
+		Assert.assertEquals(tzais, ZmanDefinition.zmanisOffset(ZmanDefinition.degreesAfterSunset(7 + 5.0 / 60),
+				ZmanDefinition.sunrise(), ZmanDefinition.sunset(), -13.5 / 60));
+
+		ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(LOCATIONS[0]);
+		calendar.setCalendar(ZonedDateTime.of(2024, 3, 20, 0, 0, 0, 0, LOCATIONS[0].getTimeZone().toZoneId()));
+		long[] zmanim = registry.getPlan("BainHashmashosRT13Point5MinutesBefore7Point083DegreesZmanis")
+				.evaluate(calendar);
+		long expected = calendar.getTzaisGeonim7Point083DegreesMillis()
+				+ (long) (calendar.getShaahZmanisGra() * -13.5 / 60);
+		Assert.assertEquals(expected, zmanim[0]);
+
+		ZmanDefinition sofZmanShma = ZmanDefinition.halfDayBased(ZmanDefinition.sunrise(),
+				ZmanDefinition.localMeanTime(12), 3);
+		Assert.assertEquals(calendar.getHalfDayBasedZman(calendar.getElevationAdjustedSunriseMillis(),
+				calendar.getFixedLocalChatzosMillis(), 3), new ZmanPlan(sofZmanShma).evaluate(calendar)[0]);
+	}
+
+	@Test
+	public void testNoEvent() {
+		ComplexZmanimCalendar calendar = new ComplexZmanimCalendar(LOCATIONS[2]);
+		calendar.setCalendar(ZonedDateTime.of(2024, 6, 21, 0, 0, 0, 0, LOCATIONS[2].getTimeZone().toZoneId()));
+		long[] zmanim = new ZmanRegistry().getPlan("Alos72", "SofZmanShmaGRA", "Chatzos").evaluate(calendar);
+		Assert.assertEquals(Long.MIN_VALUE, zmanim[0]);
+		Assert.assertEquals(Long.MIN_VALUE, zmanim[1]);
+		Assert.assertNotEquals(Long.MIN_VALUE, zmanim[2]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDuplicateName() {
+		new ZmanRegistry().register("Alos72", ZmanDefinition.offset(ZmanDefinition.sunrise(), -72));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownName() {
+		new ZmanRegistry().getPlan("Alos73");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNullReference() {
+		ZmanDefinition.offset(null, 72);
+	}
+}
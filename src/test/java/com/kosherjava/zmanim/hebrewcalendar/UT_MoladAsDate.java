@@ -0,0 +1,45 @@
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.*;
+
+/**
+ * Verify that {@link JewishCalendar#getMoladAsDate()} lands on the correct Gregorian date and time.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_MoladAsDate {
+
+	/**
+	 * <em>Molad Tishrei</em> 5785 was Thursday October 3, 2024 at 3:21 and 13 <em>chalakim</em> Jerusalem mean time, or
+	 * 3:00:46.837 Jerusalem standard time.
+	 */
+	@Test
+	public void moladTishrei5785() {
+		JewishCalendar calendar = new JewishCalendar(5785, JewishDate.TISHREI, 1);
+		ZonedDateTime expected = ZonedDateTime.of(2024, 10, 3, 3, 0, 46, 837000000, ZoneId.of("GMT+2"));
+		Assert.assertEquals(expected.toInstant(), calendar.getMoladAsDate().toInstant());
+	}
+
+	/**
+	 * <em>Molad Nissan</em> 5784 was Monday April 8, 2024 at 22:57 and 7 <em>chalakim</em> Jerusalem mean time.
+	 */
+	@Test
+	public void moladNissan5784() {
+		JewishCalendar calendar = new JewishCalendar(5784, JewishDate.NISSAN, 1);
+		ZonedDateTime expected = ZonedDateTime.of(2024, 4, 8, 22, 36, 26, 837000000, ZoneId.of("GMT+2"));
+		Assert.assertEquals(expected.toInstant(), calendar.getMoladAsDate().toInstant());
+	}
+
+	/**
+	 * <em>Molad Shevat</em> 5785 fell on January 29, 2025. A 0-based month would have asked for the nonexistent month 0.
+	 */
+	@Test
+	public void moladInJanuary() {
+		ZonedDateTime molad = new JewishCalendar(5785, JewishDate.SHEVAT, 1).getMoladAsDate();
+		Assert.assertEquals(2025, molad.getYear());
+		Assert.assertEquals(1, molad.getMonthValue());
+		Assert.assertEquals(29, molad.getDayOfMonth());
+	}
+}
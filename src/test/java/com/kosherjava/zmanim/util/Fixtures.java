@@ -0,0 +1,99 @@
+package com.kosherjava.zmanim.util;
+
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
+/**
+ * Fixtures shared by the tests of both packages: the locations the tests are run with and a calculator counting its
+ * calculations. Each location is a new instance, so a test may change it without affecting other tests.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public final class Fixtures {
+
+	/**
+	 * A calculator counting its sunrise, sunset, noon and midnight calculations.
+	 */
+	public static class CountingCalculator extends NOAACalculator {
+		private int calculations;
+
+		/**
+		 * Returns the number of calculations since the calculator was created or {@link #resetCalculations() reset}.
+		 *
+		 * @return the number of calculations
+		 */
+		public int getCalculations() {
+			return calculations;
+		}
+
+		/**
+		 * Sets the number of calculations to zero.
+		 */
+		public void resetCalculations() {
+			calculations = 0;
+		}
+
+		@Override
+		public double getUTCSunrise(ZonedDateTime calendar, GeoLocation geoLocation, double zenith,
+				boolean adjustForElevation) {
+			calculations++;
+			return super.getUTCSunrise(calendar, geoLocation, zenith, adjustForElevation);
+		}
+
+		@Override
+		public double getUTCSunset(ZonedDateTime calendar, GeoLocation geoLocation, double zenith,
+				boolean adjustForElevation) {
+			calculations++;
+			return super.getUTCSunset(calendar, geoLocation, zenith, adjustForElevation);
+		}
+
+		@Override
+		public double getUTCNoon(ZonedDateTime calendar, GeoLocation geoLocation) {
+			calculations++;
+			return super.getUTCNoon(calendar, geoLocation);
+		}
+
+		@Override
+		public double getUTCMidnight(ZonedDateTime calendar, GeoLocation geoLocation) {
+			calculations++;
+			return super.getUTCMidnight(calendar, geoLocation);
+		}
+	}
+
+	private Fixtures() {
+	}
+
+	/**
+	 * Returns the locations most tests are run with: two mid-latitude locations, one north of the Arctic Circle with
+	 * polar days and nights, and one just west of the date line.
+	 *
+	 * @return Lakewood, Jerusalem, Tromso and Apia
+	 */
+	public static GeoLocation[] getLocations() {
+		return new GeoLocation[] { getLakewood(), getJerusalem(), getTromso(), getApia() };
+	}
+
+	public static GeoLocation getLakewood() {
+		return new GeoLocation("Lakewood, NJ", 40.0828, -74.2094, 20, TimeZone.getTimeZone("America/New_York"));
+	}
+
+	public static GeoLocation getJerusalem() {
+		return new GeoLocation("Jerusalem", 31.778, 35.235, 754, TimeZone.getTimeZone("Asia/Jerusalem"));
+	}
+
+	public static GeoLocation getTromso() {
+		return new GeoLocation("Tromso", 69.672312, 19.049787, 10, TimeZone.getTimeZone("Europe/Oslo"));
+	}
+
+	public static GeoLocation getApia() {
+		return new GeoLocation("Apia, Samoa", -13.8599098, -171.8031745, 1858, TimeZone.getTimeZone("Pacific/Apia"));
+	}
+
+	public static GeoLocation getFortConger() {
+		return new GeoLocation("Fort Conger, NU Canada", 81.7449398, -64.7945858, 127,
+				TimeZone.getTimeZone("America/Toronto"));
+	}
+
+	public static GeoLocation getMelbourne() {
+		return new GeoLocation("Melbourne", -37.8136, 144.9631, 31, TimeZone.getTimeZone("Australia/Melbourne"));
+	}
+}
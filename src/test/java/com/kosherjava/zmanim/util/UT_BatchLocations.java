@@ -0,0 +1,123 @@
+package com.kosherjava.zmanim.util;
+
+import org.junit.*;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * Verify that the batch calculation of a number of locations on a day matches the calculation of each location, with
+ * either the vector kernel or the scalar fallback. The unit tests run with the scalar fallback, and the
+ * <code>java17</code> build profile runs them again against the multi-release jar with the
+ * <code>jdk.incubator.vector</code> module, where the vector kernel must be used.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_BatchLocations {
+
+	/**
+	 * The system property set by the run of the multi-release jar with the <code>jdk.incubator.vector</code> module.
+	 */
+	private static final String VECTOR_RUN_PROPERTY = "com.kosherjava.zmanim.test.vector";
+
+	private static final double TOLERANCE_HOURS = NOAACalculator.VECTOR_TOLERANCE_MILLIS / 3600000.0;
+
+	/**
+	 * Random locations within 60 degrees of the equator, where sunrise and sunset occur every day. An odd number of
+	 * them, so that the last vector is partially filled.
+	 */
+	private static GeoLocation[] getLocations() {
+		Random random = new Random(613);
+		GeoLocation[] locations = new GeoLocation[1001];
+		for (int i = 0; i < locations.length; i++) {
+			locations[i] = new GeoLocation("Location " + i, random.nextDouble() * 120 - 60,
+					random.nextDouble() * 360 - 180, random.nextDouble() * 2000, TimeZone.getTimeZone("UTC"));
+		}
+		return locations;
+	}
+
+	@Test
+	public void testVectorKernel() {
+		Assume.assumeTrue(Boolean.getBoolean(VECTOR_RUN_PROPERTY));
+		Assert.assertNotNull(NOAABatchKernel.getVectorKernel());
+	}
+
+	@Test
+	public void testNOAABatchMatchesSingle() {
+		assertBatchMatchesSingle(new NOAACalculator(), getLocations(), TOLERANCE_HOURS);
+	}
+
+	@Test
+	public void testEphemerisTableBatchMatchesSingle() {
+		NOAACalculator calculator = new NOAACalculator();
+		calculator.setEphemerisTable(EphemerisTable.getDefault());
+		assertBatchMatchesSingle(calculator, getLocations(), 0);
+	}
+
+	@Test
+	public void testDefaultBatchMatchesSingle() {
+		assertBatchMatchesSingle(new SunTimesCalculator(), getLocations(), 0);
+	}
+
+	@Test
+	public void testPolarDayAndNight() {
+		GeoLocation[] locations = { Fixtures.getTromso(), Fixtures.getFortConger(),
+				new GeoLocation("McMurdo Station", -77.846, 166.676, 10, TimeZone.getTimeZone("Antarctica/McMurdo")) };
+		double[] sunrises = new double[locations.length];
+		double[] sunsets = new double[locations.length];
+		new NOAACalculator().getUTCSunrisesAndSunsets(AstronomicalCalculator.getJulianDay(LocalDate.of(2024, 6, 21)),
+				locations, 90, true, sunrises, sunsets);
+		for (int i = 0; i < locations.length; i++) {
+			Assert.assertTrue(locations[i].getLocationName(), Double.isNaN(sunrises[i]) && Double.isNaN(sunsets[i]));
+		}
+	}
+
+	@Test
+	public void testSunsetOnly() {
+		GeoLocation[] locations = getLocations();
+		double julianDay = AstronomicalCalculator.getJulianDay(LocalDate.of(2024, 3, 20));
+		double[] sunsets = new double[locations.length];
+		double[] sunset = new double[1];
+		NOAACalculator calculator = new NOAACalculator();
+		calculator.getUTCSunrisesAndSunsets(julianDay, locations, 98.5, false, null, sunsets);
+		calculator.getUTCSunrisesAndSunsets(julianDay, locations[7], new double[] { 98.5 }, false, null, sunset);
+		Assert.assertEquals(sunset[0], sunsets[7], TOLERANCE_HOURS);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testShortResultArray() {
+		new NOAACalculator().getUTCSunrisesAndSunsets(2460310.5, getLocations(), 90, true, new double[1], null);
+	}
+
+	private static void assertBatchMatchesSingle(AstronomicalCalculator calculator, GeoLocation[] locations,
+			double tolerance) {
+		double[] sunrises = new double[locations.length];
+		double[] sunsets = new double[locations.length];
+		double[] sunrise = new double[1];
+		double[] sunset = new double[1];
+		LocalDate date = LocalDate.of(2024, 1, 1);
+		for (int day = 0; day < 366; day += 15) {
+			double julianDay = AstronomicalCalculator.getJulianDay(date.plusDays(day));
+			for (double zenith : new double[] { 90, 106.1 }) {
+				calculator.getUTCSunrisesAndSunsets(julianDay, locations, zenith, true, sunrises, sunsets);
+				for (int i = 0; i < locations.length; i++) {
+					calculator.getUTCSunrisesAndSunsets(julianDay, locations[i], new double[] { zenith }, true, sunrise,
+							sunset);
+					String message = locations[i].getLocationName() + " " + date.plusDays(day) + " " + zenith;
+					assertClose(message, sunrise[0], sunrises[i], tolerance);
+					assertClose(message, sunset[0], sunsets[i], tolerance);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Asserts that two UTC times in hours are both NaN or within the tolerance, allowing for the wrap at midnight.
+	 */
+	private static void assertClose(String message, double expected, double actual, double tolerance) {
+		Assert.assertEquals(message, Double.isNaN(expected), Double.isNaN(actual));
+		if (!Double.isNaN(expected)) {
+			Assert.assertEquals(message, 0, Math.IEEEremainder(expected - actual, 24), tolerance);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.kosherjava.zmanim.util;
+
+import org.junit.*;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Verify that the multi-zenith batch calculation returns exactly the same results as the single zenith methods.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_BatchSunTimes {
+
+	private static final double[] ZENITHS = { 90, 96, 102, 108, 106.1, 109.8, 116, 93.8, 97.083, 89 };
+
+	private static final GeoLocation[] LOCATIONS = { Fixtures.getLakewood(), Fixtures.getJerusalem(),
+			Fixtures.getTromso(), Fixtures.getFortConger() };
+
+	@Test
+	public void testNOAABatchMatchesSingle() {
+		assertBatchMatchesSingle(new NOAACalculator());
+	}
+
+	@Test
+	public void testSunTimesBatchMatchesSingle() {
+		assertBatchMatchesSingle(new SunTimesCalculator());
+	}
+
+	@Test
+	public void testSunriseOnly() {
+		AstronomicalCalculator calculator = new NOAACalculator();
+		ZonedDateTime date = ZonedDateTime.of(2023, 6, 21, 0, 0, 0, 0, ZoneId.of("UTC"));
+		double[] sunrises = new double[ZENITHS.length];
+		calculator.getUTCSunrisesAndSunsets(date, LOCATIONS[0], ZENITHS, true, sunrises, null);
+		Assert.assertEquals(calculator.getUTCSunrise(date, LOCATIONS[0], 90, true), sunrises[0], 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testShortResultArray() {
+		ZonedDateTime date = ZonedDateTime.of(2023, 6, 21, 0, 0, 0, 0, ZoneId.of("UTC"));
+		new NOAACalculator().getUTCSunrisesAndSunsets(date, LOCATIONS[0], ZENITHS, false, new double[1], null);
+	}
+
+	private static void assertBatchMatchesSingle(AstronomicalCalculator calculator) {
+		double[] sunrises = new double[ZENITHS.length];
+		double[] sunsets = new double[ZENITHS.length];
+		for (GeoLocation location : LOCATIONS) {
+			ZonedDateTime date = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+			for (int day = 0; day < 366; day += 5) {
+				ZonedDateTime current = date.plusDays(day);
+				for (boolean adjustForElevation : new boolean[] { true, false }) {
+					calculator.getUTCSunrisesAndSunsets(current, location, ZENITHS, adjustForElevation, sunrises, sunsets);
+					for (int i = 0; i < ZENITHS.length; i++) {
+						Assert.assertEquals(calculator.getUTCSunrise(current, location, ZENITHS[i], adjustForElevation),
+								sunrises[i], 0);
+						Assert.assertEquals(calculator.getUTCSunset(current, location, ZENITHS[i], adjustForElevation),
+								sunsets[i], 0);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.kosherjava.zmanim.util;
+
+import org.junit.*;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
+import com.kosherjava.zmanim.AstronomicalCalendar;
+
+/**
+ * Verify that the times of a compiled location are within the documented error of the source calculator, and that
+ * everything that wasn't compiled is calculated by the source calculator.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_CompiledLocationCalculator {
+
+	private static final GeoLocation[] LOCATIONS = { Fixtures.getJerusalem(),
+			new GeoLocation("Los Angeles, CA", 34.0522, -118.2437, 90, TimeZone.getTimeZone("America/Los_Angeles")),
+			Fixtures.getTromso() };
+
+	private static final double[] ZENITHS = { 90, 106.1, 98.5, 108 };
+
+	private static final double MAX_ERROR_HOURS = CompiledLocationCalculator.MAX_ERROR_MILLIS / 3600000.0;
+
+	@Test
+	public void testWithinMaxError() {
+		AstronomicalCalculator noaa = new NOAACalculator();
+		for (GeoLocation location : LOCATIONS) {
+			AstronomicalCalculator compiled = new CompiledLocationCalculator(location, noaa, 2024, 2025, ZENITHS);
+			ZonedDateTime start = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+			for (int day = 0; day < 731; day++) {
+				ZonedDateTime date = start.plusDays(day);
+				String message = location.getLocationName() + " " + date;
+				for (double zenith : ZENITHS) {
+					for (boolean adjustForElevation : new boolean[] { true, false }) {
+						assertClose(message, noaa.getUTCSunrise(date, location, zenith, adjustForElevation),
+								compiled.getUTCSunrise(date, location, zenith, adjustForElevation));
+						assertClose(message, noaa.getUTCSunset(date, location, zenith, adjustForElevation),
+								compiled.getUTCSunset(date, location, zenith, adjustForElevation));
+					}
+				}
+				assertClose(message, noaa.getUTCNoon(date, location), compiled.getUTCNoon(date, location));
+			}
+		}
+	}
+
+	/**
+	 * Asserts that two UTC times in hours are both NaN or within the maximum error, allowing for the wrap at midnight.
+	 */
+	private static void assertClose(String message, double expected, double actual) {
+		Assert.assertEquals(message, Double.isNaN(expected), Double.isNaN(actual));
+		if (!Double.isNaN(expected)) {
+			Assert.assertTrue(message, actual >= 0 && actual < 24);
+			Assert.assertEquals(message, 0, Math.IEEEremainder(expected - actual, 24), MAX_ERROR_HOURS);
+		}
+	}
+
+	@Test
+	public void testNotCompiled() {
+		AstronomicalCalculator noaa = new NOAACalculator();
+		AstronomicalCalculator compiled = new CompiledLocationCalculator(LOCATIONS[0], noaa, 2024, 2024, ZENITHS);
+		ZonedDateTime date = ZonedDateTime.of(2024, 5, 7, 0, 0, 0, 0, ZoneOffset.UTC);
+		// another location, another zenith and a date outside of the compiled years
+		Assert.assertEquals(noaa.getUTCSunrise(date, LOCATIONS[1], 90, true),
+				compiled.getUTCSunrise(date, LOCATIONS[1], 90, true), 0);
+		Assert.assertEquals(noaa.getUTCSunrise(date, LOCATIONS[0], 96, false),
+				compiled.getUTCSunrise(date, LOCATIONS[0], 96, false), 0);
+		Assert.assertEquals(noaa.getUTCSunset(date.plusYears(1), LOCATIONS[0], 90, true),
+				compiled.getUTCSunset(date.plusYears(1), LOCATIONS[0], 90, true), 0);
+		Assert.assertEquals(noaa.getUTCNoon(date.minusYears(1), LOCATIONS[0]),
+				compiled.getUTCNoon(date.minusYears(1), LOCATIONS[0]), 0);
+	}
+
+	@Test
+	public void testSourceCopied() {
+		NOAACalculator noaa = new NOAACalculator();
+		AstronomicalCalculator compiled = new CompiledLocationCalculator(LOCATIONS[0], noaa, 2024, 2024, ZENITHS);
+		int hashCode = compiled.hashCode();
+		ZonedDateTime notCompiled = ZonedDateTime.of(2025, 5, 7, 0, 0, 0, 0, ZoneOffset.UTC);
+		double sunset = compiled.getUTCSunset(notCompiled, LOCATIONS[0], 90, true);
+		noaa.setRefraction(0.9);
+		Assert.assertEquals(34 / 60d, compiled.getRefraction(), 0);
+		Assert.assertEquals(hashCode, compiled.hashCode());
+		Assert.assertEquals(sunset, compiled.getUTCSunset(notCompiled, LOCATIONS[0], 90, true), 0);
+		Assert.assertNotEquals(sunset, noaa.getUTCSunset(notCompiled, LOCATIONS[0], 90, true), 0);
+	}
+
+	@Test
+	public void testCalendar() {
+		GeoLocation location = LOCATIONS[0];
+		AstronomicalCalendar calendar = new AstronomicalCalendar(location);
+		calendar.setCalendar(ZonedDateTime.of(2024, 9, 12, 0, 0, 0, 0, location.getTimeZone().toZoneId()));
+		long sunrise = calendar.getSunriseMillis();
+		long alos = calendar.getSunriseOffsetByDegreesMillis(106.1);
+		long transit = calendar.getSunTransitMillis();
+		calendar.setAstronomicalCalculator(new CompiledLocationCalculator(location,
+				calendar.getAstronomicalCalculator(), 2024, 2024, ZENITHS).toShared());
+		Assert.assertEquals(sunrise, calendar.getSunriseMillis(), CompiledLocationCalculator.MAX_ERROR_MILLIS + 1);
+		Assert.assertEquals(alos, calendar.getSunriseOffsetByDegreesMillis(106.1),
+				CompiledLocationCalculator.MAX_ERROR_MILLIS + 1);
+		Assert.assertEquals(transit, calendar.getSunTransitMillis(), CompiledLocationCalculator.MAX_ERROR_MILLIS + 1);
+	}
+
+	@Test
+	public void testShared() {
+		AstronomicalCalculator noaa = AstronomicalCalculator.getSharedDefault();
+		AstronomicalCalculator compiled = new CompiledLocationCalculator(LOCATIONS[0], noaa, 2024, 2024, ZENITHS);
+		Assert.assertSame(compiled.toShared(),
+				new CompiledLocationCalculator(LOCATIONS[0], noaa, 2024, 2024, ZENITHS).toShared());
+		Assert.assertNotEquals(compiled, new CompiledLocationCalculator(LOCATIONS[1], noaa, 2024, 2024, ZENITHS));
+		Assert.assertEquals(0.6, compiled.withRefraction(0.6).getRefraction(), 0);
+		Assert.assertEquals(34 / 60d, compiled.getRefraction(), 0);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testImmutable() {
+		new CompiledLocationCalculator(LOCATIONS[0], new NOAACalculator(), 2024, 2024, ZENITHS).setRefraction(0.6);
+	}
+}
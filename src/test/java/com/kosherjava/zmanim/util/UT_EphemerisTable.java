@@ -0,0 +1,86 @@
+package com.kosherjava.zmanim.util;
+
+import org.junit.*;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Verify that the interpolated {@link EphemerisTable} values are within the documented error of the NOAA series
+ * expansions, and that a saved table loads with identical values.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_EphemerisTable {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static final GeoLocation LAKEWOOD = Fixtures.getLakewood();
+
+	@Test
+	public void testInterpolationError() {
+		EphemerisTable table = EphemerisTable.getDefault();
+		double start = AstronomicalCalculator.getJulianDay(LocalDate.of(1900, 1, 1));
+		double end = AstronomicalCalculator.getJulianDay(LocalDate.of(2200, 12, 31));
+		for (double julianDay = start; julianDay < end; julianDay += 3.37) {
+			double julianCenturies = NOAACalculator.getJulianCenturiesFromJulianDay(julianDay);
+			Assert.assertEquals(NOAACalculator.getSunDeclination(julianCenturies), table.getSunDeclination(julianDay),
+					1e-6);
+			Assert.assertEquals(NOAACalculator.getEquationOfTime(julianCenturies), table.getEquationOfTime(julianDay),
+					1e-5);
+		}
+	}
+
+	@Test
+	public void testSunTimesWithTable() {
+		NOAACalculator exact = new NOAACalculator();
+		NOAACalculator tabulated = new NOAACalculator();
+		tabulated.setEphemerisTable(EphemerisTable.getDefault());
+		ZonedDateTime date = ZonedDateTime.of(1950, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+		for (int day = 0; day < 365 * 100; day += 7) {
+			ZonedDateTime current = date.plusDays(day);
+			for (double zenith : new double[] { 90, 106.1 }) {
+				// 1 millisecond expressed in hours
+				Assert.assertEquals(exact.getUTCSunrise(current, LAKEWOOD, zenith, true),
+						tabulated.getUTCSunrise(current, LAKEWOOD, zenith, true), 1 / 3600000d);
+				Assert.assertEquals(exact.getUTCSunset(current, LAKEWOOD, zenith, true),
+						tabulated.getUTCSunset(current, LAKEWOOD, zenith, true), 1 / 3600000d);
+			}
+			Assert.assertEquals(exact.getUTCNoon(current, LAKEWOOD), tabulated.getUTCNoon(current, LAKEWOOD),
+					1 / 3600000d);
+		}
+	}
+
+	@Test
+	public void testOutsideRangeUsesSeries() {
+		NOAACalculator exact = new NOAACalculator();
+		NOAACalculator tabulated = new NOAACalculator();
+		tabulated.setEphemerisTable(EphemerisTable.getDefault());
+		ZonedDateTime date = ZonedDateTime.of(1800, 3, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+		Assert.assertEquals(exact.getUTCSunrise(date, LAKEWOOD, 90, true),
+				tabulated.getUTCSunrise(date, LAKEWOOD, 90, true), 0);
+	}
+
+	@Test
+	public void testSaveAndLoad() throws IOException {
+		EphemerisTable table = new EphemerisTable(LocalDate.of(2020, 1, 1), LocalDate.of(2021, 1, 1), 0.5);
+		Path file = folder.getRoot().toPath().resolve("ephemeris.bin");
+		table.save(file);
+		EphemerisTable loaded = EphemerisTable.load(file);
+		double start = AstronomicalCalculator.getJulianDay(LocalDate.of(2020, 1, 1));
+		for (double julianDay = start; julianDay < start + 366; julianDay += 0.3) {
+			Assert.assertEquals(table.getSunDeclination(julianDay), loaded.getSunDeclination(julianDay), 0);
+			Assert.assertEquals(table.getEquationOfTime(julianDay), loaded.getEquationOfTime(julianDay), 0);
+		}
+		Assert.assertFalse(loaded.contains(start - 10));
+	}
+
+	@Test(expected = IOException.class)
+	public void testLoadInvalidFile() throws IOException {
+		EphemerisTable.load(folder.newFile("invalid.bin").toPath());
+	}
+}
@@ -0,0 +1,64 @@
+package com.kosherjava.zmanim.util;
+
+import org.junit.*;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
+/**
+ * Verify that the {@link FastNOAACalculator} is within its documented maximum error of the {@link NOAACalculator}
+ * across the globe for the years 1900 - 2100.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_FastNOAACalculator {
+
+	private static final double[] ZENITHS = { 90, 96, 102, 106.1, 108, 93.8 };
+
+	private static final double MAX_ERROR_HOURS = FastNOAACalculator.MAX_ERROR_MILLIS / 3600000d;
+
+	@Test
+	public void testErrorBound() {
+		NOAACalculator noaa = new NOAACalculator();
+		FastNOAACalculator fast = new FastNOAACalculator();
+		for (int latitude = -89; latitude <= 89; latitude += 11) {
+			for (int longitude = -180; longitude < 180; longitude += 53) {
+				GeoLocation location = new GeoLocation("test", latitude, longitude, 500, TimeZone.getTimeZone("UTC"));
+				for (LocalDate date = LocalDate.of(1900, 1, 1); date.getYear() <= 2100; date = date.plusDays(47)) {
+					ZonedDateTime calendar = date.atStartOfDay(ZoneOffset.UTC);
+					String message = location.getLatitude() + ", " + location.getLongitude() + " " + date;
+					assertClose(message, noaa.getUTCNoon(calendar, location), fast.getUTCNoon(calendar, location));
+					for (double zenith : ZENITHS) {
+						assertClose(message + " " + zenith, noaa.getUTCSunrise(calendar, location, zenith, true),
+								fast.getUTCSunrise(calendar, location, zenith, true));
+						assertClose(message + " " + zenith, noaa.getUTCSunset(calendar, location, zenith, true),
+								fast.getUTCSunset(calendar, location, zenith, true));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testApproximations() {
+		for (double angle = -1500; angle <= 1500; angle += 0.0137) {
+			Assert.assertEquals(Math.sin(angle), FastNOAACalculator.sin(angle), 1e-9);
+			Assert.assertEquals(Math.cos(angle), FastNOAACalculator.cos(angle), 1e-9);
+		}
+		for (double x = -1; x <= 1; x += 0.0001) {
+			Assert.assertEquals(Math.acos(x), FastNOAACalculator.acos(x), 3e-8);
+		}
+		Assert.assertTrue(Double.isNaN(FastNOAACalculator.acos(1.0000001)));
+		Assert.assertTrue(Double.isNaN(FastNOAACalculator.acos(Double.NaN)));
+	}
+
+	private static void assertClose(String message, double expected, double actual) {
+		Assert.assertEquals(message, Double.isNaN(expected), Double.isNaN(actual));
+		if (!Double.isNaN(expected)) {
+			double difference = Math.abs(expected - actual);
+			Assert.assertTrue(message + " " + expected + " " + actual,
+					Math.min(difference, 24 - difference) <= MAX_ERROR_HOURS);
+		}
+	}
+}
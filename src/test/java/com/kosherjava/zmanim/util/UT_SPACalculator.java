@@ -0,0 +1,96 @@
+package com.kosherjava.zmanim.util;
+
+import org.junit.*;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
+/**
+ * Verify the {@link SPACalculator} against the example of the NREL Solar Position Algorithm report, and that it stays
+ * close to the {@link NOAACalculator}.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_SPACalculator {
+
+	/**
+	 * The location of the example in the SPA report, Golden, Colorado.
+	 */
+	private static final GeoLocation GOLDEN = new GeoLocation("Golden, CO", 39.742476, -105.1786, 1830.14,
+			TimeZone.getTimeZone("America/Denver"));
+
+	/**
+	 * October 17, 2003, the date of the example in the SPA report.
+	 */
+	private static final ZonedDateTime DATE = ZonedDateTime.of(2003, 10, 17, 0, 0, 0, 0, ZoneOffset.UTC);
+
+	@Test
+	public void testSunPosition() {
+		// 12:30:30 MST, when the report has an apparent right ascension of 202.22741 and declination of -9.31434, and a
+		// nutation in longitude of -0.00399840 degrees for an equation of the equinoxes of -0.00366 degrees
+		SPACalculator.Sun sun = new SPACalculator.Sun(2452930.312847);
+		Assert.assertEquals(0, Math.IEEEremainder(202.22741 + 0.00366 - sun.rightAscension, 360), 3e-4);
+		Assert.assertEquals(-9.31434, sun.declination, 3e-4);
+	}
+
+	@Test
+	public void testReferenceTimes() {
+		SPACalculator calculator = new SPACalculator();
+		// the report's times are in MST (UTC - 7) and are for the geocentric sun at a zenith of 90.8333
+		Assert.assertEquals(6 + 12 / 60.0 + 43 / 3600.0, calculator.getUTCSunrise(DATE, GOLDEN, 90, false) - 7,
+				2 / 3600.0);
+		Assert.assertEquals(11 + 46 / 60.0 + 4 / 3600.0, calculator.getUTCNoon(DATE, GOLDEN) - 7, 1 / 3600.0);
+		Assert.assertEquals(17 + 18 / 60.0 + 51 / 3600.0, calculator.getUTCSunset(DATE, GOLDEN, 90, false) + 24 - 7,
+				2 / 3600.0);
+	}
+
+	@Test
+	public void testCloseToNOAA() {
+		GeoLocation[] locations = { Fixtures.getJerusalem(), Fixtures.getLakewood() };
+		AstronomicalCalculator noaa = new NOAACalculator();
+		AstronomicalCalculator spa = new SPACalculator();
+		double[] zeniths = { 90, 96, 106.1, 108 };
+		for (GeoLocation location : locations) {
+			for (int day = 0; day < 366; day += 3) {
+				ZonedDateTime date = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).plusDays(day);
+				String message = location.getLocationName() + " " + date;
+				for (double zenith : zeniths) {
+					assertCloseTime(message, noaa.getUTCSunrise(date, location, zenith, true),
+							spa.getUTCSunrise(date, location, zenith, true));
+					assertCloseTime(message, noaa.getUTCSunset(date, location, zenith, true),
+							spa.getUTCSunset(date, location, zenith, true));
+				}
+				assertCloseTime(message, noaa.getUTCNoon(date, location), spa.getUTCNoon(date, location));
+			}
+		}
+	}
+
+	/**
+	 * Asserts that two UTC times in hours are within 30 seconds of each other, allowing for the wrap at midnight.
+	 */
+	private static void assertCloseTime(String message, double expected, double actual) {
+		Assert.assertEquals(message, 0, Math.IEEEremainder(expected - actual, 24), 30 / 3600.0);
+	}
+
+	@Test
+	public void testPolarDay() {
+		GeoLocation tromso = Fixtures.getTromso();
+		ZonedDateTime june = ZonedDateTime.of(2024, 6, 21, 0, 0, 0, 0, ZoneOffset.UTC);
+		Assert.assertTrue(Double.isNaN(new SPACalculator().getUTCSunrise(june, tromso, 90, false)));
+		Assert.assertFalse(Double.isNaN(new SPACalculator().getUTCNoon(june, tromso)));
+	}
+
+	@Test
+	public void testDeltaT() {
+		Assert.assertEquals(63.86, SPACalculator.getDeltaT(2000), 0.01);
+		Assert.assertEquals(64.7, SPACalculator.getDeltaT(2005), 0.5);
+		Assert.assertEquals(-2.79, SPACalculator.getDeltaT(1900), 0.01);
+	}
+
+	@Test
+	public void testCalculatorTiers() {
+		Assert.assertEquals(FastNOAACalculator.class, CalculatorTier.FAST.getCalculator().getClass());
+		Assert.assertEquals(NOAACalculator.class, CalculatorTier.STANDARD.getCalculator().getClass());
+		Assert.assertEquals(SPACalculator.class, CalculatorTier.PRECISE.getCalculator().getClass());
+	}
+}
@@ -0,0 +1,145 @@
+package com.kosherjava.zmanim.util;
+
+import org.junit.*;
+
+import java.lang.ref.WeakReference;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.kosherjava.zmanim.AstronomicalCalendar;
+
+/**
+ * Verify that shared calculators are interned, immutable and used as is by calendars and their clones.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_SharedCalculator {
+
+	private static final GeoLocation JERUSALEM = Fixtures.getJerusalem();
+
+	@Test
+	public void testInterned() {
+		AstronomicalCalculator shared = AstronomicalCalculator.getSharedDefault();
+		Assert.assertTrue(shared.isShared());
+		Assert.assertSame(shared, new NOAACalculator().toShared());
+		Assert.assertSame(shared, shared.toShared());
+		Assert.assertSame(shared, CalculatorTier.STANDARD.getSharedCalculator());
+		Assert.assertNotSame(shared, new SunTimesCalculator().toShared());
+		Assert.assertSame(CalculatorTier.PRECISE.getSharedCalculator(), new SPACalculator().toShared());
+	}
+
+	@Test
+	public void testWith() {
+		AstronomicalCalculator shared = AstronomicalCalculator.getSharedDefault();
+		AstronomicalCalculator refracted = shared.withRefraction(0.6);
+		Assert.assertTrue(refracted.isShared());
+		Assert.assertEquals(0.6, refracted.getRefraction(), 0);
+		Assert.assertEquals(34 / 60d, shared.getRefraction(), 0);
+		Assert.assertSame(refracted, shared.withRefraction(0.6));
+		Assert.assertSame(shared, refracted.withRefraction(34 / 60d));
+		Assert.assertEquals(NOAACalculator.class, refracted.getClass());
+
+		NOAACalculator tabulated = ((NOAACalculator) shared).withEphemerisTable(EphemerisTable.getDefault());
+		Assert.assertNotSame(shared, tabulated);
+		Assert.assertSame(EphemerisTable.getDefault(), tabulated.getEphemerisTable());
+		Assert.assertNull(((NOAACalculator) shared).getEphemerisTable());
+	}
+
+	@Test
+	public void testUnusedReleased() throws InterruptedException {
+		WeakReference<AstronomicalCalculator> reference = new WeakReference<AstronomicalCalculator>(
+				AstronomicalCalculator.getSharedDefault().withRefraction(0.123456));
+		for (int i = 0; i < 50 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		Assert.assertNull(reference.get());
+		Assert.assertEquals(0.123456, AstronomicalCalculator.getSharedDefault().withRefraction(0.123456)
+				.getRefraction(), 0);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testSharedImmutable() {
+		AstronomicalCalculator.getSharedDefault().setRefraction(0.6);
+	}
+
+	@Test
+	public void testUnsharedCopy() {
+		AstronomicalCalculator copy = (AstronomicalCalculator) AstronomicalCalculator.getSharedDefault().clone();
+		Assert.assertFalse(copy.isShared());
+		copy.setEarthRadius(6371);
+		Assert.assertEquals(6356.9, AstronomicalCalculator.getSharedDefault().getEarthRadius(), 0);
+	}
+
+	@Test
+	public void testCalendarDefaultMutable() {
+		AstronomicalCalendar calendar = new AstronomicalCalendar(JERUSALEM);
+		AstronomicalCalculator calculator = calendar.getAstronomicalCalculator();
+		Assert.assertFalse(calculator.isShared());
+		Assert.assertEquals(AstronomicalCalculator.getSharedDefault(), calculator);
+		calculator.setRefraction(0.6);
+		Assert.assertEquals(0.6, calendar.getAstronomicalCalculator().getRefraction(), 0);
+		AstronomicalCalendar other = new AstronomicalCalendar(JERUSALEM);
+		Assert.assertEquals(34 / 60d, other.getAstronomicalCalculator().getRefraction(), 0);
+	}
+
+	@Test
+	public void testCalendarClone() {
+		AstronomicalCalendar calendar = new AstronomicalCalendar(JERUSALEM);
+		calendar.setAstronomicalCalculator(AstronomicalCalculator.getSharedDefault());
+		AstronomicalCalendar clone = (AstronomicalCalendar) calendar.clone();
+		Assert.assertSame(calendar.getAstronomicalCalculator(), clone.getAstronomicalCalculator());
+		Assert.assertEquals(calendar, clone);
+
+		calendar.setAstronomicalCalculator(new SunTimesCalculator());
+		clone = (AstronomicalCalendar) calendar.clone();
+		Assert.assertNotSame(calendar.getAstronomicalCalculator(), clone.getAstronomicalCalculator());
+		Assert.assertEquals(calendar.getAstronomicalCalculator(), clone.getAstronomicalCalculator());
+	}
+
+	@Test
+	public void testConcurrentUse() throws Exception {
+		final ZonedDateTime start = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, JERUSALEM.getTimeZone().toZoneId());
+		final int days = 366;
+		final long[] expected = new long[days * 2];
+		AstronomicalCalendar calendar = new AstronomicalCalendar(JERUSALEM);
+		calendar.setAstronomicalCalculator(new NOAACalculator());
+		for (int day = 0; day < days; day++) {
+			calendar.setCalendar(start.plusDays(day));
+			expected[day * 2] = calendar.getSunriseMillis();
+			expected[day * 2 + 1] = calendar.getSunsetMillis();
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+			for (int thread = 0; thread < 8; thread++) {
+				final int offset = thread * 37;
+				results.add(executor.submit(new Callable<Boolean>() {
+					public Boolean call() {
+						AstronomicalCalendar calendar = new AstronomicalCalendar(JERUSALEM);
+						calendar.setAstronomicalCalculator(AstronomicalCalculator.getSharedDefault());
+						for (int i = 0; i < days; i++) {
+							int day = (i + offset) % days;
+							calendar.setCalendar(start.plusDays(day));
+							if (calendar.getSunriseMillis() != expected[day * 2]
+									|| calendar.getSunsetMillis() != expected[day * 2 + 1]) {
+								return false;
+							}
+						}
+						return true;
+					}
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				Assert.assertTrue(result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.kosherjava.zmanim.util;
+
+import org.junit.*;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Verify that the interpolated elevation of the grid is within its documented error of the calculated elevation, and
+ * that only the most recently used days are kept.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_SolarElevationGrid {
+
+	private static final GeoLocation[] LOCATIONS = { Fixtures.getLakewood(), Fixtures.getJerusalem(),
+			Fixtures.getTromso(), Fixtures.getMelbourne() };
+
+	private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+	@Test
+	public void testWithinError() {
+		long start = ZonedDateTime.parse("2024-03-01T00:00:00Z").toInstant().toEpochMilli();
+		for (GeoLocation location : LOCATIONS) {
+			SolarElevationGrid grid = new SolarElevationGrid(location);
+			for (int day = 0; day < 366; day += 61) {
+				for (long time = start + day * DAY_MILLIS; time < start + (day + 1) * DAY_MILLIS; time += 7919) {
+					double elevation = NOAACalculator.getSolarElevation(time, location.getLatitude(),
+							location.getLongitude());
+					if (Math.abs(elevation) < 20) {
+						Assert.assertEquals(location.getLocationName() + " " + time, elevation,
+								grid.getSolarElevation(time), 0.003);
+						Assert.assertEquals(-grid.getSolarElevation(time), grid.getSolarDepression(time), 0);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSamples() {
+		GeoLocation location = LOCATIONS[1];
+		SolarElevationGrid grid = new SolarElevationGrid(location, 15, 1);
+		long time = ZonedDateTime.parse("2024-06-21T04:45:00Z").toInstant().toEpochMilli();
+		Assert.assertEquals(NOAACalculator.getSolarElevation(time, location.getLatitude(), location.getLongitude()),
+				grid.getSolarElevation(time), 1e-4);
+		// the end of the day interpolates to the first sample of the next day
+		long midnight = ZonedDateTime.parse("2024-06-22T00:00:00Z").toInstant().toEpochMilli();
+		Assert.assertEquals(grid.getSolarElevation(midnight), grid.getSolarElevation(midnight - 1), 1e-4);
+	}
+
+	@Test
+	public void testLeastRecentlyUsed() {
+		SolarElevationGrid grid = new SolarElevationGrid(LOCATIONS[0], 5, 2);
+		long start = ZonedDateTime.parse("2024-01-01T12:00:00Z").toInstant().toEpochMilli();
+		grid.getSolarElevation(start);
+		grid.getSolarElevation(start + DAY_MILLIS);
+		grid.getSolarElevation(start);
+		grid.getSolarElevation(start + 2 * DAY_MILLIS);
+		Assert.assertEquals(2, grid.getDays());
+		Assert.assertEquals(grid.getSolarElevation(start + DAY_MILLIS), grid.getSolarElevation(start + DAY_MILLIS), 0);
+		Assert.assertEquals(2, grid.getDays());
+	}
+
+	@Test
+	public void testLocationCopied() {
+		GeoLocation location = (GeoLocation) LOCATIONS[0].clone();
+		SolarElevationGrid grid = new SolarElevationGrid(location);
+		location.setLatitude(10);
+		Assert.assertEquals(LOCATIONS[0].getLatitude(), grid.getGeoLocation().getLatitude(), 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIntervalNotDividingDay() {
+		new SolarElevationGrid(LOCATIONS[0], 7, 3);
+	}
+}
@@ -0,0 +1,62 @@
+package com.kosherjava.zmanim.util;
+
+import org.junit.*;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
+import com.kosherjava.zmanim.AstronomicalCalendar;
+
+/**
+ * Verify that the solar position series matches the single time solar elevation and azimuth.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_SolarPositions {
+
+	private static final GeoLocation[] LOCATIONS = { Fixtures.getJerusalem(), Fixtures.getLakewood(),
+			Fixtures.getApia(),
+			new GeoLocation("Svalbard", 78.2232, 15.6267, 0, TimeZone.getTimeZone("Arctic/Longyearbyen")) };
+
+	@Test
+	public void testMatchesSingleTime() {
+		long start = ZonedDateTime.of(2024, 3, 1, 5, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli();
+		long step = 7 * 60_000 + 123; // a step that doesn't divide the day, across several days
+		int count = 1440;
+		double[] elevations = new double[count];
+		double[] azimuths = new double[count];
+		for (GeoLocation location : LOCATIONS) {
+			NOAACalculator.getSolarPositions(location, start, step, count, elevations, azimuths);
+			for (int i = 0; i < count; i++) {
+				long time = start + i * step;
+				String message = location.getLocationName() + " " + time;
+				double elevation = NOAACalculator.getSolarElevation(time, location.getLatitude(),
+						location.getLongitude());
+				if (Math.abs(elevation) > 85) { // the position is ill-conditioned near the zenith and nadir
+					continue;
+				}
+				Assert.assertEquals(message, elevation, elevations[i], 1e-6);
+				double azimuth = NOAACalculator.getSolarAzimuth(time, location.getLatitude(), location.getLongitude());
+				Assert.assertEquals(message, 0, Math.IEEEremainder(azimuth - azimuths[i], 360), 1e-6);
+			}
+		}
+	}
+
+	@Test
+	public void testAzimuth() {
+		AstronomicalCalendar calendar = new AstronomicalCalendar(LOCATIONS[0]);
+		calendar.setCalendar(ZonedDateTime.of(2024, 6, 21, 0, 0, 0, 0, LOCATIONS[0].getTimeZone().toZoneId()));
+		double[] azimuths = new double[1];
+		NOAACalculator.getSolarPositions(LOCATIONS[0], calendar.getSeaLevelSunriseMillis(), 1, 1, null, azimuths);
+		// the sun rises in the north east, passes south of Jerusalem at midday and sets in the north west
+		Assert.assertEquals(62.5, azimuths[0], 1);
+		Assert.assertEquals(180, NOAACalculator.getSolarAzimuth(calendar.getSunTransitMillis(), 31.778, 35.235), 0.5);
+		Assert.assertEquals(297.5, NOAACalculator.getSolarAzimuth(calendar.getSeaLevelSunsetMillis(), 31.778, 35.235),
+				1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testShortArray() {
+		NOAACalculator.getSolarPositions(LOCATIONS[0], 0, 60_000, 10, new double[9], null);
+	}
+}
@@ -0,0 +1,60 @@
+package com.kosherjava.zmanim.util;
+
+import org.junit.*;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Verify that the cached sunrise and sunset zenith adjustment follows changes to the elevation and the configuration of
+ * the calculator.
+ */
+@SuppressWarnings({ "MagicNumber" })
+public class UT_ZenithAdjustment {
+
+	/**
+	 * The adjustment calculated without the cache.
+	 */
+	private static double expected(AstronomicalCalculator calculator, double elevation) {
+		return 90 + (calculator.getSolarRadius() + calculator.getRefraction()
+				+ calculator.getElevationAdjustment(elevation));
+	}
+
+	@Test
+	public void testElevationChange() {
+		AstronomicalCalculator calculator = new NOAACalculator();
+		for (double elevation : new double[] { 0, 754, 754, 20, 0, 2500 }) {
+			Assert.assertEquals(expected(calculator, elevation), calculator.adjustZenith(90, elevation), 0);
+		}
+		Assert.assertEquals(96, calculator.adjustZenith(96, 754), 0);
+	}
+
+	@Test
+	public void testConfigurationChange() {
+		AstronomicalCalculator calculator = new NOAACalculator();
+		calculator.adjustZenith(90, 754);
+		calculator.setEarthRadius(6371);
+		Assert.assertEquals(expected(calculator, 754), calculator.adjustZenith(90, 754), 0);
+		calculator.setRefraction(0.6);
+		Assert.assertEquals(expected(calculator, 754), calculator.adjustZenith(90, 754), 0);
+		calculator.setSolarRadius(0.25);
+		Assert.assertEquals(expected(calculator, 754), calculator.adjustZenith(90, 754), 0);
+
+		AstronomicalCalculator refracted = calculator.withRefraction(0.5);
+		Assert.assertEquals(expected(refracted, 754), refracted.adjustZenith(90, 754), 0);
+		Assert.assertEquals(expected(calculator, 754), calculator.adjustZenith(90, 754), 0);
+	}
+
+	@Test
+	public void testLocationElevationChange() {
+		GeoLocation location = Fixtures.getJerusalem();
+		ZonedDateTime date = ZonedDateTime.of(2024, 6, 21, 0, 0, 0, 0, ZoneOffset.UTC);
+		AstronomicalCalculator calculator = new NOAACalculator();
+		double sunrise = calculator.getUTCSunrise(date, location, 90, true);
+		location.setElevation(0);
+		Assert.assertEquals(calculator.getUTCSunrise(date, location, 90, false),
+				calculator.getUTCSunrise(date, location, 90, true), 0);
+		location.setElevation(754);
+		Assert.assertEquals(sunrise, calculator.getUTCSunrise(date, location, 90, true), 0);
+	}
+}